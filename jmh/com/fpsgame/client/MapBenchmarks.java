@@ -0,0 +1,83 @@
+package com.fpsgame.client;
+
+import com.fpsgame.common.Log;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 맵 파싱 / 충돌 판정 벤치마크 (JMH)
+ *
+ * - MapManager.parseMapJson : assets/maps/{map}.json
+ * - CollisionManager.checkCollisionWithObstacles / isMissileBlocked : 같은 맵, 맵 안의 고정된 임의 좌표 4096개를 순환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBenchmarks {
+
+    private static final int POINTS = 4096;
+
+    @Param({"map", "map_edited", "map2_edited", "map3_edited", "village_edited"})
+    String map;
+
+    private String json;
+    private MapManager mapManager;
+    private CollisionManager collision;
+    private final int[] xs = new int[POINTS], ys = new int[POINTS];
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Log.setLevel(Log.Level.WARN);
+        json = new String(Files.readAllBytes(Paths.get("assets/maps", map + ".json")), StandardCharsets.UTF_8);
+        mapManager = new MapManager(msg -> { });
+        mapManager.currentMapName = map;
+        mapManager.parseMapJson(json);
+
+        collision = new CollisionManager(MapManager.getTileSize());
+        collision.updateMapData(mapManager.getWalkableGrid(), mapManager.getGridRows(), mapManager.getGridCols(),
+                mapManager.getObstacles());
+        Random random = new Random(42);
+        for (int i = 0; i < POINTS; i++) {
+            xs[i] = random.nextInt(Math.max(1, mapManager.getMapWidth()));
+            ys[i] = random.nextInt(Math.max(1, mapManager.getMapHeight()));
+        }
+    }
+
+    @Benchmark
+    public int parseMapJson() {
+        mapManager.parseMapJson(json);
+        return mapManager.getObstacles().size();
+    }
+
+    @Benchmark
+    public boolean checkCollisionWithObstacles() {
+        int i = index++ & (POINTS - 1);
+        return collision.checkCollisionWithObstacles(xs[i], ys[i]);
+    }
+
+    @Benchmark
+    public boolean isMissileBlocked() {
+        int i = index++ & (POINTS - 1);
+        return collision.isMissileBlocked(xs[i], ys[i]);
+    }
+}
@@ -0,0 +1,89 @@
+package com.fpsgame.client;
+
+import com.fpsgame.common.GameConstants;
+import com.fpsgame.common.Log;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 클라이언트 메시지 처리 벤치마크 (JMH)
+ *
+ * GameMessageHandler.handleMessage 를 StubMessageContext(창 / 소켓 없음)에 붙여 서버가 보내는 형식의 텍스트 메시지로 호출합니다.
+ * 원격 플레이어 8명이 있는 상태에서 파싱 → 라우팅 → 상태 반영까지가 한 op 입니다.
+ * SHOOT 은 미사일 / 총구 섬광이 쌓이므로 게임 루프처럼 64번마다 비웁니다 (비용 포함).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageHandlerBenchmarks {
+
+    private static final int REMOTE_PLAYERS = 8;
+
+    private StubMessageContext context;
+    private GameMessageHandler handler;
+    private final String[] positions = new String[16];
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Log.setLevel(Log.Level.WARN);
+        context = new StubMessageContext("bench", GameConstants.TEAM_RED);
+        handler = new GameMessageHandler(context);
+        for (int i = 0; i < REMOTE_PLAYERS; i++) {
+            handler.handleMessage("PLAYER:remote" + i + "," + (400 + i * 8) + ".0,300.0," + (i % 2) + ",100,raven,0");
+        }
+        handler.handleMessage("PLACE:1,tech_turret,420,320,100,100,remote1," + GameConstants.TEAM_BLUE);
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = "PLAYER:remote" + (i & (REMOTE_PLAYERS - 1)) + "," + (400 + i) + ".0," + (300 + i) + ".0,"
+                    + (i & 1) + ",100,raven," + (i & 3);
+        }
+    }
+
+    @Benchmark
+    public void player() {
+        handler.handleMessage(positions[counter++ & 15]);
+    }
+
+    @Benchmark
+    public void shoot() {
+        handler.handleMessage("SHOOT:remote1,400.0,300.0,10.0,0.0");
+        if ((++counter & 63) == 0) {
+            context.objectManager.clearMissiles();
+            context.skillEffects.update(1f);
+        }
+    }
+
+    @Benchmark
+    public void stats() {
+        handler.handleMessage("STATS:remote1,3,1,80,raven");
+    }
+
+    @Benchmark
+    public int chat() {
+        handler.handleMessage("CHAT:[RED] remote1: hello");
+        return context.chatMessages;
+    }
+
+    @Benchmark
+    public void objectUpdate() {
+        handler.handleMessage("OBJ_UPDATE:1,80");
+    }
+
+    @Benchmark
+    public void unknown() {
+        handler.handleMessage("NOPE:1");
+    }
+}
@@ -0,0 +1,121 @@
+package com.fpsgame.client;
+
+import com.fpsgame.client.effects.SkillEffectManager;
+import com.fpsgame.common.CharacterData;
+import com.fpsgame.common.GameConstants;
+import com.fpsgame.common.Log;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 렌더링 벤치마크 (JMH)
+ *
+ * GameRenderer.render 로 1280x720 오프스크린 BufferedImage 에 맵 + 미사일 20개 + 설치물 2개 + HUD / 미니맵 한 프레임.
+ * gradle jmh 는 -Djava.awt.headless=true 로 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RenderBenchmarks {
+
+    @Param("map")
+    String map;
+
+    private final GameRenderer renderer = new GameRenderer();
+    private final GameRenderer.RenderContext ctx = new GameRenderer.RenderContext();
+    private final BufferedImage frame = new BufferedImage(GameConstants.GAME_WIDTH, GameConstants.GAME_HEIGHT,
+            BufferedImage.TYPE_INT_RGB);
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Log.setLevel(Log.Level.WARN);
+        MapManager mapManager = new MapManager(msg -> { });
+        mapManager.currentMapName = map;
+        mapManager.parseMapJson(new String(Files.readAllBytes(Paths.get("assets/maps", map + ".json")),
+                StandardCharsets.UTF_8));
+        File image = new File("assets/maps/" + map + ".png");
+
+        ctx.mapImage = image.exists() ? ImageIO.read(image) : null;
+        ctx.mapWidth = mapManager.getMapWidth();
+        ctx.mapHeight = mapManager.getMapHeight();
+        ctx.obstacles = mapManager.getObstacles();
+        ctx.walkableGrid = mapManager.getWalkableGrid();
+        ctx.tileSize = MapManager.getTileSize();
+        ctx.gridCols = mapManager.getGridCols();
+        ctx.gridRows = mapManager.getGridRows();
+        ctx.playerName = "bench";
+        ctx.team = GameConstants.TEAM_RED;
+        ctx.playerX = ctx.mapWidth / 2;
+        ctx.playerY = ctx.mapHeight / 2;
+        ctx.cameraX = Math.max(0, ctx.playerX - GameConstants.GAME_WIDTH / 2);
+        ctx.cameraY = Math.max(0, ctx.playerY - GameConstants.GAME_HEIGHT / 2);
+        ctx.mouseX = GameConstants.GAME_WIDTH / 2 + 100;
+        ctx.mouseY = GameConstants.GAME_HEIGHT / 2;
+        ctx.selectedCharacter = "raven";
+        ctx.currentCharacterData = CharacterData.getById("raven");
+        ctx.myHP = 100;
+        ctx.myMaxHP = 100;
+        ctx.abilities = CharacterData.createAbilities("raven");
+        ctx.players = Collections.synchronizedMap(new HashMap<>());
+        List<GameObjectManager.Missile> missiles = new ArrayList<>();
+        for (int i = 0; i < 20; i++)
+            missiles.add(new GameObjectManager.Missile(ctx.playerX + i * 20, ctx.playerY - 40, 10f, 0f, i % 2, "bench"));
+        ctx.missiles = missiles;
+        Map<Integer, GameObjectManager.PlacedObjectClient> placed = new ConcurrentHashMap<>();
+        placed.put(1, new GameObjectManager.PlacedObjectClient(1, "tech_turret", ctx.playerX + 60, ctx.playerY + 60,
+                100, 100, "bench", GameConstants.TEAM_RED));
+        placed.put(2, new GameObjectManager.PlacedObjectClient(2, "tech_mine", ctx.playerX - 60, ctx.playerY + 60,
+                50, 50, "bench", GameConstants.TEAM_RED));
+        ctx.placedObjects = placed;
+        ctx.strikeMarkers = new ConcurrentHashMap<>();
+        ctx.myEffects = new ArrayList<>();
+        ctx.skillEffects = new SkillEffectManager();
+        ctx.showMinimap = true;
+        ctx.roundState = GamePanel.RoundState.PLAYING;
+        ctx.roundCount = 1;
+        ctx.centerMessage = "";
+        ctx.canvasWidth = GameConstants.GAME_WIDTH;
+        ctx.canvasHeight = GameConstants.GAME_HEIGHT;
+        ctx.actualCanvasWidth = GameConstants.GAME_WIDTH;
+        ctx.actualCanvasHeight = GameConstants.GAME_HEIGHT;
+    }
+
+    @Benchmark
+    public int render() {
+        Graphics2D g = frame.createGraphics();
+        try {
+            renderer.render(g, ctx);
+        } finally {
+            g.dispose();
+        }
+        return frame.getRGB(0, 0);
+    }
+}
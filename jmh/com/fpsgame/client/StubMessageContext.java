@@ -0,0 +1,79 @@
+package com.fpsgame.client;
+
+import com.fpsgame.client.effects.SkillEffectManager;
+import com.fpsgame.common.Ability;
+import com.fpsgame.common.PlayerIdTable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 창 / 게임 루프 / 소켓 없이 GameMessageHandler 를 돌리는 Context
+ *
+ * 상태 객체(GameState, 플레이어 맵, GameObjectManager, SkillEffectManager 등)는 GamePanel 과 같은 실제 클래스를 쓰고,
+ * 화면 / 네트워크 / 파일 동작(스프라이트 로드, 다시 그리기, ACK 전송, 맵 로드 등)은 아무것도 하지 않습니다.
+ */
+class StubMessageContext implements GameMessageHandler.Context {
+
+    final GameState gameState;
+    final Map<String, GamePanel.PlayerData> players = new HashMap<>();
+    final PlayerIdTable playerIds = new PlayerIdTable();
+    final ServerClock serverClock = new ServerClock();
+    final GameObjectManager objectManager = new GameObjectManager(new CollisionManager(MapManager.getTileSize()));
+    final SkillEffectManager skillEffects = new SkillEffectManager();
+    final Map<String, List<GamePanel.ActiveEffect>> effectsByPlayer = new HashMap<>();
+    int chatMessages;
+    private String currentMapName = "map";
+
+    StubMessageContext(String playerName, int team) {
+        this.gameState = new GameState(playerName, team);
+    }
+
+    @Override public String getPlayerName() { return gameState.getPlayerName(); }
+    @Override public GameState getGameState() { return gameState; }
+    @Override public Map<String, GamePanel.PlayerData> getPlayers() { return players; }
+    @Override public PlayerIdTable getPlayerIds() { return playerIds; }
+    @Override public ServerClock getServerClock() { return serverClock; }
+    @Override public GameObjectManager getObjectManager() { return objectManager; }
+    @Override public SkillEffectManager getSkillEffects() { return skillEffects; }
+    @Override public Map<String, List<GamePanel.ActiveEffect>> getEffectsByPlayer() { return effectsByPlayer; }
+
+    @Override public void appendChatMessage(String message) { chatMessages++; }
+    @Override public void repaint() { }
+
+    @Override public void setAbilities(Ability[] abilities) { gameState.setAbilities(abilities); }
+    @Override public void setCharacterChangedInRound(boolean changed) { }
+    @Override public void setBuffMultipliers(float moveSpeed, float attackSpeed) { }
+    @Override public void loadSprites() { }
+    @Override public void loadPlayerSprites(GamePanel.PlayerData player, String characterId) { }
+    @Override public void setTeamMarkRemaining(float seconds) { }
+    @Override public void setTeamThermalRemaining(float seconds) { }
+
+    @Override public String getCurrentMapName() { return currentMapName; }
+    @Override public void setCurrentMapName(String mapName) { currentMapName = mapName; }
+    @Override public void loadMap(String mapName) { }
+
+    @Override public void setRoundScore(int redWins, int blueWins) { }
+    @Override public void setRoundState(GamePanel.RoundState state) { }
+    @Override public void setRoundCount(int roundCount) { }
+    @Override public void setRoundStartTime(long millis) { }
+    @Override public void showCenterMessage(String message, long endTimeMillis) { }
+    @Override public void setGameOver(boolean gameOver) { }
+    @Override public void returnToLobby() { }
+
+    @Override public void setServerFeatures(int features) { }
+    @Override public void setServerTickRate(int tickRate) { serverClock.setTickRate(tickRate); }
+    @Override public void sendSnapshotAck(int tick) { }
+    @Override public void onMoveAck(int seq, float x, float y) { }
+
+    @Override public void openCharacterSelect() { }
+    @Override public void disconnect() { }
+    @Override public void toggleMinimap() { }
+    @Override public boolean toggleDebugObstacles() { return false; }
+    @Override public boolean toggleEditMode() { return false; }
+    @Override public void cycleNextMap() { }
+    @Override public void saveEditedMap() { }
+    @Override public void rebuildObstaclesFromWalkable() { }
+    @Override public void showControlsDialog() { }
+    @Override public void showAboutDialog() { }
+}
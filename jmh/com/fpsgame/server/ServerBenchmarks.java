@@ -0,0 +1,136 @@
+package com.fpsgame.server;
+
+import com.fpsgame.common.BinaryCodec;
+import com.fpsgame.common.GameConstants;
+import com.fpsgame.common.Log;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 서버 메시지 처리 벤치마크 (JMH)
+ *
+ * 소켓 대신 받은 프레임을 버리기만 하는 전송 계층을 붙인 ClientHandler 들을 한 매치에 넣고,
+ * 수신 스레드가 부르는 onMessage / onBinary 를 그대로 호출합니다.
+ * 파싱 → 검증 → 입력 버퍼 / 브로드캐스트 인코딩 → 다른 플레이어 큐 적재까지가 한 op 이며 소켓 쓰기는 빠집니다.
+ * SHOOT / CHAT 은 매치 인원 - 1 명(또는 전원)에게 팬아웃되므로 -p players=N 으로 인원별 비용을 볼 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServerBenchmarks {
+
+    /**
+     * 받은 프레임을 버리는 전송 계층
+     */
+    private static final class SinkTransport implements ClientTransport {
+        private final OutboundQueue queue = new OutboundQueue(16, 1 << 20, new OutboundQueue.Stats());
+
+        @Override
+        public boolean send(byte[] frame) {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String remoteAddress() {
+            return "bench";
+        }
+
+        @Override
+        public OutboundQueue queue() {
+            return queue;
+        }
+    }
+
+    @Param("8")
+    int players;
+
+    private GameServer server;
+    private GameServer.ClientHandler shooter;
+    private final String[] positions = new String[16];
+    private final byte[][] binaryPositions = new byte[16][];
+    private final byte[] binaryShoot = BinaryCodec.encodeShoot(400, 300, 10f, 0f);
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        Log.setLevel(Log.Level.WARN);
+        // 매치 1개, 틱 10Hz (백그라운드 틱이 측정을 덜 방해하도록)
+        server = new GameServer(0, players, 10, 1, 1);
+        GameServer.ClientHandler[] handlers = new GameServer.ClientHandler[players];
+        for (int i = 0; i < players; i++) {
+            handlers[i] = server.new ClientHandler(new SinkTransport());
+            handlers[i].onMessage("JOIN:bench" + i + ":raven:0");
+            handlers[i].onMessage("TEAM:" + (i % 2 == 0 ? GameConstants.TEAM_RED : GameConstants.TEAM_BLUE));
+            handlers[i].onMessage("POS:" + (400 + i * 8) + ",300,0");
+        }
+        Thread.sleep(300); // 틱이 위치를 반영하고 관심 영역을 계산할 때까지
+        shooter = handlers[0];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = "POS:" + (400 + i) + "," + (300 + i) + "," + (i & 3);
+            binaryPositions[i] = BinaryCodec.encodePosition(400 + i, 300 + i, i & 3);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop();
+        Log.flush(1000);
+    }
+
+    @Benchmark
+    public void textPing() {
+        shooter.onMessage("PING:12345");
+    }
+
+    @Benchmark
+    public void textPos() {
+        shooter.onMessage(positions[counter++ & 15]);
+    }
+
+    @Benchmark
+    public void textShootFanOut() {
+        shooter.onMessage("SHOOT:400.0,300.0,10.0,0.0");
+    }
+
+    @Benchmark
+    public void textChatFanOut() {
+        shooter.onMessage("CHAT:hello");
+    }
+
+    @Benchmark
+    public void textUnknown() {
+        shooter.onMessage("NOPE:1");
+    }
+
+    @Benchmark
+    public void binaryPos() {
+        byte[] frame = binaryPositions[counter++ & 15];
+        shooter.onBinary(ByteBuffer.wrap(frame, 2, frame.length - 2));
+    }
+
+    @Benchmark
+    public void binaryShootFanOut() {
+        shooter.onBinary(ByteBuffer.wrap(binaryShoot, 2, binaryShoot.length - 2));
+    }
+}
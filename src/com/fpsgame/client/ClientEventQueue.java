@@ -0,0 +1,102 @@
+package com.fpsgame.client;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 수신 메시지 큐 (네트워크 스레드 → 게임 루프)
+ *
+ * <p>수신 스레드는 메시지를 받은 시각과 함께 넣기만 하고, 게임 상태(players, objectManager, skillEffects 등)는
+ * EDT 의 게임 루프가 매 프레임 시작에 drain 으로 꺼내 적용합니다.
+ * 상태를 바꾸는 스레드와 그리는 스레드가 EDT 하나가 되므로 updateGame / GameRenderer 는 잠금 없이 일관된 상태를 읽습니다.</p>
+ *
+ * <p>넣는 쪽은 여러 스레드여도 되고, 꺼내는 쪽은 EDT 하나입니다.
+ * 두 개의 큐를 번갈아 쓰므로 drain 은 lock 안에서 큐를 바꾸기만 하고 메시지 처리는 lock 밖에서 합니다.</p>
+ */
+public class ClientEventQueue {
+
+    /**
+     * 꺼낸 메시지 처리 (EDT)
+     */
+    public interface Handler {
+        void onText(String message, double receivedAt);
+
+        void onBinary(ByteBuffer payload, double receivedAt);
+    }
+
+    private static final class Event {
+        final String text;
+        final byte[] binary;
+        final double receivedAt; // ServerClock.localMillis 기준
+
+        Event(String text, byte[] binary, double receivedAt) {
+            this.text = text;
+            this.binary = binary;
+            this.receivedAt = receivedAt;
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private ArrayDeque<Event> incoming = new ArrayDeque<>();
+    private ArrayDeque<Event> draining = new ArrayDeque<>(); // EDT 전용
+
+    /**
+     * 텍스트 메시지 추가 (수신 스레드)
+     *
+     * @return 비어 있던 큐에 처음 들어간 메시지면 true
+     */
+    public boolean postText(String message) {
+        return post(new Event(message, null, ServerClock.localMillis()));
+    }
+
+    /**
+     * 바이너리 메시지 추가 (수신 스레드, 수신 버퍼는 재사용되므로 남은 바이트를 복사해 보관)
+     *
+     * @return 비어 있던 큐에 처음 들어간 메시지면 true
+     */
+    public boolean postBinary(ByteBuffer payload) {
+        byte[] copy = new byte[payload.remaining()];
+        payload.get(copy);
+        return post(new Event(null, copy, ServerClock.localMillis()));
+    }
+
+    private boolean post(Event event) {
+        lock.lock();
+        try {
+            incoming.add(event);
+            return incoming.size() == 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 쌓인 메시지를 받은 순서대로 처리 (EDT)
+     *
+     * @return 처리한 메시지 수
+     */
+    public int drain(Handler handler) {
+        ArrayDeque<Event> batch;
+        lock.lock();
+        try {
+            if (incoming.isEmpty())
+                return 0;
+            batch = incoming;
+            incoming = draining;
+            draining = batch;
+        } finally {
+            lock.unlock();
+        }
+        int count = batch.size();
+        Event event;
+        while ((event = batch.poll()) != null) {
+            if (event.text != null) {
+                handler.onText(event.text, event.receivedAt);
+            } else {
+                handler.onBinary(ByteBuffer.wrap(event.binary), event.receivedAt);
+            }
+        }
+        return count;
+    }
+}
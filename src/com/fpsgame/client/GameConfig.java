@@ -1,5 +1,6 @@
 package com.fpsgame.client;
 
+import com.fpsgame.common.Log;
 import java.io.*;
 import java.util.Properties;
 
@@ -18,6 +19,24 @@ public class GameConfig {
     
     /** 캐릭터 기본값 (null = 미선택 상태) */
     private static final String DEFAULT_CHARACTER = null;
+    
+    /** 원격 플레이어 보간 지연 키 (ms) */
+    private static final String KEY_INTERPOLATION_DELAY = "interpolation_delay_ms";
+    
+    /** 보간 지연 기본값 (30Hz 스냅샷 3개 정도) */
+    public static final int DEFAULT_INTERPOLATION_DELAY = 100;
+    
+    /** 위치 전송 주기 키 (Hz) */
+    private static final String KEY_POSITION_SEND_RATE = "position_send_rate";
+    
+    /** 위치 전송 주기 기본값 (서버 기본 틱 레이트와 같음) */
+    public static final int DEFAULT_POSITION_SEND_RATE = 30;
+    
+    /** 목표 FPS 키 (그리기 횟수, 시뮬레이션 step 은 GamePanel.STEP_RATE 고정) */
+    private static final String KEY_TARGET_FPS = "target_fps";
+    
+    /** 목표 FPS 기본값 */
+    public static final int DEFAULT_TARGET_FPS = 60;
 
     /**
      * 선택한 캐릭터를 설정 파일에 저장
@@ -45,8 +64,7 @@ public class GameConfig {
         try (FileOutputStream out = new FileOutputStream(CONFIG_FILE)) {
             props.store(out, "Game Configuration");
         } catch (IOException e) {
-            System.err.println("[Config] Failed to save character: " + characterId);
-            e.printStackTrace(System.err);
+            Log.error("[Config] Failed to save character: " + characterId, e);
         }
     }
 
@@ -78,4 +96,73 @@ public class GameConfig {
             return DEFAULT_CHARACTER;
         }
     }
+
+    /**
+     * 원격 플레이어 보간 지연 로드
+     * 
+     * 원격 플레이어를 서버 시각보다 이만큼 늦게 그려 도착 간격이 흔들려도 앞뒤 스냅샷 사이를 보간할 수 있게 합니다.
+     * 값이 없거나 잘못되었으면 기본값, 범위는 0 ~ 500ms 입니다.
+     * 
+     * @return 보간 지연 (ms)
+     */
+    public static int loadInterpolationDelay() {
+        Properties props = new Properties();
+        
+        try (FileInputStream in = new FileInputStream(CONFIG_FILE)) {
+            props.load(in);
+            String value = props.getProperty(KEY_INTERPOLATION_DELAY);
+            if (value != null) {
+                return Math.max(0, Math.min(500, Integer.parseInt(value.trim())));
+            }
+        } catch (IOException | NumberFormatException e) {
+            // 파일이 없거나 값이 잘못되면 기본값
+        }
+        return DEFAULT_INTERPOLATION_DELAY;
+    }
+
+    /**
+     * 위치 전송 주기 로드
+     * 
+     * 게임 루프는 매 프레임 위치를 넘기지만 NetworkClient 는 이 주기로 최신 위치만 보냅니다.
+     * 값이 없거나 잘못되었으면 기본값, 범위는 10 ~ 120Hz 입니다.
+     * 
+     * @return 위치 전송 주기 (Hz)
+     */
+    public static int loadPositionSendRate() {
+        Properties props = new Properties();
+        
+        try (FileInputStream in = new FileInputStream(CONFIG_FILE)) {
+            props.load(in);
+            String value = props.getProperty(KEY_POSITION_SEND_RATE);
+            if (value != null) {
+                return Math.max(10, Math.min(120, Integer.parseInt(value.trim())));
+            }
+        } catch (IOException | NumberFormatException e) {
+            // 파일이 없거나 값이 잘못되면 기본값
+        }
+        return DEFAULT_POSITION_SEND_RATE;
+    }
+
+    /**
+     * 목표 FPS 로드
+     * 
+     * 게임 루프가 1초에 그리는 횟수입니다. 시뮬레이션은 이와 상관없이 고정 간격으로 돌고 그 사이는 보간해서 그립니다.
+     * 값이 없거나 잘못되었으면 기본값, 범위는 30 ~ 240 입니다.
+     * 
+     * @return 목표 FPS
+     */
+    public static int loadTargetFps() {
+        Properties props = new Properties();
+        
+        try (FileInputStream in = new FileInputStream(CONFIG_FILE)) {
+            props.load(in);
+            String value = props.getProperty(KEY_TARGET_FPS);
+            if (value != null) {
+                return Math.max(30, Math.min(240, Integer.parseInt(value.trim())));
+            }
+        } catch (IOException | NumberFormatException e) {
+            // 파일이 없거나 값이 잘못되면 기본값
+        }
+        return DEFAULT_TARGET_FPS;
+    }
 }
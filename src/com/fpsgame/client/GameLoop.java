@@ -0,0 +1,187 @@
+package com.fpsgame.client;
+
+import com.fpsgame.common.Log;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import javax.swing.SwingUtilities;
+
+/**
+ * 고정 시간 간격 게임 루프 (javax.swing.Timer(16) 대체)
+ *
+ * <p>전용 스레드가 목표 FPS 간격으로 프레임을 EDT 에 올리고, EDT 는 실제 경과 시간을 누적해
+ * 고정 간격(stepRate)의 시뮬레이션 step 을 필요한 만큼 돌린 뒤 남은 비율(alpha)로 한 번 그립니다.
+ * EDT 가 늦어도 쿨타임 / 이동이 느려지지 않고 (밀린 step 을 따라잡음), 그리는 횟수와 시뮬레이션 횟수가 분리됩니다.</p>
+ *
+ * <p>게임 상태는 계속 EDT 에서만 바뀝니다 (ClientEventQueue). 루프 스레드는 시각을 재고 프레임을 올리기만 하며,
+ * 이전 프레임이 아직 EDT 에서 처리되지 않았으면 새 프레임을 올리지 않습니다.</p>
+ *
+ * <p>한 프레임에 MAX_STEPS_PER_FRAME 을 넘게 밀리면 (창 드래그, 긴 GC 등) 나머지 시간은 버립니다.
+ * stop / start 사이의 시간도 시뮬레이션하지 않습니다 (설정 창 일시정지).</p>
+ */
+public class GameLoop {
+
+    /**
+     * 프레임 콜백 (EDT)
+     */
+    public interface Callbacks {
+        /** 고정 간격 시뮬레이션 한 번 (dt = 1 / stepRate 초) */
+        void step(float dt);
+
+        /** 프레임 그리기 (alpha = 마지막 step 이후 다음 step 까지 지난 비율, 0 ~ 1) */
+        void render(float alpha);
+    }
+
+    /** 한 프레임에 따라잡을 최대 step 수 */
+    public static final int MAX_STEPS_PER_FRAME = 5;
+
+    // 프레임 통계 구간 (구간마다 DEBUG 로그)
+    private static final long STATS_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Callbacks callbacks;
+    private final long stepNanos;
+    private final float stepSeconds;
+    private final long frameNanos;
+    private final AtomicBoolean framePending = new AtomicBoolean(false);
+    private final Runnable frameTask = this::runFrame;
+    private volatile boolean running = false;
+    private volatile Thread thread; // 현재 루프 스레드 (stop 후 바로 start 하면 이전 스레드는 스스로 끝남)
+
+    // EDT 전용
+    private long lastFrameNanos;
+    private long accumulatorNanos;
+    private final FrameStats stats = new FrameStats();
+    private long statsWindowStart;
+
+    public GameLoop(int stepRate, int targetFps, Callbacks callbacks) {
+        this.callbacks = callbacks;
+        this.stepNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, stepRate);
+        this.stepSeconds = 1f / Math.max(1, stepRate);
+        this.frameNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, targetFps);
+    }
+
+    /**
+     * 루프 시작 (이미 실행 중이면 무시)
+     */
+    public synchronized void start() {
+        if (running)
+            return;
+        running = true;
+        lastFrameNanos = 0; // 첫 프레임은 경과 시간 0 (멈춰 있던 시간은 시뮬레이션하지 않음)
+        statsWindowStart = System.nanoTime();
+        thread = new Thread(this::pace, "GameLoop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 루프 정지 (EDT 에서 진행 중인 프레임은 남은 step 없이 그리기만 하고 끝남)
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 직전 통계 구간(1초)의 프레임 통계 (EDT)
+     */
+    public FrameStats getStats() {
+        return stats;
+    }
+
+    // 루프 스레드: 목표 FPS 간격으로 프레임을 EDT 에 올림
+    private void pace() {
+        long next = System.nanoTime();
+        while (running && thread == Thread.currentThread()) {
+            if (framePending.compareAndSet(false, true)) {
+                SwingUtilities.invokeLater(frameTask);
+            }
+            next += frameNanos;
+            long now = System.nanoTime();
+            if (next - now < -frameNanos) {
+                next = now; // 크게 밀렸으면 따라잡지 않고 지금부터 다시
+            }
+            long wait;
+            while (running && (wait = next - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, wait);
+            }
+        }
+    }
+
+    // EDT: 경과 시간만큼 step 후 그리기
+    private void runFrame() {
+        framePending.set(false);
+        long start = System.nanoTime();
+        long elapsed = lastFrameNanos == 0 ? 0 : start - lastFrameNanos;
+        lastFrameNanos = start;
+        accumulatorNanos += elapsed;
+
+        int steps = 0;
+        while (running && accumulatorNanos >= stepNanos && steps < MAX_STEPS_PER_FRAME) {
+            callbacks.step(stepSeconds);
+            accumulatorNanos -= stepNanos;
+            steps++;
+        }
+        long dropped = 0;
+        if (accumulatorNanos >= stepNanos) {
+            // 너무 밀림: 남은 시간은 버리고 다음 step 까지의 비율만 유지
+            dropped = accumulatorNanos / stepNanos;
+            accumulatorNanos %= stepNanos;
+        }
+        callbacks.render((float) accumulatorNanos / stepNanos);
+
+        long end = System.nanoTime();
+        stats.record(elapsed, end - start, steps, dropped);
+        if (end - statsWindowStart >= STATS_WINDOW_NANOS) {
+            statsWindowStart = end;
+            stats.roll();
+            if (Log.isDebugEnabled()) {
+                Log.debug("[GameLoop] " + stats);
+            }
+        }
+    }
+
+    /**
+     * 프레임 시간 통계 (구간마다 roll 로 새로 시작, 직전 구간 요약은 toString)
+     */
+    public static class FrameStats {
+        private long frames, steps, droppedSteps;
+        private long intervalSum, intervalMax, workSum, workMax;
+        private long windowStart = System.nanoTime();
+        private String last = "측정 중";
+
+        void record(long intervalNanos, long workNanos, int stepCount, long dropped) {
+            frames++;
+            steps += stepCount;
+            droppedSteps += dropped;
+            intervalSum += intervalNanos;
+            intervalMax = Math.max(intervalMax, intervalNanos);
+            workSum += workNanos;
+            workMax = Math.max(workMax, workNanos);
+        }
+
+        void roll() {
+            long now = System.nanoTime();
+            double seconds = Math.max(1e-9, (now - windowStart) / 1e9);
+            last = String.format("FPS %.1f, step %.1f/s (버림 %d), 프레임 간격 평균 %.1fms 최대 %.1fms, 처리 평균 %.2fms 최대 %.2fms",
+                    frames / seconds, steps / seconds, droppedSteps,
+                    frames > 0 ? intervalSum / 1e6 / frames : 0.0, intervalMax / 1e6,
+                    frames > 0 ? workSum / 1e6 / frames : 0.0, workMax / 1e6);
+            frames = steps = droppedSteps = 0;
+            intervalSum = intervalMax = workSum = workMax = 0;
+            windowStart = now;
+        }
+
+        @Override
+        public String toString() {
+            return last;
+        }
+    }
+}
@@ -2,20 +2,106 @@ package com.fpsgame.client;
 
 import com.fpsgame.client.effects.*;
 import com.fpsgame.common.Ability;
+import com.fpsgame.common.BinaryCodec;
 import com.fpsgame.common.CharacterData;
+import com.fpsgame.common.DeltaCodec;
 import com.fpsgame.common.GameConstants;
+import com.fpsgame.common.Log;
+import com.fpsgame.common.PlayerIdTable;
+import com.fpsgame.common.Protocol;
+import com.fpsgame.common.WorldState;
+import java.nio.ByteBuffer;
 import java.util.*;
 
 /**
  * 게임 메시지 처리를 담당하는 핸들러 클래스
  * GamePanel의 processGameMessage를 분리하여 단일 책임 원칙 준수
+ * GamePanel 에는 Context 를 통해서만 접근합니다 (창 없이 처리 비용 측정 가능).
+ * 
+ * 수신 스레드가 ClientEventQueue 에 넣은 메시지를 EDT 게임 루프가 꺼내 처리합니다 (모든 상태 변경은 EDT).
  */
-public class GameMessageHandler {
+public class GameMessageHandler implements ClientEventQueue.Handler {
+
+    /**
+     * 메시지 처리에 필요한 게임 화면 상태 / 동작 (GamePanel 이 구현)
+     */
+    public interface Context {
+        String getPlayerName();
+        GameState getGameState();
+        Map<String, GamePanel.PlayerData> getPlayers();
+        PlayerIdTable getPlayerIds();
+        ServerClock getServerClock();
+        GameObjectManager getObjectManager();
+        SkillEffectManager getSkillEffects();
+        Map<String, List<GamePanel.ActiveEffect>> getEffectsByPlayer();
+
+        void appendChatMessage(String message);
+        void repaint();
+
+        // 캐릭터 / 스프라이트
+        void setAbilities(Ability[] abilities); // GameState 에도 반영
+        void setCharacterChangedInRound(boolean changed);
+        void setBuffMultipliers(float moveSpeed, float attackSpeed);
+        void loadSprites();
+        void loadPlayerSprites(GamePanel.PlayerData player, String characterId);
+        void setTeamMarkRemaining(float seconds);
+        void setTeamThermalRemaining(float seconds);
+
+        // 맵
+        String getCurrentMapName();
+        void setCurrentMapName(String mapName);
+        void loadMap(String mapName);
+
+        // 라운드
+        void setRoundScore(int redWins, int blueWins);
+        void setRoundState(GamePanel.RoundState state);
+        void setRoundCount(int roundCount);
+        void setRoundStartTime(long millis);
+        void showCenterMessage(String message, long endTimeMillis);
+        void setGameOver(boolean gameOver);
+        void returnToLobby();
+
+        // 네트워크
+        void setServerFeatures(int features);
+        void setServerTickRate(int tickRate);
+        void sendSnapshotAck(int tick);
+        void onMoveAck(int seq, float x, float y);
+
+        // 메뉴 액션
+        void openCharacterSelect();
+        void disconnect();
+        void toggleMinimap();
+        boolean toggleDebugObstacles(); // 바뀐 값
+        boolean toggleEditMode(); // 바뀐 값
+        void cycleNextMap();
+        void saveEditedMap();
+        void rebuildObstaclesFromWalkable();
+        void showControlsDialog();
+        void showAboutDialog();
+    }
+
+    private final Context game;
     
-    private final GamePanel gamePanel;
+    // 복원한 델타 스냅샷 이력 (tick % CLIENT_HISTORY, EDT 전용)
+    private final WorldState[] deltaHistory = new WorldState[DeltaCodec.CLIENT_HISTORY];
     
-    public GameMessageHandler(GamePanel gamePanel) {
-        this.gamePanel = gamePanel;
+    // 처리 중인 메시지를 받은 시각 (ServerClock.localMillis 기준, 틱 → 서버 시각 보정용)
+    private double receivedAt = ServerClock.localMillis();
+    
+    public GameMessageHandler(Context game) {
+        this.game = game;
+    }
+    
+    @Override
+    public void onText(String message, double receivedAt) {
+        this.receivedAt = receivedAt;
+        handleMessage(message);
+    }
+    
+    @Override
+    public void onBinary(ByteBuffer payload, double receivedAt) {
+        this.receivedAt = receivedAt;
+        handleBinary(payload);
     }
     
     /**
@@ -35,6 +121,7 @@ public class GameMessageHandler {
             case "CHARACTER_SELECT" -> handleCharacterSelect(data);
             case "PLAYER" -> handlePlayer(data);
             case "REMOVE" -> handleRemove(data);
+            case "HIDE" -> hidePlayer(data);
             case "KILL" -> handleKill(data);
             case "STATS" -> handleStats(data);
             case "SHOOT" -> handleShoot(data);
@@ -56,7 +143,171 @@ public class GameMessageHandler {
             case "GAME_OVER" -> handleGameOver(data);
             case "GAME_END" -> handleGameEnd(data);
             case "MENU_ACTION" -> handleMenuAction(data);
-            default -> System.out.println("[알 수 없는 명령어] " + command);
+            case "ID_MAP" -> game.getPlayerIds().put(data);
+            case "FEATURES" -> game.setServerFeatures(Integer.parseInt(data.trim()));
+            case "TICK_RATE" -> game.setServerTickRate(Integer.parseInt(data.trim()));
+            case "MOVE_ACK" -> handleMoveAck(data);
+            default -> Log.info("[알 수 없는 명령어] " + command);
+        }
+    }
+
+    /**
+     * 바이너리 메시지 라우팅 (BinaryCodec 레이아웃, 텍스트 핸들러와 같은 처리로 연결)
+     */
+    public void handleBinary(ByteBuffer payload) {
+        byte type = BinaryCodec.readType(payload);
+        switch (type) {
+            case Protocol.PLAYER_UPDATE -> readBinaryPlayer(payload, game.getServerClock().now());
+            case Protocol.GAME_STATE -> {
+                // 틱 스냅샷: 모든 플레이어 상태 (자신은 applyPlayer에서 무시)
+                double time = game.getServerClock().onTick(BinaryCodec.readInt(payload), receivedAt);
+                int count = BinaryCodec.readUnsignedByte(payload);
+                for (int i = 0; i < count; i++) {
+                    readBinaryPlayer(payload, time);
+                }
+            }
+            case Protocol.PLAYER_SHOOT -> {
+                String shooter = game.getPlayerIds().get(BinaryCodec.readId(payload));
+                float sx = BinaryCodec.readCoord(payload);
+                float sy = BinaryCodec.readCoord(payload);
+                float dx = BinaryCodec.readVelocity(payload);
+                float dy = BinaryCodec.readVelocity(payload);
+                if (shooter != null) {
+                    applyShoot(shooter, sx, sy, dx, dy);
+                }
+            }
+            case Protocol.PLAYER_STATS -> {
+                String name = game.getPlayerIds().get(BinaryCodec.readId(payload));
+                int kills = BinaryCodec.readUnsignedShort(payload);
+                int deaths = BinaryCodec.readUnsignedShort(payload);
+                int hp = BinaryCodec.readShort(payload);
+                if (name != null) {
+                    applyStats(name, kills, deaths, hp);
+                }
+            }
+            case Protocol.WORLD_DELTA -> handleWorldDelta(payload);
+            case Protocol.MOVE_ACK -> game.onMoveAck(BinaryCodec.readInt(payload), BinaryCodec.readCoord(payload),
+                    BinaryCodec.readCoord(payload));
+            default -> Log.info("[알 수 없는 바이너리 메시지] " + type);
+        }
+    }
+    
+    /**
+     * MOVE_ACK:seq,x,y - 서버가 반영한 마지막 위치 입력 순번과 검증한 위치
+     */
+    private void handleMoveAck(String data) {
+        String[] parts = data.split(",");
+        if (parts.length < 3)
+            return;
+        try {
+            game.onMoveAck(Integer.parseInt(parts[0]), Float.parseFloat(parts[1]), Float.parseFloat(parts[2]));
+        } catch (NumberFormatException e) {
+            Log.warn("[MOVE_ACK] 형식 오류: " + data);
+        }
+    }
+
+    /**
+     * 델타 스냅샷 복원: 기준 상태에 변경분을 적용하고 바뀐 엔티티만 반영한 뒤 ACK
+     */
+    private void handleWorldDelta(ByteBuffer payload) {
+        int tick = DeltaCodec.peekTick(payload);
+        int baseTick = DeltaCodec.peekBaseTick(payload);
+        WorldState base = null;
+        if (baseTick != DeltaCodec.NO_BASE) {
+            base = deltaHistory[baseTick % DeltaCodec.CLIENT_HISTORY];
+            if (base == null || base.tick != baseTick) {
+                // 기준을 잃음 → 전체 스냅샷 요청
+                game.sendSnapshotAck(DeltaCodec.NO_BASE);
+                return;
+            }
+        }
+        int slot = tick % DeltaCodec.CLIENT_HISTORY;
+        WorldState state = deltaHistory[slot];
+        if (state == null || state == base) {
+            state = deltaHistory[slot] = new WorldState();
+        }
+        DeltaCodec.decode(payload, base, state);
+        double time = game.getServerClock().onTick(tick, receivedAt);
+        
+        WorldState.Table players = state.players();
+        for (int i = 0; i < players.size(); i++) {
+            int mask = players.changedMask(i);
+            boolean positionKnown = (players.get(i, WorldState.P_FLAGS) & WorldState.FLAG_POSITION_KNOWN) != 0;
+            if (mask == 0) {
+                // 안 바뀐 플레이어도 이 틱의 위치를 보간 버퍼에 넣어 멈춘 것으로 보이게 함 (외삽 방지)
+                if (positionKnown) {
+                    GamePanel.PlayerData pd = game.getPlayers().get(game.getPlayerIds().get(players.id(i)));
+                    if (pd != null && !pd.hidden) {
+                        pd.positions.add(time, (int) BinaryCodec.dequantizeCoord(players.get(i, WorldState.P_X)),
+                                (int) BinaryCodec.dequantizeCoord(players.get(i, WorldState.P_Y)));
+                    }
+                }
+                continue;
+            }
+            String name = game.getPlayerIds().get(players.id(i));
+            if (name == null) continue;
+            int hp = players.get(i, WorldState.P_HP);
+            if (!positionKnown) {
+                if ((mask & (1 << WorldState.P_FLAGS)) != 0) {
+                    hidePlayer(name);
+                }
+            } else {
+                applyPlayer(name, time,
+                        (int) BinaryCodec.dequantizeCoord(players.get(i, WorldState.P_X)),
+                        (int) BinaryCodec.dequantizeCoord(players.get(i, WorldState.P_Y)),
+                        players.get(i, WorldState.P_TEAM), hp,
+                        BinaryCodec.characterId(players.get(i, WorldState.P_CHAR)),
+                        players.get(i, WorldState.P_DIR));
+            }
+            int statsMask = (1 << WorldState.P_KILLS) | (1 << WorldState.P_DEATHS) | (1 << WorldState.P_HP);
+            if ((mask & statsMask) != 0) {
+                applyStats(name, players.get(i, WorldState.P_KILLS), players.get(i, WorldState.P_DEATHS), hp);
+            }
+        }
+        
+        WorldState.Table objects = state.objects();
+        for (int i = 0; i < objects.size(); i++) {
+            int mask = objects.changedMask(i);
+            if (mask == 0) continue;
+            int id = objects.id(i);
+            GameObjectManager.PlacedObjectClient obj = game.getObjectManager().getPlacedObject(id);
+            if (obj == null || (mask & (1 << WorldState.O_TYPE)) != 0) {
+                String owner = game.getPlayerIds().getOrDefault(objects.get(i, WorldState.O_OWNER), "");
+                game.getObjectManager().putPlacedObject(id, new GameObjectManager.PlacedObjectClient(id,
+                        WorldState.objectType(objects.get(i, WorldState.O_TYPE)),
+                        (int) BinaryCodec.dequantizeCoord(objects.get(i, WorldState.O_X)),
+                        (int) BinaryCodec.dequantizeCoord(objects.get(i, WorldState.O_Y)),
+                        objects.get(i, WorldState.O_HP), objects.get(i, WorldState.O_MAX_HP),
+                        owner, objects.get(i, WorldState.O_TEAM)));
+            } else {
+                obj.hp = objects.get(i, WorldState.O_HP);
+            }
+        }
+        for (int i = 0; i < objects.removedCount(); i++) {
+            removeObject(objects.removedId(i));
+        }
+        if (base == null) {
+            // 전체 스냅샷에 없는 오브젝트는 기준을 잃은 동안 사라진 것
+            for (Integer id : new ArrayList<>(game.getObjectManager().getPlacedObjects().keySet())) {
+                if (objects.indexOf(id) < 0) {
+                    removeObject(id);
+                }
+            }
+        }
+        
+        game.sendSnapshotAck(tick);
+    }
+    
+    private void readBinaryPlayer(ByteBuffer payload, double time) {
+        String name = game.getPlayerIds().get(BinaryCodec.readId(payload));
+        int x = (int) BinaryCodec.readCoord(payload);
+        int y = (int) BinaryCodec.readCoord(payload);
+        int team = BinaryCodec.readUnsignedByte(payload);
+        int hp = BinaryCodec.readShort(payload);
+        int direction = BinaryCodec.readUnsignedByte(payload);
+        String charId = BinaryCodec.readCharacterId(payload);
+        if (name != null) {
+            applyPlayer(name, time, x, y, team, hp, charId, direction);
         }
     }
 
@@ -67,36 +318,30 @@ public class GameMessageHandler {
      */
     public void handleMenuAction(String action) {
         switch (action) {
-            case "CHARACTER_SELECT" -> gamePanel.openCharacterSelect();
+            case "CHARACTER_SELECT" -> game.openCharacterSelect();
             case "EXIT" -> {
-                gamePanel.disconnect();
+                game.disconnect();
                 System.exit(0);
             }
-            case "TOGGLE_MINIMAP" -> gamePanel.showMinimap = !gamePanel.showMinimap;
-            case "TOGGLE_DEBUG" -> {
-                gamePanel.debugObstacles = !gamePanel.debugObstacles;
-                gamePanel.appendChatMessage("[디버그] 장애물 표시: " + gamePanel.debugObstacles);
-            }
-            case "TOGGLE_EDIT" -> {
-                gamePanel.editMode = !gamePanel.editMode;
-                gamePanel.appendChatMessage("[에디터] 편집 모드: " + gamePanel.editMode);
-            }
-            case "NEXT_MAP" -> gamePanel.cycleNextMap();
-            case "SAVE_MAP" -> gamePanel.saveEditedMap();
-            case "REBUILD_OBSTACLES" -> gamePanel.rebuildObstaclesFromWalkable();
-            case "SHOW_CONTROLS" -> gamePanel.getUIManager().showControlsDialog(gamePanel);
-            case "SHOW_ABOUT" -> gamePanel.getUIManager().showAboutDialog(gamePanel);
-            default -> gamePanel.appendChatMessage("[시스템] 알 수 없는 메뉴 액션: " + action);
+            case "TOGGLE_MINIMAP" -> game.toggleMinimap();
+            case "TOGGLE_DEBUG" -> game.appendChatMessage("[디버그] 장애물 표시: " + game.toggleDebugObstacles());
+            case "TOGGLE_EDIT" -> game.appendChatMessage("[에디터] 편집 모드: " + game.toggleEditMode());
+            case "NEXT_MAP" -> game.cycleNextMap();
+            case "SAVE_MAP" -> game.saveEditedMap();
+            case "REBUILD_OBSTACLES" -> game.rebuildObstaclesFromWalkable();
+            case "SHOW_CONTROLS" -> game.showControlsDialog();
+            case "SHOW_ABOUT" -> game.showAboutDialog();
+            default -> game.appendChatMessage("[시스템] 알 수 없는 메뉴 액션: " + action);
         }
     }
     
     private void handleChat(String data) {
-        gamePanel.appendChatMessage(data);
+        game.appendChatMessage(data);
     }
     
     private void handleWelcome(String data) {
-        gamePanel.appendChatMessage("[시스템] " + data);
-        System.out.println("[WELCOME] " + data);
+        game.appendChatMessage("[시스템] " + data);
+        Log.info("[WELCOME] " + data);
     }
     
     private void handleTeamRoster(String data) {
@@ -116,8 +361,8 @@ public class GameMessageHandler {
                 roster.append("\n");
             }
         }
-        gamePanel.appendChatMessage(roster.toString().trim());
-        System.out.println("[TEAM_ROSTER] " + data);
+        game.appendChatMessage(roster.toString().trim());
+        Log.info("[TEAM_ROSTER] " + data);
     }
     
     private void handleCharacterSelect(String data) {
@@ -129,7 +374,7 @@ public class GameMessageHandler {
         CharacterData cd = CharacterData.getById(charId);
         int newMaxHp = (int) cd.health;
         
-        if (pName.equals(gamePanel.playerName)) {
+        if (pName.equals(game.getPlayerName())) {
             handleMyCharacterSelect(charId, cd, newMaxHp);
         } else {
             handleRemoteCharacterSelect(pName, charId, cd, newMaxHp);
@@ -138,43 +383,42 @@ public class GameMessageHandler {
     
     private void handleMyCharacterSelect(String charId, CharacterData cd, int newMaxHp) {
         // GameState에 캐릭터 정보 설정
-        gamePanel.gameState.setSelectedCharacter(charId);
-        gamePanel.gameState.setCurrentCharacterData(cd);
-        gamePanel.gameState.setMyMaxHP(newMaxHp);
-        gamePanel.gameState.setMyHP(newMaxHp);
+        game.getGameState().setSelectedCharacter(charId);
+        game.getGameState().setCurrentCharacterData(cd);
+        game.getGameState().setMyMaxHP(newMaxHp);
+        game.getGameState().setMyHP(newMaxHp);
         
         // 스킬 재생성 (로컬 유지)
-        gamePanel.abilities = CharacterData.createAbilities(charId);
-        gamePanel.gameState.setAbilities(gamePanel.abilities);
-        gamePanel.hasChangedCharacterInRound = true;
+        game.setAbilities(CharacterData.createAbilities(charId));
+        game.setCharacterChangedInRound(true);
         
         // 선택한 캐릭터 저장
         GameConfig.saveCharacter(charId);
         
         // 스프라이트 재로드
-        gamePanel.loadSprites();
-        System.out.println("[CHARACTER_SELECT] 캐릭터 변경: " + charId + 
-            ", maxHP: " + newMaxHp + ", 현재 HP: " + gamePanel.gameState.getMyHP() + ")");
-        gamePanel.repaint();
-        gamePanel.appendChatMessage("[캐릭터] " + cd.name + "으로 변경되었습니다.");
+        game.loadSprites();
+        Log.info("[CHARACTER_SELECT] 캐릭터 변경: " + charId + 
+            ", maxHP: " + newMaxHp + ", 현재 HP: " + game.getGameState().getMyHP() + ")");
+        game.repaint();
+        game.appendChatMessage("[캐릭터] " + cd.name + "으로 변경되었습니다.");
     }
     
     private void handleRemoteCharacterSelect(String pName, String charId, CharacterData cd, int newMaxHp) {
-        GamePanel.PlayerData pd = gamePanel.players.get(pName);
+        GamePanel.PlayerData pd = game.getPlayers().get(pName);
         if (pd == null) {
-            pd = gamePanel.new PlayerData(0, 0, GameConstants.TEAM_RED);
+            pd = new GamePanel.PlayerData(0, 0, GameConstants.TEAM_RED);
             pd.characterId = charId;
             pd.maxHp = newMaxHp;
             pd.hp = newMaxHp;
-            gamePanel.players.put(pName, pd);
+            game.getPlayers().put(pName, pd);
         } else {
             pd.characterId = charId;
             pd.maxHp = newMaxHp;
             pd.hp = newMaxHp;
         }
-        gamePanel.loadPlayerSprites(pd, charId);
-        System.out.println("[CHARACTER_SELECT] 원격 플레이어: " + pName + " -> " + charId + ", HP: " + newMaxHp);
-        gamePanel.appendChatMessage("[캐릭터] " + pName + " -> " + cd.name);
+        game.loadPlayerSprites(pd, charId);
+        Log.info("[CHARACTER_SELECT] 원격 플레이어: " + pName + " -> " + charId + ", HP: " + newMaxHp);
+        game.appendChatMessage("[캐릭터] " + pName + " -> " + cd.name);
     }
     
     private void handlePlayer(String data) {
@@ -182,7 +426,7 @@ public class GameMessageHandler {
         if (playerData.length < 5) return;
         
         String name = playerData[0];
-        if (name.equals(gamePanel.playerName)) return;
+        if (name.equals(game.getPlayerName())) return;
         
         int x = (int) Float.parseFloat(playerData[1]);
         int y = (int) Float.parseFloat(playerData[2]);
@@ -190,20 +434,37 @@ public class GameMessageHandler {
         int hp = Integer.parseInt(playerData[4]);
         String charId = (playerData.length >= 6) ? playerData[5] : "raven";
         int direction = (playerData.length >= 7) ? Integer.parseInt(playerData[6]) : 0;
+        applyPlayer(name, game.getServerClock().now(), x, y, t, hp, charId, direction);
+    }
+    
+    /**
+     * 원격 플레이어 상태 반영
+     * @param time 위치의 서버 시각 (틱이 붙은 스냅샷은 그 틱 시각, 아니면 추정한 현재 서버 시각)
+     */
+    private void applyPlayer(String name, double time, int x, int y, int t, int hp, String charId, int direction) {
+        if (name.equals(game.getPlayerName())) return;
         
-        GamePanel.PlayerData pd = gamePanel.players.get(name);
+        GamePanel.PlayerData pd = game.getPlayers().get(name);
         if (pd == null) {
-            pd = gamePanel.new PlayerData(x, y, t);
+            pd = new GamePanel.PlayerData(x, y, t);
             pd.hp = hp;
             pd.characterId = charId;
             pd.maxHp = (int) CharacterData.getById(charId).health;
             pd.direction = direction;
-            gamePanel.players.put(name, pd);
-            gamePanel.loadPlayerSprites(pd, charId);
-            System.out.println("[PLAYER] 새 플레이어: " + name + " (Team " + t + ") at (" + x + ", " + y + ")");
+            pd.positions.reset(time, x, y);
+            game.getPlayers().put(name, pd);
+            game.loadPlayerSprites(pd, charId);
+            Log.info("[PLAYER] 새 플레이어: " + name + " (Team " + t + ") at (" + x + ", " + y + ")");
         } else {
-            pd.targetX = x;
-            pd.targetY = y;
+            if (pd.hidden) {
+                // 시야 밖에 있다 다시 들어온 경우: 예전 위치에서 미끄러지지 않도록 바로 배치
+                pd.x = x;
+                pd.y = y;
+                pd.positions.reset(time, x, y);
+                pd.hidden = false;
+            } else {
+                pd.positions.add(time, x, y);
+            }
             pd.team = t;
             pd.hp = hp;
             pd.direction = direction;
@@ -212,8 +473,8 @@ public class GameMessageHandler {
             if (charId != null && (!charId.equalsIgnoreCase(pd.characterId) || pd.animations == null)) {
                 pd.characterId = charId;
                 pd.maxHp = (int) CharacterData.getById(charId).health;
-                gamePanel.loadPlayerSprites(pd, charId);
-                System.out.println("[PLAYER] 캐릭터 변경: " + name + " -> " + charId + ", maxHP: " + pd.maxHp);
+                game.loadPlayerSprites(pd, charId);
+                Log.info("[PLAYER] 캐릭터 변경: " + name + " -> " + charId + ", maxHP: " + pd.maxHp);
             } else if (charId != null) {
                 pd.maxHp = (int) CharacterData.getById(charId).health;
             }
@@ -221,11 +482,21 @@ public class GameMessageHandler {
     }
     
     private void handleRemove(String data) {
-        gamePanel.players.remove(data);
+        game.getPlayers().remove(data);
+    }
+    
+    /**
+     * 서버 관심 영역 밖으로 나간 플레이어 숨김 (점수 정보는 유지, 다음 위치 수신 시 다시 표시)
+     */
+    private void hidePlayer(String name) {
+        GamePanel.PlayerData pd = game.getPlayers().get(name);
+        if (pd != null) {
+            pd.hidden = true;
+        }
     }
     
     private void handleKill(String data) {
-        gamePanel.appendChatMessage(">>> 당신이 " + data + "를 처치했습니다!");
+        game.appendChatMessage(">>> 당신이 " + data + "를 처치했습니다!");
     }
     
     private void handleStats(String data) {
@@ -236,8 +507,11 @@ public class GameMessageHandler {
         int k = Integer.parseInt(s[1]);
         int d = Integer.parseInt(s[2]);
         int hp = Integer.parseInt(s[3]);
-        
-        if (name.equals(gamePanel.playerName)) {
+        applyStats(name, k, d, hp);
+    }
+    
+    private void applyStats(String name, int k, int d, int hp) {
+        if (name.equals(game.getPlayerName())) {
             handleMyStats(k, d, hp);
         } else {
             handleRemoteStats(name, k, d, hp);
@@ -245,27 +519,27 @@ public class GameMessageHandler {
     }
     
     private void handleMyStats(int kills, int deaths, int hp) {
-        gamePanel.gameState.setKills(kills);
-        gamePanel.gameState.setDeaths(deaths);
-        gamePanel.gameState.setMyHP(hp);
+        game.getGameState().setKills(kills);
+        game.getGameState().setDeaths(deaths);
+        game.getGameState().setMyHP(hp);
         
-        CharacterData currentChar = gamePanel.gameState.getCurrentCharacterData();
+        CharacterData currentChar = game.getGameState().getCurrentCharacterData();
         if (currentChar != null) {
-            gamePanel.gameState.setMyMaxHP((int) currentChar.health);
+            game.getGameState().setMyMaxHP((int) currentChar.health);
         }
         
-        System.out.println("[STATS] " + gamePanel.playerName + " HP: " + 
-            gamePanel.gameState.getMyHP() + "/" + gamePanel.gameState.getMyMaxHP() + 
-            " (Character: " + gamePanel.gameState.getSelectedCharacter() + ")");
+        Log.debug(() -> "[STATS] " + game.getPlayerName() + " HP: " + 
+            game.getGameState().getMyHP() + "/" + game.getGameState().getMyMaxHP() + 
+            " (Character: " + game.getGameState().getSelectedCharacter() + ")");
         
         // 라운드 중 자동 부활 비활성화 - 라운드 시작 시에만 부활
-        if (gamePanel.gameState.getMyHP() <= 0) {
-            gamePanel.appendChatMessage("[사망] 다음 라운드가 시작되면 부활합니다.");
+        if (game.getGameState().getMyHP() <= 0) {
+            game.appendChatMessage("[사망] 다음 라운드가 시작되면 부활합니다.");
         }
     }
     
     private void handleRemoteStats(String name, int kills, int deaths, int hp) {
-        GamePanel.PlayerData pd = gamePanel.players.get(name);
+        GamePanel.PlayerData pd = game.getPlayers().get(name);
         if (pd != null) {
             pd.kills = kills;
             pd.deaths = deaths;
@@ -275,7 +549,7 @@ public class GameMessageHandler {
                 pd.maxHp = (int) CharacterData.getById(pd.characterId).health;
             }
             
-            System.out.println("[STATS] " + name + " HP: " + pd.hp + "/" + pd.maxHp + 
+            Log.debug(() -> "[STATS] " + name + " HP: " + pd.hp + "/" + pd.maxHp + 
                 " (Character: " + pd.characterId + ")");
         }
     }
@@ -290,14 +564,17 @@ public class GameMessageHandler {
         float sy = Float.parseFloat(shootData[2]);
         float dx = Float.parseFloat(shootData[3]);
         float dy = Float.parseFloat(shootData[4]);
-        
+        applyShoot(shooter, sx, sy, dx, dy);
+    }
+    
+    private void applyShoot(String shooter, float sx, float sy, float dx, float dy) {
         // 다른 플레이어의 발사 시각 효과 (총구 섬광)
-        if (!shooter.equals(gamePanel.playerName)) {
+        if (!shooter.equals(game.getPlayerName())) {
             double angle = Math.atan2(dy, dx);
-            gamePanel.skillEffects.addForPlayer(shooter, new MuzzleFlashEffect(angle));
+            game.getSkillEffects().addForPlayer(shooter, new MuzzleFlashEffect(angle));
             
             // 다른 플레이어의 미사일 생성
-            GamePanel.PlayerData shooterData = gamePanel.players.get(shooter);
+            GamePanel.PlayerData shooterData = game.getPlayers().get(shooter);
             if (shooterData != null) {
                 int team = shooterData.team;
                 
@@ -314,10 +591,11 @@ public class GameMessageHandler {
                 GameObjectManager.Missile missile = new GameObjectManager.Missile(
                     sx, sy, dx, dy, team, shooter, maxRange
                 );
-                gamePanel.objectManager.addMissile(missile);
+                game.getObjectManager().addMissile(missile);
                 
-                System.out.println("[SHOOT] " + shooter + " fired from (" + sx + "," + sy + 
-                                 ") dir (" + dx + "," + dy + ") range: " + maxRange);
+                if (Log.isDebugEnabled())
+                    Log.debug("[SHOOT] " + shooter + " fired from (" + sx + "," + sy +
+                            ") dir (" + dx + "," + dy + ") range: " + maxRange);
             }
         }
     }
@@ -335,8 +613,8 @@ public class GameMessageHandler {
             duration = Float.parseFloat(sd[3]);
         } catch (NumberFormatException ignored) {}
         
-        if (!user.equals(gamePanel.playerName)) {
-            gamePanel.effectsByPlayer
+        if (!user.equals(game.getPlayerName())) {
+            game.getEffectsByPlayer()
                 .computeIfAbsent(user, k -> new ArrayList<>())
                 .add(new GamePanel.ActiveEffect(abilityId, type, Math.max(0.2f, duration)));
             
@@ -344,12 +622,12 @@ public class GameMessageHandler {
             addSkillEffect(user, abilityId, duration);
             
             // 팀원의 Piper 스킬을 받으면 팀 공유 활성화
-            GamePanel.PlayerData teammate = gamePanel.players.get(user);
-            if (teammate != null && teammate.team == gamePanel.gameState.getTeam()) {
+            GamePanel.PlayerData teammate = game.getPlayers().get(user);
+            if (teammate != null && teammate.team == game.getGameState().getTeam()) {
                 if ("piper_mark".equals(abilityId)) {
-                    gamePanel.setTeamMarkRemaining(duration);
+                    game.setTeamMarkRemaining(duration);
                 } else if ("piper_thermal".equals(abilityId)) {
-                    gamePanel.setTeamThermalRemaining(duration);
+                    game.setTeamThermalRemaining(duration);
                 }
             }
         }
@@ -357,20 +635,20 @@ public class GameMessageHandler {
     
     private void addSkillEffect(String user, String abilityId, float duration) {
         switch (abilityId) {
-            case "piper_mark" -> gamePanel.skillEffects.addForPlayer(user, new PiperMarkEffect(duration));
-            case "piper_thermal" -> gamePanel.skillEffects.addForPlayer(user, new PiperThermalEffect(duration));
-            case "raven_dash" -> gamePanel.skillEffects.addForPlayer(user, new RavenDashEffect(duration));
-            case "raven_overcharge" -> gamePanel.skillEffects.addForPlayer(user, new RavenOverchargeEffect(duration));
-            case "gen_aura" -> gamePanel.skillEffects.addForPlayer(user, new GeneralAuraEffect(duration));
+            case "piper_mark" -> game.getSkillEffects().addForPlayer(user, new PiperMarkEffect(duration));
+            case "piper_thermal" -> game.getSkillEffects().addForPlayer(user, new PiperThermalEffect(duration));
+            case "raven_dash" -> game.getSkillEffects().addForPlayer(user, new RavenDashEffect(duration));
+            case "raven_overcharge" -> game.getSkillEffects().addForPlayer(user, new RavenOverchargeEffect(duration));
+            case "gen_aura" -> game.getSkillEffects().addForPlayer(user, new GeneralAuraEffect(duration));
             case "gen_strike" -> {} // 시각 효과 없음
-            case "ghost_cloak" -> gamePanel.skillEffects.addForPlayer(user, new GhostCloakEffect(duration));
-            case "ghost_nullify" -> gamePanel.skillEffects.addForPlayer(user, new GhostNullifyEffect(duration));
-            case "skull_adrenaline" -> gamePanel.skillEffects.addForPlayer(user, new SkullAdrenalineEffect(duration));
-            case "skull_ammo" -> gamePanel.skillEffects.addForPlayer(user, new SkullAmmoEffect(duration));
-            case "tech_mine" -> gamePanel.skillEffects.addForPlayer(user, new TechMineEffect(duration));
-            case "tech_turret" -> gamePanel.skillEffects.addForPlayer(user, new TechTurretEffect(duration));
-            case "sage_heal" -> gamePanel.skillEffects.addForPlayer(user, new SageHealEffect(duration));
-            case "sage_revive" -> gamePanel.skillEffects.addForPlayer(user, new SageReviveEffect(duration));
+            case "ghost_cloak" -> game.getSkillEffects().addForPlayer(user, new GhostCloakEffect(duration));
+            case "ghost_nullify" -> game.getSkillEffects().addForPlayer(user, new GhostNullifyEffect(duration));
+            case "skull_adrenaline" -> game.getSkillEffects().addForPlayer(user, new SkullAdrenalineEffect(duration));
+            case "skull_ammo" -> game.getSkillEffects().addForPlayer(user, new SkullAmmoEffect(duration));
+            case "tech_mine" -> game.getSkillEffects().addForPlayer(user, new TechMineEffect(duration));
+            case "tech_turret" -> game.getSkillEffects().addForPlayer(user, new TechTurretEffect(duration));
+            case "sage_heal" -> game.getSkillEffects().addForPlayer(user, new SageHealEffect(duration));
+            case "sage_revive" -> game.getSkillEffects().addForPlayer(user, new SageReviveEffect(duration));
         }
     }
     
@@ -383,7 +661,7 @@ public class GameMessageHandler {
             int dy = Integer.parseInt(md[3]);
             int mTeam = Integer.parseInt(md[4]);
             String owner = md[5];
-            gamePanel.objectManager.addMissile(new GameObjectManager.Missile(mx, my, dx, dy, mTeam, owner));
+            game.getObjectManager().addMissile(new GameObjectManager.Missile(mx, my, dx, dy, mTeam, owner));
         }
     }
     
@@ -393,7 +671,7 @@ public class GameMessageHandler {
             int hitX = Integer.parseInt(hd[0]);
             int hitY = Integer.parseInt(hd[1]);
             int damage = Integer.parseInt(hd[2]);
-            gamePanel.appendChatMessage("적중! 피해: " + damage + " at (" + hitX + ", " + hitY + ")");
+            game.appendChatMessage("적중! 피해: " + damage + " at (" + hitX + ", " + hitY + ")");
         }
     }
     
@@ -408,21 +686,24 @@ public class GameMessageHandler {
             int maxHp = Integer.parseInt(od[5]);
             String ownerName = od[6];
             int team = Integer.parseInt(od[7]);
-            gamePanel.objectManager.putPlacedObject(id, new GameObjectManager.PlacedObjectClient(id, objType, ox, oy, hp, maxHp, ownerName, team));
+            game.getObjectManager().putPlacedObject(id, new GameObjectManager.PlacedObjectClient(id, objType, ox, oy, hp, maxHp, ownerName, team));
         }
     }
     
     private void handleObjectDestroy(String data) {
         try {
-            int id = Integer.parseInt(data);
-            GameObjectManager.PlacedObjectClient obj = gamePanel.objectManager.getPlacedObject(id);
-            if (obj != null) {
-                gamePanel.objectManager.removePlacedObject(id);
-                gamePanel.appendChatMessage("[오브젝트] " + obj.type + " 파괴됨!");
-            }
+            removeObject(Integer.parseInt(data));
         } catch (NumberFormatException ignored) {}
     }
     
+    private void removeObject(int id) {
+        GameObjectManager.PlacedObjectClient obj = game.getObjectManager().getPlacedObject(id);
+        if (obj != null) {
+            game.getObjectManager().removePlacedObject(id);
+            game.appendChatMessage("[오브젝트] " + obj.type + " 파괴됨!");
+        }
+    }
+    
     private void handleBuff(String data) {
         // 형식: targetName,abilityId,moveSpeedMult,attackSpeedMult,durationRemaining
         String[] bd = data.split(",");
@@ -433,11 +714,10 @@ public class GameMessageHandler {
             float attackMulti = Float.parseFloat(bd[3]);
             
             // 자신에게 적용된 버프만 처리
-            if (targetName.equals(gamePanel.playerName)) {
-                gamePanel.moveSpeedMultiplier = moveMulti;
-                gamePanel.getSkillManager().setAttackSpeedMultiplier(attackMulti);
+            if (targetName.equals(game.getPlayerName())) {
+                game.setBuffMultipliers(moveMulti, attackMulti);
                 if (moveMulti > 1.0f || attackMulti > 1.0f) {
-                    gamePanel.appendChatMessage("[버프] " + abilityId + " 활성화!");
+                    game.appendChatMessage("[버프] " + abilityId + " 활성화!");
                 }
             }
         }
@@ -446,10 +726,9 @@ public class GameMessageHandler {
     private void handleUnbuff(String data) {
         // 형식: abilityId
         if (data.equals("gen_aura")) {
-            gamePanel.moveSpeedMultiplier = 1.0f;
-            gamePanel.getSkillManager().setAttackSpeedMultiplier(1.0f);
-            gamePanel.appendChatMessage("[버프] 장군의 오라 효과 종료");
-            System.out.println("[UNBUFF] Aura buff removed");
+            game.setBuffMultipliers(1.0f, 1.0f);
+            game.appendChatMessage("[버프] 장군의 오라 효과 종료");
+            Log.info("[UNBUFF] Aura buff removed");
         }
     }
     
@@ -462,13 +741,13 @@ public class GameMessageHandler {
             int objId = Integer.parseInt(objData[0]);
             int hp = Integer.parseInt(objData[1]);
             
-            GameObjectManager.PlacedObjectClient obj = gamePanel.objectManager.getPlacedObject(objId);
+            GameObjectManager.PlacedObjectClient obj = game.getObjectManager().getPlacedObject(objId);
             if (obj != null) {
                 obj.hp = hp;
-                System.out.println("[OBJ_UPDATE] Object " + objId + " HP: " + hp);
+                Log.debug(() -> "[OBJ_UPDATE] Object " + objId + " HP: " + hp);
             }
         } catch (NumberFormatException e) {
-            System.err.println("[OBJ_UPDATE] Invalid data: " + data);
+            Log.warn("[OBJ_UPDATE] Invalid data: " + data);
         }
     }
     
@@ -478,8 +757,8 @@ public class GameMessageHandler {
             int strikeId = Integer.parseInt(strikeData[0]);
             int sx = Integer.parseInt(strikeData[1]);
             int sy = Integer.parseInt(strikeData[2]);
-            gamePanel.objectManager.addStrikeMarker(strikeId, new GameObjectManager.StrikeMarker(strikeId, sx, sy));
-            gamePanel.appendChatMessage("[경고] 에어스트라이크 발동! (" + sx + ", " + sy + ")");
+            game.getObjectManager().addStrikeMarker(strikeId, new GameObjectManager.StrikeMarker(strikeId, sx, sy));
+            game.appendChatMessage("[경고] 에어스트라이크 발동! (" + sx + ", " + sy + ")");
         }
     }
     
@@ -492,8 +771,8 @@ public class GameMessageHandler {
             int radius = Integer.parseInt(impactData[3]);
             
             // 마커 제거
-            gamePanel.strikeMarkers.remove(strikeId);
-            gamePanel.appendChatMessage("[에어스트라이크] 임팩트! (" + sx + ", " + sy + ")");
+            game.getObjectManager().removeStrikeMarker(strikeId);
+            game.appendChatMessage("[에어스트라이크] 임팩트! (" + sx + ", " + sy + ")");
             
             // TODO: 폭발 애니메이션 효과 추가
         }
@@ -509,7 +788,7 @@ public class GameMessageHandler {
             String targetName = ts[3];
             String ownerName = ts[4];
             
-            GameObjectManager.PlacedObjectClient turret = gamePanel.objectManager.getPlacedObject(turretId);
+            GameObjectManager.PlacedObjectClient turret = game.getObjectManager().getPlacedObject(turretId);
             if (turret != null) {
                 int sx = turret.x;
                 int sy = turret.y;
@@ -521,9 +800,9 @@ public class GameMessageHandler {
                     int missileVx = (int) (dx / distance * speed);
                     int missileVy = (int) (dy / distance * speed);
                     // 터렛 미사일은 TURRET: 접두사로 소유자 표시
-                    gamePanel.objectManager.addMissile(new GameObjectManager.Missile(sx, sy, missileVx, missileVy, 
+                    game.getObjectManager().addMissile(new GameObjectManager.Missile(sx, sy, missileVx, missileVy, 
                         turret.team, "TURRET:" + ownerName));
-                    System.out.println("[TURRET_SHOOT] Turret #" + turretId + " (owner: " + ownerName + 
+                    Log.debug(() -> "[TURRET_SHOOT] Turret #" + turretId + " (owner: " + ownerName + 
                         ") fired at " + targetName + " (" + tx + ", " + ty + ")");
                 }
             }
@@ -534,17 +813,17 @@ public class GameMessageHandler {
         String[] rd = data.split(",");
         if (rd.length >= 3) {
             String winTeam = rd[0];
-            gamePanel.redWins = Integer.parseInt(rd[1]);
-            gamePanel.blueWins = Integer.parseInt(rd[2]);
-            gamePanel.roundState = GamePanel.RoundState.ENDED;
+            int redWins = Integer.parseInt(rd[1]);
+            int blueWins = Integer.parseInt(rd[2]);
+            game.setRoundScore(redWins, blueWins);
+            game.setRoundState(GamePanel.RoundState.ENDED);
             
             String winTeamName = winTeam.equals("RED") ? "레드" : "블루";
             // 중앙 메시지 표시
-            gamePanel.centerMessage = "Round End - " + winTeamName + " Win";
-            gamePanel.centerMessageEndTime = System.currentTimeMillis() + 3000; // 3초간 표시
+            game.showCenterMessage("Round End - " + winTeamName + " Win", System.currentTimeMillis() + 3000); // 3초간 표시
             
-            gamePanel.appendChatMessage("[라운드] " + winTeamName + " 팀 승리! (점수: " + 
-                gamePanel.redWins + " : " + gamePanel.blueWins + ")");
+            game.appendChatMessage("[라운드] " + winTeamName + " 팀 승리! (점수: " + 
+                redWins + " : " + blueWins + ")");
         }
     }
     
@@ -557,21 +836,19 @@ public class GameMessageHandler {
         int redWins = Integer.parseInt(winData[1]);
         int blueWins = Integer.parseInt(winData[2]);
         
-        gamePanel.redWins = redWins;
-        gamePanel.blueWins = blueWins;
+        game.setRoundScore(redWins, blueWins);
         
         // 팀 ID 처리: "0" = RED, "1" = BLUE (GameConstants 참조)
         String winTeamName = winner.equals("0") ? "레드" : "블루";
         
         // 중앙 메시지 표시
-        gamePanel.centerMessage = winTeamName + " 팀 승리!";
-        gamePanel.centerMessageEndTime = System.currentTimeMillis() + 5000; // 5초간 표시
+        game.showCenterMessage(winTeamName + " 팀 승리!", System.currentTimeMillis() + 5000); // 5초간 표시
         
-        gamePanel.appendChatMessage("========================================");
-        gamePanel.appendChatMessage("[라운드 승리] " + winTeamName + " 팀 승리!");
-        gamePanel.appendChatMessage("현재 스코어 - RED: " + redWins + " | BLUE: " + blueWins);
-        gamePanel.appendChatMessage("========================================");
-        System.out.println("[ROUND_WIN] " + winner + " team wins! Score: R=" + redWins + ", B=" + blueWins);
+        game.appendChatMessage("========================================");
+        game.appendChatMessage("[라운드 승리] " + winTeamName + " 팀 승리!");
+        game.appendChatMessage("현재 스코어 - RED: " + redWins + " | BLUE: " + blueWins);
+        game.appendChatMessage("========================================");
+        Log.info("[ROUND_WIN] " + winner + " team wins! Score: R=" + redWins + ", B=" + blueWins);
     }
     
     private void handleRoundStart(String data) {
@@ -580,25 +857,25 @@ public class GameMessageHandler {
         
         // 라운드 정보 파싱
         String[] roundParts = mainParts[0].split(",");
-        gamePanel.roundCount = Integer.parseInt(roundParts[0]);
+        int roundCount = Integer.parseInt(roundParts[0]);
+        game.setRoundCount(roundCount);
         
         // 맵 변경 처리 (동기식으로 완료될 때까지 대기)
         if (roundParts.length > 1) {
             String newMapId = roundParts[1].trim();
-            if (!newMapId.isEmpty() && !newMapId.equals(gamePanel.currentMapName)) {
-                System.out.println("[맵 변경] " + gamePanel.currentMapName + " → " + newMapId);
+            if (!newMapId.isEmpty() && !newMapId.equals(game.getCurrentMapName())) {
+                Log.info("[맵 변경] " + game.getCurrentMapName() + " → " + newMapId);
                 try {
-                    System.out.println("[맵] 로딩 시작: " + newMapId);
-                    gamePanel.currentMapName = newMapId;
-                    gamePanel.loadMap(newMapId);
-                    System.out.println("[맵] 로딩 완료: " + newMapId);
-                    gamePanel.appendChatMessage("[맵] " + newMapId + " 맵으로 변경되었습니다!");
+                    Log.info("[맵] 로딩 시작: " + newMapId);
+                    game.setCurrentMapName(newMapId);
+                    game.loadMap(newMapId);
+                    Log.info("[맵] 로딩 완료: " + newMapId);
+                    game.appendChatMessage("[맵] " + newMapId + " 맵으로 변경되었습니다!");
                 } catch (Exception e) {
-                    System.err.println("[맵] 로딩 실패: " + e.getMessage());
-                    e.printStackTrace(System.err);
+                    Log.error("[맵] 로딩 실패: " + e.getMessage(), e);
                 }
             } else if (!newMapId.isEmpty()) {
-                System.out.println("[맵] 이미 로드됨: " + newMapId + " (스킵)");
+                Log.info("[맵] 이미 로드됨: " + newMapId + " (스킵)");
             }
         }
         
@@ -608,71 +885,69 @@ public class GameMessageHandler {
         }
         
         // 라운드 시작 - 설치물 초기화
-        gamePanel.objectManager.clearPlacedObjects();
-        gamePanel.appendChatMessage("[시스템] 이전 라운드의 설치물이 제거되었습니다.");
+        game.getObjectManager().clearPlacedObjects();
+        game.appendChatMessage("[시스템] 이전 라운드의 설치물이 제거되었습니다.");
         
-        gamePanel.roundState = GamePanel.RoundState.WAITING;
-        gamePanel.roundStartTime = System.currentTimeMillis();
-        gamePanel.centerMessage = "";
-        gamePanel.centerMessageEndTime = 0;
-        gamePanel.hasChangedCharacterInRound = false;
+        game.setRoundState(GamePanel.RoundState.WAITING);
+        game.setRoundStartTime(System.currentTimeMillis());
+        game.showCenterMessage("", 0);
+        game.setCharacterChangedInRound(false);
         
-        gamePanel.appendChatMessage("[라운드 " + gamePanel.roundCount + "] 10초 후 시작!");
+        game.appendChatMessage("[라운드 " + roundCount + "] 10초 후 시작!");
     }
     
     private void handleMapChange(String newMapId) {
         // 맵이 변경되었거나 처음 로드하는 경우에만 로드
         if (newMapId == null || newMapId.trim().isEmpty()) {
-            System.err.println("[ERROR] handleMapChange: newMapId is null or empty");
+            Log.error("[ERROR] handleMapChange: newMapId is null or empty");
             return;
         }
         
         newMapId = newMapId.trim();
         
         // 다른 맵인 경우에만 로드 (중복 방지)
-        if (!newMapId.equals(gamePanel.currentMapName)) {
+        if (!newMapId.equals(game.getCurrentMapName())) {
             final String mapToLoad = newMapId;
-            System.out.println("[맵 변경] " + gamePanel.currentMapName + " → " + mapToLoad);
+            Log.info("[맵 변경] " + game.getCurrentMapName() + " → " + mapToLoad);
             
             // 맵 로딩 스레드
             new Thread(() -> {
                 try {
-                    System.out.println("[맵] 로딩 시작: " + mapToLoad);
+                    Log.info("[맵] 로딩 시작: " + mapToLoad);
                     
                     // 맵 로딩 전에 currentMapName 업데이트하여 중복 로드 방지
-                    gamePanel.currentMapName = mapToLoad;
+                    game.setCurrentMapName(mapToLoad);
                     
-                    gamePanel.loadMap(mapToLoad);
+                    game.loadMap(mapToLoad);
                     
                     javax.swing.SwingUtilities.invokeLater(() -> {
-                        gamePanel.appendChatMessage("[맵] " + mapToLoad + " 맵으로 변경되었습니다!");
+                        game.appendChatMessage("[맵] " + mapToLoad + " 맵으로 변경되었습니다!");
                     });
-                    System.out.println("[맵] 로딩 완료: " + mapToLoad);
+                    Log.info("[맵] 로딩 완료: " + mapToLoad);
                 } catch (Exception e) {
-                    System.err.println("[맵] 로딩 실패: " + e.getMessage());
-                    e.printStackTrace(System.err);
+                    Log.error("[맵] 로딩 실패: " + e.getMessage(), e);
                 }
             }, "MapLoader-" + mapToLoad).start();
         } else {
-            System.out.println("[맵] 이미 로드됨: " + newMapId + " (스킵)");
+            Log.info("[맵] 이미 로드됨: " + newMapId + " (스킵)");
         }
     }
     
     private void handlePlayerInitialization(String playerInfoData) {
         if (playerInfoData == null || playerInfoData.trim().isEmpty()) {
-            System.err.println("[ERROR] handlePlayerInitialization: playerInfoData is null or empty");
+            Log.error("[ERROR] handlePlayerInitialization: playerInfoData is null or empty");
             return;
         }
         
         String[] playerInfo = playerInfoData.split(";");
         if (playerInfo.length < 1) {
-            System.err.println("[ERROR] handlePlayerInitialization: playerInfo.length < 1");
+            Log.error("[ERROR] handlePlayerInitialization: playerInfo.length < 1");
             return;
         }
         
         int playerCount = Integer.parseInt(playerInfo[0]);
         
-        System.out.println("[ROUND_START] Parsing " + playerCount + " players from server");
+        Log.debug(() -> "[ROUND_START] Parsing " + playerCount + " players from server");
         
         for (int i = 1; i <= playerCount && i < playerInfo.length; i++) {
             String[] pData = playerInfo[i].split(",");
@@ -681,11 +956,11 @@ public class GameMessageHandler {
                 String pCharId = pData[1];
                 
                 if (pName == null || pName.trim().isEmpty()) {
-                    System.err.println("[ERROR] handlePlayerInitialization: pName is null or empty at index " + i);
+                    Log.error("[ERROR] handlePlayerInitialization: pName is null or empty at index " + i);
                     continue;
                 }
                 if (pCharId == null || pCharId.trim().isEmpty()) {
-                    System.err.println("[ERROR] handlePlayerInitialization: pCharId is null or empty for " + pName);
+                    Log.error("[ERROR] handlePlayerInitialization: pCharId is null or empty for " + pName);
                     continue;
                 }
                 
@@ -693,17 +968,16 @@ public class GameMessageHandler {
                     int pHp = Integer.parseInt(pData[2]);
                     int pMaxHp = Integer.parseInt(pData[3]);
                     
-                    System.out.println("[ROUND_START] Player: " + pName + ", Char: " + pCharId + 
+                    Log.debug(() -> "[ROUND_START] Player: " + pName + ", Char: " + pCharId + 
                         ", HP: " + pHp + "/" + pMaxHp);
                     
-                    if (pName.equals(gamePanel.playerName)) {
+                    if (pName.equals(game.getPlayerName())) {
                         initializeMyCharacter(pCharId, pHp, pMaxHp);
                     } else {
                         initializeRemotePlayer(pName, pCharId, pHp, pMaxHp);
                     }
                 } catch (NumberFormatException ex) {
-                    System.err.println("[ERROR] handlePlayerInitialization: Invalid HP values for " + pName);
-                    ex.printStackTrace();
+                    Log.error("[ERROR] handlePlayerInitialization: Invalid HP values for " + pName, ex);
                 }
             }
         }
@@ -711,57 +985,57 @@ public class GameMessageHandler {
     
     private void initializeMyCharacter(String charId, int hp, int maxHp) {
         if (charId == null || charId.trim().isEmpty()) {
-            System.err.println("[ERROR] initializeMyCharacter: charId is null or empty");
+            Log.error("[ERROR] initializeMyCharacter: charId is null or empty");
             return;
         }
         
         CharacterData cd = CharacterData.getById(charId);
         if (cd == null) {
-            System.err.println("[ERROR] initializeMyCharacter: CharacterData not found for " + charId);
+            Log.error("[ERROR] initializeMyCharacter: CharacterData not found for " + charId);
             return;
         }
         
-        gamePanel.gameState.setSelectedCharacter(charId);
-        gamePanel.gameState.setCurrentCharacterData(cd);
-        gamePanel.gameState.setMyHP(hp);
-        gamePanel.gameState.setMyMaxHP(maxHp);
+        game.getGameState().setSelectedCharacter(charId);
+        game.getGameState().setCurrentCharacterData(cd);
+        game.getGameState().setMyHP(hp);
+        game.getGameState().setMyMaxHP(maxHp);
         
-        gamePanel.loadSprites();
+        game.loadSprites();
         
-        gamePanel.abilities = CharacterData.createAbilities(charId);
-        gamePanel.gameState.setAbilities(gamePanel.abilities);
-        if (gamePanel.abilities != null) {
-            for (Ability ability : gamePanel.abilities) {
+        Ability[] abilities = CharacterData.createAbilities(charId);
+        game.setAbilities(abilities);
+        if (abilities != null) {
+            for (Ability ability : abilities) {
                 if (ability != null) {
                     ability.resetCooldown();
                 }
             }
         }
         
-        System.out.println("[ROUND_START] My character initialized: " + charId + 
-            " HP: " + gamePanel.gameState.getMyHP() + "/" + gamePanel.gameState.getMyMaxHP() + ")");
+        Log.debug(() -> "[ROUND_START] My character initialized: " + charId + 
+            " HP: " + game.getGameState().getMyHP() + "/" + game.getGameState().getMyMaxHP() + ")");
     }
     
     private void initializeRemotePlayer(String name, String charId, int hp, int maxHp) {
         if (name == null || name.trim().isEmpty()) {
-            System.err.println("[ERROR] initializeRemotePlayer: name is null or empty");
+            Log.error("[ERROR] initializeRemotePlayer: name is null or empty");
             return;
         }
         if (charId == null || charId.trim().isEmpty()) {
-            System.err.println("[ERROR] initializeRemotePlayer: charId is null or empty for " + name);
+            Log.error("[ERROR] initializeRemotePlayer: charId is null or empty for " + name);
             return;
         }
         
-        GamePanel.PlayerData pd = gamePanel.players.get(name);
+        GamePanel.PlayerData pd = game.getPlayers().get(name);
         if (pd != null) {
             pd.characterId = charId;
             pd.hp = hp;
             pd.maxHp = maxHp;
-            gamePanel.loadPlayerSprites(pd, charId);
-            System.out.println("[ROUND_START] Remote player updated: " + name + 
+            game.loadPlayerSprites(pd, charId);
+            Log.debug(() -> "[ROUND_START] Remote player updated: " + name + 
                 " -> " + charId + " HP: " + hp + "/" + maxHp);
         } else {
-            System.err.println("[ERROR] initializeRemotePlayer: PlayerData not found for " + name);
+            Log.error("[ERROR] initializeRemotePlayer: PlayerData not found for " + name);
         }
     }
     
@@ -770,18 +1044,17 @@ public class GameMessageHandler {
         String winTeamName = data.equals("RED") ? "레드" : (data.equals("BLUE") ? "블루" : data);
         
         // 중앙 메시지 표시
-        gamePanel.centerMessage = winTeamName + " 팀 최종 승리!";
-        gamePanel.centerMessageEndTime = System.currentTimeMillis() + 5000; // 5초간 표시
+        game.showCenterMessage(winTeamName + " 팀 최종 승리!", System.currentTimeMillis() + 5000); // 5초간 표시
         
-        gamePanel.appendChatMessage("========================================");
-        gamePanel.appendChatMessage("[게임 종료] " + winTeamName + " 팀이 최종 승리했습니다!");
-        gamePanel.appendChatMessage("========================================");
-        System.out.println("[GAME_OVER] Final winner: " + data);
+        game.appendChatMessage("========================================");
+        game.appendChatMessage("[게임 종료] " + winTeamName + " 팀이 최종 승리했습니다!");
+        game.appendChatMessage("========================================");
+        Log.info("[GAME_OVER] Final winner: " + data);
         
         // 게임 오버 플래그 설정 및 타이머 즉시 중지
-        gamePanel.setGameOver(true);
+        game.setGameOver(true);
         
-        javax.swing.Timer returnTimer = new javax.swing.Timer(5000, e -> gamePanel.returnToLobby());
+        javax.swing.Timer returnTimer = new javax.swing.Timer(5000, e -> game.returnToLobby());
         returnTimer.setRepeats(false);
         returnTimer.start();
     }
@@ -790,14 +1063,13 @@ public class GameMessageHandler {
         String winTeamName = data.equals("RED") ? "레드" : (data.equals("BLUE") ? "블루" : data);
         
         // 중앙 메시지 표시
-        gamePanel.centerMessage = "Game Over - " + winTeamName + " Win!";
-        gamePanel.centerMessageEndTime = System.currentTimeMillis() + 5000; // 5초간 표시
+        game.showCenterMessage("Game Over - " + winTeamName + " Win!", System.currentTimeMillis() + 5000); // 5초간 표시
         
-        gamePanel.appendChatMessage("========================================");
-        gamePanel.appendChatMessage("[게임 종료] " + winTeamName + " 팀이 최종 승리했습니다!");
-        gamePanel.appendChatMessage("========================================");
+        game.appendChatMessage("========================================");
+        game.appendChatMessage("[게임 종료] " + winTeamName + " 팀이 최종 승리했습니다!");
+        game.appendChatMessage("========================================");
         
-        javax.swing.Timer returnTimer = new javax.swing.Timer(5000, e -> gamePanel.returnToLobby());
+        javax.swing.Timer returnTimer = new javax.swing.Timer(5000, e -> game.returnToLobby());
         returnTimer.setRepeats(false);
         returnTimer.start();
     }
@@ -2,14 +2,20 @@ package com.fpsgame.client;
 
 import com.fpsgame.client.effects.*;
 import com.fpsgame.common.Ability;
+import com.fpsgame.common.BinaryCodec;
 import com.fpsgame.common.CharacterData;
 import com.fpsgame.common.GameConstants;
+import com.fpsgame.common.Log;
+import com.fpsgame.common.MapGrid;
+import com.fpsgame.common.PlayerIdTable;
 import java.awt.*;
 import java.awt.event.*;
 import java.io.*;
 import java.net.Socket;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.swing.*;
 
 /**
@@ -44,6 +50,19 @@ public class GamePanel extends JFrame implements KeyListener {
     private final GameLogicController gameLogicController;
     private final CollisionManager collisionManager;
     private final PlayerMovementController movementController;
+    // 수신 메시지 큐 (수신 스레드 → EDT, 상태 변경은 EDT 에서만)
+    private final ClientEventQueue networkEvents = new ClientEventQueue();
+    // 게임 루프가 멈춘 동안 EDT 에 올린 drain 이 아직 실행 전인지 (invokeLater 중복 방지)
+    private final AtomicBoolean pausedDrainPending = new AtomicBoolean(false);
+    // 원격 플레이어 보간: 서버 시각 추정 + 보간 지연 (game_config.properties interpolation_delay_ms)
+    final ServerClock serverClock = new ServerClock();
+    private final int interpolationDelayMs = GameConfig.loadInterpolationDelay();
+    private final int[] interpolationScratch = new int[2];
+    // 로컬 이동 예측 이력 / 서버 MOVE_ACK 보정 (FEATURE_INPUT_SEQ)
+    private final MovementPredictor movementPredictor = new MovementPredictor();
+    private final PlayerMovementController.PlayerPosition reconcilePos = new PlayerMovementController.PlayerPosition(0, 0);
+    // 이번 프레임의 키 이동 입력과 키 이동 직후 위치 (대쉬 등 추가 이동과 구분)
+    private int frameMoveMask, frameMoveSpeed, frameStepX, frameStepY;
     private final SpawnManager spawnManager;
     final GameObjectManager objectManager; // package-private for GameMessageHandler
 
@@ -51,7 +70,14 @@ public class GamePanel extends JFrame implements KeyListener {
     final String playerName;
     final int team;
     
-    private javax.swing.Timer timer;
+    private volatile GameLoop gameLoop; // 수신 스레드가 실행 여부를 확인
+    // 시뮬레이션 step 주기 (Hz). 이동 / 대쉬 / 미사일 속도가 step 당 픽셀이고 서버 속도 검증과 맞춰져 있어 고정
+    static final int STEP_RATE = 60;
+    // 그리기 보간: 직전 step 시작 위치와 마지막 step 이후 지난 비율 (EDT)
+    private int prevPlayerX, prevPlayerY;
+    private float renderAlpha = 1f;
+    // 이보다 먼 step 간 이동(리스폰 등)은 보간하지 않음 (px)
+    private static final int RENDER_SNAP_DISTANCE = 64;
     int playerX = 400;
     int playerY = 300;
     private final int SPEED = 5;
@@ -104,6 +130,8 @@ public class GamePanel extends JFrame implements KeyListener {
 
     // 다른 플레이어들
     final Map<String, PlayerData> players = new HashMap<>();
+    // 바이너리 메시지의 플레이어 번호 -> 이름 (ID_MAP, 로비에서 받은 것부터 이어서 사용)
+    final PlayerIdTable playerIds;
     
     // 중복 피격 방지용 (슈터 이름 -> 마지막 피격 시간)
     private final Map<Integer, Long> lastHitTime = new HashMap<>(); // 미사일 ID로 변경
@@ -207,9 +235,9 @@ public class GamePanel extends JFrame implements KeyListener {
     boolean hasChangedCharacterInRound = false;
     private static final long CHARACTER_CHANGE_TIME_LIMIT = 10000; // 10초
 
-    class PlayerData {
-        int x, y;
-        int targetX, targetY; // 보간을 위한 목표 위치
+    static class PlayerData {
+        int x, y; // 이번 프레임에 그릴 위치 (positions 에서 보간)
+        final InterpolationBuffer positions = new InterpolationBuffer(); // 서버 시각별 위치 스냅샷
         int team;
         int hp;
         int maxHp;
@@ -217,13 +245,12 @@ public class GamePanel extends JFrame implements KeyListener {
         int kills;
         int deaths;
         int direction = 0; // 0:Down, 1:Up, 2:Left, 3:Right
+        boolean hidden = false; // 서버 관심 영역 밖 (HIDE)
         SpriteAnimation[] animations; // [WalkDown, WalkUp, WalkLeft, WalkRight]
 
         PlayerData(int x, int y, int team) {
             this.x = x;
             this.y = y;
-            this.targetX = x;
-            this.targetY = y;
             this.team = team;
             this.hp = GameConstants.MAX_HP;
             this.maxHp = GameConstants.MAX_HP;
@@ -231,12 +258,12 @@ public class GamePanel extends JFrame implements KeyListener {
             this.deaths = 0;
         }
 
-        // 부드러운 보간 업데이트
-        void smoothUpdate() {
-            // 목표 위치로 부드럽게 이동 (보간 계수 0.5 = 50% 이동 - 더 빠른 반응)
-            float interpolation = 0.5f;
-            x += (int) ((targetX - x) * interpolation);
-            y += (int) ((targetY - y) * interpolation);
+        // renderTime(서버 시각 - 보간 지연) 시점 위치로 갱신 (스냅샷이 없으면 그대로)
+        void interpolate(double renderTime, int[] scratch) {
+            if (positions.sample(renderTime, scratch)) {
+                x = scratch[0];
+                y = scratch[1];
+            }
         }
     }
 
@@ -388,8 +415,20 @@ public class GamePanel extends JFrame implements KeyListener {
         // 플레이어 정보
         ctx.playerName = this.playerName;
         ctx.team = this.team;
-        ctx.playerX = this.playerX;
-        ctx.playerY = this.playerY;
+        // 로컬 플레이어 / 카메라는 직전 step 과 마지막 step 사이를 alpha 로 보간 (순간이동은 그대로)
+        int renderX = this.playerX, renderY = this.playerY;
+        if (Math.abs(playerX - prevPlayerX) + Math.abs(playerY - prevPlayerY) <= RENDER_SNAP_DISTANCE) {
+            renderX = Math.round(prevPlayerX + (playerX - prevPlayerX) * renderAlpha);
+            renderY = Math.round(prevPlayerY + (playerY - prevPlayerY) * renderAlpha);
+            PlayerMovementController.CameraPosition camera = new PlayerMovementController.CameraPosition(cameraX, cameraY);
+            movementController.updateCamera(renderX, renderY, camera);
+            ctx.cameraX = camera.x;
+            ctx.cameraY = camera.y;
+        }
+        ctx.playerX = renderX;
+        ctx.playerY = renderY;
+        ctx.alpha = renderAlpha;
+        ctx.frameStats = gameLoop != null ? gameLoop.getStats().toString() : null;
         ctx.myDirection = this.myDirection;
         ctx.myAnimations = this.myAnimations;
         ctx.myHP = gameState.getMyHP();
@@ -457,7 +496,17 @@ public class GamePanel extends JFrame implements KeyListener {
 
     public GamePanel(String playerName, int team, Socket socket, DataOutputStream out, DataInputStream in,
             String characterId) {
+        this(playerName, team, socket, out, in, characterId, 0, new PlayerIdTable());
+    }
+
+    /**
+     * @param serverFeatures 로비에서 서버와 협상된 기능 (FEATURES 응답)
+     * @param playerIds 로비에서 받은 플레이어 번호 -> 이름 매핑
+     */
+    public GamePanel(String playerName, int team, Socket socket, DataOutputStream out, DataInputStream in,
+            String characterId, int serverFeatures, PlayerIdTable playerIds) {
         super("FPS Game - " + playerName);
+        this.playerIds = playerIds;
         
         // Backward compatibility
         this.playerName = playerName;
@@ -473,12 +522,15 @@ public class GamePanel extends JFrame implements KeyListener {
         // NetworkClient 초기화
         this.networkClient = new NetworkClient(socket, out, in);
         this.networkClient.setOnMessageReceived(this::processGameMessage);
+        this.networkClient.setOnBinaryReceived(this::processGameBinary);
+        this.networkClient.setFeatures(serverFeatures);
+        this.networkClient.setPositionSendRate(GameConfig.loadPositionSendRate());
         
         // GameRenderer 초기화 - 파라미터 없는 생성자 사용
         this.gameRenderer = new GameRenderer();
         
         // GameMessageHandler 초기화
-        this.messageHandler = new GameMessageHandler(this);
+        this.messageHandler = new GameMessageHandler(new MessageContext());
         
         // Phase 2: 매니저 초기화
         this.mapManager = new MapManager(this::appendChatMessage);
@@ -552,6 +604,7 @@ public class GamePanel extends JFrame implements KeyListener {
             playerX = mapWidth / 2;
             playerY = mapHeight / 2;
         }
+        movementPredictor.reset();
         appendChatMessage("[스폰] " + (team == GameConstants.TEAM_RED ? "RED" : "BLUE") +
                 " 팀 스폰 위치: (" + playerX + ", " + playerY + ")");
     }
@@ -625,15 +678,10 @@ public class GamePanel extends JFrame implements KeyListener {
 
             @Override
             public void windowClosing(WindowEvent e) {
-                try {
-                    if (out != null && socket != null && !socket.isClosed()) {
-                        out.writeUTF("QUIT");
-                        out.flush();
-                    }
-                } catch (IOException ex) {
-                    // 소켓이 이미 닫혔을 수 있음 - 무시
+                if (socket != null && !socket.isClosed()) {
+                    networkClient.sendMessage("QUIT");
                 }
-                disconnect();
+                disconnect(); // 남은 송신 큐(QUIT 포함)를 보내고 닫음
             }
         });
     }
@@ -650,16 +698,17 @@ public class GamePanel extends JFrame implements KeyListener {
         settingsItem.setFont(new Font("맑은 고딕", Font.PLAIN, 14));
         settingsItem.setForeground(Color.BLACK); // 검정 텍스트
         settingsItem.addActionListener(e -> {
-            // 게임 일시정지
-            if (timer != null)
-                timer.stop();
+            // 게임 일시정지 (창이 떠 있는 동안 수신 메시지는 scheduleNetworkEvents 가 처리)
+            if (gameLoop != null)
+                gameLoop.stop();
+            scheduleNetworkEvents();
 
             OptionDialog dialog = new OptionDialog(this);
             dialog.setVisible(true);
 
             // 게임 재개
-            if (timer != null)
-                timer.start();
+            if (gameLoop != null)
+                gameLoop.start();
             canvas.requestFocusInWindow();
         });
 
@@ -913,88 +962,30 @@ public class GamePanel extends JFrame implements KeyListener {
     }
 
     /**
-     * 매우 단순한 파서로 JSON에서 사각형 목록과 맵 메타데이터를 추출한다.
-     * 새 형식: meta.map_pixel_size.w/h, meta.tile_size, obstacles:[{x,y}],
-     * spawns.red/blue
+     * 맵 JSON 을 공용 MapGrid 로 파싱해 타일 그리드 / 장애물 / 스폰 구역을 채운다. (서버와 같은 판정)
+     * 형식: meta.map_pixel_size.w/h, meta.tile_size, roads 또는 obstacles:[{x,y}], spawns.red/blue
      */
     private void parseMapJson(String json) {
         if (json == null)
             return;
 
-        // 메타데이터 (새 형식 meta.map_pixel_size.w/h, meta.tile_size 지원)
-        Integer mw = null, mh = null, ts = null;
-
-        // map_pixel_size.w 찾기
-        java.util.regex.Matcher mwMatch = java.util.regex.Pattern
-                .compile("\"map_pixel_size\"\\s*:\\s*\\{[^}]*\"w\"\\s*:\\s*(\\d+)").matcher(json);
-        if (mwMatch.find())
-            mw = Integer.parseInt(mwMatch.group(1));
-
-        // map_pixel_size.h 찾기
-        java.util.regex.Matcher mhMatch = java.util.regex.Pattern
-                .compile("\"map_pixel_size\"\\s*:\\s*\\{[^}]*\"h\"\\s*:\\s*(\\d+)").matcher(json);
-        if (mhMatch.find())
-            mh = Integer.parseInt(mhMatch.group(1));
-
-        // tile_size 찾기
-        java.util.regex.Matcher tsMatch = java.util.regex.Pattern.compile("\"tile_size\"\\s*:\\s*(\\d+)").matcher(json);
-        if (tsMatch.find())
-            ts = Integer.parseInt(tsMatch.group(1));
-
-        if (mw != null)
-            mapWidth = mw;
-        if (mh != null)
-            mapHeight = mh;
-        if (ts != null && ts > 0) {
-            gridCols = Math.max(1, mapWidth / ts);
-            gridRows = Math.max(1, mapHeight / ts);
-            walkableGrid = new boolean[gridRows][gridCols];
-        }
-
-        // 새 형식: roads는 이동 가능한 타일 좌표 {x, y} 배열 → 기본 모두 false, roads만 true
-        // 하위 호환: obstacles가 있으면 obstacles 방식 사용, 없으면 roads 방식 사용
-        java.util.List<int[]> roadTiles = extractTileList(json, "roads");
-        java.util.List<int[]> obstacleTiles = extractTileList(json, "obstacles");
+        MapGrid grid = MapGrid.parse(currentMapName, json);
+        mapWidth = grid.getWidth();
+        mapHeight = grid.getHeight();
+        gridCols = grid.getCols();
+        gridRows = grid.getRows();
+        walkableGrid = new boolean[gridRows][gridCols];
 
         obstacles.clear();
-
-        if (!roadTiles.isEmpty()) {
-            // roads 방식: 모든 타일 기본 false(장애물) → roads만 true(이동 가능)
-            for (int r = 0; r < gridRows; r++) {
-                for (int c = 0; c < gridCols; c++)
-                    walkableGrid[r][c] = false;
-            }
-
-            for (int[] tile : roadTiles) {
-                int col = tile[0];
-                int row = tile[1];
-                if (row >= 0 && row < gridRows && col >= 0 && col < gridCols) {
-                    walkableGrid[row][col] = true;
-                }
-            }
-
-            // 시각화를 위해 walkable하지 않은 타일을 obstacles에 추가
-            for (int r = 0; r < gridRows; r++) {
-                for (int c = 0; c < gridCols; c++) {
-                    if (!walkableGrid[r][c]) {
-                        obstacles.add(new Rectangle(c * TILE_SIZE, r * TILE_SIZE, TILE_SIZE, TILE_SIZE));
-                    }
-                }
-            }
-        } else if (!obstacleTiles.isEmpty()) {
-            // 기존 obstacles 방식: 모든 타일 기본 true(이동 가능) → obstacles만 false(장애물)
-            for (int r = 0; r < gridRows; r++) {
-                for (int c = 0; c < gridCols; c++)
-                    walkableGrid[r][c] = true;
-            }
-
-            for (int[] tile : obstacleTiles) {
-                int col = tile[0];
-                int row = tile[1];
-                if (row >= 0 && row < gridRows && col >= 0 && col < gridCols) {
-                    walkableGrid[row][col] = false;
-                    obstacles.add(new Rectangle(col * TILE_SIZE, row * TILE_SIZE, TILE_SIZE, TILE_SIZE));
-                }
+        int walkableCount = 0;
+        for (int r = 0; r < gridRows; r++) {
+            for (int c = 0; c < gridCols; c++) {
+                boolean blocked = grid.isBlockedTile(c, r);
+                walkableGrid[r][c] = !blocked;
+                if (blocked)
+                    obstacles.add(new Rectangle(c * TILE_SIZE, r * TILE_SIZE, TILE_SIZE, TILE_SIZE));
+                else
+                    walkableCount++;
             }
         }
 
@@ -1002,85 +993,28 @@ public class GamePanel extends JFrame implements KeyListener {
         // 맵 전환 시 이전 맵의 스폰 타일이 남지 않도록 먼저 초기화
         redSpawnTiles.clear();
         blueSpawnTiles.clear();
-        redSpawnZone = extractSpawnZone(json, "red", redSpawnTiles);
-        blueSpawnZone = extractSpawnZone(json, "blue", blueSpawnTiles);
-        
+        redSpawnTiles.addAll(grid.getSpawnTiles(GameConstants.TEAM_RED));
+        blueSpawnTiles.addAll(grid.getSpawnTiles(GameConstants.TEAM_BLUE));
+        redSpawnZone = toSpawnRect(grid.getSpawnZone(GameConstants.TEAM_RED));
+        blueSpawnZone = toSpawnRect(grid.getSpawnZone(GameConstants.TEAM_BLUE));
+
         // SpawnManager에 스폰 정보 설정
         spawnManager.setSpawnZones(redSpawnZone, blueSpawnZone);
         spawnManager.setSpawnTiles(new ArrayList<>(redSpawnTiles), new ArrayList<>(blueSpawnTiles));
 
-        // 스폰 구역은 항상 walkable로 강제
-        ensureSpawnZonesWalkable();
-
-        int walkableCount = 0;
-        for (int r = 0; r < gridRows; r++) {
-            for (int c = 0; c < gridCols; c++) {
-                if (walkableGrid[r][c])
-                    walkableCount++;
-            }
-        }
-
-        String mapType = !roadTiles.isEmpty() ? "roads" : "obstacles";
-        appendChatMessage("[맵 JSON] " + mapType + " 방식, 이동 가능 타일 " + walkableCount + "개, RED 스폰 " +
+        appendChatMessage("[맵 JSON] 이동 가능 타일 " + walkableCount + "개, RED 스폰 " +
                 (redSpawnZone != null ? "설정" : "없음") + ", BLUE 스폰 " +
                 (blueSpawnZone != null ? "설정" : "없음"));
     }
 
     /**
-     * JSON에서 타일 좌표 배열 {x, y} 추출
-     */
-    private java.util.List<int[]> extractTileList(String json, String key) {
-        java.util.List<int[]> list = new ArrayList<>();
-        java.util.regex.Pattern section = java.util.regex.Pattern.compile("\"" + key + "\"\\s*:\\s*\\[(.*?)\\]",
-                java.util.regex.Pattern.DOTALL);
-        java.util.regex.Matcher sec = section.matcher(json);
-        if (!sec.find())
-            return list;
-        String body = sec.group(1);
-
-        // {x: 숫자, y: 숫자} 형식 파싱
-        java.util.regex.Matcher m = java.util.regex.Pattern
-                .compile("\"x\"\\s*:\\s*(\\d+).*?\"y\"\\s*:\\s*(\\d+)", java.util.regex.Pattern.DOTALL).matcher(body);
-        while (m.find()) {
-            int x = Integer.parseInt(m.group(1));
-            int y = Integer.parseInt(m.group(2));
-            list.add(new int[] { x, y });
-        }
-        return list;
-    }
-
-    /**
-     * spawns.red/blue의 tiles 배열에서 스폰 구역(Rectangle) 생성
+     * MapGrid 스폰 구역 타일 사각형 {col0, row0, col1, row1} → 픽셀 Rectangle
      */
-    private Rectangle extractSpawnZone(String json, String teamKey, java.util.List<int[]> tileStore) {
-        // spawns -> teamKey -> tiles 배열을 비균형 중괄호 환경에서도 안전하게 비탐욕으로 추출
-        java.util.regex.Pattern path = java.util.regex.Pattern.compile(
-                "\\\"spawns\\\"\\s*:\\s*\\{[\\s\\S]*?\\\"" + teamKey
-                        + "\\\"\\s*:\\s*\\{[\\s\\S]*?\\\"tiles\\\"\\s*:\\s*\\[(.*?)\\]",
-                java.util.regex.Pattern.DOTALL);
-        java.util.regex.Matcher m = path.matcher(json);
-        if (!m.find())
-            return null;
-        String tilesBody = m.group(1);
-
-        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
-        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
-        java.util.regex.Matcher tileCoords = java.util.regex.Pattern
-                .compile("\\\"x\\\"\\s*:\\s*(\\d+).*?\\\"y\\\"\\s*:\\s*(\\d+)", java.util.regex.Pattern.DOTALL)
-                .matcher(tilesBody);
-        while (tileCoords.find()) {
-            int x = Integer.parseInt(tileCoords.group(1));
-            int y = Integer.parseInt(tileCoords.group(2));
-            tileStore.add(new int[] { x, y });
-            minX = Math.min(minX, x);
-            minY = Math.min(minY, y);
-            maxX = Math.max(maxX, x);
-            maxY = Math.max(maxY, y);
-        }
-        if (minX == Integer.MAX_VALUE)
+    private Rectangle toSpawnRect(int[] zone) {
+        if (zone == null)
             return null;
-        return new Rectangle(minX * TILE_SIZE, minY * TILE_SIZE, (maxX - minX + 1) * TILE_SIZE,
-                (maxY - minY + 1) * TILE_SIZE);
+        return new Rectangle(zone[0] * TILE_SIZE, zone[1] * TILE_SIZE, (zone[2] - zone[0] + 1) * TILE_SIZE,
+                (zone[3] - zone[1] + 1) * TILE_SIZE);
     }
 
     /*
@@ -1323,18 +1257,34 @@ public class GamePanel extends JFrame implements KeyListener {
     }
 
     private void startGame() {
-        // 게임 업데이트 타이머 (60 FPS)
-        timer = new javax.swing.Timer(16, e -> {
-            updateGame();
-            canvas.repaint();
+        // 게임 루프: STEP_RATE 고정 간격 시뮬레이션 + 목표 FPS 그리기 (game_config.properties target_fps)
+        prevPlayerX = playerX;
+        prevPlayerY = playerY;
+        gameLoop = new GameLoop(STEP_RATE, GameConfig.loadTargetFps(), new GameLoop.Callbacks() {
+            @Override
+            public void step(float dt) {
+                updateGame(dt);
+            }
+
+            @Override
+            public void render(float alpha) {
+                renderFrame(alpha);
+            }
         });
-        timer.start();
+        gameLoop.start();
 
         // 서버 메시지 수신 스레드 (NetworkClient로 위임)
         networkClient.startReceiving();
     }
 
-    private void updateGame() {
+    /**
+     * 시뮬레이션 한 step (EDT, dt = 1 / STEP_RATE 초)
+     */
+    private void updateGame(float dt) {
+        applyNetworkEvents();
+        prevPlayerX = playerX;
+        prevPlayerY = playerY;
+
         if (roundState == RoundState.WAITING) {
             long elapsed = System.currentTimeMillis() - roundStartTime;
             if (elapsed >= ROUND_READY_TIME) {
@@ -1344,32 +1294,53 @@ public class GamePanel extends JFrame implements KeyListener {
             }
         }
 
+        // 서버 위치 확인 반영 후 이번 프레임 이동 (키 이동 → 대쉬 등 추가 이동)
+        reconcilePosition();
+        int frameStartX = playerX;
+        int frameStartY = playerY;
+        frameMoveMask = 0;
+        frameMoveSpeed = 0;
+        frameStepX = playerX;
+        frameStepY = playerY;
         updatePlayerPosition();
         updateMissiles();
         checkCollisions();
-        updateAbilities(); // 스킬 쿨타임 업데이트
-        updateEffects(); // 이펙트 타이머 업데이트
+        updateAbilities(dt); // 스킬 쿨타임 업데이트
+        updateEffects(dt); // 이펙트 타이머 업데이트
         // 구조화된 SkillEffect 수명 업데이트 (효과 클래스 기반)
-        skillEffects.update(0.016f);
-        updateRavenRuntime(); // Raven 버프/대쉬 처리
-        updatePiperRuntime(); // Piper 마킹/열감지 처리
-        updateTeamPiperRuntime(); // 원격 Piper 팀 버프 처리
+        skillEffects.update(dt);
+        updateRavenRuntime(dt); // Raven 버프/대쉬 처리
+        updatePiperRuntime(dt); // Piper 마킹/열감지 처리
+        updateTeamPiperRuntime(dt); // 원격 Piper 팀 버프 처리
         updateMyAnimation(); // 스프라이트 애니메이션 업데이트
 
-        // 모든 다른 플레이어의 위치를 부드럽게 보간
+        // 위치가 변경되면 이번 프레임 입력과 함께 서버에 전송 (움직일 때만 전송하여 네트워크 부하 감소)
+        if (playerX != frameStartX || playerY != frameStartY) {
+            sendPosition(frameMoveMask, frameMoveSpeed, playerX - frameStepX, playerY - frameStepY);
+        }
+    }
+
+    /**
+     * 프레임 그리기 (EDT, step 이후 한 번)
+     */
+    private void renderFrame(float alpha) {
+        renderAlpha = alpha;
+        // 모든 다른 플레이어 위치를 보간 지연만큼 과거의 서버 시각 기준으로 보간 (step 과 상관없이 그리는 시각 기준)
+        double renderTime = serverClock.now() - interpolationDelayMs;
         for (PlayerData pd : players.values()) {
-            pd.smoothUpdate();
+            pd.interpolate(renderTime, interpolationScratch);
         }
+        networkClient.flush(); // 이번 프레임(step, 입력 이벤트 포함)에 보낸 메시지를 한 번에 전송
+        canvas.repaint();
     }
 
     /**
-     * 모든 스킬의 쿨타임 업데이트 (매 프레임)
+     * 모든 스킬의 쿨타임 업데이트 (매 step)
      */
-    private void updateAbilities() {
+    private void updateAbilities(float dt) {
         if (abilities != null) {
-            float deltaTime = 0.016f; // 16ms = 60 FPS
             for (Ability ability : abilities) {
-                ability.update(deltaTime);
+                ability.update(dt);
             }
         }
     }
@@ -1377,8 +1348,7 @@ public class GamePanel extends JFrame implements KeyListener {
     /**
      * 이펙트 타이머 업데이트 및 만료 제거
      */
-    private void updateEffects() {
-        float dt = 0.016f;
+    private void updateEffects(float dt) {
         // 내 이펙트
         if (!myEffects.isEmpty()) {
             for (Iterator<ActiveEffect> it = myEffects.iterator(); it.hasNext();) {
@@ -1404,7 +1374,7 @@ public class GamePanel extends JFrame implements KeyListener {
     /**
      * Raven 전용 런타임 처리: 대쉬 이동, 과충전 만료 처리
      */
-    private void updateRavenRuntime() {
+    private void updateRavenRuntime(float dt) {
         // 사망 시 런타임 처리 중지
         if (gameState.getMyHP() <= 0) {
             ravenDashRemaining = 0f;
@@ -1414,7 +1384,7 @@ public class GamePanel extends JFrame implements KeyListener {
 
         // 대쉬: 남은 시간 동안 추가 이동 (입력 방향 기준, 없으면 위쪽)
         if (ravenDashRemaining > 0f) {
-            ravenDashRemaining -= 0.016f;
+            ravenDashRemaining -= dt;
             int vx = 0, vy = 0;
             if (keys[KeyEvent.VK_W] || keys[KeyEvent.VK_UP])
                 vy -= 1;
@@ -1454,7 +1424,7 @@ public class GamePanel extends JFrame implements KeyListener {
 
         // 과충전: 만료 시 멀티플라이어 원복
         if (ravenOverchargeRemaining > 0f) {
-            ravenOverchargeRemaining -= 0.016f;
+            ravenOverchargeRemaining -= dt;
             if (ravenOverchargeRemaining <= 0f) {
                 missileSpeedMultiplier = 1f;
                 // 기본 공격 쿨다운 배수 원복
@@ -1468,27 +1438,27 @@ public class GamePanel extends JFrame implements KeyListener {
     /**
      * Piper 전용 런타임 처리 (마킹 및 열감지 지속시간 감소)
      */
-    private void updatePiperRuntime() {
+    private void updatePiperRuntime(float dt) {
         if (piperMarkRemaining > 0f) {
-            piperMarkRemaining -= 0.016f;
+            piperMarkRemaining -= dt;
             if (piperMarkRemaining < 0f)
                 piperMarkRemaining = 0f;
         }
         if (piperThermalRemaining > 0f) {
-            piperThermalRemaining -= 0.016f;
+            piperThermalRemaining -= dt;
             if (piperThermalRemaining < 0f)
                 piperThermalRemaining = 0f;
         }
     }
 
-    private void updateTeamPiperRuntime() {
+    private void updateTeamPiperRuntime(float dt) {
         if (teamMarkRemaining > 0f) {
-            teamMarkRemaining -= 0.016f;
+            teamMarkRemaining -= dt;
             if (teamMarkRemaining < 0f)
                 teamMarkRemaining = 0f;
         }
         if (teamThermalRemaining > 0f) {
-            teamThermalRemaining -= 0.016f;
+            teamThermalRemaining -= dt;
             if (teamThermalRemaining < 0f)
                 teamThermalRemaining = 0f;
         }
@@ -1505,31 +1475,39 @@ public class GamePanel extends JFrame implements KeyListener {
             return;
         }
         
-        int oldX = playerX;
-        int oldY = playerY;
-
         // 버프 적용된 이동 속도 계산
         int effectiveSpeed = (int) (SPEED * moveSpeedMultiplier);
         
-        // 키 입력 배열 준비 (WASD와 화살표 키 통합)
-        boolean[] moveKeys = new boolean[256];
-        moveKeys['W'] = keys[KeyBindingConfig.getKey(KeyBindingConfig.KEY_MOVE_FORWARD)] || keys[KeyEvent.VK_UP];
-        moveKeys['w'] = moveKeys['W'];
-        moveKeys['S'] = keys[KeyBindingConfig.getKey(KeyBindingConfig.KEY_MOVE_BACKWARD)] || keys[KeyEvent.VK_DOWN];
-        moveKeys['s'] = moveKeys['S'];
-        moveKeys['A'] = keys[KeyBindingConfig.getKey(KeyBindingConfig.KEY_MOVE_LEFT)] || keys[KeyEvent.VK_LEFT];
-        moveKeys['a'] = moveKeys['A'];
-        moveKeys['D'] = keys[KeyBindingConfig.getKey(KeyBindingConfig.KEY_MOVE_RIGHT)] || keys[KeyEvent.VK_RIGHT];
-        moveKeys['d'] = moveKeys['D'];
-
-        // 임시 이동 컨트롤러로 위치 계산 (속도 버프 적용)
-        PlayerMovementController tempController = new PlayerMovementController(effectiveSpeed, collisionManager);
-        tempController.updateMapSize(mapWidth, mapHeight);
+        // 이동 입력 (WASD와 화살표 키 통합)
+        int moveMask = 0;
+        if (keys[KeyBindingConfig.getKey(KeyBindingConfig.KEY_MOVE_FORWARD)] || keys[KeyEvent.VK_UP])
+            moveMask |= PlayerMovementController.MOVE_UP;
+        if (keys[KeyBindingConfig.getKey(KeyBindingConfig.KEY_MOVE_BACKWARD)] || keys[KeyEvent.VK_DOWN])
+            moveMask |= PlayerMovementController.MOVE_DOWN;
+        if (keys[KeyBindingConfig.getKey(KeyBindingConfig.KEY_MOVE_LEFT)] || keys[KeyEvent.VK_LEFT])
+            moveMask |= PlayerMovementController.MOVE_LEFT;
+        if (keys[KeyBindingConfig.getKey(KeyBindingConfig.KEY_MOVE_RIGHT)] || keys[KeyEvent.VK_RIGHT])
+            moveMask |= PlayerMovementController.MOVE_RIGHT;
+
         PlayerMovementController.PlayerPosition newPos = new PlayerMovementController.PlayerPosition(playerX, playerY);
-        tempController.updatePlayerPosition(playerX, playerY, moveKeys, newPos);
-        
-        int newX = newPos.x;
-        int newY = newPos.y;
+        stepMovement(newPos, moveMask, effectiveSpeed);
+        playerX = newPos.x;
+        playerY = newPos.y;
+        frameMoveMask = moveMask;
+        frameMoveSpeed = effectiveSpeed;
+        frameStepX = playerX;
+        frameStepY = playerY;
+
+        // 카메라 업데이트
+        updateCamera();
+    }
+
+    /**
+     * 이동 입력 한 프레임 적용 (충돌 슬라이딩 + 라운드 대기 중 스폰 구역 제한)
+     * 매 프레임 이동과 서버 보정 뒤 미확인 입력 재적용에 같이 사용
+     */
+    private void stepMovement(PlayerMovementController.PlayerPosition pos, int moveMask, int speed) {
+        movementController.updatePlayerPosition(pos.x, pos.y, moveMask, speed, pos);
 
         // 라운드 대기 상태일 때 스폰 구역 이탈 방지
         if (roundState == RoundState.WAITING) {
@@ -1552,23 +1530,50 @@ public class GamePanel extends JFrame implements KeyListener {
                     maxY = minY;
                 }
 
-                newX = Math.max(minX, Math.min(newX, maxX));
-                newY = Math.max(minY, Math.min(newY, maxY));
+                pos.x = Math.max(minX, Math.min(pos.x, maxX));
+                pos.y = Math.max(minY, Math.min(pos.y, maxY));
             }
         }
-        
-        playerX = newX;
-        playerY = newY;
+    }
 
-        // 카메라 업데이트
-        updateCamera();
+    /**
+     * 서버 보정 뒤 미확인 입력 재적용 (키 이동 후 대쉬 등 추가 이동은 벽에 막히지 않을 때만)
+     */
+    private void replayMovement(PlayerMovementController.PlayerPosition pos, int moveMask, int speed, int extraX,
+            int extraY) {
+        stepMovement(pos, moveMask, speed);
+        if (extraX != 0 || extraY != 0) {
+            int targetX = pos.x + extraX;
+            int targetY = pos.y + extraY;
+            if (!checkCollisionWithObstacles(targetX, targetY)) {
+                pos.x = targetX;
+                pos.y = targetY;
+            }
+        }
+    }
 
-        // 위치가 변경되면 서버에 전송 (움직일 때만 전송하여 네트워크 부하 감소)
-        if (oldX != playerX || oldY != playerY) {
-            sendPosition();
+    /**
+     * 받은 MOVE_ACK 반영: 서버 위치가 예측과 다르면 서버 위치 + 미확인 입력으로 옮김
+     */
+    private void reconcilePosition() {
+        reconcilePos.x = playerX;
+        reconcilePos.y = playerY;
+        if (movementPredictor.reconcile(reconcilePos, this::replayMovement)) {
+            Log.debug(() -> "[PREDICT] 서버 보정 (" + playerX + ", " + playerY + ") → (" + reconcilePos.x + ", "
+                    + reconcilePos.y + "), 미확인 입력 " + movementPredictor.getPendingCount() + "개");
+            playerX = reconcilePos.x;
+            playerY = reconcilePos.y;
+            updateCamera();
         }
     }
 
+    /**
+     * 서버가 반영한 마지막 위치 입력 순번과 검증한 위치 (수신 메시지 처리)
+     */
+    void onMoveAck(int seq, float x, float y) {
+        movementPredictor.onAck(seq, x, y);
+    }
+
     /**
      * 장애물 충돌 체크
      */
@@ -1599,6 +1604,9 @@ public class GamePanel extends JFrame implements KeyListener {
     }
 
     private void checkCollisions() {
+        // 서버 미사일 판정이면 피격 보고 없이 미사일만 지움 (결과는 서버 STATS 로 반영)
+        boolean reportHits = !networkClient.serverHitsEnabled();
+
         // 내 미사일과 다른 플레이어 충돌
         Iterator<GameObjectManager.Missile> it = missiles.iterator();
         while (it.hasNext()) {
@@ -1614,8 +1622,9 @@ public class GamePanel extends JFrame implements KeyListener {
                             hit = true;
                             // 서버에 적 플레이어 피격 보고
                             String targetName = entry.getKey();
-                            networkClient.sendHitReport("HIT:" + targetName);
-                            System.out.println("[HIT] My missile hit " + targetName);
+                            if (reportHits)
+                                networkClient.sendHitReport("HIT:" + targetName);
+                            Log.debug(() -> "[HIT] My missile hit " + targetName);
                             break;
                         }
                     }
@@ -1630,7 +1639,7 @@ public class GamePanel extends JFrame implements KeyListener {
                                 it.remove();
                                 // 서버에 오브젝트 피격 보고
                                 networkClient.sendHitReport("HIT_OBJ:" + obj.id);
-                                System.out.println("[HIT_OBJ] My missile hit object " + obj.id);
+                                Log.debug(() -> "[HIT_OBJ] My missile hit object " + obj.id);
                                 break;
                             }
                         }
@@ -1647,6 +1656,8 @@ public class GamePanel extends JFrame implements KeyListener {
                 double dist = Math.sqrt(Math.pow(m.x - playerX, 2) + Math.pow(m.y - playerY, 2));
                 if (dist < 20) {
                     enemyIt.remove();
+                    if (!reportHits)
+                        break;
                     if (m.owner != null) {
                         // 터렛 미사일인 경우 TURRET: 접두사가 이미 포함되어 있음
                         String ownerInfo = m.owner;
@@ -1654,7 +1665,7 @@ public class GamePanel extends JFrame implements KeyListener {
                         if (ownerInfo.startsWith("TURRET:")) {
                             String turretOwner = ownerInfo.substring(7);
                             if (turretOwner.equals(playerName)) {
-                                System.out.println("[DEBUG] Ignored own turret missile hit");
+                                Log.debug(() -> "[DEBUG] Ignored own turret missile hit");
                                 continue; // 자기 터렛 미사일은 무시
                             }
                         }
@@ -1663,7 +1674,7 @@ public class GamePanel extends JFrame implements KeyListener {
                         long now = System.currentTimeMillis();
                         Long lastHit = lastHitTime.get(m.id);
                         if (lastHit != null && now - lastHit < HIT_COOLDOWN_MS) {
-                            System.out.println("[HIT_COOLDOWN] Ignored duplicate hit from missile #" + m.id);
+                            Log.debug(() -> "[HIT_COOLDOWN] Ignored duplicate hit from missile #" + m.id);
                             continue;
                         }
                         lastHitTime.put(m.id, now);
@@ -1692,21 +1703,30 @@ public class GamePanel extends JFrame implements KeyListener {
             playerY = mapHeight / 2;
         }
         gameState.setMyHP(gameState.getMyMaxHP());
+        movementPredictor.reset();
 
         appendChatMessage("[리스폰] 위치: (" + playerX + ", " + playerY + ")");
 
-        // 서버에 리스폰 알림
-        try {
-            out.writeUTF("RESPAWN:" + playerX + "," + playerY);
-            out.flush();
-        } catch (IOException ex) {
-            appendChatMessage("[에러] 리스폰 전송 실패: " + ex.getMessage());
-        }
+        // 서버에 리스폰 알림 (아직 안 나간 죽기 전 위치는 버림)
+        networkClient.sendRespawn(playerX, playerY);
         sendPosition();
     }
 
     private void sendPosition() {
-        if (out != null) {
+        sendPosition(0, 0, 0, 0);
+    }
+
+    /**
+     * 현재 위치 전송 (순번을 협상했으면 이번 프레임 입력을 예측 이력에 기록하고 순번을 붙임)
+     */
+    private void sendPosition(int moveMask, int speed, int extraX, int extraY) {
+        if (out == null) {
+            return;
+        }
+        if (networkClient.inputSeqEnabled()) {
+            int seq = movementPredictor.record(moveMask, speed, extraX, extraY, playerX, playerY);
+            networkClient.sendPosition(playerX, playerY, myDirection, seq);
+        } else {
             networkClient.sendPosition(playerX, playerY, myDirection);
         }
     }
@@ -1744,12 +1764,7 @@ public class GamePanel extends JFrame implements KeyListener {
         objectManager.addMissile(missile);
 
         if (out != null) {
-            try {
-                out.writeUTF("SHOOT:" + sx + "," + sy + "," + dx + "," + dy);
-                out.flush();
-            } catch (IOException ex) {
-                appendChatMessage("[네트워크] 발사 전송 실패: " + ex.getMessage());
-            }
+            networkClient.sendShoot(sx, sy, dx, dy);
         }
 
         // 총구 섬광 이펙트 (로컬) - 발사 방향 각도 기반 단발 섬광
@@ -1757,8 +1772,61 @@ public class GamePanel extends JFrame implements KeyListener {
         skillEffects.addSelf(new MuzzleFlashEffect(angle));
     }
 
+    /**
+     * 수신 메시지 (수신 스레드): 큐에 넣기만 하고 처리는 EDT 에서
+     */
     private void processGameMessage(String message) {
-        messageHandler.handleMessage(message);
+        networkEvents.postText(message);
+        scheduleNetworkEvents();
+    }
+
+    private void processGameBinary(ByteBuffer payload) {
+        networkEvents.postBinary(payload);
+        scheduleNetworkEvents();
+    }
+
+    /**
+     * 게임 루프가 멈춰 있으면 (설정 / 캐릭터 선택 창, 게임 오버) 큐에 쌓인 메시지를 EDT 에서 바로 처리
+     * (큐가 비어 있었는지와 관계없이, 이미 올린 drain 이 실행 전이면 다시 올리지 않음)
+     */
+    private void scheduleNetworkEvents() {
+        GameLoop t = gameLoop;
+        if ((t == null || !t.isRunning()) && pausedDrainPending.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::drainWhilePaused);
+        }
+    }
+
+    private void drainWhilePaused() {
+        pausedDrainPending.set(false); // 처리 중에 들어온 메시지는 다시 예약되도록 먼저 해제
+        applyNetworkEvents();
+    }
+
+    /**
+     * 쌓인 수신 메시지를 받은 순서대로 게임 상태에 적용 (EDT, 매 프레임 시작)
+     */
+    private void applyNetworkEvents() {
+        networkEvents.drain(messageHandler);
+    }
+
+    /**
+     * 서버 틱 레이트 (TICK_RATE 응답, 스냅샷 틱 → 서버 시각 변환)
+     */
+    public void setServerTickRate(int tickRate) {
+        serverClock.setTickRate(tickRate);
+    }
+
+    /**
+     * 게임 중 FEATURES 응답을 받은 경우 (로비에서 못 받았을 때)
+     */
+    void setServerFeatures(int features) {
+        networkClient.setFeatures(features);
+    }
+
+    /**
+     * 델타 스냅샷 복원 확인 (NO_BASE = 전체 스냅샷 요청)
+     */
+    void sendSnapshotAck(int tick) {
+        networkClient.sendFrame(BinaryCodec.encodeAck(tick));
     }
 
     /**
@@ -1767,8 +1835,8 @@ public class GamePanel extends JFrame implements KeyListener {
     void returnToLobby() {
         // 게임 종료
         gameOver = true; // 플래그 설정
-        if (timer != null) {
-            timer.stop();
+        if (gameLoop != null) {
+            gameLoop.stop();
         }
         disconnect();
 
@@ -1778,7 +1846,7 @@ public class GamePanel extends JFrame implements KeyListener {
             this.dispose(); // GamePanel? JFrame??? ?? dispose
 
             GameConfig.saveCharacter("");
-            System.out.println("[??] ? ?? - ??? ???, ??: " + currentChar);
+            Log.info("[??] ? ?? - ??? ???, ??: " + currentChar);
             LobbyFrame lobby = new LobbyFrame(playerName);
             lobby.setVisible(true);
         });
@@ -1786,8 +1854,9 @@ public class GamePanel extends JFrame implements KeyListener {
 
     void disconnect() {
         try {
-            if (timer != null)
-                timer.stop();
+            if (gameLoop != null)
+                gameLoop.stop();
+            networkClient.stop();
             if (out != null)
                 out.close();
             if (in != null)
@@ -1795,8 +1864,7 @@ public class GamePanel extends JFrame implements KeyListener {
             if (socket != null)
                 socket.close();
         } catch (IOException ex) {
-            System.err.println("[ERROR] Failed to close network resources");
-            ex.printStackTrace(System.err);
+            Log.error("[ERROR] Failed to close network resources", ex);
         }
     }
 
@@ -2300,7 +2368,7 @@ public class GamePanel extends JFrame implements KeyListener {
                 teamThermalRemaining = Math.max(teamThermalRemaining, piperThermalRemaining); // 팀 공유
             }
         }
-        System.out.println("스킬 효과: " + ability.getName() + " (ID: " + ability.id + ")");
+        Log.info("스킬 효과: " + ability.getName() + " (ID: " + ability.id + ")");
     }
 
     /**
@@ -2366,10 +2434,11 @@ public class GamePanel extends JFrame implements KeyListener {
             return;
         }
 
-        // 게임 일시정지
-        if (timer != null) {
-            timer.stop();
+        // 게임 일시정지 (창이 떠 있는 동안 수신 메시지는 scheduleNetworkEvents 가 처리)
+        if (gameLoop != null) {
+            gameLoop.stop();
         }
+        scheduleNetworkEvents();
 
         // 현재 팀에서 이미 선택한 캐릭터를 비활성화 목록으로 구성
         java.util.Set<String> disabledCharacters = new java.util.HashSet<>();
@@ -2396,8 +2465,8 @@ public class GamePanel extends JFrame implements KeyListener {
             long finalElapsed = System.currentTimeMillis() - roundStartTime;
             if (finalElapsed >= CHARACTER_CHANGE_TIME_LIMIT) {
                 appendChatMessage("[시스템] 시간이 초과되어 캐릭터 변경이 취소되었습니다.");
-                if (timer != null) {
-                    timer.start();
+                if (gameLoop != null) {
+                    gameLoop.start();
                 }
                 return;
             }
@@ -2421,7 +2490,7 @@ public class GamePanel extends JFrame implements KeyListener {
             // 서버에 캐릭터 변경 알림
             if (out != null) {
                 networkClient.sendCharacterSelect(newCharacter);
-                System.out.println("[Client] Character change request sent: " + newCharacter + " at " + elapsed + "ms");
+                Log.info("[Client] Character change request sent: " + newCharacter + " at " + elapsed + "ms");
             }
 
             appendChatMessage("캐릭터를 " + newCharData.name + "으로 변경했습니다.");
@@ -2434,8 +2503,8 @@ public class GamePanel extends JFrame implements KeyListener {
         }
 
         // 게임 재개
-        if (timer != null) {
-            timer.start();
+        if (gameLoop != null) {
+            gameLoop.start();
         }
     }
 
@@ -2485,17 +2554,17 @@ public class GamePanel extends JFrame implements KeyListener {
                 spritePath += "Raven_48_64.png";
             }
 
-            System.out.println("[SPRITE] Loading: " + spritePath);
+            Log.info("[SPRITE] Loading: " + spritePath);
 
             // 스프라이트 시트 로드 (48x64 크기, 4행 구조: Down, Left, Up, Right)
             java.awt.image.BufferedImage[] walkSheet = rm.getSpriteSheet(spritePath, 48, 64);
 
-            System.out.println("[SPRITE] Walk sheet: " + (walkSheet != null ? walkSheet.length + " frames" : "NULL"));
+            Log.info("[SPRITE] Walk sheet: " + (walkSheet != null ? walkSheet.length + " frames" : "NULL"));
 
             if (walkSheet != null && walkSheet.length > 0) {
                 // 프레임 수 계산 (전체 프레임 / 4행)
                 int framesPerRow = walkSheet.length / 4;
-                System.out.println("[SPRITE] Frames per row: " + framesPerRow);
+                Log.info("[SPRITE] Frames per row: " + framesPerRow);
 
                 // 각 방향의 프레임 추출
                 java.awt.image.BufferedImage[] downFrames = new java.awt.image.BufferedImage[framesPerRow];
@@ -2516,18 +2585,17 @@ public class GamePanel extends JFrame implements KeyListener {
                 myAnimations[2] = new SpriteAnimation(leftFrames, 150, true); // Left
                 myAnimations[3] = new SpriteAnimation(rightFrames, 150, true); // Right
 
-                System.out.println("[SPRITE] Walk animations created for " + charId);
+                Log.info("[SPRITE] Walk animations created for " + charId);
             } else {
-                System.out.println("[ERROR] Walk sheet invalid!");
+                Log.info("[ERROR] Walk sheet invalid!");
             }
 
             // 각 애니메이션 확인
             for (int i = 0; i < 4; i++) {
-                System.out.println("[SPRITE] Animation[" + i + "]: " + (myAnimations[i] != null ? "OK" : "NULL"));
+                Log.info("[SPRITE] Animation[" + i + "]: " + (myAnimations[i] != null ? "OK" : "NULL"));
             }
         } catch (Exception e) {
-            System.err.println("[ERROR] 스프라이트 로드 에러: " + e.getMessage());
-            e.printStackTrace(System.err);
+            Log.error("[ERROR] 스프라이트 로드 에러: " + e.getMessage(), e);
         }
     }
 
@@ -2536,7 +2604,7 @@ public class GamePanel extends JFrame implements KeyListener {
      */
     void loadPlayerSprites(PlayerData player, String characterId) {
         try {
-            System.out.println("[SPRITE] 시작: " + characterId + " 스프라이트 로딩...");
+            Log.info("[SPRITE] 시작: " + characterId + " 스프라이트 로딩...");
             
             ResourceManager rm = ResourceManager.getInstance();
             player.animations = new SpriteAnimation[4];
@@ -2561,14 +2629,14 @@ public class GamePanel extends JFrame implements KeyListener {
                         break;
                     default:
                         spritePath += "Raven_48_64.png";
-                        System.out.println("[SPRITE] 경고: 알 수 없는 캐릭터 ID '" + characterId + "', Raven으로 대체");
+                        Log.info("[SPRITE] 경고: 알 수 없는 캐릭터 ID '" + characterId + "', Raven으로 대체");
                         break;
                 }
             } else {
                 spritePath += "Raven_48_64.png";
             }
 
-            System.out.println("[SPRITE] 로딩 경로: " + spritePath);
+            Log.info("[SPRITE] 로딩 경로: " + spritePath);
 
             // 스프라이트 시트 로드 (48x64 크기, 4행 구조: Down, Left, Up, Right)
             java.awt.image.BufferedImage[] walkSheet = rm.getSpriteSheet(spritePath, 48, 64);
@@ -2593,13 +2661,12 @@ public class GamePanel extends JFrame implements KeyListener {
                 player.animations[2] = new SpriteAnimation(leftFrames, 150, true);
                 player.animations[3] = new SpriteAnimation(rightFrames, 150, true);
 
-                System.out.println("[SPRITE] ✅ 성공: " + characterId + " 애니메이션 로드 완료 (4방향)");
+                Log.info("[SPRITE] ✅ 성공: " + characterId + " 애니메이션 로드 완료 (4방향)");
             } else {
-                System.err.println("[SPRITE] ❌ 실패: walkSheet가 null이거나 비어있음");
+                Log.warn("[SPRITE] ❌ 실패: walkSheet가 null이거나 비어있음");
             }
         } catch (Exception e) {
-            System.err.println("[SPRITE] ❌ 치명적 오류: " + characterId + " 로드 실패");
-            e.printStackTrace(System.err);
+            Log.error("[SPRITE] ❌ 치명적 오류: " + characterId + " 로드 실패", e);
             
             // Fallback: 기본 애니메이션 설정 (null 방지)
             player.animations = null;
@@ -2626,7 +2693,7 @@ public class GamePanel extends JFrame implements KeyListener {
             myDirection = 0; // Down
         }
         if (oldDir != myDirection) {
-            System.out.println("[ANIM] Direction: " + oldDir + " -> " + myDirection);
+            Log.debug(() -> "[ANIM] Direction: " + oldDir + " -> " + myDirection);
         }
 
         // 현재 애니메이션 업데이트
@@ -2641,6 +2708,81 @@ public class GamePanel extends JFrame implements KeyListener {
         }
     }
     
+    /**
+     * GameMessageHandler 가 보는 GamePanel (필드 / 메서드 위임)
+     */
+    private final class MessageContext implements GameMessageHandler.Context {
+        @Override public String getPlayerName() { return playerName; }
+        @Override public GameState getGameState() { return gameState; }
+        @Override public Map<String, PlayerData> getPlayers() { return players; }
+        @Override public PlayerIdTable getPlayerIds() { return playerIds; }
+        @Override public ServerClock getServerClock() { return serverClock; }
+        @Override public GameObjectManager getObjectManager() { return objectManager; }
+        @Override public SkillEffectManager getSkillEffects() { return skillEffects; }
+        @Override public Map<String, List<ActiveEffect>> getEffectsByPlayer() { return effectsByPlayer; }
+
+        @Override public void appendChatMessage(String message) { GamePanel.this.appendChatMessage(message); }
+        @Override public void repaint() { GamePanel.this.repaint(); }
+
+        @Override
+        public void setAbilities(Ability[] abilities) {
+            GamePanel.this.abilities = abilities;
+            gameState.setAbilities(abilities);
+        }
+
+        @Override public void setCharacterChangedInRound(boolean changed) { hasChangedCharacterInRound = changed; }
+
+        @Override
+        public void setBuffMultipliers(float moveSpeed, float attackSpeed) {
+            moveSpeedMultiplier = moveSpeed;
+            skillManager.setAttackSpeedMultiplier(attackSpeed);
+        }
+
+        @Override public void loadSprites() { GamePanel.this.loadSprites(); }
+        @Override public void loadPlayerSprites(PlayerData player, String characterId) { GamePanel.this.loadPlayerSprites(player, characterId); }
+        @Override public void setTeamMarkRemaining(float seconds) { GamePanel.this.setTeamMarkRemaining(seconds); }
+        @Override public void setTeamThermalRemaining(float seconds) { GamePanel.this.setTeamThermalRemaining(seconds); }
+
+        @Override public String getCurrentMapName() { return currentMapName; }
+        @Override public void setCurrentMapName(String mapName) { currentMapName = mapName; }
+        @Override public void loadMap(String mapName) { GamePanel.this.loadMap(mapName); }
+
+        @Override
+        public void setRoundScore(int red, int blue) {
+            redWins = red;
+            blueWins = blue;
+        }
+
+        @Override public void setRoundState(RoundState state) { roundState = state; }
+        @Override public void setRoundCount(int count) { roundCount = count; }
+        @Override public void setRoundStartTime(long millis) { roundStartTime = millis; }
+
+        @Override
+        public void showCenterMessage(String message, long endTimeMillis) {
+            centerMessage = message;
+            centerMessageEndTime = endTimeMillis;
+        }
+
+        @Override public void setGameOver(boolean value) { GamePanel.this.setGameOver(value); }
+        @Override public void returnToLobby() { GamePanel.this.returnToLobby(); }
+
+        @Override public void setServerFeatures(int features) { GamePanel.this.setServerFeatures(features); }
+        @Override public void setServerTickRate(int tickRate) { GamePanel.this.setServerTickRate(tickRate); }
+        @Override public void sendSnapshotAck(int tick) { GamePanel.this.sendSnapshotAck(tick); }
+        @Override public void onMoveAck(int seq, float x, float y) { GamePanel.this.onMoveAck(seq, x, y); }
+
+        @Override public void openCharacterSelect() { GamePanel.this.openCharacterSelect(); }
+        @Override public void disconnect() { GamePanel.this.disconnect(); }
+        @Override public void toggleMinimap() { showMinimap = !showMinimap; }
+        @Override public boolean toggleDebugObstacles() { return debugObstacles = !debugObstacles; }
+        @Override public boolean toggleEditMode() { return editMode = !editMode; }
+        @Override public void cycleNextMap() { GamePanel.this.cycleNextMap(); }
+        @Override public void saveEditedMap() { GamePanel.this.saveEditedMap(); }
+        @Override public void rebuildObstaclesFromWalkable() { GamePanel.this.rebuildObstaclesFromWalkable(); }
+        @Override public void showControlsDialog() { uiManager.showControlsDialog(GamePanel.this); }
+        @Override public void showAboutDialog() { uiManager.showAboutDialog(GamePanel.this); }
+    }
+
     // Public 메서드: 팀 스킬 상태 설정 (GameMessageHandler에서 사용)
     public void setTeamMarkRemaining(float value) {
         this.teamMarkRemaining = Math.max(this.teamMarkRemaining, value);
@@ -2653,8 +2795,10 @@ public class GamePanel extends JFrame implements KeyListener {
     // 게임 오버 플래그 설정
     public void setGameOver(boolean value) {
         this.gameOver = value;
-        if (value && timer != null) {
-            timer.stop(); // 게임 오버 시 타이머 즉시 중지
+        if (value && gameLoop != null) {
+            gameLoop.stop(); // 게임 오버 시 타이머 즉시 중지
+            // 게임 루프가 멈췄으므로 이미 쌓인 메시지(GAME_END 등)는 EDT 에서 따로 처리
+            SwingUtilities.invokeLater(this::applyNetworkEvents);
             // 즉시 화면을 한 번 더 그려 중앙 메시지가 보이도록 강제 리페인트
             if (canvas != null) {
                 javax.swing.SwingUtilities.invokeLater(() -> canvas.repaint());
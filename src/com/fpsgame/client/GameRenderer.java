@@ -4,6 +4,7 @@ import com.fpsgame.client.effects.SkillEffectManager;
 import com.fpsgame.common.Ability;
 import com.fpsgame.common.CharacterData;
 import com.fpsgame.common.GameConstants;
+import com.fpsgame.common.Log;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
@@ -38,9 +39,9 @@ public class GameRenderer {
     private void loadBulletImage() {
         try {
             bulletImage = ImageIO.read(new File("assets/bullets/raven_bullet.png"));
-            System.out.println("[BULLET] Loaded bullet image: " + bulletImage.getWidth() + "x" + bulletImage.getHeight());
+            Log.info("[BULLET] Loaded bullet image: " + bulletImage.getWidth() + "x" + bulletImage.getHeight());
         } catch (Exception e) {
-            System.err.println("[BULLET] Failed to load bullet image: " + e.getMessage());
+            Log.warn("[BULLET] Failed to load bullet image: " + e.getMessage());
             bulletImage = null;
         }
     }
@@ -104,6 +105,20 @@ public class GameRenderer {
         if (ctx.showScoreboard) {
             drawScoreboard(g2d, ctx);
         }
+        
+        // 12. 프레임 통계 (디버그 표시 중)
+        if (ctx.debugObstacles && ctx.frameStats != null) {
+            drawFrameStats(g2d, ctx);
+        }
+    }
+    
+    private void drawFrameStats(Graphics2D g2d, RenderContext ctx) {
+        g2d.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        int width = g2d.getFontMetrics().stringWidth(ctx.frameStats) + 12;
+        g2d.setColor(new Color(0, 0, 0, 160));
+        g2d.fillRect(8, ctx.canvasHeight - 30, width, 20);
+        g2d.setColor(Color.WHITE);
+        g2d.drawString(ctx.frameStats, 14, ctx.canvasHeight - 15);
     }
     
     private void drawMap(Graphics2D g2d, RenderContext ctx) {
@@ -175,8 +190,8 @@ public class GameRenderer {
         for (Map.Entry<String, GamePanel.PlayerData> entry : ctx.players.entrySet()) {
             GamePanel.PlayerData p = entry.getValue();
             
-            // 사망한 플레이어는 렌더링하지 않음
-            if (p.hp <= 0) {
+            // 사망했거나 서버 관심 영역 밖인 플레이어는 렌더링하지 않음
+            if (p.hp <= 0 || p.hidden) {
                 continue;
             }
             
@@ -311,9 +326,11 @@ public class GameRenderer {
     }
     
     private void drawMissiles(Graphics2D g2d, RenderContext ctx) {
+        // 미사일은 step 마다 dx 만큼 이동하므로 로컬 플레이어와 같이 직전 step 위치에서 alpha 만큼 보간
+        float back = 1f - ctx.alpha;
         for (GameObjectManager.Missile m : ctx.missiles) {
-            int mScreenX = (int)m.x - ctx.cameraX;
-            int mScreenY = (int)m.y - ctx.cameraY;
+            int mScreenX = (int) (m.x - m.dx * back) - ctx.cameraX;
+            int mScreenY = (int) (m.y - m.dy * back) - ctx.cameraY;
             if (isOnScreen(mScreenX, mScreenY, ctx)) {
                 if (bulletImage != null) {
                     // 16x16 이미지를 8x8로 다운스케일하여 렌더링
@@ -438,25 +455,23 @@ public class GameRenderer {
         int viewW = Math.max(1, Math.round(GameConstants.GAME_WIDTH * scaleX));
         int viewH = Math.max(1, Math.round(GameConstants.GAME_HEIGHT * scaleY));
         
-        synchronized (ctx.players) {
-            for (GamePanel.PlayerData pd : ctx.players.values()) {
-                // 같은 팀만 표시
-                if (pd.team == ctx.team) {
-                    // 팀원의 카메라 위치 계산 (캐릭터를 화면 중앙에 놓는다고 가정)
-                    int teammateCameraX = pd.x - GameConstants.GAME_WIDTH / 2;
-                    int teammateCameraY = pd.y - GameConstants.GAME_HEIGHT / 2;
-                    
-                    int teammateViewX = minimapX + Math.round(teammateCameraX * scaleX);
-                    int teammateViewY = minimapY + Math.round(teammateCameraY * scaleY);
-                    
-                    // 팀원 시야 범위 (연한 팀 색상 박스) - 일반 크기
-                    if (pd.team == GameConstants.TEAM_BLUE) {
-                        g2d.setColor(new Color(100, 150, 255, 30)); // 연한 파란색
-                        g2d.drawRect(teammateViewX, teammateViewY, viewW, viewH);
-                    } else if (pd.team == GameConstants.TEAM_RED) {
-                        g2d.setColor(new Color(255, 100, 100, 30)); // 연한 빨간색
-                        g2d.drawRect(teammateViewX, teammateViewY, viewW, viewH);
-                    }
+        for (GamePanel.PlayerData pd : ctx.players.values()) {
+            // 같은 팀만 표시
+            if (pd.team == ctx.team) {
+                // 팀원의 카메라 위치 계산 (캐릭터를 화면 중앙에 놓는다고 가정)
+                int teammateCameraX = pd.x - GameConstants.GAME_WIDTH / 2;
+                int teammateCameraY = pd.y - GameConstants.GAME_HEIGHT / 2;
+                
+                int teammateViewX = minimapX + Math.round(teammateCameraX * scaleX);
+                int teammateViewY = minimapY + Math.round(teammateCameraY * scaleY);
+                
+                // 팀원 시야 범위 (연한 팀 색상 박스) - 일반 크기
+                if (pd.team == GameConstants.TEAM_BLUE) {
+                    g2d.setColor(new Color(100, 150, 255, 30)); // 연한 파란색
+                    g2d.drawRect(teammateViewX, teammateViewY, viewW, viewH);
+                } else if (pd.team == GameConstants.TEAM_RED) {
+                    g2d.setColor(new Color(255, 100, 100, 30)); // 연한 빨간색
+                    g2d.drawRect(teammateViewX, teammateViewY, viewW, viewH);
                 }
             }
         }
@@ -494,89 +509,86 @@ public class GameRenderer {
         // 팀 전체 Thermal 효과 (팀원이 Thermal 사용 시)
         boolean teamThermalActive = (ctx.teamThermalRemaining > 0f);
         
-        synchronized (ctx.players) {
-            for (GamePanel.PlayerData pd : ctx.players.values()) {
-                int dx = pd.x - ctx.playerX;
-                int dy = pd.y - ctx.playerY;
-                double distance = Math.sqrt(dx * dx + dy * dy);
-                
-                boolean inViewport = (pd.x >= ctx.cameraX && pd.x <= ctx.cameraX + ctx.canvasWidth &&
-                        pd.y >= ctx.cameraY && pd.y <= ctx.cameraY + ctx.canvasHeight);
-                
-                boolean shouldShow = false;
-                
-                // 내 시야에 보이는지 체크
-                if (myMarkActive && distance <= myExtendedRadius) {
-                    shouldShow = true;
-                } else if (!myMarkActive && distance <= VISION_RANGE && inViewport) {
+        for (GamePanel.PlayerData pd : ctx.players.values()) {
+            if (pd.hidden) continue;
+            int dx = pd.x - ctx.playerX;
+            int dy = pd.y - ctx.playerY;
+            double distance = Math.sqrt(dx * dx + dy * dy);
+            
+            boolean inViewport = (pd.x >= ctx.cameraX && pd.x <= ctx.cameraX + ctx.canvasWidth &&
+                    pd.y >= ctx.cameraY && pd.y <= ctx.cameraY + ctx.canvasHeight);
+            
+            boolean shouldShow = false;
+            
+            // 내 시야에 보이는지 체크
+            if (myMarkActive && distance <= myExtendedRadius) {
+                shouldShow = true;
+            } else if (!myMarkActive && distance <= VISION_RANGE && inViewport) {
+                shouldShow = true;
+            }
+            
+            // 팀원의 시야에 보이는지 체크 (같은 팀의 적만)
+            if (!shouldShow && pd.team != ctx.team) {
+                // 팀 Thermal 활성화 시 모든 적 표시
+                if (teamThermalActive) {
                     shouldShow = true;
-                }
-                
-                // 팀원의 시야에 보이는지 체크 (같은 팀의 적만)
-                if (!shouldShow && pd.team != ctx.team) {
-                    // 팀 Thermal 활성화 시 모든 적 표시
-                    if (teamThermalActive) {
-                        shouldShow = true;
-                    } else {
-                        // 팀원의 일반 시야 체크
-                        synchronized (ctx.players) {
-                            for (GamePanel.PlayerData teammate : ctx.players.values()) {
-                                // 같은 팀원만 체크
-                                if (teammate.team == ctx.team) {
-                                    // 팀원의 카메라 위치 계산
-                                    int teammateCameraX = teammate.x - GameConstants.GAME_WIDTH / 2;
-                                    int teammateCameraY = teammate.y - GameConstants.GAME_HEIGHT / 2;
-                                    
-                                    // 팀원의 뷰포트 안에 있는지 체크 (일반 크기)
-                                    boolean inTeammateViewport = (pd.x >= teammateCameraX && 
-                                            pd.x <= teammateCameraX + GameConstants.GAME_WIDTH &&
-                                            pd.y >= teammateCameraY && 
-                                            pd.y <= teammateCameraY + GameConstants.GAME_HEIGHT);
-                                    
-                                    if (inTeammateViewport) {
-                                        int tdx = pd.x - teammate.x;
-                                        int tdy = pd.y - teammate.y;
-                                        double teamDistance = Math.sqrt(tdx * tdx + tdy * tdy);
-                                        
-                                        // 팀원의 시야 범위 내에 있으면 표시 (일반 범위)
-                                        if (teamDistance <= VISION_RANGE) {
-                                            shouldShow = true;
-                                            break;
-                                        }
-                                    }
+                } else {
+                    // 팀원의 일반 시야 체크
+                    for (GamePanel.PlayerData teammate : ctx.players.values()) {
+                        // 같은 팀원만 체크
+                        if (teammate.team == ctx.team) {
+                            // 팀원의 카메라 위치 계산
+                            int teammateCameraX = teammate.x - GameConstants.GAME_WIDTH / 2;
+                            int teammateCameraY = teammate.y - GameConstants.GAME_HEIGHT / 2;
+                            
+                            // 팀원의 뷰포트 안에 있는지 체크 (일반 크기)
+                            boolean inTeammateViewport = (pd.x >= teammateCameraX && 
+                                    pd.x <= teammateCameraX + GameConstants.GAME_WIDTH &&
+                                    pd.y >= teammateCameraY && 
+                                    pd.y <= teammateCameraY + GameConstants.GAME_HEIGHT);
+                            
+                            if (inTeammateViewport) {
+                                int tdx = pd.x - teammate.x;
+                                int tdy = pd.y - teammate.y;
+                                double teamDistance = Math.sqrt(tdx * tdx + tdy * tdy);
+                                
+                                // 팀원의 시야 범위 내에 있으면 표시 (일반 범위)
+                                if (teamDistance <= VISION_RANGE) {
+                                    shouldShow = true;
+                                    break;
                                 }
                             }
                         }
                     }
                 }
+            }
+            
+            if (shouldShow) {
+                int otherX = minimapX + (int) (pd.x * scaleX);
+                int otherY = minimapY + (int) (pd.y * scaleY);
                 
-                if (shouldShow) {
-                    int otherX = minimapX + (int) (pd.x * scaleX);
-                    int otherY = minimapY + (int) (pd.y * scaleY);
-                    
-                    // Thermal 효과로 보이는 적 (파란 점으로 크게 표시)
-                    if (teamThermalActive && pd.team != ctx.team) {
-                        // 적 팀은 팀 색상으로 표시
-                        if (pd.team == GameConstants.TEAM_BLUE) {
-                            g2d.setColor(new Color(100, 150, 255)); // 파란색
-                        } else if (pd.team == GameConstants.TEAM_RED) {
-                            g2d.setColor(new Color(255, 100, 100)); // 빨간색
-                        } else {
-                            g2d.setColor(Color.YELLOW);
-                        }
-                        g2d.fillOval(otherX - PIPER_THERMAL_DOT_SIZE / 2, otherY - PIPER_THERMAL_DOT_SIZE / 2,
-                                PIPER_THERMAL_DOT_SIZE, PIPER_THERMAL_DOT_SIZE);
+                // Thermal 효과로 보이는 적 (파란 점으로 크게 표시)
+                if (teamThermalActive && pd.team != ctx.team) {
+                    // 적 팀은 팀 색상으로 표시
+                    if (pd.team == GameConstants.TEAM_BLUE) {
+                        g2d.setColor(new Color(100, 150, 255)); // 파란색
+                    } else if (pd.team == GameConstants.TEAM_RED) {
+                        g2d.setColor(new Color(255, 100, 100)); // 빨간색
                     } else {
-                        // 일반 시야로 보이는 플레이어 (작은 점)
-                        if (pd.team == GameConstants.TEAM_BLUE) {
-                            g2d.setColor(Color.BLUE);
-                        } else if (pd.team == GameConstants.TEAM_RED) {
-                            g2d.setColor(Color.RED);
-                        } else {
-                            g2d.setColor(Color.GRAY);
-                        }
-                        g2d.fillOval(otherX - 3, otherY - 3, 6, 6);
+                        g2d.setColor(Color.YELLOW);
+                    }
+                    g2d.fillOval(otherX - PIPER_THERMAL_DOT_SIZE / 2, otherY - PIPER_THERMAL_DOT_SIZE / 2,
+                            PIPER_THERMAL_DOT_SIZE, PIPER_THERMAL_DOT_SIZE);
+                } else {
+                    // 일반 시야로 보이는 플레이어 (작은 점)
+                    if (pd.team == GameConstants.TEAM_BLUE) {
+                        g2d.setColor(Color.BLUE);
+                    } else if (pd.team == GameConstants.TEAM_RED) {
+                        g2d.setColor(Color.RED);
+                    } else {
+                        g2d.setColor(Color.GRAY);
                     }
+                    g2d.fillOval(otherX - 3, otherY - 3, 6, 6);
                 }
             }
         }
@@ -1299,5 +1311,9 @@ public class GameRenderer {
         public int tileSize;
         public int gridCols;
         public int gridRows;
+        
+        // 게임 루프
+        public float alpha = 1f;   // 마지막 step 이후 다음 step 까지 지난 비율 (GameLoop)
+        public String frameStats;  // 직전 1초 프레임 통계 (디버그 표시)
     }
 }
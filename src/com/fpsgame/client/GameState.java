@@ -120,7 +120,7 @@ public class GameState {
     // 내부 클래스들
     public static class PlayerData {
         public int x, y;
-        public int targetX, targetY;
+        public final InterpolationBuffer positions = new InterpolationBuffer();
         public int team;
         public int hp;
         public int maxHp;
@@ -133,8 +133,6 @@ public class GameState {
         public PlayerData(int x, int y, int team) {
             this.x = x;
             this.y = y;
-            this.targetX = x;
-            this.targetY = y;
             this.team = team;
             this.hp = GameConstants.MAX_HP;
             this.maxHp = GameConstants.MAX_HP;
@@ -142,10 +140,11 @@ public class GameState {
             this.deaths = 0;
         }
 
-        public void smoothUpdate() {
-            float interpolation = 0.5f;
-            x += (int) ((targetX - x) * interpolation);
-            y += (int) ((targetY - y) * interpolation);
+        public void interpolate(double renderTime, int[] scratch) {
+            if (positions.sample(renderTime, scratch)) {
+                x = scratch[0];
+                y = scratch[1];
+            }
         }
     }
 
@@ -363,11 +362,12 @@ public class GameState {
     }
     
     /**
-     * 플레이어 위치 보간 업데이트
+     * 플레이어 위치 보간 업데이트 (renderTime = 추정 서버 시각 - 보간 지연)
      */
-    public void updatePlayerInterpolation() {
+    public void updatePlayerInterpolation(double renderTime) {
+        int[] scratch = new int[2];
         for (PlayerData pd : players.values()) {
-            pd.smoothUpdate();
+            pd.interpolate(renderTime, scratch);
         }
     }
     
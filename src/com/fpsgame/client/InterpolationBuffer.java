@@ -0,0 +1,120 @@
+package com.fpsgame.client;
+
+/**
+ * 원격 플레이어 위치 스냅샷 버퍼 (서버 시각 기준 보간)
+ *
+ * <p>수신 메시지를 처리할 때 서버 시각(ServerClock)과 위치를 넣고, 게임 루프는 "현재 서버 시각 - 보간 지연" 시점의 위치를
+ * 앞뒤 두 스냅샷 사이 선형 보간으로 꺼냅니다. 프레임 레이트나 TCP 로 몰려 도착하는 간격과 상관없이
+ * 서버가 움직인 속도 그대로 그려집니다.</p>
+ *
+ * <p>가장 최근 스냅샷보다 뒤 시점을 요청하면 (패킷이 늦음) 마지막 두 스냅샷의 속도로
+ * 최대 MAX_EXTRAPOLATION_MS 까지만 외삽하고 그 뒤로는 멈춰 있습니다.
+ * TELEPORT_DISTANCE 보다 먼 이동(리스폰 등)은 미끄러지지 않도록 이전 스냅샷을 버리고 바로 옮깁니다.</p>
+ *
+ * <p>스냅샷은 시각 / 좌표 원시 배열의 원형 버퍼에 보관합니다 (객체 할당 없음).
+ * 넣기와 꺼내기 모두 EDT 에서만 하므로 (ClientEventQueue) 잠그지 않습니다.</p>
+ */
+public class InterpolationBuffer {
+
+    /** 보관할 스냅샷 수 (30Hz 기준 약 1초) */
+    public static final int CAPACITY = 32;
+
+    /** 최대 외삽 시간 (ms) */
+    public static final double MAX_EXTRAPOLATION_MS = 100;
+
+    /** 이보다 먼 스냅샷 간 이동은 보간하지 않음 (px) */
+    public static final int TELEPORT_DISTANCE = 256;
+
+    // 이만큼(ms) 이상 과거 시각이 들어오면 시계 기준이 바뀐 것으로 보고 다시 시작 (도착 시각 → 서버 틱 시각)
+    private static final double CLOCK_RESET_MS = 1000;
+
+    private final double[] times = new double[CAPACITY];
+    private final int[] xs = new int[CAPACITY];
+    private final int[] ys = new int[CAPACITY];
+    private int head = 0; // 가장 오래된 스냅샷
+    private int size = 0;
+
+    /**
+     * 스냅샷 추가 (수신 메시지 처리)
+     * 이미 받은 것보다 이른 시각은 무시하고 (시계 기준이 바뀐 경우는 다시 시작), 같은 시각이면 덮어씁니다.
+     */
+    public void add(double time, int x, int y) {
+        if (size > 0) {
+            int newest = index(size - 1);
+            if (time < times[newest] - CLOCK_RESET_MS) {
+                size = 0;
+            } else if (time < times[newest]) {
+                return;
+            } else if (time == times[newest]) {
+                xs[newest] = x;
+                ys[newest] = y;
+                return;
+            } else if (Math.abs(x - xs[newest]) + Math.abs(y - ys[newest]) > TELEPORT_DISTANCE) {
+                size = 0;
+            }
+        }
+        if (size == CAPACITY) {
+            head = (head + 1) % CAPACITY;
+            size--;
+        }
+        int i = index(size);
+        times[i] = time;
+        xs[i] = x;
+        ys[i] = y;
+        size++;
+    }
+
+    /**
+     * 이전 스냅샷을 버리고 한 개로 다시 시작 (시야 밖에서 다시 들어온 경우 등)
+     */
+    public void reset(double time, int x, int y) {
+        size = 0;
+        head = 0;
+        add(time, x, y);
+    }
+
+    /**
+     * renderTime 시점 위치 (게임 루프)
+     *
+     * @param out [0] = x, [1] = y
+     * @return 스냅샷이 없으면 false (out 변경 없음)
+     */
+    public boolean sample(double renderTime, int[] out) {
+        if (size == 0)
+            return false;
+        int newest = index(size - 1);
+        if (renderTime >= times[newest]) {
+            // 최신 스냅샷 이후: 마지막 속도로 제한된 시간만 외삽
+            if (size < 2) {
+                out[0] = xs[newest];
+                out[1] = ys[newest];
+                return true;
+            }
+            int prev = index(size - 2);
+            double span = times[newest] - times[prev];
+            double ahead = Math.min(renderTime - times[newest], MAX_EXTRAPOLATION_MS) / span;
+            out[0] = (int) Math.round(xs[newest] + (xs[newest] - xs[prev]) * ahead);
+            out[1] = (int) Math.round(ys[newest] + (ys[newest] - ys[prev]) * ahead);
+            return true;
+        }
+        // renderTime 을 감싸는 두 스냅샷 (새 것부터 찾음, 보통 끝 근처)
+        for (int n = size - 2; n >= 0; n--) {
+            int from = index(n);
+            if (times[from] <= renderTime) {
+                int to = index(n + 1);
+                double t = (renderTime - times[from]) / (times[to] - times[from]);
+                out[0] = (int) Math.round(xs[from] + (xs[to] - xs[from]) * t);
+                out[1] = (int) Math.round(ys[from] + (ys[to] - ys[from]) * t);
+                return true;
+            }
+        }
+        // 가장 오래된 스냅샷보다 이전
+        out[0] = xs[head];
+        out[1] = ys[head];
+        return true;
+    }
+
+    private int index(int n) {
+        return (head + n) % CAPACITY;
+    }
+}
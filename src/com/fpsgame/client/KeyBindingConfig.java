@@ -1,5 +1,6 @@
 package com.fpsgame.client;
 
+import com.fpsgame.common.Log;
 import java.awt.event.KeyEvent;
 import java.io.*;
 import java.util.HashMap;
@@ -91,15 +92,14 @@ public class KeyBindingConfig {
                     try {
                         keyBindings.put(key, Integer.parseInt(value));
                     } catch (NumberFormatException e) {
-                        System.err.println("[KeyBindingConfig] Invalid key binding for " + key + ": " + value);
+                        Log.warn("[KeyBindingConfig] Invalid key binding for " + key + ": " + value);
                     }
                 }
             }
 
-            System.out.println("[KeyBindingConfig] 키 바인딩 로드 완료");
+            Log.info("[KeyBindingConfig] 키 바인딩 로드 완료");
         } catch (IOException e) {
-            System.err.println("[KeyBindingConfig] 키 바인딩 로드 실패: " + e.getMessage());
-            e.printStackTrace(System.err);
+            Log.error("[KeyBindingConfig] 키 바인딩 로드 실패: " + e.getMessage(), e);
         }
     }
 
@@ -119,10 +119,9 @@ public class KeyBindingConfig {
 
         try (FileOutputStream fos = new FileOutputStream(CONFIG_FILE)) {
             props.store(fos, "FPS Game Key Bindings Configuration");
-            System.out.println("[KeyBindingConfig] 키 바인딩 저장 완료");
+            Log.info("[KeyBindingConfig] 키 바인딩 저장 완료");
         } catch (IOException e) {
-            System.err.println("[KeyBindingConfig] 키 바인딩 저장 실패: " + e.getMessage());
-            e.printStackTrace(System.err);
+            Log.error("[KeyBindingConfig] 키 바인딩 저장 실패: " + e.getMessage(), e);
         }
     }
 
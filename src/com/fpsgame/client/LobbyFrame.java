@@ -1,10 +1,15 @@
 package com.fpsgame.client;
 
+import com.fpsgame.common.BinaryCodec;
+import com.fpsgame.common.FrameCodec;
 import com.fpsgame.common.GameConstants;
+import com.fpsgame.common.Log;
+import com.fpsgame.common.Protocol;
 import java.awt.*;
 import java.awt.event.*;
 import java.io.*;
 import java.net.Socket;
+import java.nio.ByteBuffer;
 import javax.swing.*;
 import javax.swing.border.*;
 
@@ -189,6 +194,15 @@ public class LobbyFrame extends JFrame {
     
     /** 로비 수신 스레드 */
     private Thread lobbyThread;
+    
+    /** 서버와 협상된 기능 (FEATURES 응답) */
+    private volatile int serverFeatures = 0;
+    
+    /** 서버 틱 레이트 (TICK_RATE 응답, 0 = 모름) */
+    private volatile int serverTickRate = 0;
+    
+    /** 바이너리 메시지용 플레이어 번호 -> 이름 (게임 화면으로 넘겨줌) */
+    private final com.fpsgame.common.PlayerIdTable playerIds = new com.fpsgame.common.PlayerIdTable();
 
     // 팀 로스터 (서버로부터 받아 업데이트)
     /** 플레이어별 팀 맵 (이름 -> 팀 번호) */
@@ -219,7 +233,7 @@ public class LobbyFrame extends JFrame {
         String savedChar = GameConfig.loadCharacter();
         if (savedChar != null && !savedChar.isEmpty()) {
             selectedCharacterId = savedChar;
-            System.out.println("[Lobby] Loaded saved character: " + selectedCharacterId);
+            Log.info("[Lobby] Loaded saved character: " + selectedCharacterId);
         }
     }
 
@@ -832,7 +846,7 @@ public class LobbyFrame extends JFrame {
 
             // 플레이어 이름과 캐릭터 ID 전송
             String charId = (selectedCharacterId != null && !selectedCharacterId.isEmpty()) ? selectedCharacterId : "raven";
-            out.writeUTF("JOIN:" + playerName + ":" + charId);
+            out.writeUTF("JOIN:" + playerName + ":" + charId + ":" + Protocol.SUPPORTED_FEATURES);
             out.flush();
 
             // 서버 메시지 수신 스레드 시작 (로비 단계에서만 동작)
@@ -880,16 +894,33 @@ public class LobbyFrame extends JFrame {
             if (socket != null)
                 socket.close();
         } catch (IOException ex) {
-            ex.printStackTrace();
+            Log.error("[LOBBY] 연결 종료 실패", ex);
         }
     }
 
     private void receiveMessages() {
         // 로비 단계에서만 서버 메시지(채팅 등)를 폴링 방식으로 받아와 충돌을 방지
         try {
+            ByteBuffer payload = null;
             while (lobbyListening) {
                 if (in != null && in.available() > 0) {
-                    String message = in.readUTF();
+                    payload = FrameCodec.readFrame(in, payload);
+                    if (BinaryCodec.isBinary(payload))
+                        continue; // 로비에서는 바이너리(위치/스탯) 메시지를 쓰지 않음
+                    String message = FrameCodec.decode(payload, payload.remaining());
+                    // 협상/매핑 정보는 EDT를 거치지 않고 바로 반영 (게임 화면 전환 전에 필요)
+                    if (message.startsWith("FEATURES:")) {
+                        serverFeatures = Integer.parseInt(message.substring("FEATURES:".length()).trim());
+                        continue;
+                    }
+                    if (message.startsWith("TICK_RATE:")) {
+                        serverTickRate = Integer.parseInt(message.substring("TICK_RATE:".length()).trim());
+                        continue;
+                    }
+                    if (message.startsWith("ID_MAP:")) {
+                        playerIds.put(message.substring("ID_MAP:".length()));
+                        continue;
+                    }
                     final String msg = message;
                     SwingUtilities.invokeLater(() -> handleLobbyMessage(msg));
                 } else {
@@ -1027,7 +1058,9 @@ public class LobbyFrame extends JFrame {
         appendChat("게임을 시작합니다...");
         appendChat("선택된 캐릭터: " + selectedCharacterId);
         SwingUtilities.invokeLater(() -> {
-            GamePanel gamePanel = new GamePanel(playerName, selectedTeam, socket, out, in, selectedCharacterId);
+            GamePanel gamePanel = new GamePanel(playerName, selectedTeam, socket, out, in, selectedCharacterId,
+                    serverFeatures, playerIds);
+            gamePanel.setServerTickRate(serverTickRate);
             gamePanel.setVisible(true);
             dispose();
         });
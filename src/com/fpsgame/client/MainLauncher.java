@@ -1,5 +1,6 @@
 package com.fpsgame.client;
 
+import com.fpsgame.common.Log;
 import java.awt.*;
 import javax.swing.*;
 
@@ -140,8 +141,7 @@ public class MainLauncher extends JFrame {
         try {
             javax.swing.UIManager.setLookAndFeel(javax.swing.UIManager.getSystemLookAndFeelClassName());
         } catch (Exception e) {
-            System.err.println("[MainLauncher] Failed to set Look and Feel");
-            e.printStackTrace(System.err);
+            Log.error("[MainLauncher] Failed to set Look and Feel", e);
         }
 
         // 런처 창 표시
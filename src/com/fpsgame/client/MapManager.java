@@ -1,12 +1,12 @@
 package com.fpsgame.client;
 
+import com.fpsgame.common.GameConstants;
+import com.fpsgame.common.MapGrid;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.*;
 import java.util.*;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import javax.imageio.ImageIO;
 
 /**
@@ -237,121 +237,40 @@ public class MapManager {
         return sb.toString();
     }
     
-    private void parseMapJson(String json) {
-        // meta.map_pixel_size 파싱
-        Pattern pMW = Pattern.compile("\"map_pixel_size\"\\s*:\\s*\\{[^}]*\"w\"\\s*:\\s*(\\d+)");
-        Pattern pMH = Pattern.compile("\"map_pixel_size\"\\s*:\\s*\\{[^}]*\"h\"\\s*:\\s*(\\d+)");
-        Pattern pTS = Pattern.compile("\"tile_size\"\\s*:\\s*(\\d+)");
-        
-        Matcher mwMatch = pMW.matcher(json);
-        Matcher mhMatch = pMH.matcher(json);
-        Matcher tsMatch = pTS.matcher(json);
-        
-        int mw = mapWidth;
-        int mh = mapHeight;
-        int ts = TILE_SIZE;
-        
-        if (mwMatch.find()) mw = Integer.parseInt(mwMatch.group(1));
-        if (mhMatch.find()) mh = Integer.parseInt(mhMatch.group(1));
-        if (tsMatch.find()) ts = Integer.parseInt(tsMatch.group(1));
-        
-        mapWidth = mw;
-        mapHeight = mh;
-        
-        gridCols = Math.max(1, mapWidth / ts);
-        gridRows = Math.max(1, mapHeight / ts);
+    /**
+     * 맵 JSON 을 공용 MapGrid 로 파싱 (서버와 같은 판정)
+     */
+    void parseMapJson(String json) {
+        MapGrid grid = MapGrid.parse(currentMapName, json);
+        mapWidth = grid.getWidth();
+        mapHeight = grid.getHeight();
+        gridCols = grid.getCols();
+        gridRows = grid.getRows();
         walkableGrid = new boolean[gridRows][gridCols];
         
-        // obstacles 파싱
         obstacles.clear();
-        Pattern pObs = Pattern.compile("\"obstacles\"\\s*:\\s*\\[([^\\]]+)\\]");
-        Matcher obsMatch = pObs.matcher(json);
-        if (obsMatch.find()) {
-            String obsArr = obsMatch.group(1);
-            Pattern pXY = Pattern.compile("\\{\\s*\"x\"\\s*:\\s*(\\d+)\\s*,\\s*\"y\"\\s*:\\s*(\\d+)\\s*\\}");
-            Matcher xyMatch = pXY.matcher(obsArr);
-            while (xyMatch.find()) {
-                int tx = Integer.parseInt(xyMatch.group(1));
-                int ty = Integer.parseInt(xyMatch.group(2));
-                obstacles.add(new Rectangle(tx * ts, ty * ts, ts, ts));
-            }
-        }
-        
-        // walkableGrid 초기화
+        int ts = grid.getTileSize();
         for (int r = 0; r < gridRows; r++) {
             for (int c = 0; c < gridCols; c++) {
-                walkableGrid[r][c] = true;
+                boolean blocked = grid.isBlockedTile(c, r);
+                walkableGrid[r][c] = !blocked;
+                if (blocked) obstacles.add(new Rectangle(c * ts, r * ts, ts, ts));
             }
         }
         
-        // 장애물 타일을 unwalkable로 설정
-        for (Rectangle obs : obstacles) {
-            int col = obs.x / ts;
-            int row = obs.y / ts;
-            if (row >= 0 && row < gridRows && col >= 0 && col < gridCols) {
-                walkableGrid[row][col] = false;
-            }
-        }
-        
-        // 스폰 구역 파싱
+        // 스폰 구역
         redSpawnTiles.clear();
         blueSpawnTiles.clear();
-        redSpawnZone = extractSpawnZone(json, "red", redSpawnTiles);
-        blueSpawnZone = extractSpawnZone(json, "blue", blueSpawnTiles);
-    }
-    
-    private List<int[]> extractTileList(String json, String key) {
-        List<int[]> result = new ArrayList<>();
-        Pattern p = Pattern.compile("\"" + key + "\"\\s*:\\s*\\[([^\\]]+)\\]");
-        Matcher m = p.matcher(json);
-        if (m.find()) {
-            String arr = m.group(1);
-            Pattern pXY = Pattern.compile("\\{\\s*\"x\"\\s*:\\s*(\\d+)\\s*,\\s*\"y\"\\s*:\\s*(\\d+)\\s*\\}");
-            Matcher xyMatch = pXY.matcher(arr);
-            while (xyMatch.find()) {
-                int x = Integer.parseInt(xyMatch.group(1));
-                int y = Integer.parseInt(xyMatch.group(2));
-                result.add(new int[]{x, y});
-            }
-        }
-        return result;
+        redSpawnTiles.addAll(grid.getSpawnTiles(GameConstants.TEAM_RED));
+        blueSpawnTiles.addAll(grid.getSpawnTiles(GameConstants.TEAM_BLUE));
+        redSpawnZone = toSpawnRect(grid.getSpawnZone(GameConstants.TEAM_RED));
+        blueSpawnZone = toSpawnRect(grid.getSpawnZone(GameConstants.TEAM_BLUE));
     }
     
-    private Rectangle extractSpawnZone(String json, String teamKey, List<int[]> tileStore) {
-        Pattern pSpawn = Pattern.compile("\"" + teamKey + "\"\\s*:\\s*\\{([^}]+)\\}");
-        Matcher spawnMatch = pSpawn.matcher(json);
-        if (!spawnMatch.find()) return null;
-        
-        String spawnBlock = spawnMatch.group(1);
-        Pattern pTiles = Pattern.compile("\"tiles\"\\s*:\\s*\\[([^\\]]+)\\]");
-        Matcher tilesMatch = pTiles.matcher(spawnBlock);
-        if (!tilesMatch.find()) return null;
-        
-        String tilesArr = tilesMatch.group(1);
-        Pattern pXY = Pattern.compile("\\{\\s*\"x\"\\s*:\\s*(\\d+)\\s*,\\s*\"y\"\\s*:\\s*(\\d+)\\s*\\}");
-        Matcher xyMatch = pXY.matcher(tilesArr);
-        
-        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
-        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
-        
-        while (xyMatch.find()) {
-            int x = Integer.parseInt(xyMatch.group(1));
-            int y = Integer.parseInt(xyMatch.group(2));
-            tileStore.add(new int[]{x, y});
-            minX = Math.min(minX, x);
-            minY = Math.min(minY, y);
-            maxX = Math.max(maxX, x);
-            maxY = Math.max(maxY, y);
-        }
-        
-        if (tileStore.isEmpty()) return null;
-        
-        int x = minX * TILE_SIZE;
-        int y = minY * TILE_SIZE;
-        int w = (maxX - minX + 1) * TILE_SIZE;
-        int h = (maxY - minY + 1) * TILE_SIZE;
-        
-        return new Rectangle(x, y, w, h);
+    private Rectangle toSpawnRect(int[] zone) {
+        if (zone == null) return null;
+        return new Rectangle(zone[0] * TILE_SIZE, zone[1] * TILE_SIZE,
+            (zone[2] - zone[0] + 1) * TILE_SIZE, (zone[3] - zone[1] + 1) * TILE_SIZE);
     }
     
     // ==================== 맵 순환 ====================
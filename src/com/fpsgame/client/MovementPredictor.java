@@ -0,0 +1,156 @@
+package com.fpsgame.client;
+
+/**
+ * 로컬 이동 예측 / 서버 보정 (Protocol.FEATURE_INPUT_SEQ)
+ *
+ * <p>클라이언트는 키 입력으로 바로 움직이고(예측), 움직인 프레임마다 순번을 붙여 위치를 보냅니다.
+ * 이 클래스는 보낸 프레임의 입력(이동 비트, 속도, 대쉬 같은 추가 이동)과 예측 위치를 순번과 함께 기록해 두고,
+ * 서버가 틱에서 검증한 위치를 MOVE_ACK 로 돌려주면 그 순번의 예측과 비교합니다.</p>
+ *
+ * <p>어긋났으면 서버 위치에서 출발해 아직 확인받지 않은 입력을 PlayerMovementController 로 다시 적용한 위치로 옮깁니다.
+ * 확인받지 않은 입력이 그대로 남으므로 서버 응답이 늦거나 드물어도(낮은 틱 레이트 / 갱신 주기) 입력 지연이 보이지 않고,
+ * 서버가 벽 / 속도 검증으로 위치를 바꾼 경우에만 화면 위치가 보정됩니다.</p>
+ *
+ * <p>ACK 처리(ClientEventQueue)와 보정 모두 EDT 게임 루프에서 하므로 잠그지 않습니다.
+ * 리스폰 / 맵 전환처럼 순간이동한 경우 reset 으로 그 전 순번의 ACK 를 무시합니다.</p>
+ */
+public class MovementPredictor {
+
+    /**
+     * 입력 한 프레임 재적용 (키 이동 → 스폰 구역 제한 → 추가 이동)
+     */
+    @FunctionalInterface
+    public interface Stepper {
+        void step(PlayerMovementController.PlayerPosition pos, int moveMask, int speed, int extraX, int extraY);
+    }
+
+    // 미확인 입력 최대 개수 (60 FPS 기준 약 4초, 넘으면 오래된 것부터 버림)
+    private static final int HISTORY = 256;
+    // 이 거리(px) 이하 차이는 좌표 양자화 / 정수 반올림 오차로 보고 보정하지 않음
+    private static final float TOLERANCE = 1.5f;
+
+
+    // 순번 순서의 원형 버퍼
+    private final int[] seqs = new int[HISTORY];
+    private final int[] masks = new int[HISTORY];
+    private final int[] speeds = new int[HISTORY];
+    private final int[] extraXs = new int[HISTORY];
+    private final int[] extraYs = new int[HISTORY];
+    private final int[] predictedXs = new int[HISTORY];
+    private final int[] predictedYs = new int[HISTORY];
+    private int head = 0; // 가장 오래된 항목
+    private int size = 0;
+
+    private int nextSeq = 0;
+    private int firstValidSeq = 0; // 마지막 reset 이후 첫 순번
+
+    // 아직 반영하지 않은 최신 ACK
+    private boolean ackPending = false;
+    private int ackSeq;
+    private float ackX, ackY;
+
+    private long corrections = 0;
+
+    /**
+     * 이번 프레임 입력과 예측 결과 기록 (위치를 보내기 직전, 게임 루프)
+     *
+     * @param extraX 키 이동 이후 같은 프레임에 더해진 이동 (대쉬 등)
+     * @return 위치 메시지에 붙일 순번
+     */
+    public int record(int moveMask, int speed, int extraX, int extraY, int x, int y) {
+        if (size == HISTORY) {
+            head = (head + 1) % HISTORY;
+            size--;
+        }
+        int i = (head + size) % HISTORY;
+        int seq = nextSeq++;
+        seqs[i] = seq;
+        masks[i] = moveMask;
+        speeds[i] = speed;
+        extraXs[i] = extraX;
+        extraYs[i] = extraY;
+        predictedXs[i] = x;
+        predictedYs[i] = y;
+        size++;
+        return seq;
+    }
+
+    /**
+     * 순간이동 (리스폰, 맵 전환): 이력을 비우고 그 전 순번의 ACK 는 무시
+     */
+    public void reset() {
+        head = 0;
+        size = 0;
+        firstValidSeq = nextSeq;
+        ackPending = false;
+    }
+
+    /**
+     * 서버 ACK 수신 (수신 메시지 처리, 최신 것만 보관)
+     */
+    public void onAck(int seq, float x, float y) {
+        if (seq < firstValidSeq || (ackPending && seq <= ackSeq))
+            return;
+        ackPending = true;
+        ackSeq = seq;
+        ackX = x;
+        ackY = y;
+    }
+
+    /**
+     * 받은 ACK 반영 (게임 루프, 이동 계산 전에 호출)
+     *
+     * @param pos 현재 위치, 보정되면 새 위치로 바뀜
+     * @return 위치를 보정했으면 true
+     */
+    public boolean reconcile(PlayerMovementController.PlayerPosition pos, Stepper stepper) {
+        if (!ackPending)
+            return false;
+        ackPending = false;
+        // 확인된 순번까지 제거
+        boolean found = false;
+        int predictedX = 0, predictedY = 0;
+        while (size > 0 && seqs[head] <= ackSeq) {
+            if (seqs[head] == ackSeq) {
+                found = true;
+                predictedX = predictedXs[head];
+                predictedY = predictedYs[head];
+            }
+            head = (head + 1) % HISTORY;
+            size--;
+        }
+        if (!found)
+            return false; // 이력에서 밀려난 순번
+        float dx = ackX - predictedX, dy = ackY - predictedY;
+        if (dx * dx + dy * dy <= TOLERANCE * TOLERANCE)
+            return false;
+
+        // 서버 위치에서 미확인 입력 재적용
+        corrections++;
+        PlayerMovementController.PlayerPosition replay = new PlayerMovementController.PlayerPosition(
+                Math.round(ackX), Math.round(ackY));
+        for (int n = 0; n < size; n++) {
+            int i = (head + n) % HISTORY;
+            stepper.step(replay, masks[i], speeds[i], extraXs[i], extraYs[i]);
+            predictedXs[i] = replay.x;
+            predictedYs[i] = replay.y;
+        }
+        pos.x = replay.x;
+        pos.y = replay.y;
+        return true;
+    }
+
+    /**
+     * 서버 확인을 기다리는 입력 수
+     */
+    public int getPendingCount() {
+        return size;
+    }
+
+    /**
+     * 지금까지 서버 위치로 보정한 횟수
+     */
+    public long getCorrectionCount() {
+        return corrections;
+    }
+}
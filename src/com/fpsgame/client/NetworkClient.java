@@ -1,7 +1,16 @@
 package com.fpsgame.client;
 
+import com.fpsgame.common.BinaryCodec;
+import com.fpsgame.common.FrameCodec;
+import com.fpsgame.common.Log;
+import com.fpsgame.common.Protocol;
 import java.io.*;
 import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 /**
@@ -12,7 +21,14 @@ import java.util.function.Consumer;
  * - 소켓 연결 관리 (생성/종료)
  * - 메시지 송신 (sendMessage 계열 메서드)
  * - 메시지 수신 스레드 관리
- * - 수신된 메시지를 콜백으로 전달
+ * - 수신된 메시지를 콜백으로 전달 (텍스트 / 바이너리 분리)
+ * - 서버와 협상된 기능에 따라 POS/SHOOT 바이너리 인코딩
+ * - 송신 큐 / 전용 송신 스레드 (호출 스레드는 소켓 쓰기를 기다리지 않음)
+ * 
+ * 송신:
+ * - 위치(POS)는 최신 값 하나만 보관하고 (이전 값은 덮어씀) 송신 스레드가 positionSendRate 주기로 보냄
+ * - 그 외 메시지는 순서대로 큐에 쌓고, 송신 스레드가 쌓인 것을 한 번의 write / flush 로 보냄
+ * - 게임 루프 스레드(flush 를 호출하는 스레드)에서 보낸 메시지는 프레임 끝 flush() 때 한꺼번에 보냄
  * 
  * 비책임 (GamePanel이 처리):
  * - 프로토콜 파싱 (CHAT:, PLAYER:, SHOOT: 등)
@@ -25,15 +41,57 @@ public class NetworkClient {
     private final DataOutputStream out;
     private final DataInputStream in;
     private Thread receiveThread;
+    private final Thread sendThread;
     private volatile boolean running = false;
+    private volatile boolean closed = false;
+    
+    // 송신 큐에 쌓아 둘 최대 프레임 수 (넘으면 서버가 못 받는 상태로 보고 연결을 끊음, 위치는 큐 밖에서 최신 값만 유지)
+    private static final int MAX_QUEUED_FRAMES = 1024;
+    // 깨우는 신호가 없어도 큐를 확인하는 주기 (게임 루프가 멈춘 뒤 보낸 메시지 등)
+    private static final long IDLE_WAIT_MS = 50;
+    // 종료 시 남은 메시지를 보낼 때까지 기다리는 최대 시간
+    private static final long CLOSE_DRAIN_MS = 200;
+    
+    // 송신 상태 (sendLock 안에서만 접근)
+    private final ReentrantLock sendLock = new ReentrantLock();
+    private final Condition sendReady = sendLock.newCondition();
+    private final ArrayDeque<byte[]> sendQueue = new ArrayDeque<>();
+    private boolean sendSignalled = false;
+    private boolean positionPending = false;
+    private int pendingX, pendingY, pendingDirection, pendingSeq = -1; // pendingSeq < 0 = 순번 없음
+    private long positionIntervalNanos = TimeUnit.SECONDS.toNanos(1) / GameConfig.DEFAULT_POSITION_SEND_RATE;
+    private long nextPositionNanos = 0;
+    private long droppedFrames = 0;
+    
+    // 프레임 끝에 flush() 를 호출하는 게임 루프 스레드 (이 스레드의 메시지는 flush 때까지 모아 둠)
+    private volatile Thread frameThread;
     
     // 메시지 처리 콜백
     private Consumer<String> onMessageReceived;
+    private Consumer<ByteBuffer> onBinaryReceived;
+    
+    // 서버와 협상된 기능 (Protocol.FEATURE_*)
+    private volatile int features = 0;
     
     public NetworkClient(Socket socket, DataOutputStream out, DataInputStream in) {
         this.socket = socket;
         this.out = out;
         this.in = in;
+        this.sendThread = new Thread(this::sendLoop, "NetworkSendThread");
+        this.sendThread.setDaemon(true);
+        this.sendThread.start();
+    }
+    
+    /**
+     * 위치 전송 주기 설정 (Hz, 그 사이에 들어온 위치는 최신 값만 보냄)
+     */
+    public void setPositionSendRate(int hz) {
+        sendLock.lock();
+        try {
+            positionIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, hz);
+        } finally {
+            sendLock.unlock();
+        }
     }
     
     /**
@@ -43,6 +101,38 @@ public class NetworkClient {
         this.onMessageReceived = callback;
     }
     
+    /**
+     * 바이너리 메시지 수신 콜백 등록 (버퍼는 콜백 안에서만 유효)
+     */
+    public void setOnBinaryReceived(Consumer<ByteBuffer> callback) {
+        this.onBinaryReceived = callback;
+    }
+    
+    /**
+     * 서버가 FEATURES 로 응답한 기능 설정
+     */
+    public void setFeatures(int features) {
+        this.features = features;
+    }
+    
+    private boolean binaryEnabled() {
+        return (features & Protocol.FEATURE_BINARY) != 0;
+    }
+    
+    /**
+     * 위치 입력에 순번을 붙이고 서버 MOVE_ACK 로 예측을 보정하는지
+     */
+    public boolean inputSeqEnabled() {
+        return (features & Protocol.FEATURE_INPUT_SEQ) != 0;
+    }
+    
+    /**
+     * 서버가 미사일 피격을 판정하는지 (true 면 HIT / HITME 를 보내지 않음)
+     */
+    public boolean serverHitsEnabled() {
+        return (features & Protocol.FEATURE_SERVER_HITS) != 0;
+    }
+    
     /**
      * 메시지 수신 스레드 시작
      */
@@ -56,48 +146,134 @@ public class NetworkClient {
     }
     
     /**
-     * 네트워크 연결 종료
+     * 네트워크 연결 종료 (큐에 남은 메시지는 CLOSE_DRAIN_MS 안에서 보내고 닫음)
      */
     public void stop() {
         running = false;
         if (receiveThread != null) {
             receiveThread.interrupt();
         }
+        sendLock.lock();
+        try {
+            closed = true;
+            sendSignalled = true;
+            sendReady.signal();
+        } finally {
+            sendLock.unlock();
+        }
+        if (Thread.currentThread() != sendThread) {
+            try {
+                sendThread.join(CLOSE_DRAIN_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
         try {
             if (socket != null && !socket.isClosed()) {
                 socket.close();
             }
         } catch (IOException e) {
-            System.err.println("소켓 종료 중 오류: " + e.getMessage());
+            Log.warn("소켓 종료 중 오류: " + e.getMessage());
         }
     }
     
     /**
-     * 서버로 메시지 전송
+     * 서버로 메시지 전송 (송신 큐에 넣고 바로 반환)
      */
-    public synchronized void sendMessage(String message) {
+    public void sendMessage(String message) {
         if (out == null) return;
         
         try {
-            out.writeUTF(message);
-            out.flush();
-        } catch (IOException e) {
-            System.err.println("메시지 전송 실패: " + e.getMessage());
+            sendFrame(FrameCodec.encode(message));
+        } catch (UTFDataFormatException e) {
+            Log.warn("메시지 전송 실패: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 인코딩된 프레임 전송 (BinaryCodec, 송신 큐에 넣고 바로 반환)
+     */
+    public void sendFrame(byte[] frame) {
+        if (out == null) return;
+        
+        sendLock.lock();
+        try {
+            enqueue(frame);
+        } finally {
+            sendLock.unlock();
         }
     }
     
     /**
-     * 위치 업데이트 전송
+     * 위치 업데이트 전송 (다음 전송 주기에 최신 값만 나감)
      */
     public void sendPosition(int x, int y, int direction) {
-        sendMessage("POS:" + x + "," + y + "," + direction);
+        setPendingPosition(x, y, direction, -1);
     }
     
     /**
-     * 발사 이벤트 전송
+     * 순번 붙은 위치 업데이트 전송 (FEATURE_INPUT_SEQ 가 협상되지 않았으면 순번 없이)
      */
-    public void sendShoot(int x, int y, int dx, int dy) {
-        sendMessage("SHOOT:" + x + "," + y + "," + dx + "," + dy);
+    public void sendPosition(int x, int y, int direction, int seq) {
+        setPendingPosition(x, y, direction, inputSeqEnabled() ? seq : -1);
+    }
+    
+    /**
+     * 리스폰 알림: 아직 안 나간 죽기 전 위치를 버리고 RESPAWN 을 큐에 넣음
+     * (RESPAWN 뒤에 예전 위치가 나가 서버가 순간이동으로 거부하지 않도록)
+     */
+    public void sendRespawn(int x, int y) {
+        if (out == null) return;
+        
+        try {
+            byte[] frame = FrameCodec.encode("RESPAWN:" + x + "," + y);
+            sendLock.lock();
+            try {
+                positionPending = false;
+                enqueue(frame);
+            } finally {
+                sendLock.unlock();
+            }
+        } catch (UTFDataFormatException e) {
+            Log.warn("메시지 전송 실패: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 프레임 끝 (게임 루프): 이번 프레임에 쌓인 메시지를 한 번에 보내도록 송신 스레드를 깨움
+     */
+    public void flush() {
+        frameThread = Thread.currentThread();
+        sendLock.lock();
+        try {
+            sendSignalled = true;
+            sendReady.signal();
+        } finally {
+            sendLock.unlock();
+        }
+    }
+    
+    /**
+     * 송신 큐가 넘쳐 연결을 끊으면서 버린 프레임 수
+     */
+    public long getDroppedFrames() {
+        sendLock.lock();
+        try {
+            return droppedFrames;
+        } finally {
+            sendLock.unlock();
+        }
+    }
+    
+    /**
+     * 발사 이벤트 전송 (dx, dy: 미사일 속도)
+     */
+    public void sendShoot(float x, float y, float dx, float dy) {
+        if (binaryEnabled()) {
+            sendFrame(BinaryCodec.encodeShoot(x, y, dx, dy));
+        } else {
+            sendMessage("SHOOT:" + x + "," + y + "," + dx + "," + dy);
+        }
     }
     
     /**
@@ -137,17 +313,151 @@ public class NetworkClient {
     
     // ========== 내부 메서드 ==========
     
+    // sendLock 을 잡은 상태에서 호출
+    private void enqueue(byte[] frame) {
+        if (closed) return;
+        if (sendQueue.size() >= MAX_QUEUED_FRAMES) {
+            // 신뢰 메시지(HIT / SKILL / CHAT ...)를 골라 버릴 수 없으므로 서버 OutboundQueue 처럼 끊긴 링크로 처리
+            dropLink();
+            return;
+        }
+        sendQueue.add(frame);
+        if (Thread.currentThread() != frameThread) {
+            sendSignalled = true;
+            sendReady.signal();
+        }
+    }
+    
+    // sendLock 을 잡은 상태에서 호출: 남은 프레임을 버리고 소켓을 닫음 (수신 스레드가 연결 끊김으로 정리)
+    private void dropLink() {
+        droppedFrames += sendQueue.size() + 1;
+        Log.warn("송신 큐가 가득 차 서버 연결을 끊습니다 (" + sendQueue.size() + " frames, 서버 응답 없음?)");
+        closed = true;
+        sendQueue.clear();
+        positionPending = false;
+        sendSignalled = true;
+        sendReady.signal();
+        try {
+            socket.close();
+        } catch (IOException e) {
+            Log.warn("소켓 종료 중 오류: " + e.getMessage());
+        }
+    }
+    
+    private void setPendingPosition(int x, int y, int direction, int seq) {
+        if (out == null) return;
+        
+        sendLock.lock();
+        try {
+            pendingX = x;
+            pendingY = y;
+            pendingDirection = direction;
+            pendingSeq = seq;
+            positionPending = true;
+            if (Thread.currentThread() != frameThread) {
+                sendSignalled = true;
+                sendReady.signal();
+            }
+        } finally {
+            sendLock.unlock();
+        }
+    }
+    
+    private byte[] encodePosition(int x, int y, int direction, int seq) throws UTFDataFormatException {
+        if (binaryEnabled()) {
+            return seq >= 0 ? BinaryCodec.encodePosition(x, y, direction, seq)
+                    : BinaryCodec.encodePosition(x, y, direction);
+        }
+        return FrameCodec.encode("POS:" + x + "," + y + "," + direction + (seq >= 0 ? "," + seq : ""));
+    }
+    
+    /**
+     * 송신 스레드: 깨어날 때마다 쌓인 메시지와 (주기가 됐으면) 최신 위치를 한 번의 write / flush 로 보냄
+     */
+    private void sendLoop() {
+        ArrayDeque<byte[]> batch = new ArrayDeque<>();
+        ByteArrayOutputStream buf = new ByteArrayOutputStream(4096);
+        try {
+            while (true) {
+                boolean sendPosition = false;
+                int x = 0, y = 0, direction = 0, seq = -1;
+                boolean done;
+                sendLock.lock();
+                try {
+                    while (!closed && !sendSignalled) {
+                        long waitNanos = TimeUnit.MILLISECONDS.toNanos(IDLE_WAIT_MS);
+                        if (positionPending) {
+                            waitNanos = Math.min(waitNanos, nextPositionNanos - System.nanoTime());
+                            if (waitNanos <= 0) break;
+                        }
+                        if (sendReady.awaitNanos(waitNanos) <= 0) break;
+                    }
+                    sendSignalled = false;
+                    batch.addAll(sendQueue);
+                    sendQueue.clear();
+                    long now = System.nanoTime();
+                    if (positionPending && (closed || now - nextPositionNanos >= 0)) {
+                        sendPosition = true;
+                        positionPending = false;
+                        x = pendingX;
+                        y = pendingY;
+                        direction = pendingDirection;
+                        seq = pendingSeq;
+                        nextPositionNanos = now + positionIntervalNanos;
+                    }
+                    done = closed;
+                } finally {
+                    sendLock.unlock();
+                }
+                
+                buf.reset();
+                for (byte[] frame : batch) {
+                    buf.write(frame, 0, frame.length);
+                }
+                batch.clear();
+                if (sendPosition) {
+                    byte[] frame = encodePosition(x, y, direction, seq);
+                    buf.write(frame, 0, frame.length);
+                }
+                if (buf.size() > 0 && !socket.isClosed()) {
+                    buf.writeTo(out);
+                    out.flush();
+                }
+                if (done) return;
+            }
+        } catch (IOException e) {
+            if (running) {
+                Log.warn("메시지 전송 실패: " + e.getMessage());
+            }
+        } catch (InterruptedException e) {
+            // 종료
+        }
+        // 더 이상 보낼 수 없음 - 이후 메시지는 큐에 쌓지 않음
+        sendLock.lock();
+        try {
+            closed = true;
+            sendQueue.clear();
+        } finally {
+            sendLock.unlock();
+        }
+    }
+    
     private void receiveGameUpdates() {
         try {
-            String message;
-            while (running && (message = in.readUTF()) != null) {
-                if (onMessageReceived != null) {
-                    onMessageReceived.accept(message);
+            ByteBuffer payload = null;
+            while (running) {
+                payload = FrameCodec.readFrame(in, payload);
+                if (BinaryCodec.isBinary(payload)) {
+                    if (onBinaryReceived != null) {
+                        onBinaryReceived.accept(payload);
+                    }
+                } else if (onMessageReceived != null) {
+                    onMessageReceived.accept(FrameCodec.decode(payload, payload.remaining()));
                 }
             }
         } catch (IOException ex) {
             if (running) {
-                System.out.println("서버와의 연결이 끊어졌습니다.");
+                Log.info("서버와의 연결이 끊어졌습니다.");
             }
         }
     }
@@ -1,5 +1,6 @@
 package com.fpsgame.client;
 
+import com.fpsgame.common.Log;
 import java.awt.*;
 import java.awt.event.*;
 import java.util.HashMap;
@@ -258,9 +259,9 @@ public class OptionDialog extends JDialog {
         KeyBindingConfig.saveBindings();
 
         // TODO: 사운드 및 마우스 감도 저장
-        System.out.println("[OptionDialog] 설정 저장됨:");
-        System.out.println("  사운드: " + soundSlider.getValue());
-        System.out.println("  마우스 감도: " + mouseSlider.getValue());
+        Log.info("[OptionDialog] 설정 저장됨:");
+        Log.info("  사운드: " + soundSlider.getValue());
+        Log.info("  마우스 감도: " + mouseSlider.getValue());
 
         JOptionPane.showMessageDialog(this,
                 "설정이 저장되었습니다.",
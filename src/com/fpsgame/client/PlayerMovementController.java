@@ -35,6 +35,12 @@ import com.fpsgame.common.GameConstants;
  */
 public class PlayerMovementController {
     
+    // 이동 입력 비트 (입력 이력 / 예측 재적용용)
+    public static final int MOVE_UP = 1;
+    public static final int MOVE_DOWN = 2;
+    public static final int MOVE_LEFT = 4;
+    public static final int MOVE_RIGHT = 8;
+    
     private final int SPEED;
     private final CollisionManager collisionManager;
     
@@ -68,16 +74,43 @@ public class PlayerMovementController {
      * @return 위치가 변경되었으면 true, 그대로면 false
      */
     public boolean updatePlayerPosition(int currentX, int currentY, boolean[] keys, PlayerPosition outPosition) {
+        return updatePlayerPosition(currentX, currentY, moveMask(keys), SPEED, outPosition);
+    }
+    
+    /**
+     * 키 입력 배열을 이동 입력 비트로 변환
+     */
+    public static int moveMask(boolean[] keys) {
+        int mask = 0;
+        if (keys['W'] || keys['w']) mask |= MOVE_UP;
+        if (keys['S'] || keys['s']) mask |= MOVE_DOWN;
+        if (keys['A'] || keys['a']) mask |= MOVE_LEFT;
+        if (keys['D'] || keys['d']) mask |= MOVE_RIGHT;
+        return mask;
+    }
+    
+    /**
+     * 플레이어 위치 업데이트 (이동 입력 비트 + 이번 프레임 속도)
+     * 
+     * <p>버프로 바뀐 속도나 서버 보정 뒤 미확인 입력 재적용처럼
+     * 생성 때의 속도와 다른 속도로 한 프레임을 계산할 때 사용합니다.</p>
+     * 
+     * @param moveMask MOVE_UP / MOVE_DOWN / MOVE_LEFT / MOVE_RIGHT 조합
+     * @param speed 이번 프레임 이동량 (px)
+     * @return 위치가 변경되었으면 true, 그대로면 false
+     */
+    public boolean updatePlayerPosition(int currentX, int currentY, int moveMask, int speed,
+            PlayerPosition outPosition) {
         int oldX = currentX;
         int oldY = currentY;
         int newX = currentX;
         int newY = currentY;
         
         // 키 입력에 따른 이동
-        if (keys['W'] || keys['w']) newY -= SPEED;
-        if (keys['S'] || keys['s']) newY += SPEED;
-        if (keys['A'] || keys['a']) newX -= SPEED;
-        if (keys['D'] || keys['d']) newX += SPEED;
+        if ((moveMask & MOVE_UP) != 0) newY -= speed;
+        if ((moveMask & MOVE_DOWN) != 0) newY += speed;
+        if ((moveMask & MOVE_LEFT) != 0) newX -= speed;
+        if ((moveMask & MOVE_RIGHT) != 0) newX += speed;
         
         // 맵 경계 체크
         newX = Math.max(0, Math.min(newX, mapWidth));
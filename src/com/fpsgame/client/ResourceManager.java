@@ -1,5 +1,6 @@
 package com.fpsgame.client;
 
+import com.fpsgame.common.Log;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
@@ -62,8 +63,7 @@ public class ResourceManager {
             images.put(path, img);
             return img;
         } catch (IOException e) {
-            System.err.println("[ResourceManager] Failed to load image: " + path);
-            e.printStackTrace(System.err);
+            Log.error("[ResourceManager] Failed to load image: " + path, e);
             return null;
         }
     }
@@ -0,0 +1,67 @@
+package com.fpsgame.client;
+
+/**
+ * 서버 시각 추정 (원격 플레이어 보간 기준)
+ *
+ * <p>서버 틱 번호가 붙은 메시지(GAME_STATE, WORLD_DELTA)는 틱 × 틱 주기를 서버 시각으로 쓰고,
+ * 도착 시각과의 차이(오프셋)를 추적해 지금의 서버 시각을 추정합니다.
+ * 오프셋은 가장 빨리 도착한 표본 쪽으로 바로 줄이고 늦게 도착한 표본 쪽으로는 천천히 늘려
+ * 몰려 도착하는 TCP 지연이 시계를 흔들지 않게 합니다.</p>
+ *
+ * <p>서버가 TICK_RATE 를 알려주지 않았거나 틱이 없는 메시지(PLAYER)는 도착 시각(now)을 그대로 씁니다.</p>
+ *
+ * <p>onTick 은 메시지를 처리하는 한 스레드(EDT)에서만, now 는 어느 스레드에서나 호출합니다.
+ * 메시지를 큐에 넣었다 꺼내 처리하므로 도착 시각은 수신 스레드가 기록한 값을 넘겨받습니다.</p>
+ */
+public class ServerClock {
+
+    // 늦게 도착한 표본 쪽으로 오프셋을 옮기는 비율 (시계 드리프트 / 서버 틱 지연 추종)
+    private static final double OFFSET_RISE = 0.02;
+
+    private volatile int tickRate = 0;
+    private volatile double offsetMs = 0; // 로컬 시각 - 서버 시각
+    private boolean synced = false; // EDT 전용 (onTick)
+
+    /**
+     * 서버 틱 레이트 설정 (TICK_RATE 응답, 0 = 모름)
+     */
+    public void setTickRate(int tickRate) {
+        this.tickRate = Math.max(0, tickRate);
+    }
+
+    /**
+     * 틱 번호가 붙은 메시지 수신
+     *
+     * @param receivedAt 메시지를 받은 로컬 시각 (localMillis 기준)
+     * @return 그 틱의 서버 시각 (ms), 틱 레이트를 모르면 도착 시각
+     */
+    public double onTick(int tick, double receivedAt) {
+        int rate = tickRate;
+        double local = receivedAt;
+        if (rate <= 0)
+            return local - offsetMs;
+        double server = tick * 1000.0 / rate;
+        double sample = local - server;
+        if (!synced || sample < offsetMs) {
+            offsetMs = sample;
+            synced = true;
+        } else {
+            offsetMs += (sample - offsetMs) * OFFSET_RISE;
+        }
+        return server;
+    }
+
+    /**
+     * 현재 서버 시각 추정값 (ms)
+     */
+    public double now() {
+        return localMillis() - offsetMs;
+    }
+
+    /**
+     * 로컬 단조 시각 (ms)
+     */
+    public static double localMillis() {
+        return System.nanoTime() / 1_000_000.0;
+    }
+}
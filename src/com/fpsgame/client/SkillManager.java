@@ -110,12 +110,11 @@ public class SkillManager {
     // ==================== 업데이트 로직 ====================
     
     /**
-     * 쿨다운 업데이트 (프레임마다 호출)
+     * 쿨다운 업데이트 (시뮬레이션 step 마다 호출, deltaTime 초)
      */
-    public void updateAbilities() {
+    public void updateAbilities(float deltaTime) {
         if (abilities == null) return;
         
-        float deltaTime = 0.016f; // ~60 FPS
         for (Ability ability : abilities) {
             if (ability != null) {
                 ability.update(deltaTime);
@@ -126,9 +125,7 @@ public class SkillManager {
     /**
      * 이펙트 타이머 업데이트 및 만료 제거
      */
-    public void updateEffects() {
-        float deltaTime = 0.016f;
-        
+    public void updateEffects(float deltaTime) {
         // 내 이펙트 업데이트
         myEffects.removeIf(eff -> {
             eff.remaining -= deltaTime;
@@ -151,9 +148,7 @@ public class SkillManager {
     /**
      * Raven 전용 런타임 처리
      */
-    public void updateRavenRuntime() {
-        float deltaTime = 0.016f;
-        
+    public void updateRavenRuntime(float deltaTime) {
         if (ravenDashRemaining > 0) {
             ravenDashRemaining -= deltaTime;
             if (ravenDashRemaining <= 0) {
@@ -173,9 +168,7 @@ public class SkillManager {
     /**
      * Piper 전용 런타임 처리
      */
-    public void updatePiperRuntime() {
-        float deltaTime = 0.016f;
-        
+    public void updatePiperRuntime(float deltaTime) {
         if (piperMarkRemaining > 0) {
             piperMarkRemaining -= deltaTime;
             if (piperMarkRemaining <= 0) {
@@ -194,9 +187,7 @@ public class SkillManager {
     /**
      * 팀 Piper 런타임 처리
      */
-    public void updateTeamPiperRuntime() {
-        float deltaTime = 0.016f;
-        
+    public void updateTeamPiperRuntime(float deltaTime) {
         if (teamMarkRemaining > 0) {
             teamMarkRemaining -= deltaTime;
             if (teamMarkRemaining <= 0) {
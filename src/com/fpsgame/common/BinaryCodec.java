@@ -0,0 +1,257 @@
+package com.fpsgame.common;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 고빈도 메시지용 바이너리 코덱
+ *
+ * POS / PLAYER / SHOOT / STATS 처럼 초당 수십 번 오가는 메시지를
+ * 문자열 연결·split 대신 고정 레이아웃으로 인코딩합니다.
+ * JOIN 시 Protocol.FEATURE_BINARY 가 협상된 연결에서만 사용하며, 나머지는 기존 텍스트 그대로입니다.
+ *
+ * 프레임 형식 (FrameCodec 과 같은 2바이트 길이 헤더 사용):
+ * - [길이 2][MARKER 0x00][타입 1][본문]
+ * - 텍스트 프레임(modified UTF-8)은 0x00 바이트를 포함할 수 없으므로 첫 바이트로 구분됩니다.
+ *
+ * 본문 레이아웃 (big-endian):
+ * - POSITION      (C→S) x:u16 y:u16 dir:u8 [seq:s32 (FEATURE_INPUT_SEQ)]
+ * - PLAYER_UPDATE (S→C) id:u16 x:u16 y:u16 team:u8 hp:s16 dir:u8 char:u8
+ * - PLAYER_SHOOT  (C→S) sx:u16 sy:u16 dx:s16 dy:s16
+ * - PLAYER_SHOOT  (S→C) id:u16 sx:u16 sy:u16 dx:s16 dy:s16
+ * - PLAYER_STATS  (S→C) id:u16 kills:u16 deaths:u16 hp:s16 char:u8
+ * - GAME_STATE    (S→C) tick:u32 count:u8 { id:u16 x:u16 y:u16 team:u8 hp:s16 dir:u8 char:u8 } × count
+ * - WORLD_DELTA   (S→C) DeltaCodec 참고
+ * - SNAPSHOT_ACK  (C→S) tick:s32
+ * - MOVE_ACK      (S→C) seq:s32 x:u16 y:u16
+ *
+ * 좌표는 1/COORD_SCALE 픽셀 단위, 미사일 속도는 1/VELOCITY_SCALE 단위로 양자화합니다.
+ * 캐릭터는 CharacterData.CHARACTERS 인덱스로 보냅니다.
+ */
+public final class BinaryCodec {
+
+    /** 바이너리 프레임 표시 바이트 */
+    public static final byte MARKER = 0;
+
+    /** 좌표 양자화 배율 (1/8 픽셀, 최대 8191px) */
+    public static final int COORD_SCALE = 8;
+
+    /** 미사일 속도 양자화 배율 (최대 ±127) */
+    public static final int VELOCITY_SCALE = 256;
+
+    /** 스냅샷 한 개에 담을 수 있는 최대 플레이어 수 */
+    public static final int MAX_SNAPSHOT_PLAYERS = 255;
+
+    private static final int TYPE_HEADER = 2; // MARKER + 타입
+    private static final int SNAPSHOT_PLAYER_SIZE = 11;
+
+    /**
+     * 인스턴스 생성 방지
+     */
+    private BinaryCodec() {
+        throw new AssertionError("Cannot instantiate BinaryCodec");
+    }
+
+    /**
+     * 본문(길이 헤더 제외)이 바이너리 메시지인지 확인 (position 변경 없음)
+     */
+    public static boolean isBinary(ByteBuffer payload) {
+        return payload.remaining() >= TYPE_HEADER && payload.get(payload.position()) == MARKER;
+    }
+
+    /**
+     * MARKER 를 건너뛰고 메시지 타입을 읽음 (이후 position은 본문 시작)
+     */
+    public static byte readType(ByteBuffer payload) {
+        payload.get();
+        return payload.get();
+    }
+
+    // ===== 인코딩 (길이 헤더 포함 프레임 반환) =====
+
+    public static byte[] encodePosition(float x, float y, int direction) {
+        ByteBuffer buf = frame(Protocol.POSITION, 5);
+        putCoord(buf, x);
+        putCoord(buf, y);
+        buf.put((byte) direction);
+        return buf.array();
+    }
+
+    /**
+     * 순번 붙은 위치 입력 (FEATURE_INPUT_SEQ)
+     */
+    public static byte[] encodePosition(float x, float y, int direction, int seq) {
+        ByteBuffer buf = frame(Protocol.POSITION, 9);
+        putCoord(buf, x);
+        putCoord(buf, y);
+        buf.put((byte) direction);
+        buf.putInt(seq);
+        return buf.array();
+    }
+
+    public static byte[] encodeMoveAck(int seq, float x, float y) {
+        ByteBuffer buf = frame(Protocol.MOVE_ACK, 8);
+        buf.putInt(seq);
+        putCoord(buf, x);
+        putCoord(buf, y);
+        return buf.array();
+    }
+
+    public static byte[] encodePlayerUpdate(int id, float x, float y, int team, int hp, int direction,
+            String characterId) {
+        ByteBuffer buf = frame(Protocol.PLAYER_UPDATE, 11);
+        buf.putShort((short) id);
+        putCoord(buf, x);
+        putCoord(buf, y);
+        buf.put((byte) team);
+        buf.putShort((short) hp);
+        buf.put((byte) direction);
+        buf.put((byte) characterIndex(characterId));
+        return buf.array();
+    }
+
+    /**
+     * 클라이언트 → 서버 발사
+     */
+    public static byte[] encodeShoot(float sx, float sy, float dx, float dy) {
+        ByteBuffer buf = frame(Protocol.PLAYER_SHOOT, 8);
+        putShot(buf, sx, sy, dx, dy);
+        return buf.array();
+    }
+
+    /**
+     * 서버 → 클라이언트 발사 (발사자 id 포함)
+     */
+    public static byte[] encodeShoot(int id, float sx, float sy, float dx, float dy) {
+        ByteBuffer buf = frame(Protocol.PLAYER_SHOOT, 10);
+        buf.putShort((short) id);
+        putShot(buf, sx, sy, dx, dy);
+        return buf.array();
+    }
+
+    public static byte[] encodeStats(int id, int kills, int deaths, int hp, String characterId) {
+        ByteBuffer buf = frame(Protocol.PLAYER_STATS, 9);
+        buf.putShort((short) id);
+        buf.putShort((short) kills);
+        buf.putShort((short) deaths);
+        buf.putShort((short) hp);
+        buf.put((byte) characterIndex(characterId));
+        return buf.array();
+    }
+
+    /**
+     * 월드 스냅샷 프레임 시작 (이어서 putSnapshotPlayer를 count번 호출)
+     */
+    public static ByteBuffer beginSnapshot(int tick, int count) {
+        ByteBuffer buf = frame(Protocol.GAME_STATE, 5 + count * SNAPSHOT_PLAYER_SIZE);
+        buf.putInt(tick);
+        buf.put((byte) count);
+        return buf;
+    }
+
+    public static void putSnapshotPlayer(ByteBuffer buf, int id, float x, float y, int team, int hp, int direction,
+            String characterId) {
+        buf.putShort((short) id);
+        putCoord(buf, x);
+        putCoord(buf, y);
+        buf.put((byte) team);
+        buf.putShort((short) hp);
+        buf.put((byte) direction);
+        buf.put((byte) characterIndex(characterId));
+    }
+
+    public static byte[] encodeAck(int tick) {
+        ByteBuffer buf = frame(Protocol.SNAPSHOT_ACK, 4);
+        buf.putInt(tick);
+        return buf.array();
+    }
+
+    // ===== 디코딩 (본문 순서대로 호출) =====
+
+    public static int readId(ByteBuffer buf) {
+        return buf.getShort() & 0xFFFF;
+    }
+
+    public static float readCoord(ByteBuffer buf) {
+        return (buf.getShort() & 0xFFFF) / (float) COORD_SCALE;
+    }
+
+    public static float readVelocity(ByteBuffer buf) {
+        return buf.getShort() / (float) VELOCITY_SCALE;
+    }
+
+    public static int readUnsignedByte(ByteBuffer buf) {
+        return buf.get() & 0xFF;
+    }
+
+    public static int readUnsignedShort(ByteBuffer buf) {
+        return buf.getShort() & 0xFFFF;
+    }
+
+    public static int readInt(ByteBuffer buf) {
+        return buf.getInt();
+    }
+
+    public static int readShort(ByteBuffer buf) {
+        return buf.getShort();
+    }
+
+    public static String readCharacterId(ByteBuffer buf) {
+        return characterId(buf.get() & 0xFF);
+    }
+
+    public static String characterId(int index) {
+        CharacterData[] all = CharacterData.CHARACTERS;
+        return all[index >= 0 && index < all.length ? index : 0].id;
+    }
+
+    // ===== 내부 =====
+
+    private static ByteBuffer frame(byte type, int bodyLength) {
+        int payloadLength = TYPE_HEADER + bodyLength;
+        ByteBuffer buf = ByteBuffer.wrap(new byte[FrameCodec.HEADER_SIZE + payloadLength]);
+        buf.putShort((short) payloadLength);
+        buf.put(MARKER);
+        buf.put(type);
+        return buf;
+    }
+
+    private static void putShot(ByteBuffer buf, float sx, float sy, float dx, float dy) {
+        putCoord(buf, sx);
+        putCoord(buf, sy);
+        buf.putShort(clampShort(Math.round(dx * VELOCITY_SCALE)));
+        buf.putShort(clampShort(Math.round(dy * VELOCITY_SCALE)));
+    }
+
+    private static void putCoord(ByteBuffer buf, float v) {
+        buf.putShort((short) quantizeCoord(v));
+    }
+
+    /**
+     * 좌표 → 양자화 값 (0 ~ 0xFFFF)
+     */
+    public static int quantizeCoord(float v) {
+        return Math.max(0, Math.min(0xFFFF, Math.round(v * COORD_SCALE)));
+    }
+
+    public static float dequantizeCoord(int q) {
+        return q / (float) COORD_SCALE;
+    }
+
+    private static short clampShort(int v) {
+        return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, v));
+    }
+
+    /**
+     * 캐릭터 ID → CharacterData.CHARACTERS 인덱스 (없으면 0)
+     */
+    public static int characterIndex(String characterId) {
+        CharacterData[] all = CharacterData.CHARACTERS;
+        if (characterId != null) {
+            for (int i = 0; i < all.length; i++) {
+                if (all[i].id.equalsIgnoreCase(characterId))
+                    return i;
+            }
+        }
+        return 0; // 기본값: Raven
+    }
+}
@@ -0,0 +1,174 @@
+package com.fpsgame.common;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 델타 스냅샷 코덱 (Protocol.WORLD_DELTA)
+ *
+ * 클라이언트가 마지막으로 ACK 한 WorldState(기준)와 현재 상태를 비교해
+ * 바뀐 엔티티의 바뀐 필드만 변경 마스크와 함께 보냅니다.
+ * 기준이 없으면(입장 직후, 기준 유실) 빈 상태와 비교한 전체 스냅샷이 됩니다.
+ *
+ * 본문 레이아웃 (BinaryCodec 프레임 헤더 뒤, big-endian):
+ * - tick:s32 baseTick:s32 (-1 = 전체)
+ * - 플레이어 변경 count:u16 { id:u16 mask:u16 필드... } 삭제 count:u16 { id:u16 }
+ * - 오브젝트 변경 count:u16 { id:u16 mask:u16 필드... } 삭제 count:u16 { id:u16 }
+ *
+ * 필드는 mask 비트 순서대로 1 또는 2바이트로 씁니다. (PLAYER_WIDTHS / OBJECT_WIDTHS)
+ */
+public final class DeltaCodec {
+
+    /** 서버가 보관하는 스냅샷 이력 (이보다 오래된 ACK 는 기준으로 쓰지 않음) */
+    public static final int SERVER_HISTORY = 32;
+
+    /** 클라이언트가 보관하는 복원 상태 수 (서버 이력보다 커야 기준이 덮어써지지 않음) */
+    public static final int CLIENT_HISTORY = 64;
+
+    /** 전체 스냅샷 표시 */
+    public static final int NO_BASE = -1;
+
+    // 필드별 바이트 수 (1 = u8, 2 = 16bit)
+    private static final int[] PLAYER_WIDTHS = { 2, 2, 1, 2, 1, 1, 2, 2, 1 };
+    private static final int[] OBJECT_WIDTHS = { 1, 2, 2, 2, 2, 2, 1 };
+    // 음수가 가능한 16bit 필드 (hp)
+    private static final int SIGNED_PLAYER_FIELDS = 1 << WorldState.P_HP;
+    private static final int SIGNED_OBJECT_FIELDS = (1 << WorldState.O_HP) | (1 << WorldState.O_MAX_HP);
+
+    /**
+     * 인스턴스 생성 방지
+     */
+    private DeltaCodec() {
+        throw new AssertionError("Cannot instantiate DeltaCodec");
+    }
+
+    /**
+     * 기준 대비 델타 프레임 인코딩
+     *
+     * @param base 클라이언트가 가진 기준 상태 (null = 전체 스냅샷)
+     * @param current 현재 상태
+     * @param scratch 인코딩용 작업 버퍼 (FrameCodec 최대 프레임 크기 이상, 틱 스레드에서 재사용)
+     * @param sendIfEmpty false면 바뀐 것이 없을 때 null 반환
+     * @return 길이 헤더 포함 프레임, 또는 null
+     */
+    public static byte[] encode(WorldState base, WorldState current, ByteBuffer scratch, boolean sendIfEmpty) {
+        scratch.clear();
+        scratch.putShort((short) 0); // 길이 (마지막에 채움)
+        scratch.put(BinaryCodec.MARKER);
+        scratch.put(Protocol.WORLD_DELTA);
+        scratch.putInt(current.tick);
+        scratch.putInt(base != null ? base.tick : NO_BASE);
+
+        int changes = encodeTable(base != null ? base.players() : null, current.players(), PLAYER_WIDTHS, scratch);
+        changes += encodeTable(base != null ? base.objects() : null, current.objects(), OBJECT_WIDTHS, scratch);
+        if (changes == 0 && base != null && !sendIfEmpty)
+            return null;
+
+        scratch.putShort(0, (short) (scratch.position() - FrameCodec.HEADER_SIZE));
+        return Arrays.copyOf(scratch.array(), scratch.position());
+    }
+
+    /**
+     * 본문 앞부분의 틱 번호 (position 변경 없음, readType 이후 위치 기준)
+     */
+    public static int peekTick(ByteBuffer payload) {
+        return payload.getInt(payload.position());
+    }
+
+    public static int peekBaseTick(ByteBuffer payload) {
+        return payload.getInt(payload.position() + 4);
+    }
+
+    /**
+     * 델타를 기준 상태에 적용해 out 에 복원
+     *
+     * 복원 후 out 의 changedMask / removedId 로 무엇이 바뀌었는지 알 수 있습니다.
+     *
+     * @param payload readType 이후 위치의 본문
+     * @param base peekBaseTick 에 해당하는 상태 (전체 스냅샷이면 null)
+     * @param out 결과 (base 와 다른 객체)
+     */
+    public static void decode(ByteBuffer payload, WorldState base, WorldState out) {
+        int tick = payload.getInt();
+        payload.getInt(); // baseTick
+        if (base != null) {
+            out.copyFrom(base);
+            out.tick = tick;
+        } else {
+            out.clear(tick);
+        }
+        decodeTable(payload, out.players(), PLAYER_WIDTHS, SIGNED_PLAYER_FIELDS);
+        decodeTable(payload, out.objects(), OBJECT_WIDTHS, SIGNED_OBJECT_FIELDS);
+    }
+
+    // ===== 내부 =====
+
+    private static int encodeTable(WorldState.Table base, WorldState.Table cur, int[] widths, ByteBuffer out) {
+        int countPos = out.position();
+        out.putShort((short) 0);
+        int changed = 0;
+        for (int i = 0; i < cur.size(); i++) {
+            int id = cur.id(i);
+            int b = base != null ? base.indexOf(id) : -1;
+            int mask = 0;
+            for (int f = 0; f < widths.length; f++) {
+                if (b < 0 || base.get(b, f) != cur.get(i, f))
+                    mask |= 1 << f;
+            }
+            if (mask == 0)
+                continue;
+            out.putShort((short) id);
+            out.putShort((short) mask);
+            for (int f = 0; f < widths.length; f++) {
+                if ((mask & (1 << f)) == 0)
+                    continue;
+                if (widths[f] == 1)
+                    out.put((byte) cur.get(i, f));
+                else
+                    out.putShort((short) cur.get(i, f));
+            }
+            changed++;
+        }
+        out.putShort(countPos, (short) changed);
+
+        int removedPos = out.position();
+        out.putShort((short) 0);
+        int removed = 0;
+        if (base != null) {
+            for (int i = 0; i < base.size(); i++) {
+                if (cur.indexOf(base.id(i)) < 0) {
+                    out.putShort((short) base.id(i));
+                    removed++;
+                }
+            }
+        }
+        out.putShort(removedPos, (short) removed);
+        return changed + removed;
+    }
+
+    private static void decodeTable(ByteBuffer in, WorldState.Table table, int[] widths, int signedFields) {
+        int changed = in.getShort() & 0xFFFF;
+        for (int n = 0; n < changed; n++) {
+            int id = in.getShort() & 0xFFFF;
+            int mask = in.getShort() & 0xFFFF;
+            int idx = table.put(id);
+            for (int f = 0; f < widths.length; f++) {
+                if ((mask & (1 << f)) == 0)
+                    continue;
+                int v;
+                if (widths[f] == 1)
+                    v = in.get() & 0xFF;
+                else if ((signedFields & (1 << f)) != 0)
+                    v = in.getShort();
+                else
+                    v = in.getShort() & 0xFFFF;
+                table.set(idx, f, v);
+            }
+            table.markChanged(idx, mask);
+        }
+        int removed = in.getShort() & 0xFFFF;
+        for (int n = 0; n < removed; n++) {
+            table.remove(in.getShort() & 0xFFFF);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.fpsgame.common;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+
+/**
+ * 프레임 코덱
+ *
+ * DataOutputStream.writeUTF / DataInputStream.readUTF 와 동일한 와이어 포맷을
+ * ByteBuffer 기반으로 인코딩/디코딩합니다. (NIO 서버 등 스트림을 쓰지 않는 경로용)
+ *
+ * 프레임 형식:
+ * - 2바이트 길이 (big-endian, unsigned)
+ * - 본문 (modified UTF-8, 최대 65535바이트)
+ */
+public final class FrameCodec {
+
+    /** 길이 헤더 크기 (바이트) */
+    public static final int HEADER_SIZE = 2;
+
+    /** 본문 최대 길이 (writeUTF 제한과 동일) */
+    public static final int MAX_PAYLOAD_LENGTH = 0xFFFF;
+
+    /**
+     * 인스턴스 생성 방지
+     */
+    private FrameCodec() {
+        throw new AssertionError("Cannot instantiate FrameCodec");
+    }
+
+    /**
+     * 문자열의 modified UTF-8 인코딩 길이 계산
+     *
+     * @param s 인코딩할 문자열
+     * @return 본문 바이트 수 (헤더 제외)
+     */
+    public static int encodedLength(String s) {
+        int len = 0;
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                len += 1;
+            } else if (c <= 0x07FF) {
+                len += 2;
+            } else {
+                len += 3;
+            }
+        }
+        return len;
+    }
+
+    /**
+     * 문자열을 길이 헤더가 포함된 프레임 바이트 배열로 인코딩
+     *
+     * @param s 인코딩할 문자열
+     * @return [길이 2바이트][본문] 형태의 배열
+     * @throws UTFDataFormatException 본문이 65535바이트를 넘는 경우
+     */
+    public static byte[] encode(String s) throws UTFDataFormatException {
+        int len = encodedLength(s);
+        if (len > MAX_PAYLOAD_LENGTH) {
+            throw new UTFDataFormatException("encoded string too long: " + len + " bytes");
+        }
+        byte[] frame = new byte[HEADER_SIZE + len];
+        frame[0] = (byte) (len >>> 8);
+        frame[1] = (byte) len;
+        int pos = HEADER_SIZE;
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                frame[pos++] = (byte) c;
+            } else if (c <= 0x07FF) {
+                frame[pos++] = (byte) (0xC0 | ((c >> 6) & 0x1F));
+                frame[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else {
+                frame[pos++] = (byte) (0xE0 | ((c >> 12) & 0x0F));
+                frame[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                frame[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return frame;
+    }
+
+    /**
+     * 버퍼에 완전한 프레임이 들어있다면 본문 길이를 반환
+     *
+     * 버퍼의 position은 변경하지 않습니다.
+     *
+     * @param buf 읽기 모드(flip 된) 버퍼
+     * @return 본문 길이, 프레임이 아직 다 도착하지 않았으면 -1
+     */
+    public static int peekFrameLength(ByteBuffer buf) {
+        if (buf.remaining() < HEADER_SIZE) {
+            return -1;
+        }
+        int pos = buf.position();
+        int len = ((buf.get(pos) & 0xFF) << 8) | (buf.get(pos + 1) & 0xFF);
+        return buf.remaining() >= HEADER_SIZE + len ? len : -1;
+    }
+
+    /**
+     * 스트림에서 프레임 하나를 읽어 본문을 버퍼에 채움
+     *
+     * 텍스트/바이너리(BinaryCodec) 프레임을 모두 받을 수 있도록 readUTF 대신 사용합니다.
+     *
+     * @param in 입력 스트림
+     * @param buf 재사용할 버퍼 (null 이거나 작으면 새로 할당)
+     * @return 본문이 담긴 버퍼 (position 0, limit 본문 길이) - 다음 호출에 다시 넘겨 재사용
+     * @throws IOException 스트림 종료 또는 읽기 실패
+     */
+    public static ByteBuffer readFrame(DataInputStream in, ByteBuffer buf) throws IOException {
+        int len = in.readUnsignedShort();
+        if (buf == null || buf.capacity() < len) {
+            buf = ByteBuffer.allocate(Math.max(len, 256));
+        }
+        in.readFully(buf.array(), 0, len);
+        buf.clear();
+        buf.limit(len);
+        return buf;
+    }
+
+    /**
+     * 버퍼의 현재 위치에서 본문(modified UTF-8)을 디코딩
+     *
+     * 호출 후 position은 length 만큼 전진합니다.
+     *
+     * @param buf 본문 시작 위치에 있는 버퍼
+     * @param length 본문 길이
+     * @return 디코딩된 문자열
+     * @throws UTFDataFormatException 잘못된 인코딩인 경우
+     */
+    public static String decode(ByteBuffer buf, int length) throws UTFDataFormatException {
+        char[] chars = new char[length];
+        int count = 0;
+        int end = buf.position() + length;
+        while (buf.position() < end) {
+            int c = buf.get() & 0xFF;
+            switch (c >> 4) {
+                case 0, 1, 2, 3, 4, 5, 6, 7 -> chars[count++] = (char) c;
+                case 12, 13 -> {
+                    if (buf.position() + 1 > end) {
+                        throw new UTFDataFormatException("malformed input: partial character at end");
+                    }
+                    int c2 = buf.get();
+                    if ((c2 & 0xC0) != 0x80) {
+                        throw new UTFDataFormatException("malformed input around byte " + buf.position());
+                    }
+                    chars[count++] = (char) (((c & 0x1F) << 6) | (c2 & 0x3F));
+                }
+                case 14 -> {
+                    if (buf.position() + 2 > end) {
+                        throw new UTFDataFormatException("malformed input: partial character at end");
+                    }
+                    int c2 = buf.get();
+                    int c3 = buf.get();
+                    if (((c2 & 0xC0) != 0x80) || ((c3 & 0xC0) != 0x80)) {
+                        throw new UTFDataFormatException("malformed input around byte " + buf.position());
+                    }
+                    chars[count++] = (char) (((c & 0x0F) << 12) | ((c2 & 0x3F) << 6) | (c3 & 0x3F));
+                }
+                default -> throw new UTFDataFormatException("malformed input around byte " + buf.position());
+            }
+        }
+        return new String(chars, 0, count);
+    }
+}
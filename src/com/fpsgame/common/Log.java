@@ -0,0 +1,227 @@
+package com.fpsgame.common;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 로거 (서버 / 클라이언트 공용)
+ *
+ * 호출 스레드는 레벨을 확인하고 메시지를 고정 크기 링 버퍼에 넣기만 하며, 콘솔 출력은 백그라운드 writer 스레드 하나가
+ * 모아서 한 번에 합니다. 그래서 틱 스레드 / Swing 스레드가 System.out 잠금이나 콘솔 쓰기에서 멈추지 않습니다.
+ *
+ * - 레벨: DEBUG < INFO < WARN < ERROR, 기본 INFO (시스템 속성 -Dfps.log.level=DEBUG 등으로 변경)
+ * - 자주 찍히는 로그는 Supplier 로 넘겨 레벨이 꺼져 있으면 문자열을 만들지 않음
+ * - DEBUG / INFO 는 표준 출력, WARN / ERROR 는 표준 오류로 (기존 System.out / System.err 구분 유지)
+ * - 링 버퍼는 잠금 없는 다중 생산자 / 단일 소비자 구조(칸마다 순번)이며,
+ *   가득 차면 호출 스레드를 막지 않고 버린 뒤 버린 수를 다음 출력 때 알립니다.
+ * - 종료 시(shutdown hook) 남은 로그를 비웁니다.
+ */
+public final class Log {
+
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR
+    }
+
+    private static final int CAPACITY = 8192; // 2의 거듭제곱
+    private static final int MASK = CAPACITY - 1;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    // 링 버퍼 (칸 i 의 순번 = 쓸 수 있으면 pos, 읽을 수 있으면 pos + 1)
+    private static final AtomicLongArray sequences = new AtomicLongArray(CAPACITY);
+    private static final String[] messages = new String[CAPACITY];
+    private static final Level[] levels = new Level[CAPACITY];
+    private static final Throwable[] errors = new Throwable[CAPACITY];
+    private static final AtomicLong tail = new AtomicLong(); // 생산자가 다음에 차지할 위치
+    private static volatile long head = 0;                   // writer 가 다음에 읽을 위치
+    private static final AtomicLong dropped = new AtomicLong();
+
+    private static volatile Level level = parseLevel(System.getProperty("fps.log.level"), Level.INFO);
+    private static final PrintStream out = System.out;
+    private static final PrintStream err = System.err;
+    private static final Thread writer;
+    private static volatile boolean writerParked = false;
+
+    static {
+        for (int i = 0; i < CAPACITY; i++)
+            sequences.set(i, i);
+        writer = new Thread(Log::runWriter, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(1000), "log-flush"));
+    }
+
+    /**
+     * 인스턴스 생성 방지
+     */
+    private Log() {
+        throw new AssertionError("Cannot instantiate Log");
+    }
+
+    public static void setLevel(Level newLevel) {
+        level = newLevel;
+    }
+
+    public static Level getLevel() {
+        return level;
+    }
+
+    public static boolean isEnabled(Level l) {
+        return l.ordinal() >= level.ordinal();
+    }
+
+    public static boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG);
+    }
+
+    public static void debug(String message) {
+        log(Level.DEBUG, message, null);
+    }
+
+    public static void debug(Supplier<String> message) {
+        if (isEnabled(Level.DEBUG))
+            enqueue(Level.DEBUG, message.get(), null);
+    }
+
+    public static void info(String message) {
+        log(Level.INFO, message, null);
+    }
+
+    public static void info(Supplier<String> message) {
+        if (isEnabled(Level.INFO))
+            enqueue(Level.INFO, message.get(), null);
+    }
+
+    public static void warn(String message) {
+        log(Level.WARN, message, null);
+    }
+
+    public static void warn(String message, Throwable t) {
+        log(Level.WARN, message, t);
+    }
+
+    public static void error(String message) {
+        log(Level.ERROR, message, null);
+    }
+
+    public static void error(String message, Throwable t) {
+        log(Level.ERROR, message, t);
+    }
+
+    public static void log(Level l, String message, Throwable t) {
+        if (isEnabled(l))
+            enqueue(l, message, t);
+    }
+
+    /**
+     * 지금까지 넣은 로그가 모두 출력될 때까지 최대 timeoutMillis 동안 대기
+     */
+    public static void flush(long timeoutMillis) {
+        long target = tail.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (head < target && System.nanoTime() < deadline) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * 가득 찬 링 버퍼 때문에 버린 로그 수 (누적)
+     */
+    public static long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private static void enqueue(Level l, String message, Throwable t) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & MASK);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1))
+                    break;
+                pos = tail.get();
+            } else if (diff < 0) {
+                dropped.incrementAndGet(); // writer 가 한 바퀴 뒤처짐
+                return;
+            } else {
+                pos = tail.get();
+            }
+        }
+        int index = (int) (pos & MASK);
+        messages[index] = message;
+        levels[index] = l;
+        errors[index] = t;
+        sequences.set(index, pos + 1); // 발행 (위 쓰기들이 writer 에게 보이게 됨)
+        if (writerParked)
+            LockSupport.unpark(writer);
+    }
+
+    private static void runWriter() {
+        StringBuilder outBatch = new StringBuilder(4096);
+        StringBuilder errBatch = new StringBuilder(1024);
+        long reportedDrops = 0;
+        while (true) {
+            long h = head;
+            int index = (int) (h & MASK);
+            if (sequences.get(index) != h + 1) {
+                writerParked = true;
+                if (sequences.get(index) != h + 1)
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                writerParked = false;
+                continue;
+            }
+            // 지금 쌓인 만큼 한 번에 모아 출력
+            while (sequences.get(index) == h + 1) {
+                String message = messages[index];
+                Level l = levels[index];
+                Throwable t = errors[index];
+                messages[index] = null;
+                errors[index] = null;
+                sequences.set(index, h + CAPACITY);
+                h++;
+                index = (int) (h & MASK);
+
+                if (l.ordinal() >= Level.WARN.ordinal()) {
+                    errBatch.append(message).append(System.lineSeparator());
+                    if (t != null) {
+                        flushBatch(err, errBatch);
+                        t.printStackTrace(err);
+                    }
+                } else {
+                    outBatch.append(message).append(System.lineSeparator());
+                }
+            }
+            long drops = dropped.get();
+            if (drops != reportedDrops) {
+                errBatch.append("[LOG] 버퍼가 가득 차 로그 ").append(drops - reportedDrops).append("건을 버렸습니다.")
+                        .append(System.lineSeparator());
+                reportedDrops = drops;
+            }
+            flushBatch(out, outBatch);
+            flushBatch(err, errBatch);
+            head = h;
+        }
+    }
+
+    private static void flushBatch(PrintStream stream, StringBuilder batch) {
+        if (batch.length() == 0)
+            return;
+        stream.print(batch);
+        stream.flush();
+        batch.setLength(0);
+    }
+
+    private static Level parseLevel(String value, Level fallback) {
+        if (value == null)
+            return fallback;
+        try {
+            return Level.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+}
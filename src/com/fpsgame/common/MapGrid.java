@@ -0,0 +1,259 @@
+package com.fpsgame.common;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 맵 충돌 격자 (GUI 없이 사용 가능)
+ *
+ * assets/maps 의 맵 JSON(meta.map_pixel_size, meta.tile_size, roads 또는 obstacles, spawns)을 읽어
+ * 막힌 타일과 팀별 스폰 타일을 BitSet(row * cols + col)에 담습니다.
+ * roads 가 있으면 roads 만 지나갈 수 있고, 없으면 obstacles 만 막힙니다.
+ * 스폰 구역(스폰 타일을 감싸는 사각형)은 장애물이 있어도 항상 지나갈 수 있습니다.
+ * 클라이언트 MapManager 도 이 파싱 결과를 쓰므로 서버와 클라이언트의 벽 판정이 같습니다.
+ * 로드 후에는 바뀌지 않으므로 여러 스레드·라운드에서 공유해도 됩니다.
+ */
+public final class MapGrid {
+
+    private static final Pattern MAP_WIDTH = Pattern.compile("\"map_pixel_size\"\\s*:\\s*\\{[^}]*\"w\"\\s*:\\s*(\\d+)");
+    private static final Pattern MAP_HEIGHT = Pattern.compile("\"map_pixel_size\"\\s*:\\s*\\{[^}]*\"h\"\\s*:\\s*(\\d+)");
+    private static final Pattern TILE_SIZE = Pattern.compile("\"tile_size\"\\s*:\\s*(\\d+)");
+    private static final Pattern ROADS = Pattern.compile("\"roads\"\\s*:\\s*\\[([^\\]]+)\\]");
+    private static final Pattern OBSTACLES = Pattern.compile("\"obstacles\"\\s*:\\s*\\[([^\\]]+)\\]");
+    private static final Pattern TILE_XY = Pattern.compile("\\{\\s*\"x\"\\s*:\\s*(\\d+)\\s*,\\s*\"y\"\\s*:\\s*(\\d+)\\s*\\}");
+    private static final Pattern RED_SPAWN = spawnPattern("red");
+    private static final Pattern BLUE_SPAWN = spawnPattern("blue");
+
+    /** 맵 JSON 위치 */
+    public static final String MAP_DIR = "assets/maps/";
+
+    private final String name;
+    private final int width, height;
+    private final int tileSize;
+    private final int cols, rows;
+    private final BitSet blocked;
+    private final BitSet redSpawn, blueSpawn;
+    private final int[] redZone, blueZone; // 스폰 구역 타일 사각형 {col0, row0, col1, row1} (없으면 null)
+
+    private MapGrid(String name, int width, int height, int tileSize, BitSet blocked, BitSet redSpawn,
+            BitSet blueSpawn) {
+        this.name = name;
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+        this.cols = Math.max(1, width / tileSize);
+        this.rows = Math.max(1, height / tileSize);
+        this.blocked = blocked;
+        this.redSpawn = redSpawn;
+        this.blueSpawn = blueSpawn;
+        this.redZone = zoneOf(redSpawn);
+        this.blueZone = zoneOf(blueSpawn);
+        // 스폰 구역은 장애물이 있어도 지나갈 수 있음 (GamePanel.ensureSpawnZonesWalkable)
+        clearZone(redZone);
+        clearZone(blueZone);
+    }
+
+    private int[] zoneOf(BitSet spawn) {
+        if (spawn.isEmpty())
+            return null;
+        int[] zone = { Integer.MAX_VALUE, Integer.MAX_VALUE, -1, -1 };
+        for (int i = spawn.nextSetBit(0); i >= 0; i = spawn.nextSetBit(i + 1)) {
+            int col = i % cols, row = i / cols;
+            zone[0] = Math.min(zone[0], col);
+            zone[1] = Math.min(zone[1], row);
+            zone[2] = Math.max(zone[2], col);
+            zone[3] = Math.max(zone[3], row);
+        }
+        return zone;
+    }
+
+    private void clearZone(int[] zone) {
+        if (zone == null)
+            return;
+        for (int row = zone[1]; row <= zone[3]; row++)
+            blocked.clear(row * cols + zone[0], row * cols + zone[2] + 1);
+    }
+
+    private static Pattern spawnPattern(String team) {
+        return Pattern.compile("\"" + team + "\"\\s*:\\s*\\{\\s*\"tiles\"\\s*:\\s*\\[([^\\]]*)\\]");
+    }
+
+    /**
+     * mapName 의 JSON 을 찾아 로드 (MapManager 와 같은 후보 순서)
+     *
+     * @return JSON 이 없으면 null
+     */
+    public static MapGrid load(String mapName) throws IOException {
+        String[] candidates = {
+            MAP_DIR + mapName + "_edited.json",
+            MAP_DIR + mapName + ".edited.json",
+            MAP_DIR + mapName + ".json"
+        };
+        for (String candidate : candidates) {
+            Path path = Paths.get(candidate);
+            if (Files.exists(path))
+                return parse(mapName, new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+        }
+        return null;
+    }
+
+    /**
+     * 맵 JSON 문자열 파싱
+     */
+    public static MapGrid parse(String mapName, String json) {
+        int width = findInt(MAP_WIDTH, json, 2400);
+        int height = findInt(MAP_HEIGHT, json, 1600);
+        int tileSize = Math.max(1, findInt(TILE_SIZE, json, 32));
+        int cols = Math.max(1, width / tileSize);
+        int rows = Math.max(1, height / tileSize);
+
+        BitSet blocked = new BitSet(cols * rows);
+        Matcher roads = ROADS.matcher(json);
+        if (roads.find()) {
+            // roads 방식: 전부 막고 roads 만 연다
+            BitSet open = new BitSet(cols * rows);
+            readTiles(roads.group(1), cols, rows, open);
+            blocked.set(0, cols * rows);
+            blocked.andNot(open);
+        } else {
+            Matcher obs = OBSTACLES.matcher(json);
+            if (obs.find())
+                readTiles(obs.group(1), cols, rows, blocked);
+        }
+
+        BitSet redSpawn = new BitSet(cols * rows);
+        BitSet blueSpawn = new BitSet(cols * rows);
+        Matcher red = RED_SPAWN.matcher(json);
+        if (red.find())
+            readTiles(red.group(1), cols, rows, redSpawn);
+        Matcher blue = BLUE_SPAWN.matcher(json);
+        if (blue.find())
+            readTiles(blue.group(1), cols, rows, blueSpawn);
+        return new MapGrid(mapName, width, height, tileSize, blocked, redSpawn, blueSpawn);
+    }
+
+    private static void readTiles(String array, int cols, int rows, BitSet out) {
+        Matcher xy = TILE_XY.matcher(array);
+        while (xy.find()) {
+            int col = Integer.parseInt(xy.group(1));
+            int row = Integer.parseInt(xy.group(2));
+            if (row >= 0 && row < rows && col >= 0 && col < cols)
+                out.set(row * cols + col);
+        }
+    }
+
+    private static int findInt(Pattern pattern, String json, int fallback) {
+        Matcher m = pattern.matcher(json);
+        return m.find() ? Integer.parseInt(m.group(1)) : fallback;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * 타일이 장애물인지 (격자 밖은 false)
+     */
+    public boolean isBlockedTile(int col, int row) {
+        return row >= 0 && row < rows && col >= 0 && col < cols && blocked.get(row * cols + col);
+    }
+
+    /**
+     * 픽셀 좌표가 맵 안인지
+     */
+    public boolean contains(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * 팀 스폰 타일 목록 ({col, row}, 정의되지 않았으면 빈 목록)
+     */
+    public List<int[]> getSpawnTiles(int team) {
+        BitSet spawn = spawnOf(team);
+        List<int[]> tiles = new ArrayList<>(spawn.cardinality());
+        for (int i = spawn.nextSetBit(0); i >= 0; i = spawn.nextSetBit(i + 1))
+            tiles.add(new int[] { i % cols, i / cols });
+        return tiles;
+    }
+
+    /**
+     * 팀 스폰 구역 타일 사각형 {col0, row0, col1, row1} (정의되지 않았으면 null)
+     */
+    public int[] getSpawnZone(int team) {
+        int[] zone = team == GameConstants.TEAM_RED ? redZone : blueZone;
+        return zone != null ? zone.clone() : null;
+    }
+
+    /**
+     * 픽셀 좌표가 팀 스폰 구역 안인지
+     */
+    public boolean isInSpawnZone(int team, int x, int y) {
+        int[] zone = team == GameConstants.TEAM_RED ? redZone : blueZone;
+        if (zone == null || x < 0 || y < 0)
+            return false;
+        int col = x / tileSize, row = y / tileSize;
+        return col >= zone[0] && col <= zone[2] && row >= zone[1] && row <= zone[3];
+    }
+
+    private BitSet spawnOf(int team) {
+        return team == GameConstants.TEAM_RED ? redSpawn : blueSpawn;
+    }
+
+    /**
+     * 픽셀 좌표의 타일이 지나갈 수 있는지 (맵 밖은 false)
+     */
+    public boolean isWalkable(int x, int y) {
+        if (x < 0 || y < 0)
+            return false;
+        int col = x / tileSize;
+        int row = y / tileSize;
+        if (row >= rows || col >= cols)
+            return false;
+        return !blocked.get(row * cols + col);
+    }
+
+    /**
+     * 미사일이 벽에 막혔는지 (CollisionManager.isMissileBlocked 와 같은 판정: 중심 타일 + 4x4 상자)
+     */
+    public boolean isMissileBlocked(int x, int y) {
+        if (!isWalkable(x, y))
+            return true;
+        int c0 = Math.floorDiv(x - 2, tileSize), c1 = Math.floorDiv(x + 1, tileSize);
+        int r0 = Math.floorDiv(y - 2, tileSize), r1 = Math.floorDiv(y + 1, tileSize);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                if (r >= 0 && r < rows && c >= 0 && c < cols && blocked.get(r * cols + c))
+                    return true;
+            }
+        }
+        return false;
+    }
+}
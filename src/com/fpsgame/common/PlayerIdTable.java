@@ -0,0 +1,57 @@
+package com.fpsgame.common;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 플레이어 번호 → 이름 표 (클라이언트)
+ *
+ * 서버는 매치 안에서 작은 번호(1부터, 나간 번호 재사용)를 나눠 주고 JOIN 때마다 ID_MAP:id,name 으로 한 번 알립니다.
+ * 바이너리 메시지는 번호만 싣고 오므로, 받을 때마다 배열 칸 하나만 읽어 이름을 찾습니다. (Integer 박싱·해시 없음)
+ * 쓰기(ID_MAP)는 드물어 복사 후 교체하고, 읽기는 잠금 없이 합니다.
+ */
+public final class PlayerIdTable {
+
+    private volatile String[] names = new String[8];
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * ID_MAP 데이터("id,name") 한 건 등록 (형식이 틀리면 무시)
+     */
+    public void put(String idMapData) {
+        String[] parts = idMapData.split(",", 2);
+        if (parts.length < 2)
+            return;
+        try {
+            put(Integer.parseInt(parts[0]), parts[1]);
+        } catch (NumberFormatException ignored) {
+        }
+    }
+
+    public void put(int id, String name) {
+        if (id < 0 || id > 0xFFFF)
+            return;
+        lock.lock();
+        try {
+            String[] current = names;
+            String[] next = Arrays.copyOf(current, Math.max(current.length, Integer.highestOneBit(id) << 1));
+            next[id] = name;
+            names = next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return 번호의 이름 (모르면 null)
+     */
+    public String get(int id) {
+        String[] current = names;
+        return id >= 0 && id < current.length ? current[id] : null;
+    }
+
+    public String getOrDefault(int id, String fallback) {
+        String name = get(id);
+        return name != null ? name : fallback;
+    }
+}
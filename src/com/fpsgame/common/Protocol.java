@@ -12,6 +12,11 @@ package com.fpsgame.common;
  * - PLAYER_SHOOT: 플레이어 발사
  * - GAME_STATE: 게임 상태 정보
  * - CHARACTER_SELECT: 캐릭터 선택
+ * - POSITION / PLAYER_STATS: 바이너리 전용 (BinaryCodec)
+ *
+ * 기능 협상:
+ * 클라이언트는 JOIN:name:charId:features 로 지원 기능 비트마스크를 보내고,
+ * 서버는 FEATURES:mask 로 실제 사용할 기능을 응답합니다. (필드가 없으면 기존 텍스트 프로토콜)
  */
 public final class Protocol {
     
@@ -42,6 +47,42 @@ public final class Protocol {
     /** 캐릭터 선택 */
     public static final byte CHARACTER_SELECT = 6;
     
+    /** 클라이언트 위치 보고 (바이너리 POS) */
+    public static final byte POSITION = 7;
+    
+    /** 플레이어 킬/데스/체력 (바이너리 STATS) */
+    public static final byte PLAYER_STATS = 8;
+    
+    /** 기준 스냅샷 대비 변경분 (DeltaCodec) */
+    public static final byte WORLD_DELTA = 9;
+    
+    /** 클라이언트가 복원한 스냅샷 틱 확인 (-1 = 기준 유실, 전체 요청) */
+    public static final byte SNAPSHOT_ACK = 10;
+    
+    /** 서버가 검증한 자기 위치와 마지막으로 반영한 위치 입력 순번 (FEATURE_INPUT_SEQ) */
+    public static final byte MOVE_ACK = 11;
+    
+    // ===== 기능 협상 비트 =====
+    
+    /** 고빈도 메시지 바이너리 인코딩 (BinaryCodec) */
+    public static final int FEATURE_BINARY = 1;
+    
+    /** 틱마다 월드 스냅샷(GAME_STATE) 수신 - PLAYER 개별 메시지 대체, FEATURE_BINARY 필요 */
+    public static final int FEATURE_SNAPSHOT = 2;
+    
+    /** GAME_STATE 대신 ACK 기준 델타 스냅샷(WORLD_DELTA) 수신, STATS/PLACE/OBJ_* 도 대체 - FEATURE_SNAPSHOT 필요 */
+    public static final int FEATURE_DELTA = 4;
+    
+    /** 서버가 미사일을 시뮬레이션해 피격을 판정 - 클라이언트는 HIT / HITME 를 보내지 않음 (서버 --server-projectiles 일 때만 승인) */
+    public static final int FEATURE_SERVER_HITS = 8;
+    
+    /** 위치 입력에 순번을 붙이고, 서버는 틱에서 반영한 마지막 순번과 검증한 위치를 MOVE_ACK 로 응답 (클라이언트 예측 보정) */
+    public static final int FEATURE_INPUT_SEQ = 16;
+    
+    /** 이 빌드가 지원하는 기능 전체 */
+    public static final int SUPPORTED_FEATURES = FEATURE_BINARY | FEATURE_SNAPSHOT | FEATURE_DELTA | FEATURE_SERVER_HITS
+            | FEATURE_INPUT_SEQ;
+    
     /**
      * 메시지 클래스
      * 
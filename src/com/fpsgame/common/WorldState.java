@@ -0,0 +1,201 @@
+package com.fpsgame.common;
+
+import java.util.Arrays;
+
+/**
+ * 한 틱 시점의 월드 상태 (델타 스냅샷의 기준/결과)
+ *
+ * 서버는 틱마다 플레이어/설치 오브젝트 상태를 정수 필드로 담아 이력으로 보관하고,
+ * 클라이언트가 마지막으로 확인(ACK)한 상태와 비교해 바뀐 필드만 보냅니다. (DeltaCodec)
+ * 클라이언트는 같은 구조로 상태를 복원하며, 복원 중 바뀐 필드 마스크와 삭제된 id를 기록합니다.
+ *
+ * 좌표는 BinaryCodec 과 같은 양자화 값(1/COORD_SCALE 픽셀)으로 저장해 비교가 정확히 일치합니다.
+ */
+public final class WorldState {
+
+    // ===== 플레이어 필드 =====
+    public static final int P_X = 0;
+    public static final int P_Y = 1;
+    public static final int P_TEAM = 2;
+    public static final int P_HP = 3;
+    public static final int P_DIR = 4;
+    public static final int P_CHAR = 5;
+    public static final int P_KILLS = 6;
+    public static final int P_DEATHS = 7;
+    public static final int P_FLAGS = 8;
+    public static final int PLAYER_FIELDS = 9;
+
+    /** P_FLAGS: 이번 라운드에 위치를 보고했음 (아직이면 좌표는 의미 없음) */
+    public static final int FLAG_POSITION_KNOWN = 1;
+
+    // ===== 설치 오브젝트 필드 =====
+    public static final int O_TYPE = 0;
+    public static final int O_X = 1;
+    public static final int O_Y = 2;
+    public static final int O_HP = 3;
+    public static final int O_MAX_HP = 4;
+    public static final int O_OWNER = 5;
+    public static final int O_TEAM = 6;
+    public static final int OBJECT_FIELDS = 7;
+
+    /** O_TYPE 인덱스 → 오브젝트 타입 이름 */
+    private static final String[] OBJECT_TYPES = { "tech_mine", "tech_turret" };
+
+    /** 이 상태의 틱 번호 (-1 = 비어 있음) */
+    public int tick = -1;
+
+    private final Table players = new Table(PLAYER_FIELDS);
+    private final Table objects = new Table(OBJECT_FIELDS);
+
+    public Table players() {
+        return players;
+    }
+
+    public Table objects() {
+        return objects;
+    }
+
+    public void clear(int tick) {
+        this.tick = tick;
+        players.clear();
+        objects.clear();
+    }
+
+    public void copyFrom(WorldState other) {
+        this.tick = other.tick;
+        players.copyFrom(other.players);
+        objects.copyFrom(other.objects);
+    }
+
+    public static int objectTypeIndex(String type) {
+        for (int i = 0; i < OBJECT_TYPES.length; i++) {
+            if (OBJECT_TYPES[i].equals(type))
+                return i;
+        }
+        return 0;
+    }
+
+    public static String objectType(int index) {
+        return OBJECT_TYPES[index >= 0 && index < OBJECT_TYPES.length ? index : 0];
+    }
+
+    /**
+     * id 오름차순으로 정렬된 엔티티 테이블 (필드는 int 배열에 평탄하게 저장)
+     */
+    public static final class Table {
+        private final int fields;
+        private int count = 0;
+        private int[] ids = new int[16];
+        private int[] values;
+        private int[] changed = new int[16];
+        private int removedCount = 0;
+        private int[] removed = new int[16];
+
+        Table(int fields) {
+            this.fields = fields;
+            this.values = new int[16 * fields];
+        }
+
+        public int size() {
+            return count;
+        }
+
+        public int id(int index) {
+            return ids[index];
+        }
+
+        public int get(int index, int field) {
+            return values[index * fields + field];
+        }
+
+        public void set(int index, int field, int value) {
+            values[index * fields + field] = value;
+        }
+
+        /**
+         * 복원 시 이 엔티티에서 바뀐 필드 비트 (1 << 필드 번호, 새 엔티티면 전체)
+         */
+        public int changedMask(int index) {
+            return changed[index];
+        }
+
+        void markChanged(int index, int mask) {
+            changed[index] |= mask;
+        }
+
+        /**
+         * 복원 시 삭제된 엔티티 수
+         */
+        public int removedCount() {
+            return removedCount;
+        }
+
+        public int removedId(int i) {
+            return removed[i];
+        }
+
+        /**
+         * id 위치 (없으면 -(삽입 위치) - 1)
+         */
+        public int indexOf(int id) {
+            return Arrays.binarySearch(ids, 0, count, id);
+        }
+
+        /**
+         * id 엔티티 위치를 찾거나 새로 삽입 (새 엔티티 필드는 0)
+         */
+        public int put(int id) {
+            int idx = indexOf(id);
+            if (idx >= 0)
+                return idx;
+            idx = -idx - 1;
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                changed = Arrays.copyOf(changed, count * 2);
+                values = Arrays.copyOf(values, count * 2 * fields);
+            }
+            System.arraycopy(ids, idx, ids, idx + 1, count - idx);
+            System.arraycopy(changed, idx, changed, idx + 1, count - idx);
+            System.arraycopy(values, idx * fields, values, (idx + 1) * fields, (count - idx) * fields);
+            ids[idx] = id;
+            changed[idx] = 0;
+            Arrays.fill(values, idx * fields, (idx + 1) * fields, 0);
+            count++;
+            return idx;
+        }
+
+        /**
+         * id 엔티티 삭제 (삭제 목록에 기록)
+         */
+        public void remove(int id) {
+            int idx = indexOf(id);
+            if (idx < 0)
+                return;
+            System.arraycopy(ids, idx + 1, ids, idx, count - idx - 1);
+            System.arraycopy(changed, idx + 1, changed, idx, count - idx - 1);
+            System.arraycopy(values, (idx + 1) * fields, values, idx * fields, (count - idx - 1) * fields);
+            count--;
+            if (removedCount == removed.length)
+                removed = Arrays.copyOf(removed, removedCount * 2);
+            removed[removedCount++] = id;
+        }
+
+        void clear() {
+            count = 0;
+            removedCount = 0;
+        }
+
+        void copyFrom(Table other) {
+            if (ids.length < other.count) {
+                ids = new int[other.ids.length];
+                changed = new int[other.ids.length];
+                values = new int[other.ids.length * fields];
+            }
+            System.arraycopy(other.ids, 0, ids, 0, other.count);
+            System.arraycopy(other.values, 0, values, 0, other.count * fields);
+            Arrays.fill(changed, 0, other.count, 0);
+            count = other.count;
+            removedCount = 0;
+        }
+    }
+}
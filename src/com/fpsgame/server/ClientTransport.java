@@ -0,0 +1,36 @@
+package com.fpsgame.server;
+
+import java.io.IOException;
+
+/**
+ * 클라이언트 연결의 송신/종료를 추상화한 인터페이스
+ *
+ * ClientHandler는 소켓 종류(블로킹 스트림 / NIO 채널)를 알 필요 없이
+ * 이 인터페이스로만 메시지를 내보냅니다.
+ * 송신은 OutboundQueue에 적재만 하고 반환하며, 실제 쓰기는 연결별 writer가 담당합니다.
+ */
+interface ClientTransport {
+
+    /**
+     * 인코딩된 프레임(FrameCodec) 한 건 적재
+     *
+     * @return false면 송신 대기열 한도 초과 (느린 클라이언트)
+     * @throws IOException 이미 닫힌 연결인 경우
+     */
+    boolean send(byte[] frame) throws IOException;
+
+    /**
+     * 연결 종료 (여러 번 호출해도 안전해야 함)
+     */
+    void close();
+
+    /**
+     * 로그 출력용 원격 주소
+     */
+    String remoteAddress();
+
+    /**
+     * 이 연결의 송신 큐 (적재량/전송량 조회용)
+     */
+    OutboundQueue queue();
+}
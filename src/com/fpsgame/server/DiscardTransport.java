@@ -0,0 +1,46 @@
+package com.fpsgame.server;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 받은 프레임을 세기만 하고 버리는 전송 계층 (벤치마크 / 매치 재생용)
+ */
+final class DiscardTransport implements ClientTransport {
+    private final OutboundQueue queue = new OutboundQueue(16, 1 << 20, new OutboundQueue.Stats());
+    private final String name;
+    private final LongAdder frames = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+
+    DiscardTransport(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public boolean send(byte[] frame) {
+        frames.increment();
+        bytes.add(frame.length);
+        return true;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String remoteAddress() {
+        return name;
+    }
+
+    @Override
+    public OutboundQueue queue() {
+        return queue;
+    }
+
+    long getFrames() {
+        return frames.sum();
+    }
+
+    long getBytes() {
+        return bytes.sum();
+    }
+}
@@ -1,218 +1,2077 @@
 package com.fpsgame.server;
 
 import com.fpsgame.common.Ability;
+import com.fpsgame.common.BinaryCodec;
 import com.fpsgame.common.CharacterData;
+import com.fpsgame.common.DeltaCodec;
+import com.fpsgame.common.FrameCodec;
 import com.fpsgame.common.GameConstants;
+import com.fpsgame.common.Log;
+import com.fpsgame.common.MapGrid;
 import com.fpsgame.common.Protocol;
+import com.fpsgame.common.WorldState;
 import java.io.*;
 import java.net.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * 간단한 게임 서버
- * 최대 4명의 플레이어 지원
+ * 매치(룸)마다 최대 4명, 한 프로세스에서 여러 매치를 동시에 진행 (실행 옵션 --max-matches)
+ *
+ * 연결 처리 모드:
+ * - 기본: 클라이언트마다 스레드 1개 (start)
+ * - 가상 스레드: 클라이언트마다 가상 스레드 1개 (startVirtual, 실행 옵션 --virtual, Java 21+)
+ * - NIO: Selector 기반 소수 I/O 스레드 (startNio, 실행 옵션 --nio)
+ *
+ * 시뮬레이션은 매치마다 고정 주기 틱으로 진행하며, 모든 매치의 틱은 크기가 정해진 틱 스레드 풀에서
+ * 나눠 실행됩니다. (기본 30Hz, 실행 옵션 --tick-rate / --tick-threads)
+ * 수신 스레드는 위치 입력을 클라이언트별로 버퍼링만 하고, 틱마다
+ * 입력 반영 → 오라/지뢰/스트라이크/터렛 처리 → 클라이언트별 스냅샷 1회 전송 순으로 진행합니다.
+ * 위치/발사 메시지는 받는 쪽 팀 시야(InterestManager) 안의 플레이어 것만 보냅니다.
+ * 라운드 맵의 충돌 격자(MapGrid, 맵별 1회 로드 후 캐시)로 위치 입력(벽/속도)과 설치·스트라이크 좌표를 검증합니다.
+ * 순번 붙은 위치 입력(FEATURE_INPUT_SEQ)은 검증 후 마지막 순번과 위치를 MOVE_ACK 로 돌려줘 클라이언트 예측(MovementPredictor)을 보정합니다.
+ * 실행 옵션 --server-projectiles 를 주면 미사일도 서버가 시뮬레이션(ProjectileSystem)해 피격을 판정하고
+ * 클라이언트의 HIT / HITME 보고는 무시합니다.
+ * 실행 옵션 --metrics-port=N 을 주면 명령별 수신량·처리 시간 등 지표(ServerMetrics)를 로컬 HTTP 로 내보냅니다.
+ * 실행 옵션 --record=DIR 을 주면 매치마다 받은 메시지와 브로드캐스트를 바이너리 로그(MatchRecorder)로 남기며,
+ * MatchReplayer 로 같은 입력을 다시 서버에 넣어 볼 수 있습니다.
  */
 public class GameServer {
 
-    private final ServerSocket serverSocket;
-    private final Map<String, ClientHandler> clients = new ConcurrentHashMap<>();
-    private boolean running = true;
+    private static final String SERVER_FULL_MESSAGE = "서버가 가득 찼습니다. 나중에 다시 시도하세요.";
 
-    // 설치형 오브젝트 (지뢰, 터렛 등)
-    private final Map<Integer, PlacedObject> placedObjects = new ConcurrentHashMap<>();
-    private final AtomicInteger nextPlacedObjectId = new AtomicInteger(1);
+    // 클라이언트별 송신 큐 한도 (초과 시 느린 클라이언트로 보고 연결 종료)
+    private static final int OUTBOUND_QUEUE_FRAMES = 1024;
+    private static final int OUTBOUND_QUEUE_MAX_BYTES = 256 * 1024;
+
+    private final ServerSocketChannel serverChannel;
+    private final int maxPlayers; // 매치당
+    private final int maxMatches;
+    private volatile boolean running = true;
+    private NioServerCore nioCore;
+    // 연결별 reader/writer 스레드 생성 (start: 플랫폼 스레드, startVirtual: 가상 스레드)
+    private volatile ThreadFactory connectionThreads = Thread::new;
+    private final OutboundQueue.Stats outboundStats = new OutboundQueue.Stats();
+    private final SendRateController.Stats sendRateStats = new SendRateController.Stats();
+
+    // 지표 (명령별 수신량/처리 시간, 브로드캐스트/틱/타이머 작업 시간) 와 조회용 HTTP 엔드포인트 (--metrics-port)
+    private final ServerMetrics metrics = new ServerMetrics();
+    private volatile MetricsEndpoint metricsEndpoint;
+
+    // 매치(룸) 목록: JOIN 때 배정, 마지막 플레이어가 나가면 제거 (변경은 matchesLock 안에서만)
+    public static final int DEFAULT_MAX_MATCHES = 32;
+    private final Map<Integer, Match> matches = new ConcurrentHashMap<>();
+    private final ReentrantLock matchesLock = new ReentrantLock();
+    private final AtomicInteger nextMatchId = new AtomicInteger(1);
+
+    // 고정 주기 시뮬레이션 틱 (모든 매치가 스레드 풀 공유, 통계는 서버 전체 합산)
+    public static final int DEFAULT_TICK_RATE = 30;
+    private static final long TICK_LOG_INTERVAL_MS = 30_000;
+    private final int tickRate;
+    private final ScheduledExecutorService tickExecutor;
+    private final TickStats tickStats;
+
+    // 서버 권위 미사일 판정 (--server-projectiles, 서버 시작 전에만 변경)
+    private volatile boolean serverProjectiles = false;
+
+    // 매치 기록 디렉터리 (--record, null 이면 기록 안 함, 서버 시작 전에만 변경)
+    private volatile Path recordDirectory;
+
+    // 맵 충돌 격자 캐시 (맵 이름 → 격자, JSON 이 없으면 empty) - 라운드/매치가 바뀌어도 다시 읽지 않음
+    private final Map<String, Optional<MapGrid>> mapGrids = new ConcurrentHashMap<>();
 
-    private final Timer turretAttackTimer;
     private static final int TURRET_RANGE = 180;
     private static final int TURRET_ATTACK_INTERVAL = 900; // ms
+    private static final int STRIKE_DELAY = 2000; // ms, 에어스트라이크 마커 → 임팩트
+    private static final int SPAWN_PROTECTION = 2000; // ms, 라운드 시작 후 피격 무시
+    private static final int NEXT_ROUND_DELAY = 3000; // ms
+    private static final int GAME_RESET_DELAY = 10000; // ms
+    private static final int TIMER_SLOTS = 512; // 타이밍 휠 칸 수 (30Hz 기준 약 17초 한 바퀴)
+    private static final int MINE_TRIGGER_RADIUS = 24; // 지뢰 밟은 판정 (지뢰 크기+캐릭터 크기)
+    private static final int STRIKE_RADIUS = 120;
+    private static final int OBJECT_CELL_SIZE = 128; // 설치 오브젝트 격자 칸 크기
+    private static final int PLAYER_CELL_SIZE = 256; // 플레이어 격자 칸 크기
+    private static final int TURRET_MISSILE_SPEED = 8; // 프레임당 px (클라이언트 handleTurretShoot 와 동일)
+    private static final int TURRET_DAMAGE = 20;
+    private static final int PROJECTILE_POOL = 64; // 매치당 미사일 배열 초기 크기
+    private static final float MAX_MOVE_PX_PER_MS = 12f / 16f; // 가장 빠른 이동 (레이븐 대쉬 프레임당 12px)
+    private static final float MOVE_SLACK = 48f; // 위치 입력 도착 간격 흔들림 여유 (px)
+    private static final long MOVE_WINDOW_MS = 500; // 이동 허용량을 쌓는 최대 시간
+    private static final int MOVE_REJECT_LOG_EVERY = 100;
+
+    /**
+     * 설치된 오브젝트 (지뢰, 터렛)
+     */
+    static class PlacedObject {
+        int id;
+        String type; // "tech_mine", "tech_turret"
+        String owner;
+        int team;
+        int x, y;
+        int hp;
+        int maxHp;
+        long createdAt;
+        TimingWheel.Timeout fireTimer; // 터렛 발사 주기 (터렛만)
+
+        PlacedObject(int id, String type, String owner, int team, int x, int y, int hp) {
+            this.id = id;
+            this.type = type;
+            this.owner = owner;
+            this.team = team;
+            this.x = x;
+            this.y = y;
+            this.hp = hp;
+            this.maxHp = hp;
+            this.createdAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 활성 오라 (gen_aura)
+     */
+    static class ActiveAura {
+        String ownerName;
+        int ownerTeam;
+        int x, y;
+        float radius;
+        long expiresAt;
+        TimingWheel.Timeout expiry;
+        Set<String> currentlyBuffed = new HashSet<>();
+
+        ActiveAura(String owner, int team, int x, int y, float radius, long expiresAt) {
+            this.ownerName = owner;
+            this.ownerTeam = team;
+            this.x = x;
+            this.y = y;
+            this.radius = radius;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 클라이언트별 최신 위치 입력 (수신 스레드 → 틱 스레드)
+     */
+    static class PendingInput {
+        private final ReentrantLock lock = new ReentrantLock();
+        private float x, y;
+        private int direction;
+        private int seq = -1;
+        private boolean present = false;
+
+        /**
+         * @param seq 입력 순번 (FEATURE_INPUT_SEQ, 없으면 -1)
+         */
+        void set(float x, float y, int direction, int seq) {
+            lock.lock();
+            try {
+                this.x = x;
+                this.y = y;
+                this.direction = direction;
+                this.seq = seq;
+                this.present = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 대기 중인 입력을 플레이어 상태에 반영
+         *
+         * @return 반영한 입력이 있었는지
+         */
+        boolean drainInto(ClientHandler ch) {
+            lock.lock();
+            try {
+                if (!present)
+                    return false;
+                present = false;
+                ch.playerInfo.x = x;
+                ch.playerInfo.y = y;
+                ch.direction = direction;
+                if (seq >= 0) {
+                    ch.inputSeq = seq;
+                    ch.moveAckPending = true;
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 클라이언트별 피격 / 사망 보고 (수신 스레드 → 틱 스레드)
+     * HIT / HITME / DEATH / HIT_OBJ 는 라운드 종료 판정으로 이어지므로 위치 입력처럼 틱에서 받은 순서대로 반영
+     */
+    static class PendingReports {
+        // 한 틱에 쌓을 수 있는 보고 수 (넘치면 버림, 정상 클라이언트는 틱당 몇 개 이하)
+        private static final int MAX_PER_TICK = 32;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private ArrayList<String> incoming = new ArrayList<>(); // 명령, 데이터 순서로 쌍을 이룸
+        private ArrayList<String> draining = new ArrayList<>();
+
+        /**
+         * @return 적재 성공 여부 (이번 틱 한도를 넘으면 false)
+         */
+        boolean add(String command, String data) {
+            lock.lock();
+            try {
+                if (incoming.size() >= MAX_PER_TICK * 2)
+                    return false;
+                incoming.add(command);
+                incoming.add(data);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 대기 중인 보고를 받은 순서대로 처리 (틱 스레드 전용)
+         */
+        void drainInto(ClientHandler ch) {
+            ArrayList<String> batch;
+            lock.lock();
+            try {
+                if (incoming.isEmpty())
+                    return;
+                batch = incoming;
+                incoming = draining;
+                draining = batch;
+            } finally {
+                lock.unlock();
+            }
+            for (int i = 0; i < batch.size(); i += 2)
+                ch.applyReport(batch.get(i), batch.get(i + 1));
+            batch.clear();
+        }
+    }
+
+    /**
+     * 예약된 에어스트라이크 (임팩트는 매치 타이밍 휠이 STRIKE_DELAY 뒤에 실행)
+     */
+    static class ScheduledStrike {
+        int id;
+        String owner;
+        int team;
+        int targetX, targetY;
+
+        ScheduledStrike(int id, String owner, int team, int targetX, int targetY) {
+            this.id = id;
+            this.owner = owner;
+            this.team = team;
+            this.targetX = targetX;
+            this.targetY = targetY;
+        }
+    }
+
+    public GameServer(int port) throws IOException {
+        this(port, GameConstants.MAX_PLAYERS);
+    }
+
+    public GameServer(int port, int maxPlayers) throws IOException {
+        this(port, maxPlayers, DEFAULT_TICK_RATE);
+    }
+
+    public GameServer(int port, int maxPlayers, int tickRate) throws IOException {
+        this(port, maxPlayers, tickRate, DEFAULT_MAX_MATCHES, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param maxPlayers 매치당 최대 플레이어 수
+     * @param maxMatches 동시에 진행할 수 있는 최대 매치 수
+     * @param tickThreads 모든 매치의 틱을 나눠 실행할 스레드 수
+     */
+    public GameServer(int port, int maxPlayers, int tickRate, int maxMatches, int tickThreads) throws IOException {
+        this.maxPlayers = maxPlayers;
+        this.maxMatches = Math.max(1, maxMatches);
+        this.tickRate = Math.max(1, tickRate);
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port));
+        Log.info("서버 시작: " + getPort());
+        Log.info("최대 플레이어 수: 매치당 " + maxPlayers + ", 최대 매치 " + this.maxMatches + "개");
+        Log.info("틱 레이트: " + this.tickRate + "Hz (틱 스레드 " + Math.max(1, tickThreads) + "개)");
+
+        // 매치 틱은 매치가 생길 때 예약 (터렛/스트라이크/오라 처리 포함)
+        long periodNanos = 1_000_000_000L / this.tickRate;
+        tickStats = new TickStats(periodNanos);
+        AtomicInteger tickThreadId = new AtomicInteger(1);
+        tickExecutor = Executors.newScheduledThreadPool(Math.max(1, tickThreads), r -> {
+            Thread t = new Thread(r, "game-tick-" + tickThreadId.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+        tickExecutor.scheduleAtFixedRate(this::logTickStats, TICK_LOG_INTERVAL_MS, TICK_LOG_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 서버 권위 미사일 판정 사용 여부 (start 전에 호출)
+     */
+    public void setServerProjectiles(boolean enabled) {
+        this.serverProjectiles = enabled;
+        if (enabled)
+            Log.info("미사일 판정: 서버 시뮬레이션 (클라이언트 HIT / HITME 무시)");
+    }
+
+    /**
+     * 매치 기록 사용 (start 전에 호출, 이후 새로 생기는 매치마다 dir 에 기록 파일 하나)
+     */
+    public void setRecordDirectory(Path dir) {
+        this.recordDirectory = dir;
+        if (dir != null)
+            Log.info("매치 기록: " + dir.toAbsolutePath());
+    }
+
+    /**
+     * 스레드-퍼-클라이언트 모드로 accept 루프 실행
+     */
+    public void start() {
+        acceptLoop(Thread::new);
+    }
+
+    /**
+     * 가상 스레드 모드로 accept 루프 실행 (연결마다 reader/writer 가 가상 스레드)
+     * 코드는 스레드-퍼-클라이언트 모드와 같고 스레드 종류만 다르며,
+     * 가상 스레드를 지원하지 않는 런타임(Java 21 미만)에서는 플랫폼 스레드로 실행합니다.
+     */
+    public void startVirtual() {
+        ThreadFactory factory = VirtualThreads.factory("client-");
+        if (factory == null) {
+            Log.info("[VTHREAD] Java " + Runtime.version().feature()
+                    + " 런타임은 가상 스레드를 지원하지 않아 플랫폼 스레드로 실행합니다.");
+            factory = Thread::new;
+        } else {
+            Log.info("[VTHREAD] 연결마다 가상 스레드로 처리");
+        }
+        acceptLoop(factory);
+    }
+
+    private void acceptLoop(ThreadFactory threads) {
+        connectionThreads = threads;
+        while (running) {
+            try {
+                Socket clientSocket = serverChannel.accept().socket();
+
+                if (getPlayerCount() >= maxPlayers * maxMatches) {
+                    DataOutputStream tmpOut = new DataOutputStream(clientSocket.getOutputStream());
+                    tmpOut.writeUTF(SERVER_FULL_MESSAGE);
+                    tmpOut.flush();
+                    clientSocket.close();
+                    continue;
+                }
+
+                ClientHandler handler = new ClientHandler(clientSocket);
+                threads.newThread(handler).start();
+            } catch (IOException e) {
+                if (running)
+                    Log.error("[ACCEPT] 연결 수락 실패", e);
+            }
+        }
+    }
+
+    /**
+     * NIO 모드로 accept 루프 실행 (ioThreads 개의 Selector 스레드가 모든 연결을 처리)
+     */
+    public void startNio(int ioThreads) throws IOException {
+        nioCore = new NioServerCore(serverChannel, ioThreads, ClientHandler::new, ch -> {
+            if (getPlayerCount() < maxPlayers * maxMatches)
+                return true;
+            try {
+                ch.write(ByteBuffer.wrap(FrameCodec.encode(SERVER_FULL_MESSAGE)));
+            } catch (IOException ignored) {
+            }
+            return false;
+        }, this::newOutboundQueue);
+        Log.info("[NIO] I/O 스레드 " + nioCore.getIoThreadCount() + "개로 연결 처리");
+        nioCore.start();
+    }
+
+    public void stop() {
+        running = false;
+        tickExecutor.shutdownNow();
+        if (metricsEndpoint != null)
+            metricsEndpoint.stop();
+        if (nioCore != null)
+            nioCore.stop();
+        try {
+            serverChannel.close();
+        } catch (IOException ignored) {
+        }
+        for (Match match : matches.values()) {
+            if (match.recorder != null)
+                match.recorder.close();
+        }
+    }
+
+    /**
+     * 지표 HTTP 엔드포인트 시작 (루프백 전용, GET /metrics)
+     *
+     * @param port 0이면 임의 포트 (getMetricsPort 로 확인)
+     */
+    public void startMetrics(int port) throws IOException {
+        MetricsEndpoint endpoint = new MetricsEndpoint(port, this::renderMetrics);
+        endpoint.start();
+        metricsEndpoint = endpoint;
+    }
+
+    /**
+     * @return 지표 엔드포인트 포트 (시작하지 않았으면 -1)
+     */
+    public int getMetricsPort() {
+        MetricsEndpoint endpoint = metricsEndpoint;
+        return endpoint != null ? endpoint.getPort() : -1;
+    }
+
+    /**
+     * Prometheus 텍스트 형식 지표 (서버 / 클라이언트별 게이지 + ServerMetrics 누적값)
+     */
+    public String renderMetrics() {
+        StringBuilder out = new StringBuilder(16 * 1024);
+        ServerMetrics.header(out, "fps_matches", "gauge", "Active matches");
+        ServerMetrics.sample(out, "fps_matches", "", matches.size());
+        ServerMetrics.header(out, "fps_players", "gauge", "Joined players");
+        ServerMetrics.sample(out, "fps_players", "", getPlayerCount());
+
+        ServerMetrics.header(out, "fps_ticks_total", "counter", "Match ticks run");
+        ServerMetrics.sample(out, "fps_ticks_total", "", tickStats.getTicks());
+        ServerMetrics.header(out, "fps_tick_overruns_total", "counter", "Ticks that exceeded the tick period");
+        ServerMetrics.sample(out, "fps_tick_overruns_total", "", tickStats.getOverruns());
+
+        ServerMetrics.header(out, "fps_outbound_bytes_total", "counter", "Bytes written to client sockets");
+        ServerMetrics.sample(out, "fps_outbound_bytes_total", "", outboundStats.getBytesFlushed());
+        ServerMetrics.header(out, "fps_outbound_frames_total", "counter", "Frames written to client sockets");
+        ServerMetrics.sample(out, "fps_outbound_frames_total", "", outboundStats.getFramesFlushed());
+        ServerMetrics.header(out, "fps_outbound_flushes_total", "counter", "Socket writes");
+        ServerMetrics.sample(out, "fps_outbound_flushes_total", "", outboundStats.getFlushes());
+        ServerMetrics.header(out, "fps_slow_client_disconnects_total", "counter", "Clients dropped for outbound queue overflow");
+        ServerMetrics.sample(out, "fps_slow_client_disconnects_total", "", outboundStats.getOverflowDisconnects());
+        ServerMetrics.header(out, "fps_send_rate_changes_total", "counter", "Position update rate changes");
+        ServerMetrics.sample(out, "fps_send_rate_changes_total", "direction=\"down\"", sendRateStats.getDegrades());
+        ServerMetrics.sample(out, "fps_send_rate_changes_total", "direction=\"up\"", sendRateStats.getRecoveries());
+        ServerMetrics.header(out, "fps_skipped_position_ticks_total", "counter", "Ticks a rate-limited client got no position update");
+        ServerMetrics.sample(out, "fps_skipped_position_ticks_total", "", sendRateStats.getSkippedTicks());
+
+        // 클라이언트별 송신량 / 적재량 / 갱신 주기
+        StringBuilder bytes = new StringBuilder(), depth = new StringBuilder(), divisor = new StringBuilder();
+        for (Match m : matches.values()) {
+            for (ClientHandler ch : m.clients.values()) {
+                if (ch.transport == null)
+                    continue;
+                OutboundQueue q = ch.transport.queue();
+                String labels = "match=\"" + m.id + "\",player=\"" + ServerMetrics.escape(ch.playerName) + "\"";
+                ServerMetrics.sample(bytes, "fps_client_outbound_bytes_total", labels, q.bytesFlushed());
+                ServerMetrics.sample(depth, "fps_client_outbound_queue_frames", labels, q.depth());
+                ServerMetrics.sample(divisor, "fps_client_position_rate_divisor", labels, ch.sendRate.divisor());
+            }
+        }
+        ServerMetrics.header(out, "fps_client_outbound_bytes_total", "counter", "Bytes written per client");
+        out.append(bytes);
+        ServerMetrics.header(out, "fps_client_outbound_queue_frames", "gauge", "Frames waiting in the client send queue");
+        out.append(depth);
+        ServerMetrics.header(out, "fps_client_position_rate_divisor", "gauge", "Position updates sent every N ticks");
+        out.append(divisor);
+
+        metrics.writeTo(out);
+        return out.toString();
+    }
+
+    /**
+     * 실제 바인딩된 포트 (생성자에 0을 넘긴 경우 임의 포트)
+     */
+    public int getPort() {
+        try {
+            return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * JOIN 완료된 플레이어 수 (모든 매치 합계)
+     */
+    public int getPlayerCount() {
+        int total = 0;
+        for (Match m : matches.values())
+            total += m.clients.size();
+        return total;
+    }
+
+    /**
+     * 진행 중인 매치(룸) 수
+     */
+    public int getMatchCount() {
+        return matches.size();
+    }
+
+    /**
+     * 열린 연결 수 (NIO 모드에서만 JOIN 전 연결까지 집계, 기본 모드는 플레이어 수)
+     */
+    public int getConnectionCount() {
+        return nioCore != null ? nioCore.getOpenConnections() : getPlayerCount();
+    }
+
+    /**
+     * 현재 모든 플레이어 송신 큐에 쌓여 있는 프레임 수 합계
+     */
+    public int getOutboundQueueDepth() {
+        int total = 0;
+        for (Match m : matches.values()) {
+            for (ClientHandler ch : m.clients.values()) {
+                if (ch.transport != null)
+                    total += ch.transport.queue().depth();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 플레이어 송신 큐 중 가장 깊었던 적재량 (프레임 수)
+     */
+    public int getPeakOutboundQueueDepth() {
+        int peak = 0;
+        for (Match m : matches.values()) {
+            for (ClientHandler ch : m.clients.values()) {
+                if (ch.transport != null)
+                    peak = Math.max(peak, ch.transport.queue().peakDepth());
+            }
+        }
+        return peak;
+    }
+
+    /**
+     * 서버 시작 이후 소켓에 실제로 쓴 바이트 수
+     */
+    public long getBytesFlushed() {
+        return outboundStats.getBytesFlushed();
+    }
+
+    /**
+     * 서버 시작 이후 socket write 호출 수 (프레임 여러 개가 한 번에 묶여 나감)
+     */
+    public long getFlushCount() {
+        return outboundStats.getFlushes();
+    }
+
+    public long getFramesFlushed() {
+        return outboundStats.getFramesFlushed();
+    }
+
+    /**
+     * 송신 큐 초과로 끊은 느린 클라이언트 수
+     */
+    public long getSlowClientDisconnects() {
+        return outboundStats.getOverflowDisconnects();
+    }
+
+    /**
+     * 송신이 밀려 위치 갱신 주기를 낮춘 클라이언트 수 (현재)
+     */
+    public int getDegradedClientCount() {
+        int count = 0;
+        for (Match m : matches.values()) {
+            for (ClientHandler ch : m.clients.values()) {
+                if (ch.sendRate.divisor() > 1)
+                    count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 위치 갱신 주기를 한 단계 낮춘 / 되돌린 횟수
+     */
+    public long getSendRateDegrades() {
+        return sendRateStats.getDegrades();
+    }
+
+    public long getSendRateRecoveries() {
+        return sendRateStats.getRecoveries();
+    }
+
+    /**
+     * 주기를 낮춘 클라이언트에게 위치 갱신을 건너뛴 틱 수 (클라이언트별 합계)
+     */
+    public long getSkippedPositionTicks() {
+        return sendRateStats.getSkippedTicks();
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public long getTickCount() {
+        return tickStats.getTicks();
+    }
+
+    /**
+     * 틱 1회 평균 소요 시간 (마이크로초)
+     */
+    public long getAverageTickMicros() {
+        return tickStats.getAverageMicros();
+    }
+
+    public long getMaxTickMicros() {
+        return tickStats.getMaxMicros();
+    }
 
-    // 활성 오라 (gen_aura)
-    private final Map<String, ActiveAura> activeAuras = new ConcurrentHashMap<>();
+    public long getLastTickMicros() {
+        return tickStats.getLastMicros();
+    }
 
-    // 에어스트라이크 (gen_strike)
-    private final Map<Integer, ScheduledStrike> scheduledStrikes = new ConcurrentHashMap<>();
-    private final AtomicInteger nextStrikeId = new AtomicInteger(1);
+    /**
+     * 틱 주기(1/tickRate)를 넘긴 틱 수
+     */
+    public long getTickOverruns() {
+        return tickStats.getOverruns();
+    }
+
+    private void logTickStats() {
+        String report = tickStats.windowReport();
+        if (!matches.isEmpty()) {
+            int degraded = getDegradedClientCount();
+            Log.info("[TICK] 매치 " + matches.size() + "개, " + report
+                    + (degraded > 0 ? ", 갱신 주기 낮춘 클라이언트 " + degraded + "명" : ""));
+        }
+    }
+
+    /**
+     * JOIN 한 클라이언트를 매치에 배정하고 등록
+     * 게임 시작 전이고 자리가 남았으며 같은 이름이 없는 매치 중 가장 오래된 곳, 없으면 새 매치
+     *
+     * @return 배정된 매치, 매치 수 한도에 걸리면 null
+     */
+    private Match joinMatch(ClientHandler handler) {
+        matchesLock.lock();
+        try {
+            return joinMatchLocked(handler);
+        } finally {
+            matchesLock.unlock();
+        }
+    }
+
+    private Match joinMatchLocked(ClientHandler handler) {
+        Match target = null;
+        for (Match m : matches.values()) {
+            if (m.isJoinable(handler.playerName) && (target == null || m.id < target.id))
+                target = m;
+        }
+        if (target == null) {
+            if (matches.size() >= maxMatches)
+                return null;
+            target = new Match(nextMatchId.getAndIncrement());
+            matches.put(target.id, target);
+            target.startTicking();
+            Log.info("[MATCH] 매치 #" + target.id + " 생성 (총 " + matches.size() + "개)");
+        }
+        target.clients.put(handler.playerName, handler);
+        if (target.recorder != null)
+            handler.recordConn = target.recorder.newConnection();
+        // 매치 안에서 비어 있는 가장 작은 번호 (바이너리 메시지·관심 영역·격자가 이름 대신 사용)
+        handler.playerInfo.id = target.players.add(handler, System.currentTimeMillis());
+        return target;
+    }
+
+    /**
+     * 플레이어가 나간 뒤 빈 매치 제거
+     */
+    private void releaseMatch(Match match) {
+        matchesLock.lock();
+        try {
+            if (match.clients.isEmpty() && matches.remove(match.id, match)) {
+                match.stopTicking();
+                if (match.recorder != null)
+                    match.recorder.close();
+                Log.info("[MATCH] 매치 #" + match.id + " 종료 (남은 매치 " + matches.size() + "개)");
+            }
+        } finally {
+            matchesLock.unlock();
+        }
+    }
+
+    private OutboundQueue newOutboundQueue() {
+        return new OutboundQueue(OUTBOUND_QUEUE_FRAMES, OUTBOUND_QUEUE_MAX_BYTES, outboundStats);
+    }
+
+    /**
+     * 메시지를 프레임으로 인코딩 (브로드캐스트 시 한 번만 인코딩해서 모든 큐가 공유)
+     */
+    private static byte[] encodeFrame(String message) {
+        try {
+            return FrameCodec.encode(message);
+        } catch (UTFDataFormatException e) {
+            Log.warn("[SEND_ERROR] 메시지가 너무 깁니다: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 새 매치의 기록기 (기록을 켜지 않았거나 파일을 만들지 못하면 null)
+     */
+    private MatchRecorder openRecorder(int matchId) {
+        Path dir = recordDirectory;
+        if (dir == null)
+            return null;
+        try {
+            return MatchRecorder.open(dir, matchId, tickRate, maxPlayers, serverProjectiles);
+        } catch (IOException e) {
+            Log.warn("[RECORD] 매치 #" + matchId + " 기록 파일을 만들 수 없습니다: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static int teamOf(ClientHandler ch) {
+        Protocol.PlayerInfo p = ch.playerInfo;
+        return p != null ? p.team : -1;
+    }
+
+    /**
+     * 기본 공격 사거리: 캐릭터 첫 번째 Ability.range (0 = 무제한)
+     * JOIN / CHARACTER_SELECT 때만 호출해 ClientHandler.basicRange 에 보관
+     */
+    private static float resolveBasicRange(String characterId) {
+        if (characterId == null)
+            return 0f;
+        try {
+            Ability[] abs = CharacterData.createAbilities(characterId);
+            if (abs != null && abs.length > 0)
+                return Math.max(0f, abs[0].range);
+        } catch (Exception ignored) {
+        }
+        return 0f;
+    }
+
+    /**
+     * 기본 공격 데미지: 캐릭터 첫 번째 Ability.damage 사용 (없으면 기본 상수)
+     * JOIN / CHARACTER_SELECT 때만 호출해 ClientHandler.basicDamage 에 보관
+     */
+    private static int resolveBasicDamage(String characterId) {
+        if (characterId == null)
+            return GameConstants.MISSILE_DAMAGE;
+        try {
+            Ability[] abs = CharacterData.createAbilities(characterId);
+            if (abs != null && abs.length > 0) {
+                float dmg = abs[0].damage;
+                if (dmg <= 0)
+                    return GameConstants.MISSILE_DAMAGE;
+                // 서버는 정수 HP 관리 - 반올림
+                return Math.max(1, Math.round(dmg));
+            }
+        } catch (Exception ignored) {
+        }
+        return GameConstants.MISSILE_DAMAGE;
+    }
+
+    /**
+     * 매치(룸) 하나의 상태와 틱 루프
+     *
+     * 라운드/승수/맵, 설치 오브젝트, 오라, 에어스트라이크, 관심 영역, 델타 이력처럼
+     * 한 경기에 속한 상태는 모두 매치가 가집니다. 서버는 JOIN 때 자리가 남은 대기 중 매치로
+     * 클라이언트를 배정하고(없으면 새로 만듦), 마지막 플레이어가 나가면 매치를 없앱니다.
+     * 매치마다 틱 작업 하나가 공유 틱 스레드 풀(tickExecutor)에 예약되며, 같은 매치의 틱은 겹쳐 실행되지 않습니다.
+     */
+    class Match {
+        private final int id;
+        private ScheduledFuture<?> tickTask;
+
+        // 받은 메시지 / 브로드캐스트 기록 (--record 일 때만)
+        final MatchRecorder recorder;
+
+        // 이 매치에 JOIN한 플레이어 (이름 → 연결)
+        private final Map<String, ClientHandler> clients = new ConcurrentHashMap<>();
+
+        // 틱 스레드만 올리고, 수신 스레드는 SNAPSHOT_ACK 범위 검사에 읽기만 함
+        private volatile int tickNumber = 0;
+
+        // 예약 이벤트 (스트라이크 임팩트, 오라 만료, 터렛 발사, 라운드 전환, 스폰 보호 해제)
+        // 틱마다 advance 되며 라운드/게임 리셋 때 cancelAll 로 한꺼번에 무효화
+        private final TimingWheel timers = new TimingWheel(1000L / tickRate, TIMER_SLOTS, System.currentTimeMillis());
+
+        // 관심 영역 (팀별 시야 안 플레이어)
+        private final InterestManager interest = new InterestManager();
+
+        // 델타 스냅샷용 월드 상태 이력 (틱 스레드 전용, [시야 단위][tick % SERVER_HISTORY])
+        private final WorldState[][] snapshotHistory = new WorldState[InterestManager.VIEW_COUNT][DeltaCodec.SERVER_HISTORY];
+        private final ByteBuffer deltaScratch = ByteBuffer.allocate(FrameCodec.HEADER_SIZE + FrameCodec.MAX_PAYLOAD_LENGTH);
+        private final Map<Long, byte[]> deltaFramesByBase = new HashMap<>();
+
+        // 설치형 오브젝트 (지뢰, 터렛 등)
+        // 변경은 placeObject / removeObject / clearObjects 로만 (objectGrid 와 함께 objectLock 안에서)
+        private final Map<Integer, PlacedObject> placedObjects = new ConcurrentHashMap<>();
+        private final SpatialGrid objectGrid = new SpatialGrid(OBJECT_CELL_SIZE);
+        private final ReentrantLock objectLock = new ReentrantLock();
+
+        // 플레이어 번호 → 연결 (JOIN 때 할당, 나간 번호는 델타 이력이 지난 뒤 재사용)
+        private final PlayerSlots<ClientHandler> players = new PlayerSlots<>(maxPlayers,
+                2L * DeltaCodec.SERVER_HISTORY * 1000 / tickRate);
+
+        // 위치를 아는 플레이어 격자 (틱 스레드 전용, 틱마다 바뀐 플레이어만 갱신)
+        // gridPlayers[번호] = 격자에 들어 있는 연결
+        private final SpatialGrid playerGrid = new SpatialGrid(PLAYER_CELL_SIZE);
+        private ClientHandler[] gridPlayers = new ClientHandler[maxPlayers + 1];
+        private final AtomicInteger nextPlacedObjectId = new AtomicInteger(1);
+
+        // 활성 오라 (gen_aura)
+        private final Map<String, ActiveAura> activeAuras = new ConcurrentHashMap<>();
+
+        // 에어스트라이크 (gen_strike)
+        private final AtomicInteger nextStrikeId = new AtomicInteger(1);
+
+        // 서버 권위 미사일 (serverProjectiles 일 때만 사용) / 현재 맵 충돌 격자 (라운드 시작 때 캐시에서, 없으면 null)
+        private final ProjectileSystem projectiles = new ProjectileSystem(PROJECTILE_POOL);
+        private final ProjectileSystem.Listener projectileListener = new ProjectileSystem.Listener() {
+            @Override
+            public int findTarget(int x, int y, int team) {
+                return findProjectileTarget(x, y, team);
+            }
+
+            @Override
+            public void onHit(int ownerId, int targetId, int damage, boolean turret) {
+                applyProjectileHit(ownerId, targetId, damage, turret);
+            }
+        };
+        private volatile MapGrid mapGrid;
+
+        // 라운드 시스템
+        private int roundCount = 0;
+        private int redWins = 0;
+        private int blueWins = 0;
+        // 라운드 종료 전이 (틱 스레드의 판정과 수신 스레드의 GAME_START 가 겹쳐도 한 번만 처리)
+        private final AtomicBoolean roundEnded = new AtomicBoolean(false);
+        private static final int MAX_WINS = 2; // 3판 2선승
+        private String selectedMap = null; // 현재 선택된 맵 (null = 아직 라운드 시작 전)
+
+        // 캐릭터 선택 제한 (라운드당 1회, 라운드 시작 10초 이내)
+        private long currentRoundStartTime = 0;
+        private final Map<String, Boolean> playerCharacterChanged = new ConcurrentHashMap<>();
+
+        Match(int id) {
+            this.id = id;
+            this.recorder = openRecorder(id);
+        }
+
+        void startTicking() {
+            long periodNanos = 1_000_000_000L / tickRate;
+            tickTask = tickExecutor.scheduleAtFixedRate(this::tick, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+        }
+
+        void stopTicking() {
+            if (tickTask != null)
+                tickTask.cancel(false);
+        }
+
+        /**
+         * 새 플레이어를 받을 수 있는지 (게임 시작 전, 빈 자리, 같은 이름 없음)
+         */
+        boolean isJoinable(String name) {
+            return roundCount == 0 && clients.size() < maxPlayers && !clients.containsKey(name);
+        }
+
+        private void broadcast(String message, String excludeClient) {
+            long start = System.nanoTime();
+            byte[] frame = encodeFrame(message);
+            if (frame == null)
+                return;
+            recordOutbound(frame);
+            for (Map.Entry<String, ClientHandler> entry : clients.entrySet()) {
+                if (!entry.getKey().equals(excludeClient)) {
+                    entry.getValue().sendFrame(frame);
+                }
+            }
+            metrics.eventBroadcast.observeNanos(System.nanoTime() - start);
+        }
+
+        /**
+         * 바이너리 협상 여부에 따라 같은 내용을 두 형식으로 브로드캐스트
+         * (텍스트는 받는 클라이언트가 있을 때만 한 번 만들어 인코딩)
+         */
+        private void broadcast(Supplier<String> text, byte[] binaryFrame, String excludeClient) {
+            broadcast(text, binaryFrame, excludeClient, null);
+        }
+
+        /**
+         * @param filter null이 아니면 true 인 클라이언트에게만 전송
+         */
+        private void broadcast(Supplier<String> text, byte[] binaryFrame, String excludeClient,
+                Predicate<ClientHandler> filter) {
+            long start = System.nanoTime();
+            byte[] textFrame = null;
+            boolean binarySent = false;
+            for (Map.Entry<String, ClientHandler> entry : clients.entrySet()) {
+                if (entry.getKey().equals(excludeClient))
+                    continue;
+                ClientHandler ch = entry.getValue();
+                if (filter != null && !filter.test(ch))
+                    continue;
+                if (ch.binary) {
+                    if (!binarySent) {
+                        binarySent = true;
+                        recordOutbound(binaryFrame);
+                    }
+                    ch.sendFrame(binaryFrame);
+                } else {
+                    if (textFrame == null) {
+                        textFrame = encodeFrame(text.get());
+                        if (textFrame == null)
+                            break;
+                        recordOutbound(textFrame);
+                    }
+                    ch.sendFrame(textFrame);
+                }
+            }
+            metrics.eventBroadcast.observeNanos(System.nanoTime() - start);
+        }
+
+        /**
+         * 상태 메시지(PLACE/OBJ_UPDATE/OBJ_DESTROY) 브로드캐스트
+         * 델타 스냅샷 클라이언트는 다음 틱 WORLD_DELTA 로 같은 변경을 받으므로 제외
+         */
+        private void broadcastState(String message) {
+            long start = System.nanoTime();
+            byte[] frame = null;
+            for (ClientHandler ch : clients.values()) {
+                if (ch.delta)
+                    continue;
+                if (frame == null) {
+                    frame = encodeFrame(message);
+                    if (frame == null)
+                        break;
+                    recordOutbound(frame);
+                }
+                ch.sendFrame(frame);
+            }
+            metrics.stateBroadcast.observeNanos(System.nanoTime() - start);
+        }
+
+        /**
+         * 브로드캐스트 프레임 기록 (수신자 수와 상관없이 프레임당 한 번)
+         */
+        private void recordOutbound(byte[] frame) {
+            if (recorder != null && frame != null)
+                recorder.outbound(frame);
+        }
+
+        // 팀/레디 상태 전체 브로드캐스트 (캐릭터 정보 포함)
+        private void broadcastTeamRoster() {
+            StringBuilder sb = new StringBuilder("TEAM_ROSTER:");
+            boolean first = true;
+            for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
+                ClientHandler ch = e.getValue();
+                if (ch.playerInfo == null)
+                    continue;
+                if (!first)
+                    sb.append(';');
+                first = false;
+                sb.append(ch.playerName)
+                        .append(',').append(ch.playerInfo.team)
+                        .append(',').append(ch.ready)
+                        .append(',').append(ch.playerInfo.characterId != null ? ch.playerInfo.characterId : "");
+            }
+            broadcast(sb.toString(), null);
+        }
+
+        // 간단한 스탯 브로드캐스트: 이름, kills, deaths, hp
+        private void broadcastStats(String name, Protocol.PlayerInfo info) {
+            if (info == null)
+                return;
+            String charId = (info.characterId != null) ? info.characterId : "raven";
+            broadcast(() -> "STATS:" + name + "," + info.kills + "," + info.deaths + "," + info.hp + "," + charId,
+                    BinaryCodec.encodeStats(info.id, info.kills, info.deaths, info.hp, charId), null, ch -> !ch.delta);
+        }
+
+        /**
+         * 오라 활성화 (기존 오라는 교체) 및 만료 예약
+         */
+        private void activateAura(ActiveAura aura, long durationMillis) {
+            aura.expiry = timers.schedule(durationMillis,
+                    metrics.timed(ServerMetrics.TimerTask.AURA, () -> expireAura(aura)));
+            ActiveAura previous = activeAuras.put(aura.ownerName, aura);
+            if (previous != null && previous.expiry != null)
+                previous.expiry.cancel();
+        }
+
+        /**
+         * 오라 만료: 버프 받던 플레이어들에게 제거 알림 (타이밍 휠)
+         */
+        private void expireAura(ActiveAura aura) {
+            if (!activeAuras.remove(aura.ownerName, aura))
+                return;
+            for (String buffedName : aura.currentlyBuffed) {
+                ClientHandler ch = clients.get(buffedName);
+                if (ch != null) {
+                    ch.sendMessage("UNBUFF:gen_aura");
+                }
+            }
+        }
+
+        /**
+         * 오라 버프 업데이트 (틱마다 1회)
+         */
+        private void updateAuraBuffs() {
+            long now = System.currentTimeMillis();
+
+            // 현재 활성 오라에 대해 범위 체크
+            for (Map.Entry<String, ActiveAura> entry : activeAuras.entrySet()) {
+                ActiveAura aura = entry.getValue();
+
+                // 오라 소유자의 현재 위치로 업데이트
+                ClientHandler owner = clients.get(aura.ownerName);
+                if (owner != null && owner.playerInfo != null) {
+                    aura.x = (int) owner.playerInfo.x;
+                    aura.y = (int) owner.playerInfo.y;
+                }
+
+                Set<String> nowInRange = new HashSet<>();
+
+                // 오라 범위 안 플레이어만 체크 (플레이어 격자)
+                for (ClientHandler ch : playersInRadius(aura.x, aura.y, (int) aura.radius)) {
+                    if (ch.playerInfo.team != aura.ownerTeam)
+                        continue; // 같은 팀만
+                    // 너프 원할 시 본인 버프 제외 조건 
+                    // if (ch.playerName.equals(aura.ownerName))
+                    //     continue;
+
+                    nowInRange.add(ch.playerName);
+
+                    // 새로 들어온 플레이어에게 버프 적용
+                    if (!aura.currentlyBuffed.contains(ch.playerName)) {
+                        // BUFF:targetName,abilityId,moveSpeedMult,attackSpeedMult,durationRemaining
+                        long remaining = Math.max(0, aura.expiresAt - now);
+                        float dur = remaining / 1000f;
+                        String buffMsg = "BUFF:" + ch.playerName + ",gen_aura,1.10,1.15," + dur;
+                        ch.sendMessage(buffMsg);
+                    }
+                }
+
+                // 범위를 벗어난 플레이어에게 버프 제거
+                for (String prevBuffed : aura.currentlyBuffed) {
+                    if (!nowInRange.contains(prevBuffed)) {
+                        ClientHandler ch = clients.get(prevBuffed);
+                        if (ch != null) {
+                            ch.sendMessage("UNBUFF:gen_aura");
+                        }
+                    }
+                }
+
+                aura.currentlyBuffed = nowInRange;
+            }
+        }
+
+        /**
+         * 틱 1회: 입력 반영 → 오라/지뢰/스트라이크/터렛 → 스냅샷 전송
+         */
+        private void tick() {
+            long start = System.nanoTime();
+            try {
+                tickNumber++;
+                long now = System.currentTimeMillis();
+
+                // 1) 버퍼링된 위치 입력 반영 (한 틱 동안 여러 번 온 POS는 마지막 것만)
+                boolean anyMoved = false;
+                for (ClientHandler ch : clients.values()) {
+                    ch.movedThisTick = false;
+                    if (ch.playerInfo == null)
+                        continue;
+                    float fromX = ch.playerInfo.x, fromY = ch.playerInfo.y;
+                    boolean known = ch.positionKnown;
+                    if (ch.pendingInput.drainInto(ch)) {
+                        if (!validateMove(ch, known, fromX, fromY, now))
+                            continue;
+                        ch.movedThisTick = true;
+                        ch.lastMovedTick = tickNumber;
+                        ch.positionKnown = true;
+                        anyMoved = true;
+                    }
+                }
+
+                updatePlayerGrid();
+
+                // 위치 이력 (지연 보정 피격 판정용)
+                for (ClientHandler ch : clients.values()) {
+                    if (ch.playerInfo != null && ch.positionKnown)
+                        ch.positionHistory.record(now, ch.playerInfo.x, ch.playerInfo.y);
+                }
+
+                // 1-1) 버퍼링된 피격 / 사망 보고 (라운드 종료 판정이 틱 스레드에서만 일어나도록)
+                for (ClientHandler ch : clients.values()) {
+                    if (ch.playerInfo != null)
+                        ch.pendingReports.drainInto(ch);
+                }
+
+                // 2) 예약 이벤트 (스트라이크 임팩트, 오라 만료, 터렛 발사, 라운드 전환, 스폰 보호 해제)
+                timers.advance(now);
+
+                // 2-1) 서버 권위 미사일 이동 / 피격
+                if (serverProjectiles)
+                    projectiles.advance(now, mapGrid, projectileListener);
+
+                // 3) 오라 / 지뢰
+                if (anyMoved || !activeAuras.isEmpty())
+                    updateAuraBuffs();
+                if (anyMoved) {
+                    for (ClientHandler ch : clients.values()) {
+                        if (ch.movedThisTick)
+                            checkMines(ch);
+                    }
+                }
+
+                // 4) 관심 영역 갱신 → 송신 주기 결정 → 위치 입력 확인 → 스냅샷
+                updateInterest(now);
+                updateSendRates(now);
+                sendMoveAcks();
+                if (roundCount > 0) {
+                    long snapshotStart = System.nanoTime();
+                    broadcastSnapshot();
+                    metrics.snapshotBroadcast.observeNanos(System.nanoTime() - snapshotStart);
+                }
+            } catch (Exception e) {
+                // 예외로 스케줄이 멈추지 않도록 틱 단위로 격리
+                Log.error("[TICK] 매치 #" + id + " 틱 " + tickNumber + " 처리 중 오류", e);
+            }
+            long elapsed = System.nanoTime() - start;
+            tickStats.record(elapsed);
+            metrics.tick.observeNanos(elapsed);
+        }
+
+        /**
+         * 순번 붙은 위치 입력을 반영한 클라이언트에게 마지막 순번과 검증 결과 위치 전송 (틱 스레드 전용)
+         * 갱신 주기를 낮춘 클라이언트는 보낼 차례에만 받으며, 그 사이 입력은 마지막 순번 하나로 확인됩니다.
+         */
+        private void sendMoveAcks() {
+            for (ClientHandler ch : clients.values()) {
+                if (!ch.moveAckPending || !ch.sendRate.isDue())
+                    continue;
+                ch.moveAckPending = false;
+                Protocol.PlayerInfo p = ch.playerInfo;
+                if (ch.binary)
+                    ch.sendFrame(BinaryCodec.encodeMoveAck(ch.inputSeq, p.x, p.y));
+                else
+                    ch.sendMessage("MOVE_ACK:" + ch.inputSeq + "," + p.x + "," + p.y);
+            }
+        }
+
+        /**
+         * 위치 입력 검증 (틱 스레드 전용, 입력은 이미 playerInfo 에 반영된 상태)
+         *
+         * - 벽 / 맵 밖: 입력을 버리고 이전 위치 유지
+         * - 지난 입력 이후 시간(최대 MOVE_WINDOW_MS) 동안 갈 수 있는 거리보다 멀면 그 거리만큼만 따라감
+         *   (서버 위치가 뒤처져도 다음 입력들로 따라잡으므로 정상 클라이언트가 영구히 어긋나지 않음)
+         * - 라운드 첫 위치와, 스폰 보호 중 자기 팀 스폰 구역으로의 이동(리스폰)은 거리 제한 없음
+         *
+         * @return 위치가 바뀌었으면 true
+         */
+        private boolean validateMove(ClientHandler ch, boolean known, float fromX, float fromY, long now) {
+            Protocol.PlayerInfo p = ch.playerInfo;
+            MapGrid grid = mapGrid;
+            if (grid != null && !grid.isWalkable((int) p.x, (int) p.y)) {
+                rejectMove(ch, fromX, fromY, "벽/맵 밖");
+                return false;
+            }
+            if (known) {
+                float ex = p.x - fromX, ey = p.y - fromY;
+                float dist = (float) Math.sqrt(ex * ex + ey * ey);
+                long elapsed = Math.min(MOVE_WINDOW_MS, now - ch.lastMoveTime);
+                float allowed = MAX_MOVE_PX_PER_MS * elapsed + MOVE_SLACK;
+                boolean respawn = ch.spawnProtected && grid != null && grid.isInSpawnZone(p.team, (int) p.x, (int) p.y);
+                if (dist > allowed && !respawn) {
+                    float f = allowed / dist;
+                    float cx = fromX + ex * f, cy = fromY + ey * f;
+                    if (grid != null && !grid.isWalkable((int) cx, (int) cy)) {
+                        rejectMove(ch, fromX, fromY, "속도 초과");
+                        return false;
+                    }
+                    p.x = cx;
+                    p.y = cy;
+                    countMoveReject(ch, "속도 초과 " + (int) dist + "px > " + (int) allowed + "px");
+                }
+            }
+            ch.lastMoveTime = now;
+            return true;
+        }
+
+        private void rejectMove(ClientHandler ch, float fromX, float fromY, String reason) {
+            ch.playerInfo.x = fromX;
+            ch.playerInfo.y = fromY;
+            countMoveReject(ch, reason);
+        }
+
+        private void countMoveReject(ClientHandler ch, String reason) {
+            if (ch.moveRejects++ % MOVE_REJECT_LOG_EVERY == 0)
+                Log.info("[MOVE_REJECT] " + ch.playerName + " (" + reason + ", 누적 " + ch.moveRejects + "회)");
+        }
+
+        /**
+         * 설치/스트라이크 좌표가 현재 맵에서 유효한지 (맵을 모르면 허용)
+         *
+         * @param walkable true 면 지나갈 수 있는 타일이어야 함 (지뢰, 터렛), false 면 맵 안이기만 하면 됨 (스트라이크)
+         */
+        private boolean isValidTarget(int x, int y, boolean walkable) {
+            MapGrid grid = mapGrid;
+            if (grid == null)
+                return true;
+            return walkable ? grid.isWalkable(x, y) : grid.contains(x, y);
+        }
+
+        /**
+         * 플레이어 격자 갱신: 위치가 바뀐 플레이어만 옮기고, 위치를 모르게 되었거나 나간 플레이어는 뺌
+         */
+        private void updatePlayerGrid() {
+            // 나간 플레이어 (번호 주인이 바뀌었거나 비었음)
+            for (int id = 1; id < gridPlayers.length; id++) {
+                ClientHandler ch = gridPlayers[id];
+                if (ch != null && players.get(id) != ch) {
+                    playerGrid.remove(id, ch.gridX, ch.gridY);
+                    gridPlayers[id] = null;
+                }
+            }
+            if (gridPlayers.length < players.capacity())
+                gridPlayers = Arrays.copyOf(gridPlayers, players.capacity());
+            for (ClientHandler ch : clients.values()) {
+                Protocol.PlayerInfo p = ch.playerInfo;
+                if (p == null || p.id <= 0)
+                    continue;
+                boolean inGrid = gridPlayers[p.id] == ch;
+                int x = (int) p.x, y = (int) p.y;
+                if (!ch.positionKnown) {
+                    if (inGrid) {
+                        playerGrid.remove(p.id, ch.gridX, ch.gridY);
+                        gridPlayers[p.id] = null;
+                    }
+                } else if (!inGrid || x != ch.gridX || y != ch.gridY) {
+                    if (inGrid)
+                        playerGrid.remove(p.id, ch.gridX, ch.gridY);
+                    playerGrid.insert(p.id, x, y);
+                    gridPlayers[p.id] = ch;
+                    ch.gridX = x;
+                    ch.gridY = y;
+                }
+            }
+        }
+
+        /**
+         * (x, y) 에서 radius 이내의 살아 있는 플레이어 (틱 스레드 전용)
+         */
+        private List<ClientHandler> playersInRadius(int x, int y, int radius) {
+            List<ClientHandler> result = new ArrayList<>();
+            playerGrid.queryRadius(x, y, radius, id -> {
+                ClientHandler ch = gridPlayers[id];
+                if (ch != null && ch.playerInfo.hp > 0)
+                    result.add(ch);
+            });
+            return result;
+        }
+
+        /**
+         * 미사일 위치 (x, y) 에 맞은 적 플레이어 (틱 스레드 전용, -1 = 없음)
+         */
+        private int findProjectileTarget(int x, int y, int team) {
+            int[] found = { -1 };
+            float[] best = { Float.MAX_VALUE };
+            playerGrid.queryRadius(x, y, ProjectileSystem.HIT_RADIUS, id -> {
+                ClientHandler ch = gridPlayers[id];
+                if (ch == null || ch.playerInfo.hp <= 0 || ch.playerInfo.team == team)
+                    return;
+                float ex = ch.playerInfo.x - x, ey = ch.playerInfo.y - y;
+                float d2 = ex * ex + ey * ey;
+                if (d2 < best[0]) {
+                    best[0] = d2;
+                    found[0] = id;
+                }
+            });
+            return found[0];
+        }
+
+        /**
+         * 서버 미사일 적중 반영 (스폰 보호 중이면 미사일만 소멸)
+         */
+        private void applyProjectileHit(int ownerId, int targetId, int damage, boolean turret) {
+            ClientHandler target = gridPlayers[targetId];
+            if (target == null || target.spawnProtected || target.playerInfo.hp <= 0)
+                return;
+            ClientHandler shooter = players.get(ownerId);
+            if (!turret && (shooter == null || shooter.playerInfo.hp <= 0))
+                return; // 쏜 사람이 나갔거나 이미 죽음
+            Log.debug(() -> "[HIT] " + (turret ? "TURRET:" : "") + (shooter != null ? shooter.playerName : "?")
+                    + " hit " + target.playerName + " (damage: " + damage + ", server)");
+            applyDamage(shooter, target, damage, turret);
+        }
+
+        /**
+         * 피격 데미지 반영 → 처치 시 KILL / 킬·데스 / 채팅, STATS 브로드캐스트, 라운드 종료 확인
+         *
+         * @param shooter 쏜 사람 (모르면 null - 일반 사망 처리)
+         */
+        private void applyDamage(ClientHandler shooter, ClientHandler target, int damage, boolean turret) {
+            target.playerInfo.hp -= damage;
+            if (target.playerInfo.hp <= 0) {
+                target.playerInfo.hp = 0;
+                if (shooter != null && shooter.playerInfo != null) {
+                    shooter.playerInfo.kills++;
+                    target.playerInfo.deaths++;
+                    broadcastStats(shooter.playerName, shooter.playerInfo);
+                    broadcastStats(target.playerName, target.playerInfo);
+                    shooter.sendMessage("KILL:" + target.playerName);
+                    String killMsg = turret
+                            ? shooter.playerName + " 님의 터렛이 " + target.playerName + " 님을 처치했습니다!"
+                            : shooter.playerName + " 님이 " + target.playerName + " 님을 처치했습니다!";
+                    broadcast("CHAT:" + killMsg, null);
+                } else {
+                    broadcastStats(target.playerName, target.playerInfo);
+                    broadcast("CHAT:" + target.playerName + " 님이 사망했습니다!", null);
+                }
+            } else {
+                broadcastStats(target.playerName, target.playerInfo);
+            }
+            checkRoundEnd();
+        }
+
+        private void placeObject(PlacedObject obj) {
+            objectLock.lock();
+            try {
+                placedObjects.put(obj.id, obj);
+                objectGrid.insert(obj.id, obj.x, obj.y);
+            } finally {
+                objectLock.unlock();
+            }
+        }
+
+        private PlacedObject removeObject(int objId) {
+            objectLock.lock();
+            try {
+                PlacedObject obj = placedObjects.remove(objId);
+                if (obj != null)
+                    objectGrid.remove(objId, obj.x, obj.y);
+                return obj;
+            } finally {
+                objectLock.unlock();
+            }
+        }
+
+        private void clearObjects() {
+            objectLock.lock();
+            try {
+                placedObjects.clear();
+                objectGrid.clear();
+            } finally {
+                objectLock.unlock();
+            }
+        }
+
+        /**
+         * (x, y) 에서 radius 이내의 설치 오브젝트
+         */
+        private List<PlacedObject> objectsInRadius(int x, int y, int radius) {
+            List<PlacedObject> result = new ArrayList<>();
+            objectLock.lock();
+            try {
+                objectGrid.queryRadius(x, y, radius, id -> {
+                    PlacedObject obj = placedObjects.get(id);
+                    if (obj != null)
+                        result.add(obj);
+                });
+            } finally {
+                objectLock.unlock();
+            }
+            return result;
+        }
+
+        /**
+         * 팀별 시야 안 플레이어 집합 갱신 (InterestManager)
+         */
+        private void updateInterest(long now) {
+            interest.beginUpdate();
+            for (ClientHandler ch : clients.values()) {
+                Protocol.PlayerInfo p = ch.playerInfo;
+                if (p != null)
+                    interest.add(p.id, p.team, (int) p.x, (int) p.y, ch.positionKnown);
+            }
+            interest.finishUpdate(now);
+        }
+
+        /**
+         * 클라이언트별 송신 큐 상태로 이번 틱 위치 갱신 여부 결정 (SendRateController)
+         */
+        private void updateSendRates(long now) {
+            for (ClientHandler ch : clients.values()) {
+                if (ch.transport == null)
+                    continue;
+                SendRateController rate = ch.sendRate;
+                if (rate.update(ch.transport.queue(), tickNumber, now)) {
+                    long kbps = rate.bytesPerSecond() / 1024;
+                    Log.info("[SEND_RATE] " + ch.playerName + " 위치 갱신 1/" + rate.divisor()
+                            + " (추정 대역폭 " + kbps + "KB/s, 밀림 " + rate.backlogMillis() + "ms)");
+                }
+            }
+        }
+
+        /**
+         * 틱마다 월드 스냅샷 전송 (받는 쪽 팀 시야 안의 플레이어만)
+         * - 스냅샷 지원 클라이언트: 시야 안 플레이어 상태를 담은 GAME_STATE 프레임 1개 (팀별로 한 번 인코딩해서 공유)
+         * - 그 외: 이번 틱에 움직였거나 새로 시야에 들어온 플레이어만 기존 PLAYER 메시지로
+         * - 시야에서 빠진 플레이어는 HIDE 로 알림 (델타 클라이언트는 P_FLAGS 로 대신 받음)
+         * - 송신이 밀린 클라이언트는 SendRateController 가 정한 틱에만 위치 갱신을 받음
+         *   (건너뛴 틱의 이동은 다음 차례에 최신 위치로, 시야 진입과 HIDE 는 바로)
+         */
+        private void broadcastSnapshot() {
+            sendDeltaSnapshots();
+
+            List<ClientHandler> known = new ArrayList<>(clients.size());
+            for (ClientHandler ch : clients.values()) {
+                if (ch.playerInfo != null && ch.positionKnown)
+                    known.add(ch);
+            }
+            if (known.isEmpty())
+                return;
+
+            // 시야 단위별 수신자 분류
+            List<List<ClientHandler>> snapshotViewers = new ArrayList<>(InterestManager.VIEW_COUNT);
+            List<List<ClientHandler>> streamViewers = new ArrayList<>(InterestManager.VIEW_COUNT);
+            for (int v = 0; v < InterestManager.VIEW_COUNT; v++) {
+                snapshotViewers.add(new ArrayList<>());
+                streamViewers.add(new ArrayList<>());
+            }
+            for (ClientHandler ch : clients.values()) {
+                if (ch.delta)
+                    continue;
+                int v = InterestManager.viewIndex(teamOf(ch));
+                (ch.snapshots ? snapshotViewers.get(v) : streamViewers.get(v)).add(ch);
+            }
+
+            for (int v = 0; v < InterestManager.VIEW_COUNT; v++) {
+                if (snapshotViewers.get(v).isEmpty())
+                    continue;
+                byte[] snapshotFrame = null;
+                for (ClientHandler ch : snapshotViewers.get(v)) {
+                    if (!ch.sendRate.isDue())
+                        continue;
+                    if (snapshotFrame == null) {
+                        snapshotFrame = encodeSnapshot(known, interest.view(v));
+                        recordOutbound(snapshotFrame);
+                    }
+                    ch.sendFrame(snapshotFrame);
+                }
+            }
+
+            for (ClientHandler subject : known) {
+                Protocol.PlayerInfo p = subject.playerInfo;
+                String charId = (p.characterId != null) ? p.characterId : "raven";
+                int dir = subject.direction;
+                byte[] textFrame = null;
+                byte[] binaryFrame = null;
+                // 주기를 낮춘 수신자는 지난 차례 이후의 이동을 이번 차례에 받음
+                boolean recentlyMoved = tickNumber - subject.lastMovedTick < 2 * SendRateController.MAX_DIVISOR;
+                for (int v = 0; v < InterestManager.VIEW_COUNT; v++) {
+                    InterestManager.View view = interest.view(v);
+                    boolean entered = view != null && view.entered.get(p.id);
+                    boolean relevant = view == null || view.relevant.get(p.id);
+                    if (!entered && !(recentlyMoved && relevant))
+                        continue;
+                    for (ClientHandler ch : streamViewers.get(v)) {
+                        if (ch == subject)
+                            continue;
+                        if (!entered && !ch.sendRate.isDueFor(subject.lastMovedTick))
+                            continue;
+                        if (ch.binary) {
+                            if (binaryFrame == null) {
+                                binaryFrame = BinaryCodec.encodePlayerUpdate(p.id, p.x, p.y, p.team, p.hp, dir, charId);
+                                recordOutbound(binaryFrame);
+                            }
+                            ch.sendFrame(binaryFrame);
+                        } else {
+                            if (textFrame == null) {
+                                // PLAYER:이름,x,y,팀,hp,캐릭터ID,방향
+                                textFrame = encodeFrame("PLAYER:" + subject.playerName + "," + p.x + "," + p.y + ","
+                                        + p.team + "," + p.hp + "," + charId + "," + dir);
+                                if (textFrame == null)
+                                    break;
+                                recordOutbound(textFrame);
+                            }
+                            ch.sendFrame(textFrame);
+                        }
+                    }
+                }
+            }
+
+            for (ClientHandler subject : clients.values()) {
+                Protocol.PlayerInfo p = subject.playerInfo;
+                if (p == null)
+                    continue;
+                byte[] hideFrame = null;
+                for (int v = 0; v < InterestManager.VIEW_COUNT; v++) {
+                    InterestManager.View view = interest.view(v);
+                    if (view == null || !view.left.get(p.id))
+                        continue;
+                    if (hideFrame == null) {
+                        hideFrame = encodeFrame("HIDE:" + subject.playerName);
+                        recordOutbound(hideFrame);
+                    }
+                    for (ClientHandler ch : snapshotViewers.get(v))
+                        ch.sendFrame(hideFrame);
+                    for (ClientHandler ch : streamViewers.get(v))
+                        ch.sendFrame(hideFrame);
+                }
+            }
+        }
+
+        /**
+         * 델타 클라이언트마다 ACK 기준 대비 변경분 전송
+         * 같은 기준을 가진 클라이언트끼리는 인코딩한 프레임을 공유합니다.
+         */
+        private void sendDeltaSnapshots() {
+            WorldState[] current = new WorldState[InterestManager.VIEW_COUNT];
+            deltaFramesByBase.clear();
+            for (ClientHandler ch : clients.values()) {
+                if (!ch.delta || !ch.sendRate.isDue())
+                    continue;
+                int view = InterestManager.viewIndex(teamOf(ch));
+                if (current[view] == null)
+                    current[view] = captureWorldState(view);
+
+                // 팀이 바뀌면 이력(시야)이 달라지므로 기준 없이 전체 스냅샷
+                int ack = ch.deltaView == view ? ch.ackedTick : DeltaCodec.NO_BASE;
+                ch.deltaView = view;
+                WorldState base = null;
+                if (ack != DeltaCodec.NO_BASE && tickNumber - ack < DeltaCodec.SERVER_HISTORY) {
+                    WorldState candidate = snapshotHistory[view][Math.floorMod(ack, DeltaCodec.SERVER_HISTORY)];
+                    if (candidate != null && candidate.tick == ack)
+                        base = candidate;
+                }
+                long key = ((long) view << 32) | ((base != null ? base.tick : DeltaCodec.NO_BASE) & 0xFFFFFFFFL);
+                byte[] frame = deltaFramesByBase.get(key);
+                if (frame == null && !deltaFramesByBase.containsKey(key)) {
+                    // 바뀐 게 없으면 보내지 않되, 기준이 이력에서 밀려나기 전에는 빈 델타로 ACK 갱신 유도
+                    boolean refresh = base != null && tickNumber - base.tick >= DeltaCodec.SERVER_HISTORY / 2;
+                    frame = DeltaCodec.encode(base, current[view], deltaScratch, refresh);
+                    deltaFramesByBase.put(key, frame);
+                    recordOutbound(frame);
+                }
+                if (frame != null)
+                    ch.sendFrame(frame);
+            }
+        }
+
+        /**
+         * 현재 플레이어/설치 오브젝트 상태를 이번 틱 이력 칸에 기록
+         * 시야 밖 플레이어는 킬/데스 등 점수 정보만 남기고 위치는 비움 (P_FLAGS = 0)
+         */
+        private WorldState captureWorldState(int view) {
+            int slot = Math.floorMod(tickNumber, DeltaCodec.SERVER_HISTORY);
+            WorldState ws = snapshotHistory[view][slot];
+            if (ws == null)
+                ws = snapshotHistory[view][slot] = new WorldState();
+            ws.clear(tickNumber);
+            InterestManager.View interestView = interest.view(view);
+
+            WorldState.Table players = ws.players();
+            for (ClientHandler ch : clients.values()) {
+                Protocol.PlayerInfo p = ch.playerInfo;
+                if (p == null)
+                    continue;
+                int i = players.put(p.id);
+                players.set(i, WorldState.P_TEAM, p.team);
+                players.set(i, WorldState.P_HP, p.hp);
+                players.set(i, WorldState.P_CHAR, BinaryCodec.characterIndex(p.characterId));
+                players.set(i, WorldState.P_KILLS, p.kills);
+                players.set(i, WorldState.P_DEATHS, p.deaths);
+                boolean visible = ch.positionKnown && (interestView == null || interestView.relevant.get(p.id));
+                if (visible) {
+                    players.set(i, WorldState.P_X, BinaryCodec.quantizeCoord(p.x));
+                    players.set(i, WorldState.P_Y, BinaryCodec.quantizeCoord(p.y));
+                    players.set(i, WorldState.P_DIR, ch.direction);
+                    players.set(i, WorldState.P_FLAGS, WorldState.FLAG_POSITION_KNOWN);
+                }
+            }
+
+            WorldState.Table objects = ws.objects();
+            for (PlacedObject obj : placedObjects.values()) {
+                ClientHandler owner = clients.get(obj.owner);
+                int i = objects.put(obj.id);
+                objects.set(i, WorldState.O_TYPE, WorldState.objectTypeIndex(obj.type));
+                objects.set(i, WorldState.O_X, BinaryCodec.quantizeCoord(obj.x));
+                objects.set(i, WorldState.O_Y, BinaryCodec.quantizeCoord(obj.y));
+                objects.set(i, WorldState.O_HP, obj.hp);
+                objects.set(i, WorldState.O_MAX_HP, obj.maxHp);
+                objects.set(i, WorldState.O_OWNER, owner != null && owner.playerInfo != null ? owner.playerInfo.id : 0);
+                objects.set(i, WorldState.O_TEAM, obj.team);
+            }
+            return ws;
+        }
+
+        /**
+         * @param view 받는 쪽 팀 시야 (null = 전부)
+         */
+        private byte[] encodeSnapshot(List<ClientHandler> players, InterestManager.View view) {
+            int n = 0;
+            for (ClientHandler ch : players) {
+                if (view == null || view.relevant.get(ch.playerInfo.id))
+                    n++;
+            }
+            n = Math.min(n, BinaryCodec.MAX_SNAPSHOT_PLAYERS);
+            java.nio.ByteBuffer buf = BinaryCodec.beginSnapshot(tickNumber, n);
+            int written = 0;
+            for (ClientHandler ch : players) {
+                if (written == n)
+                    break;
+                Protocol.PlayerInfo p = ch.playerInfo;
+                if (view != null && !view.relevant.get(p.id))
+                    continue;
+                BinaryCodec.putSnapshotPlayer(buf, p.id, p.x, p.y, p.team, p.hp, ch.direction, p.characterId);
+                written++;
+            }
+            return buf.array();
+        }
+
+        /**
+         * 이번 틱에 움직인 플레이어의 지뢰 밟기 체크 (tech_mine)
+         */
+        private void checkMines(ClientHandler ch) {
+            Protocol.PlayerInfo info = ch.playerInfo;
+            // 지뢰 밟기 체크 (tech_mine)
+            List<Integer> minesToExplode = new ArrayList<>();
+            for (PlacedObject obj : objectsInRadius((int) info.x, (int) info.y, MINE_TRIGGER_RADIUS)) {
+                if ("tech_mine".equals(obj.type) && obj.hp > 0 && obj.team != info.team)
+                    minesToExplode.add(obj.id);
+            }
+            for (int mineId : minesToExplode) {
+                PlacedObject mine = removeObject(mineId);
+                if (mine != null) {
+                    int mineDamage = 60; // 지뢰 폭발 데미지
+                    info.hp -= mineDamage;
+                    if (info.hp < 0)
+                        info.hp = 0;
+                
+                    // 지뢰로 사망한 경우 사망 처리
+                    if (info.hp <= 0) {
+                        info.deaths++;
+                        broadcast("CHAT:" + ch.playerName + " 님이 지뢰를 밟아 사망했습니다!", null);
+                        checkRoundEnd();
+                    } else {
+                        broadcast("CHAT:" + ch.playerName + " 님이 지뢰를 밟아 폭발! (데미지 " + mineDamage + ")", null);
+                    }
+                
+                    broadcastStats(ch.playerName, info);
+                    // 지뢰 파괴 메시지
+                    broadcastState("OBJ_DESTROY:" + mineId);
+                }
+            }
+        }
+
+        /**
+         * 에어스트라이크 예약 (STRIKE_DELAY 뒤 임팩트)
+         */
+        private void scheduleStrike(ScheduledStrike strike) {
+            timers.schedule(STRIKE_DELAY, metrics.timed(ServerMetrics.TimerTask.STRIKE, () -> executeStrike(strike)));
+        }
+
+        /**
+         * 에어스트라이크 실행 (타이밍 휠)
+         */
+        private void executeStrike(ScheduledStrike strike) {
+            int strikeId = strike.id;
+            int radius = STRIKE_RADIUS; // 임팩트 반경
+            String impactMsg = "STRIKE_IMPACT:" + strikeId + "," + strike.targetX + "," + strike.targetY + "," + radius;
+
+            // 브로드캐스트
+            broadcast(impactMsg, null);
+
+            // 범위 내 플레이어에게 데미지 (서버 권위)
+            int strikeDamage = 50; // 에어스트라이크 고정 데미지
+            boolean anyKilled = false;
+            for (ClientHandler ch : playersInRadius(strike.targetX, strike.targetY, radius)) {
+                ch.playerInfo.hp -= strikeDamage;
+                if (ch.playerInfo.hp <= 0) {
+                    ch.playerInfo.hp = 0;
+                    anyKilled = true;
+                    // 스트라이크 호출자 킬 크레딧
+                    ClientHandler striker = clients.get(strike.owner);
+                    if (striker != null && striker.playerInfo != null && !ch.playerName.equals(strike.owner)) {
+                        striker.playerInfo.kills++;
+                        ch.playerInfo.deaths++;
+                        broadcastStats(strike.owner, striker.playerInfo);
+                        striker.sendMessage("KILL:" + ch.playerName);
+                        broadcast("CHAT:" + strike.owner + " 님이 에어스트라이크로 " + ch.playerName + " 님을 처치했습니다!", null);
+                    } else {
+                        // 자폭한 경우
+                        ch.playerInfo.deaths++;
+                        broadcast("CHAT:" + ch.playerName + " 님이 에어스트라이크에 사망했습니다!", null);
+                    }
+                }
+                broadcastStats(ch.playerName, ch.playerInfo);
+            }
+        
+            // 누군가 죽었다면 라운드 종료 체크
+            if (anyKilled) {
+                checkRoundEnd();
+            }
 
-    // 라운드 시스템
-    private int roundCount = 0;
-    private int redWins = 0;
-    private int blueWins = 0;
-    private boolean roundEnded = false;
-    private static final int MAX_WINS = 2; // 3판 2선승
-    private String selectedMap = null; // 현재 선택된 맵 (null = 아직 라운드 시작 전)
+            // 범위 내 오브젝트 파괴
+            for (PlacedObject obj : objectsInRadius(strike.targetX, strike.targetY, radius)) {
+                destroyObject(obj.id);
+            }
 
-    // 캐릭터 선택 제한 (라운드당 1회, 라운드 시작 10초 이내)
-    private long currentRoundStartTime = 0;
-    private final Map<String, Boolean> playerCharacterChanged = new ConcurrentHashMap<>();
+            Log.info("[STRIKE_IMPACT] id=" + strikeId + " at (" + strike.targetX + "," + strike.targetY + ")");
+        }
 
-    /**
-     * 설치된 오브젝트 (지뢰, 터렛)
-     */
-    static class PlacedObject {
-        int id;
-        String type; // "tech_mine", "tech_turret"
-        String owner;
-        int team;
-        int x, y;
-        int hp;
-        int maxHp;
-        long createdAt;
+        /**
+         * 서버 권위 피격 판정: shooter 가 최근 쏜 미사일 중 target 의 과거 위치에 닿은 것이 있는지
+         * (있으면 그 미사일은 소모되어 HIT / HITME 중복 보고로 두 번 맞지 않음)
+         */
+        private boolean validateHit(ClientHandler shooter, ClientHandler target) {
+            return shooter.shots.consumeHit(shooter.positionHistory, target.positionHistory, shooter.basicRange,
+                    System.currentTimeMillis());
+        }
 
-        PlacedObject(int id, String type, String owner, int team, int x, int y, int hp) {
-            this.id = id;
-            this.type = type;
-            this.owner = owner;
-            this.team = team;
-            this.x = x;
-            this.y = y;
-            this.hp = hp;
-            this.maxHp = hp;
-            this.createdAt = System.currentTimeMillis();
+        /**
+         * 터렛 피격 판정: owner 의 터렛 중 victim 을 사거리 안에 둔 적 팀 터렛이 있는지
+         * (위치 보고 지연만큼 MOVE_SLACK 여유)
+         */
+        private boolean validateTurretHit(String owner, ClientHandler victim) {
+            int x = (int) victim.playerInfo.x, y = (int) victim.playerInfo.y;
+            for (PlacedObject obj : objectsInRadius(x, y, TURRET_RANGE + (int) MOVE_SLACK)) {
+                if ("tech_turret".equals(obj.type) && obj.hp > 0 && obj.owner.equals(owner)
+                        && obj.team != victim.playerInfo.team)
+                    return true;
+            }
+            return false;
         }
-    }
 
-    /**
-     * 활성 오라 (gen_aura)
-     */
-    static class ActiveAura {
-        String ownerName;
-        int ownerTeam;
-        int x, y;
-        float radius;
-        long expiresAt;
-        Set<String> currentlyBuffed = new HashSet<>();
+        /**
+         * 설치 오브젝트 제거 (터렛 발사 예약 취소) 및 OBJ_DESTROY 브로드캐스트
+         */
+        private void destroyObject(int objId) {
+            PlacedObject obj = removeObject(objId);
+            if (obj == null)
+                return;
+            if (obj.fireTimer != null)
+                obj.fireTimer.cancel();
+            broadcastState("OBJ_DESTROY:" + objId);
+        }
 
-        ActiveAura(String owner, int team, int x, int y, float radius, long expiresAt) {
-            this.ownerName = owner;
-            this.ownerTeam = team;
-            this.x = x;
-            this.y = y;
-            this.radius = radius;
-            this.expiresAt = expiresAt;
+        /**
+         * 터렛 다음 발사 예약 (TURRET_ATTACK_INTERVAL 마다, 파괴되면 중단)
+         */
+        private void scheduleTurretFire(PlacedObject turret) {
+            turret.fireTimer = timers.schedule(TURRET_ATTACK_INTERVAL, metrics.timed(ServerMetrics.TimerTask.TURRET, () -> {
+                if (placedObjects.get(turret.id) != turret || turret.hp <= 0)
+                    return;
+                fireTurret(turret);
+                scheduleTurretFire(turret);
+            }));
         }
-    }
 
-    /**
-     * 예약된 에어스트라이크
-     */
-    static class ScheduledStrike {
-        int id;
-        String owner;
-        int team;
-        int targetX, targetY;
-        long impactAt;
+        // 터렛 사거리 내 적을 감지해 공격 (플레이어 격자)
+        private void fireTurret(PlacedObject obj) {
+            for (ClientHandler ch : playersInRadius(obj.x, obj.y, TURRET_RANGE)) {
+                // 터렛은 적 팀만 공격 (소유자 본인 제외 - 같은 팀이므로 이미 필터링됨)
+                if (ch.playerInfo.team == obj.team)
+                    continue;
+                // 추가 안전 장치: 소유자 본인은 절대 공격하지 않음
+                if (ch.playerName.equals(obj.owner))
+                    continue;
 
-        ScheduledStrike(int id, String owner, int team, int targetX, int targetY, long impactAt) {
-            this.id = id;
-            this.owner = owner;
-            this.team = team;
-            this.targetX = targetX;
-            this.targetY = targetY;
-            this.impactAt = impactAt;
+                // 터렛이 적을 감지하면 미사일 발사 메시지 브로드캐스트
+                // Client expects: TURRET_SHOOT:objId,tx,ty,targetName,ownerName
+                String shootMsg = "TURRET_SHOOT:" + obj.id + "," + (int) ch.playerInfo.x + ","
+                        + (int) ch.playerInfo.y + "," + ch.playerName + "," + obj.owner;
+                broadcast(shootMsg, null);
+                Log.debug(() -> "[TURRET_SHOOT] Turret #" + obj.id + " (owner: " + obj.owner + 
+                    ", team: " + obj.team + ") attacking " + ch.playerName + " (team: " + ch.playerInfo.team + ")");
+
+                // 터렛 데미지 적용은 서버 미사일(--server-projectiles) 또는 클라이언트의 미사일 충돌(HITME)
+                if (serverProjectiles)
+                    spawnTurretMissile(obj, (int) ch.playerInfo.x, (int) ch.playerInfo.y);
+                break; // 한 번에 한 명만 공격
+            }
         }
-    }
 
-    public GameServer(int port) throws IOException {
-        serverSocket = new ServerSocket(port);
-        System.out.println("서버 시작: " + port);
-        System.out.println("최대 플레이어 수: " + GameConstants.MAX_PLAYERS);
-        // 터렛 자동 공격 타이머 시작
-        turretAttackTimer = new Timer(true);
-        turretAttackTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                checkTurretTargets();
-            }
-        }, 1000, TURRET_ATTACK_INTERVAL);
+        /**
+         * 클라이언트 handleTurretShoot 와 같은 궤적(정수로 자른 속도)의 서버 미사일
+         */
+        private void spawnTurretMissile(PlacedObject obj, int tx, int ty) {
+            int dx = tx - obj.x, dy = ty - obj.y;
+            double distance = Math.sqrt(dx * dx + dy * dy);
+            if (distance <= 0)
+                return;
+            int vx = (int) (dx / distance * TURRET_MISSILE_SPEED);
+            int vy = (int) (dy / distance * TURRET_MISSILE_SPEED);
+            ClientHandler owner = clients.get(obj.owner);
+            int ownerId = owner != null && owner.playerInfo != null ? owner.playerInfo.id : -1;
+            projectiles.spawn(ownerId, obj.team, obj.x, obj.y, vx, vy, 0f, TURRET_DAMAGE, true);
+        }
 
-    }
+        /**
+         * 라운드 종료 조건 확인 (한 팀 전멸)
+         */
+        private void checkRoundEnd() {
+            if (roundEnded.get())
+                return;
+            if (clients.size() < 2)
+                return; // 혼자서는 라운드 진행 불가 (테스트용 예외 가능)
 
-    public void start() {
-        while (running) {
-            try {
-                Socket clientSocket = serverSocket.accept();
+            int redAlive = 0;
+            int blueAlive = 0;
+            int redTotal = 0;
+            int blueTotal = 0;
 
-                if (clients.size() >= GameConstants.MAX_PLAYERS) {
-                    DataOutputStream tmpOut = new DataOutputStream(clientSocket.getOutputStream());
-                    tmpOut.writeUTF("서버가 가득 찼습니다. 나중에 다시 시도하세요.");
-                    tmpOut.flush();
-                    clientSocket.close();
+            for (ClientHandler ch : clients.values()) {
+                if (ch.playerInfo == null)
                     continue;
+                if (ch.playerInfo.team == GameConstants.TEAM_RED) {
+                    redTotal++;
+                    if (ch.playerInfo.hp > 0)
+                        redAlive++;
+                } else if (ch.playerInfo.team == GameConstants.TEAM_BLUE) {
+                    blueTotal++;
+                    if (ch.playerInfo.hp > 0)
+                        blueAlive++;
                 }
+            }
 
-                ClientHandler handler = new ClientHandler(clientSocket);
-                new Thread(handler).start();
-            } catch (IOException e) {
-                if (running)
-                    e.printStackTrace();
+            // 팀이 존재하는데 전멸한 경우
+            if (redTotal > 0 && redAlive == 0) {
+                endRound(GameConstants.TEAM_BLUE);
+            } else if (blueTotal > 0 && blueAlive == 0) {
+                endRound(GameConstants.TEAM_RED);
             }
         }
-    }
 
-    public void stop() {
-        running = false;
-        try {
-            serverSocket.close();
-        } catch (IOException ignored) {
+        private void endRound(int winningTeam) {
+            // 이미 다른 판정이 라운드를 끝냈으면 승수 / 다음 라운드 예약을 중복하지 않음
+            if (!roundEnded.compareAndSet(false, true))
+                return;
+            String winTeamName = (winningTeam == GameConstants.TEAM_RED) ? "RED" : "BLUE";
+
+            if (winningTeam == GameConstants.TEAM_RED)
+                redWins++;
+            else
+                blueWins++;
+
+            broadcast("CHAT:=== 라운드 종료! " + winTeamName + " 팀 승리! ===", null);
+            broadcast("ROUND_WIN:" + winningTeam + "," + redWins + "," + blueWins, null);
+
+            // 게임 종료 체크
+            if (redWins >= MAX_WINS || blueWins >= MAX_WINS) {
+                broadcast("GAME_OVER:" + winTeamName, null);
+                Log.info("[GAME_OVER] " + winTeamName + " team wins the game! Resetting game state...");
+            
+                // 게임 종료 후 초기화 (10초 후)
+                timers.schedule(GAME_RESET_DELAY, metrics.timed(ServerMetrics.TimerTask.ROUND, this::resetGameState));
+            } else {
+                // 3초 후 다음 라운드
+                broadcast("CHAT:3초 후 다음 라운드가 시작됩니다...", null);
+                timers.schedule(NEXT_ROUND_DELAY, metrics.timed(ServerMetrics.TimerTask.ROUND, this::startNextRound));
+            }
         }
-    }
 
-    private synchronized void broadcast(String message, String excludeClient) {
-        for (Map.Entry<String, ClientHandler> entry : clients.entrySet()) {
-            if (!entry.getKey().equals(excludeClient)) {
-                entry.getValue().sendMessage(message);
+        /**
+         * 게임 종료 후 모든 상태를 초기화하고 새 게임 시작
+         */
+        private void resetGameState() {
+            Log.info("[RESET] Resetting game state...");
+        
+            // 게임 카운터 초기화
+            roundCount = 0;
+            redWins = 0;
+            blueWins = 0;
+            roundEnded.set(false);
+        
+            // 오브젝트 및 스킬 초기화 (예약 이벤트 일괄 취소)
+            timers.cancelAll();
+            clearObjects();
+            activeAuras.clear();
+            projectiles.clear();
+            playerCharacterChanged.clear();
+        
+            // 모든 플레이어 상태 초기화 (준비 해제, HP 리셋)
+            for (ClientHandler ch : clients.values()) {
+                ch.ready = false;
+                ch.spawnProtected = false;
+                if (ch.playerInfo != null && ch.playerInfo.characterId != null) {
+                    CharacterData cd = CharacterData.getById(ch.playerInfo.characterId);
+                    if (cd != null) {
+                        ch.playerInfo.hp = (int) cd.health;
+                    }
+                    ch.playerInfo.kills = 0;
+                    ch.playerInfo.deaths = 0;
+                }
             }
+        
+            broadcast("CHAT:[시스템] 게임이 종료되었습니다. 로비로 돌아갑니다.", null);
+            Log.info("[RESET] Game state reset complete. Waiting for new game start.");
         }
-    }
+    
+        private void startNextRound() {
+            // 라운드가 끝난 후 호출되므로 카운트 증가
+            // 단, 첫 게임 시작(roundCount==0)일 때는 1로 시작
+            boolean wasEnded = roundEnded.getAndSet(false);
+            if (roundCount == 0) {
+                roundCount = 1;
+            } else if (wasEnded) {
+                roundCount++;
+            }
+
+            // 랜덤 맵 선택
+            String[] availableMaps = { "map", "map2", "map3", "village" };
+            this.selectedMap = availableMaps[new java.util.Random().nextInt(availableMaps.length)];
+            mapGrid = mapGrid(selectedMap);
+
+            // 게임 상태 초기화 (이전 라운드의 예약 이벤트 일괄 취소)
+            timers.cancelAll();
+            clearObjects();
+            activeAuras.clear();
+            projectiles.clear();
+
+            // 캐릭터 변경 제한 초기화
+            playerCharacterChanged.clear();
+            currentRoundStartTime = System.currentTimeMillis();
 
-    // 팀/레디 상태 전체 브로드캐스트 (캐릭터 정보 포함)
-    private synchronized void broadcastTeamRoster() {
-        StringBuilder sb = new StringBuilder("TEAM_ROSTER:");
-        boolean first = true;
-        for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
-            ClientHandler ch = e.getValue();
-            if (ch.playerInfo == null)
-                continue;
-            if (!first)
-                sb.append(';');
-            first = false;
-            sb.append(ch.playerName)
-                    .append(',').append(ch.playerInfo.team)
-                    .append(',').append(ch.ready)
-                    .append(',').append(ch.playerInfo.characterId != null ? ch.playerInfo.characterId : "");
-        }
-        String rosterMsg = sb.toString();
-        for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
-            e.getValue().sendMessage(rosterMsg);
+            // 모든 플레이어 부활 및 위치 초기화 (클라이언트가 알아서 하거나 서버가 강제)
+            // 여기서는 HP만 채워주고 클라이언트에게 라운드 시작 알림
+            for (ClientHandler ch : clients.values()) {
+                // 리스폰 위치를 보고할 때까지 스냅샷에서 제외
+                ch.positionKnown = false;
+                ch.positionHistory.clear();
+                ch.shots.clear();
+                // 스폰 보호 (SPAWN_PROTECTION 뒤 해제)
+                ch.spawnProtected = true;
+                timers.schedule(SPAWN_PROTECTION, () -> ch.spawnProtected = false);
+                if (ch.playerInfo != null) {
+                    // ===== 단일 소스: playerInfo.characterId 기준으로 HP 초기화 =====
+                    if (ch.playerInfo.characterId != null) {
+                        ch.playerInfo.hp = (int) com.fpsgame.common.CharacterData.getById(ch.playerInfo.characterId).health;
+                    } else {
+                        ch.playerInfo.hp = GameConstants.MAX_HP;
+                    }
+                    Log.debug(() -> "[ROUND_START] " + ch.playerName + ": " + ch.playerInfo.characterId + " HP=" + ch.playerInfo.hp);
+                }
+            }
+
+            // ===== ROUND_START 패킷에 모든 플레이어 정보 포함 =====
+            // 형식: ROUND_START:roundNumber,mapId;playerCount;name1,charId1,hp1,maxHp1;name2,charId2,hp2,maxHp2;...
+            StringBuilder roundStartMsg = new StringBuilder();
+            roundStartMsg.append("ROUND_START:").append(roundCount).append(",").append(selectedMap).append(";");
+            roundStartMsg.append(clients.size());
+        
+            for (ClientHandler ch : clients.values()) {
+                if (ch.playerInfo != null) {
+                    String charId = (ch.playerInfo.characterId != null) ? ch.playerInfo.characterId : "raven";
+                    int maxHp = (int) com.fpsgame.common.CharacterData.getById(charId).health;
+                    roundStartMsg.append(";");
+                    roundStartMsg.append(ch.playerName).append(",")
+                               .append(charId).append(",")
+                               .append(ch.playerInfo.hp).append(",")
+                               .append(maxHp);
+                }
+            }
+        
+            broadcast(roundStartMsg.toString(), null);
+            Log.debug(() -> "[ROUND_START] Broadcasting: " + roundStartMsg.toString());
+        
+            // 각 플레이어에게 최신 스탯 브로드캐스트 (추가 보장)
+            for (ClientHandler ch : clients.values()) {
+                if (ch.playerInfo != null) {
+                    broadcastStats(ch.playerName, ch.playerInfo);
+                }
+            }
+        
+            broadcastTeamRoster(); // 갱신된 정보 전송
         }
     }
 
-    // 간단한 스탯 브로드캐스트: 이름, kills, deaths, hp
-    private synchronized void broadcastStats(String name, Protocol.PlayerInfo info) {
-        if (info == null)
-            return;
-        String charId = (info.characterId != null) ? info.characterId : "raven";
-        String stats = "STATS:" + name + "," + info.kills + "," + info.deaths + "," + info.hp + "," + charId;
-        for (Map.Entry<String, ClientHandler> entry : clients.entrySet()) {
-            entry.getValue().sendMessage(stats);
-        }
+    /**
+     * 맵 충돌 격자 (처음 요청 때 한 번 로드해 캐시)
+     *
+     * @return JSON 이 없거나 읽지 못하면 null - 이동/설치 검증과 미사일 벽 판정을 생략
+     */
+    MapGrid mapGrid(String mapName) {
+        return mapGrids.computeIfAbsent(mapName, name -> {
+            try {
+                MapGrid grid = MapGrid.load(name);
+                if (grid == null) {
+                    Log.warn("[MAP] " + name + " 맵 JSON 없음 - 서버 맵 판정 생략");
+                } else {
+                    Log.info("[MAP] " + name + " 충돌 격자 로드 (" + grid.getCols() + "x" + grid.getRows() + " 타일)");
+                }
+                return Optional.ofNullable(grid);
+            } catch (IOException e) {
+                Log.warn("[MAP] " + name + " 맵 로드 실패: " + e.getMessage());
+                return Optional.empty();
+            }
+        }).orElse(null);
     }
 
-    class ClientHandler implements Runnable {
-        private final Socket socket;
-        private DataOutputStream out;
-        private DataInputStream in;
+    class ClientHandler implements Runnable, NioServerCore.Handler {
+        private final Socket socket; // 스레드-퍼-클라이언트 모드에서만 사용 (NIO 모드는 null)
+        private ClientTransport transport;
+        // JOIN 때 배정된 매치 (JOIN 전에는 null)
+        private volatile Match match;
+        private final java.util.concurrent.atomic.AtomicBoolean closed = new java.util.concurrent.atomic.AtomicBoolean(false);
         private String playerName;
         private Protocol.PlayerInfo playerInfo;
-        private long spawnProtectedUntil = 0L;
+        private volatile boolean spawnProtected = false;
+        // 지연 보정 피격 판정용 위치 이력 (틱 스레드가 기록) / 최근 발사 기록
+        private final PositionHistory positionHistory = new PositionHistory(tickRate);
+        private final ShotHistory shots = new ShotHistory();
         private boolean ready = false;
+        // JOIN 때 협상한 기능 (Protocol.FEATURE_*)
+        private volatile int features = 0;
+        private volatile boolean binary = false;
+        private volatile boolean snapshots = false;
+        private volatile boolean delta = false;
+        // 클라이언트가 마지막으로 복원을 확인한 스냅샷 틱 (NO_BASE = 전체 스냅샷 필요)
+        private volatile int ackedTick = DeltaCodec.NO_BASE;
+        // 마지막 델타를 보낸 시야 단위 (틱 스레드 전용)
+        private int deltaView = -1;
+        // 수신 스레드가 넣고 틱 스레드가 꺼내는 최신 위치 입력
+        private final PendingInput pendingInput = new PendingInput();
+        // 기본 공격 사거리 / 데미지 (JOIN / CHARACTER_SELECT 때 캐릭터에서 한 번 계산)
+        private volatile float basicRange = 0f;
+        private volatile int basicDamage = GameConstants.MISSILE_DAMAGE;
+        // 수신 스레드가 넣고 틱 스레드가 처리하는 피격 / 사망 보고
+        private final PendingReports pendingReports = new PendingReports();
+        // 방향, 이번 라운드 위치 보고 여부 (라운드 시작 시 초기화), 이번 틱 이동 여부
+        private int direction = 0;
+        private volatile boolean positionKnown = false;
+        private boolean movedThisTick = false;
+        private int lastMovedTick = -1;
+        // 송신 대역폭 추정 / 위치 갱신 주기 (틱 스레드 전용)
+        private final SendRateController sendRate = new SendRateController(tickRate, sendRateStats);
+        // 플레이어 격자에 넣은 좌표 (틱 스레드 전용)
+        private int gridX, gridY;
+        // 마지막으로 받아들인 위치 입력 시각, 거부/보정한 위치 입력 수 (틱 스레드 전용)
+        private long lastMoveTime;
+        private int moveRejects = 0;
+        // 마지막으로 반영한 위치 입력 순번, 아직 MOVE_ACK 로 알리지 않았는지 (틱 스레드 전용, FEATURE_INPUT_SEQ)
+        private int inputSeq = -1;
+        private boolean moveAckPending = false;
+        // 매치 기록 안의 연결 번호 (JOIN 때 배정, 기록하지 않으면 -1)
+        private int recordConn = -1;
 
         ClientHandler(Socket socket) {
             this.socket = socket;
         }
 
+        ClientHandler(ClientTransport transport) {
+            this.socket = null;
+            this.transport = transport;
+        }
+
         @Override
         public void run() {
             try {
@@ -224,61 +2083,115 @@ public class GameServer {
                 } catch (java.net.SocketException ignore) {
                     // 소켓 옵션 설정 실패 시 무시하고 계속
                 }
-                out = new DataOutputStream(socket.getOutputStream());
-                in = new DataInputStream(socket.getInputStream());
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                StreamTransport st = new StreamTransport(socket, newOutboundQueue(), connectionThreads);
+                st.start();
+                transport = st;
 
+                ByteBuffer payload = null;
                 while (true) {
-                    String message = in.readUTF();
-                    try {
-                        processMessage(message);
-                    } catch (Exception ex) {
-                        System.err.println("[ERROR] processMessage 실패 (" + playerName + "): " + message);
-                        ex.printStackTrace();
-                        // 계속 진행 (연결은 유지)
-                    }
+                    payload = FrameCodec.readFrame(in, payload);
+                    if (BinaryCodec.isBinary(payload))
+                        onBinary(payload);
+                    else
+                        onMessage(FrameCodec.decode(payload, payload.remaining()));
                 }
             } catch (IOException e) {
-                System.out.println("클라이언트 연결 끊김: " + playerName);
+                Log.info("클라이언트 연결 끊김: " + playerName);
             } finally {
                 cleanup();
             }
         }
 
+        @Override
+        public void onMessage(String message) {
+            long start = System.nanoTime();
+            Match before = match;
+            if (before != null && before.recorder != null)
+                before.recorder.inboundText(recordConn, message);
+            try {
+                processMessage(message);
+            } catch (Exception ex) {
+                Log.error("[ERROR] processMessage 실패 (" + playerName + "): " + message, ex);
+                // 계속 진행 (연결은 유지)
+            }
+            // JOIN 은 매치가 정해진 뒤에 기록 (재생 시 첫 메시지)
+            Match joined = match;
+            if (before == null && joined != null && joined.recorder != null)
+                joined.recorder.inboundText(recordConn, message);
+            metrics.recordText(message, System.nanoTime() - start);
+        }
+
+        @Override
+        public void onBinary(ByteBuffer payload) {
+            Match m = match;
+            if (m == null)
+                return; // JOIN 전에는 무시
+            long start = System.nanoTime();
+            if (m.recorder != null)
+                m.recorder.inboundBinary(recordConn, payload);
+            int size = payload.remaining();
+            byte type = -1;
+            try {
+                type = BinaryCodec.readType(payload);
+                switch (type) {
+                    case Protocol.POSITION -> handlePosition(BinaryCodec.readCoord(payload),
+                            BinaryCodec.readCoord(payload), BinaryCodec.readUnsignedByte(payload),
+                            payload.remaining() >= 4 ? BinaryCodec.readInt(payload) : -1);
+                    case Protocol.PLAYER_SHOOT -> handleShoot(BinaryCodec.readCoord(payload),
+                            BinaryCodec.readCoord(payload), BinaryCodec.readVelocity(payload),
+                            BinaryCodec.readVelocity(payload), null);
+                    case Protocol.SNAPSHOT_ACK -> handleSnapshotAck(BinaryCodec.readInt(payload));
+                    default -> Log.error("[ERROR] 알 수 없는 바이너리 메시지 (" + playerName + "): " + type);
+                }
+            } catch (Exception ex) {
+                Log.error("[ERROR] 바이너리 메시지 처리 실패 (" + playerName + ")", ex);
+            }
+            metrics.recordBinary(type, size, System.nanoTime() - start);
+        }
+
+        @Override
+        public void onClosed() {
+            if (playerName != null)
+                Log.info("클라이언트 연결 끊김: " + playerName);
+            cleanup();
+        }
+
         private void processMessage(String message) {
             String[] parts = message.split(":", 2);
             if (parts.length < 1)
                 return;
             String command = parts[0];
             String data = parts.length > 1 ? parts[1] : "";
+            // JOIN 전에는 JOIN / PING / QUIT 만 처리, JOIN 은 한 번만
+            boolean preJoinCommand = command.equals("JOIN") || command.equals("PING") || command.equals("QUIT");
+            if (match == null && !preJoinCommand)
+                return;
+            if (match != null && command.equals("JOIN"))
+                return;
 
             switch (command) {
                 case "JOIN":
-                    // JOIN:playerName 또는 JOIN:playerName:characterId 형식 파싱
+                    // JOIN:playerName[:characterId[:features]] 형식 파싱
                     String[] joinParts = data.split(":");
                     playerName = joinParts[0];
                     
                     // 플레이어 이름 검증
                     if (playerName == null || playerName.trim().isEmpty()) {
                         sendMessage("CHAT:[시스템] 유효하지 않은 플레이어 이름입니다.");
-                        try {
-                            socket.close();
-                        } catch (IOException ignored) {
-                        }
+                        transport.close();
                         return;
                     }
                     
-                    playerInfo = new Protocol.PlayerInfo(clients.size(), playerName);
+                    playerInfo = new Protocol.PlayerInfo(0, playerName); // 번호는 매치 배정 때 할당
                     playerInfo.x = 400;
                     playerInfo.y = 300;
                     
                     // 캐릭터 선택 필수 검증
                     if (joinParts.length <= 1 || joinParts[1] == null || joinParts[1].trim().isEmpty()) {
                         sendMessage("CHAT:[시스템] 캐릭터를 선택한 후 입장해주세요.");
-                        System.out.println("[JOIN_REJECTED] " + playerName + " - No character selected");
-                        try {
-                            socket.close();
-                        } catch (IOException ignored) {
-                        }
+                        Log.info("[JOIN_REJECTED] " + playerName + " - No character selected");
+                        transport.close();
                         return;
                     }
                     
@@ -287,32 +2200,67 @@ public class GameServer {
                     CharacterData cd = CharacterData.getById(joinCharId);
                     if (cd == null) {
                         sendMessage("CHAT:[시스템] 잘못된 캐릭터 ID입니다: " + joinCharId);
-                        System.out.println("[JOIN_REJECTED] " + playerName + " - Invalid character ID: " + joinCharId);
-                        try {
-                            socket.close();
-                        } catch (IOException ignored) {
-                        }
+                        Log.info("[JOIN_REJECTED] " + playerName + " - Invalid character ID: " + joinCharId);
+                        transport.close();
                         return;
                     }
                     
                     // 캐릭터 설정
-                    playerInfo.characterId = joinCharId;
+                    setCharacter(joinCharId);
                     playerInfo.hp = (int) cd.health;
-                    System.out.println("[JOIN_SUCCESS] " + playerName + " joined with " + joinCharId + " (HP: " + playerInfo.hp + ")");
-                    clients.put(playerName, this);
+                    Log.info("[JOIN_SUCCESS] " + playerName + " joined with " + joinCharId + " (HP: " + playerInfo.hp + ")");
+                    // 기능 협상 (구버전 클라이언트는 필드가 없으므로 텍스트 유지)
+                    if (joinParts.length > 2) {
+                        try {
+                            features = Integer.parseInt(joinParts[2].trim()) & Protocol.SUPPORTED_FEATURES;
+                        } catch (NumberFormatException ignored) {
+                        }
+                        if ((features & Protocol.FEATURE_BINARY) == 0)
+                            features &= ~Protocol.FEATURE_SNAPSHOT; // 스냅샷은 바이너리 전용
+                        if ((features & Protocol.FEATURE_SNAPSHOT) == 0)
+                            features &= ~Protocol.FEATURE_DELTA;
+                        if (!serverProjectiles)
+                            features &= ~Protocol.FEATURE_SERVER_HITS;
+                        sendMessage("FEATURES:" + features);
+                        // 스냅샷 틱 번호 → 서버 시각 변환용 (클라이언트 보간)
+                        sendMessage("TICK_RATE:" + tickRate);
+                    }
+                    match = joinMatch(this);
+                    if (match == null) {
+                        sendMessage(SERVER_FULL_MESSAGE);
+                        Log.info("[JOIN_REJECTED] " + playerName + " - 매치 수 한도 초과");
+                        transport.close();
+                        return;
+                    }
                     sendMessage("WELCOME: 서버에 " + playerName + " 님이 연결되었습니다.");
+
+                    // 바이너리 메시지의 플레이어 번호 ↔ 이름 매핑 (binary 활성화 전에 먼저 전달)
+                    snapshots = (features & Protocol.FEATURE_SNAPSHOT) != 0;
+                    delta = (features & Protocol.FEATURE_DELTA) != 0;
+                    if ((features & Protocol.FEATURE_BINARY) != 0) {
+                        for (ClientHandler ch : match.clients.values()) {
+                            if (ch.playerInfo != null)
+                                sendMessage("ID_MAP:" + ch.playerInfo.id + "," + ch.playerName);
+                        }
+                        binary = true;
+                    }
+                    String idMapMsg = "ID_MAP:" + playerInfo.id + "," + playerName;
+                    for (ClientHandler ch : match.clients.values()) {
+                        if (ch != this && ch.binary)
+                            ch.sendMessage(idMapMsg);
+                    }
                     
                     // 현재 맵 정보 전송 (라운드가 시작된 경우에만)
-                    if (selectedMap != null && !selectedMap.isEmpty() && roundCount > 0) {
-                        sendMessage("MAP_SYNC:" + selectedMap);
-                        System.out.println("[MAP_SYNC] Sent current map to " + playerName + ": " + selectedMap);
+                    if (match.selectedMap != null && !match.selectedMap.isEmpty() && match.roundCount > 0) {
+                        sendMessage("MAP_SYNC:" + match.selectedMap);
+                        Log.info("[MAP_SYNC] Sent current map to " + playerName + ": " + match.selectedMap);
                     } else {
-                        System.out.println("[MAP_SYNC] Skipped for " + playerName + " - waiting for first ROUND_START");
+                        Log.info("[MAP_SYNC] Skipped for " + playerName + " - waiting for first ROUND_START");
                     }
                     
-                    broadcast("CHAT:" + playerName + " 님이 게임에 참가했습니다!", playerName);
+                    match.broadcast("CHAT:" + playerName + " 님이 게임에 참가했습니다!", playerName);
                     // 기존 플레이어 스탯을 새 플레이어에게 전달
-                    for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
+                    for (Map.Entry<String, ClientHandler> e : match.clients.entrySet()) {
                         ClientHandler ch = e.getValue();
                         if (ch != null && ch.playerInfo != null) {
                             // characterId 포함하여 STATS 전송
@@ -326,18 +2274,18 @@ public class GameServer {
                         }
                     }
                     // 새 플레이어 스탯을 모두에게 전달
-                    broadcastStats(playerName, playerInfo);
-                    System.out.println("플레이어 참가: " + playerName + " (총: " + clients.size() + ")");
-                    broadcastTeamRoster();
+                    match.broadcastStats(playerName, playerInfo);
+                    Log.info("플레이어 참가: " + playerName + " (총: " + match.clients.size() + ")");
+                    match.broadcastTeamRoster();
                     break;
 
                 case "CHAT":
-                    broadcast("CHAT:" + playerName + ": " + data, null);
+                    match.broadcast("CHAT:" + playerName + ": " + data, null);
                     break;
 
                 case "TEAM":
                     playerInfo.team = Integer.parseInt(data);
-                    broadcastTeamRoster();
+                    match.broadcastTeamRoster();
                     break;
 
                 case "CHARACTER_SELECT":
@@ -348,7 +2296,7 @@ public class GameServer {
                     // 캐릭터 ID 검증
                     if (data == null || data.trim().isEmpty()) {
                         sendMessage("CHAT:[시스템] 캐릭터를 선택해주세요.");
-                        System.out.println("[CHARACTER_SELECT_REJECTED] " + playerName + " - Empty character ID");
+                        Log.info("[CHARACTER_SELECT_REJECTED] " + playerName + " - Empty character ID");
                         break;
                     }
                     
@@ -356,78 +2304,78 @@ public class GameServer {
                     CharacterData newCharData = CharacterData.getById(newCharId);
                     if (newCharData == null) {
                         sendMessage("CHAT:[시스템] 잘못된 캐릭터 ID입니다: " + data);
-                        System.out.println("[CHARACTER_SELECT_REJECTED] " + playerName + " - Invalid character ID: " + data);
+                        Log.info("[CHARACTER_SELECT_REJECTED] " + playerName + " - Invalid character ID: " + data);
                         break;
                     }
                     
                     // 라운드 진행 중일 때만 제한 적용 (로비에서는 무제한)
-                    if (currentRoundStartTime > 0) {
+                    if (match.currentRoundStartTime > 0) {
                         long now = System.currentTimeMillis();
-                        long elapsed = now - currentRoundStartTime;
+                        long elapsed = now - match.currentRoundStartTime;
                         
                         // 1. 시간 제한 (10초) - 엄격하게 체크
                         if (elapsed >= 10000) {
                             sendMessage("CHAT:[시스템] 라운드 시작 후 10초가 지나 캐릭터를 변경할 수 없습니다. (경과: " + (elapsed/1000) + "초)");
-                            System.out.println("[CHARACTER_SELECT_DENIED] " + playerName + " - Time limit exceeded: " + elapsed + "ms");
+                            Log.info("[CHARACTER_SELECT_DENIED] " + playerName + " - Time limit exceeded: " + elapsed + "ms");
                             break;
                         }
                         
                         // 2. 횟수 제한 (라운드당 1회)
-                        if (playerCharacterChanged.containsKey(playerName)) {
+                        if (match.playerCharacterChanged.containsKey(playerName)) {
                             sendMessage("CHAT:[시스템] 이번 라운드에 이미 캐릭터를 변경했습니다. (1회 제한)");
-                            System.out.println("[CHARACTER_SELECT_DENIED] " + playerName + " - Already changed in this round");
+                            Log.info("[CHARACTER_SELECT_DENIED] " + playerName + " - Already changed in this round");
                             break;
                         }
                         
                         // 3. 라운드 종료 상태 체크
-                        if (roundEnded) {
+                        if (match.roundEnded.get()) {
                             sendMessage("CHAT:[시스템] 라운드가 종료되어 캐릭터를 변경할 수 없습니다.");
-                            System.out.println("[CHARACTER_SELECT_DENIED] " + playerName + " - Round ended");
+                            Log.info("[CHARACTER_SELECT_DENIED] " + playerName + " - Round ended");
                             break;
                         }
                         
                         // 변경 기록
-                        playerCharacterChanged.put(playerName, true);
-                        System.out.println("[CHARACTER_SELECT_ALLOWED] " + playerName + " - Elapsed: " + elapsed + "ms");
+                        match.playerCharacterChanged.put(playerName, true);
+                        Log.info("[CHARACTER_SELECT_ALLOWED] " + playerName + " - Elapsed: " + elapsed + "ms");
                     }
 
                     // 캐릭터 변경
-                    playerInfo.characterId = newCharId;
+                    setCharacter(newCharId);
                     playerInfo.hp = (int) newCharData.health;
 
-                    System.out.println("[CHARACTER_SELECT] " + playerName + " changed to " + newCharId + " (HP: " + playerInfo.hp + ")");
+                    Log.info("[CHARACTER_SELECT] " + playerName + " changed to " + newCharId + " (HP: " + playerInfo.hp + ")");
 
                     // 변경 성공 알림 (본인 및 타인)
                     // CHARACTER_SELECT:playerName,characterId
                     String charSelectMsg = "CHARACTER_SELECT:" + playerName + "," + newCharId;
-                    broadcast(charSelectMsg, null);
+                    match.broadcast(charSelectMsg, null);
 
                     // ===== HP/스탯 즉시 브로드캐스트 (모든 클라이언트 동기화) =====
-                    broadcastStats(playerName, playerInfo);
+                    match.broadcastStats(playerName, playerInfo);
                     
-                    broadcast("CHAT:" + playerName + " 님이 " + newCharData.name
+                    match.broadcast("CHAT:" + playerName + " 님이 " + newCharData.name
                             + " 캐릭터를 선택했습니다!", null);
                     
-                    broadcastTeamRoster();
+                    match.broadcastTeamRoster();
                     break;
 
                 case "READY":
                     ready = true;
-                    broadcast("CHAT:" + playerName + " 님이 준비 완료했습니다!", null);
-                    broadcastTeamRoster();
+                    match.broadcast("CHAT:" + playerName + " 님이 준비 완료했습니다!", null);
+                    match.broadcastTeamRoster();
                     break;
 
                 case "UNREADY":
                     ready = false;
-                    broadcast("CHAT:" + playerName + " 님이 준비 해제했습니다.", null);
-                    broadcastTeamRoster();
+                    match.broadcast("CHAT:" + playerName + " 님이 준비 해제했습니다.", null);
+                    match.broadcastTeamRoster();
                     break;
 
                 case "START":
                     // 서버 측 검증: 각 팀 1명 이상, 팀 인원 차이 2 이하, 전체 모두 ready
                     int redCount = 0, blueCount = 0;
                     boolean allReady = true;
-                    for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
+                    for (Map.Entry<String, ClientHandler> e : match.clients.entrySet()) {
                         ClientHandler ch = e.getValue();
                         if (ch.playerInfo == null)
                             continue;
@@ -450,70 +2398,29 @@ public class GameServer {
                         sendMessage("CHAT:: 모든 플레이어가 준비되지 않았습니다.");
                         break;
                     }
-                    broadcast("CHAT:게임이 시작됩니다...", null);
+                    match.broadcast("CHAT:게임이 시작됩니다...", null);
                     // 게임 시작 신호
-                    for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
-                        e.getValue().sendMessage("GAME_START");
-                    }
+                    match.broadcast("GAME_START", null);
                     // 첫 라운드 시작
-                    startNextRound();
+                    match.startNextRound();
                     break;
 
                 case "POS":
                     String[] coords = data.split(",");
                     if (coords.length >= 2) {
-                        playerInfo.x = Float.parseFloat(coords[0]);
-                        playerInfo.y = Float.parseFloat(coords[1]);
-                        // 방향 정보 파싱 (0:Down, 1:Up, 2:Left, 3:Right)
+                        // 방향 정보 파싱 (0:Down, 1:Up, 2:Left, 3:Right), 입력 순번 (FEATURE_INPUT_SEQ)
                         int direction = (coords.length >= 3) ? Integer.parseInt(coords[2]) : 0;
-                        String charId = (playerInfo.characterId != null) ? playerInfo.characterId : "raven";
-                        // PLAYER:이름,x,y,팀,hp,캐릭터ID,방향
-                        String posUpdate = "PLAYER:" + playerName + "," + playerInfo.x + "," + playerInfo.y + ","
-                                + playerInfo.team + "," + playerInfo.hp + "," + charId + "," + direction;
-                        broadcast(posUpdate, playerName);
-
-                        // 오라 범위 체크 및 버프 적용/제거
-                        updateAuraBuffs();
-                        // 지뢰 밟기 체크 (tech_mine)
-                        List<Integer> minesToExplode = new ArrayList<>();
-                        for (PlacedObject obj : placedObjects.values()) {
-                            if ("tech_mine".equals(obj.type) && obj.hp > 0 && obj.team != playerInfo.team) {
-                                double dist = Math
-                                        .sqrt(Math.pow(playerInfo.x - obj.x, 2) + Math.pow(playerInfo.y - obj.y, 2));
-                                if (dist < 24) // 밟은 판정 (지뢰 크기+캐릭터 크기)
-                                    minesToExplode.add(obj.id);
-                            }
-                        }
-                        for (int mineId : minesToExplode) {
-                            PlacedObject mine = placedObjects.remove(mineId);
-                            if (mine != null) {
-                                int mineDamage = 60; // 지뢰 폭발 데미지
-                                playerInfo.hp -= mineDamage;
-                                if (playerInfo.hp < 0)
-                                    playerInfo.hp = 0;
-                                
-                                // 지뢰로 사망한 경우 사망 처리
-                                if (playerInfo.hp <= 0) {
-                                    playerInfo.deaths++;
-                                    broadcast("CHAT:" + playerName + " 님이 지뢰를 밟아 사망했습니다!", null);
-                                    checkRoundEnd();
-                                } else {
-                                    broadcast("CHAT:" + playerName + " 님이 지뢰를 밟아 폭발! (데미지 " + mineDamage + ")", null);
-                                }
-                                
-                                broadcastStats(playerName, playerInfo);
-                                // 지뢰 파괴 메시지
-                                String destroyMsg = "OBJ_DESTROY:" + mineId;
-                                for (ClientHandler ch : clients.values()) {
-                                    ch.sendMessage(destroyMsg);
-                                }
-                            }
-                        }
+                        int seq = (coords.length >= 4) ? Integer.parseInt(coords[3]) : -1;
+                        handlePosition(Float.parseFloat(coords[0]), Float.parseFloat(coords[1]), direction, seq);
                     }
                     break;
 
                 case "SHOOT":
-                    broadcast("SHOOT:" + playerName + "," + data, playerName);
+                    String[] shot = data.split(",");
+                    if (shot.length >= 4) {
+                        handleShoot(Float.parseFloat(shot[0]), Float.parseFloat(shot[1]),
+                                Float.parseFloat(shot[2]), Float.parseFloat(shot[3]), data);
+                    }
                     break;
 
                 case "SKILL":
@@ -524,134 +2431,118 @@ public class GameServer {
                     break;
 
                 case "HIT_OBJ":
-                    // Client reports hitting a placed object: objId
-                    handleObjectHit(playerName, data);
-                    break;
-
                 case "HIT":
-                    String hitPlayer = data;
-                    ClientHandler target = clients.get(hitPlayer);
-                    if (target != null && target.playerInfo != null) {
-                        // 스폰 보호 중이거나 이미 사망 상태면 무시
-                        long now = System.currentTimeMillis();
-                        if (now < target.spawnProtectedUntil || target.playerInfo.hp <= 0 || this.playerInfo.hp <= 0) {
-                            break;
-                        }
-                        int dmg = resolveBasicDamage(this.playerInfo.characterId);
-                        target.playerInfo.hp -= dmg;
-                        System.out.println("[HIT] " + playerName + " hit " + hitPlayer + 
-                            " (damage: " + dmg + ", remaining HP: " + target.playerInfo.hp + ")");
-                        
-                        if (target.playerInfo.hp <= 0) {
-                            target.playerInfo.hp = 0;
-                            sendMessage("KILL:" + hitPlayer);
-                            this.playerInfo.kills++;
-                            target.playerInfo.deaths++;
-                            broadcastStats(this.playerName, this.playerInfo);
-                            broadcastStats(hitPlayer, target.playerInfo);
-                            broadcast("CHAT:" + playerName + " 님이 " + hitPlayer + " 님을 처치했습니다!", null);
-                        } else {
-                            broadcastStats(hitPlayer, target.playerInfo);
-                        }
+                case "HITME":
+                case "DEATH":
+                    // 피격 / 사망은 다음 틱에서 반영 (Match.tick)
+                    if (!pendingReports.add(command, data))
+                        Log.debug(() -> "[REPORT_DROP] " + playerName + " " + command + " (틱당 보고 한도 초과)");
+                    break;
 
-                        // 라운드 종료 체크
-                        checkRoundEnd();
-                    }
+                case "RESPAWN":
+                    // 라운드 중 부활 비활성화 - 라운드 시작 시에만 부활
+                    Log.info("[RESPAWN] " + playerName + " 부활 요청 거부 (라운드 중)");
                     break;
 
-                case "HITME":
-                    // 피해자(현재 클라이언트)가 자신이 피격되었음을 신고. data = shooterName 또는 TURRET:ownerName
-                    String shooterName = data;
-                    boolean isTurretDamage = shooterName.startsWith("TURRET:");
-                    String actualShooter = isTurretDamage ? shooterName.substring(7) : shooterName;
-                    ClientHandler shooter = clients.get(actualShooter);
-                    
-                    if (playerInfo != null) {
-                        long now = System.currentTimeMillis();
-                        // 스폰 보호 중이거나 이미 사망 상태면 무시
-                        if (now < spawnProtectedUntil || playerInfo.hp <= 0)
-                            break;
-                            
-                        // 터렛 데미지는 고정 20, 일반 공격은 캐릭터별 데미지
-                        int dmg = isTurretDamage ? 20 : resolveBasicDamage(shooter != null ? shooter.playerInfo.characterId : null);
-                        playerInfo.hp -= dmg;
-                        
-                        if (playerInfo.hp <= 0) {
-                            playerInfo.hp = 0;
-                            if (shooter != null && shooter.playerInfo != null) {
-                                shooter.playerInfo.kills++;
-                                playerInfo.deaths++;
-                                broadcastStats(actualShooter, shooter.playerInfo);
-                                broadcastStats(playerName, playerInfo);
-                                shooter.sendMessage("KILL:" + playerName);
-                                String killMsg = isTurretDamage ? 
-                                    actualShooter + " 님의 터렛이 " + playerName + " 님을 처치했습니다!" :
-                                    actualShooter + " 님이 " + playerName + " 님을 처치했습니다!";
-                                broadcast("CHAT:" + killMsg, null);
-                            } else {
-                                // 슈터를 모르면 일반 사망 처리만
-                                broadcastStats(playerName, playerInfo);
-                                broadcast("CHAT:" + playerName + " 님이 사망했습니다!", null);
-                            }
-                        } else {
-                            broadcastStats(playerName, playerInfo);
-                        }
+                case "PING":
+                    // 연결 상태/왕복 지연 측정용 (JOIN 전에도 허용)
+                    sendMessage("PONG:" + data);
+                    break;
 
-                        // 라운드 종료 체크
-                        checkRoundEnd();
-                    }
+                case "QUIT":
+                    cleanup();
                     break;
+            }
+        }
 
-                case "DEATH":
-                    playerInfo.hp = 0;
-                    playerInfo.deaths++;
+        /**
+         * 캐릭터 설정 (기본 공격 사거리 / 데미지도 같이 갱신)
+         */
+        private void setCharacter(String characterId) {
+            playerInfo.characterId = characterId;
+            basicRange = resolveBasicRange(characterId);
+            basicDamage = resolveBasicDamage(characterId);
+        }
 
-                    broadcastStats(playerName, playerInfo);
-                    broadcast("CHAT:" + playerName + " 님이 사망했습니다!", null);
-                    checkRoundEnd();
-                    break;
+        /**
+         * 위치 입력 버퍼링 (텍스트 POS / 바이너리 POSITION 공통)
+         * 실제 반영과 브로드캐스트는 다음 틱에서 처리
+         */
+        private void handlePosition(float x, float y, int direction, int seq) {
+            if ((features & Protocol.FEATURE_INPUT_SEQ) == 0)
+                seq = -1;
+            pendingInput.set(x, y, direction, seq);
+        }
 
-                case "RESPAWN":
-                    // 라운드 중 부활 비활성화 - 라운드 시작 시에만 부활
-                    System.out.println("[RESPAWN] " + playerName + " 부활 요청 거부 (라운드 중)");
-                    break;
+        /**
+         * 스냅샷 확인 (NO_BASE 이거나 0 ~ 현재 틱 범위만 받아들임, 그 밖은 버림)
+         */
+        private void handleSnapshotAck(int ack) {
+            if (ack != DeltaCodec.NO_BASE && (ack < 0 || ack > match.tickNumber)) {
+                Log.debug(() -> "[ACK_REJECT] " + playerName + " tick=" + ack);
+                return;
+            }
+            ackedTick = ack;
+        }
 
-                case "QUIT":
-                    cleanup();
-                    break;
+        /**
+         * 발사 중계 (textData: 텍스트로 받은 경우 원문 그대로 재사용)
+         */
+        private void handleShoot(float sx, float sy, float dx, float dy, String textData) {
+            String data = textData != null ? textData : sx + "," + sy + "," + dx + "," + dy;
+            shots.record(System.currentTimeMillis(), sx, sy, dx, dy);
+            int shooterId = playerInfo.id;
+            if (serverProjectiles && playerInfo.hp > 0) {
+                match.projectiles.spawn(shooterId, playerInfo.team, sx, sy, dx, dy, basicRange, basicDamage, false);
             }
+            match.broadcast(() -> "SHOOT:" + playerName + "," + data,
+                    BinaryCodec.encodeShoot(shooterId, sx, sy, dx, dy), playerName,
+                    ch -> match.interest.isShotRelevant(teamOf(ch), shooterId));
         }
 
-        public synchronized void sendMessage(String message) {
-            if (out != null) {
-                try {
-                    out.writeUTF(message);
-                    out.flush();
-                } catch (IOException e) {
-                    System.err.println("[SEND_ERROR] Failed to send message to " + playerName + ": " + e.getMessage());
-                    // 연결이 끊어진 경우 정리
-                    running = false;
+        public void sendMessage(String message) {
+            byte[] frame = encodeFrame(message);
+            if (frame != null)
+                sendFrame(frame);
+        }
+
+        /**
+         * 인코딩된 프레임을 송신 큐에 적재 (실제 쓰기는 writer가 모아서 처리)
+         */
+        void sendFrame(byte[] frame) {
+            if (transport == null)
+                return;
+            try {
+                if (!transport.send(frame)) {
+                    OutboundQueue q = transport.queue();
+                    Log.warn("[SLOW_CLIENT] " + playerName + " 송신 대기열 초과 (" + q.depth() + " frames, "
+                            + q.queuedBytes() + " bytes) - 연결을 종료합니다.");
+                    transport.close();
                 }
+            } catch (IOException e) {
+                Log.warn("[SEND_ERROR] Failed to send message to " + playerName + ": " + e.getMessage());
+                // 연결이 끊어진 경우 이 연결만 정리 (서버 accept 루프는 유지)
+                transport.close();
             }
         }
 
         private void cleanup() {
-            try {
-                if (playerName != null) {
-                    clients.remove(playerName);
-                    broadcast("REMOVE:" + playerName, null);
-                    broadcast("CHAT:" + playerName + " 님이 게임을 나갔습니다.", null);
-                    System.out.println("Player left: " + playerName + " (Total: " + clients.size() + ")");
-                    broadcastTeamRoster();
-                }
-                if (in != null)
-                    in.close();
-                if (out != null)
-                    out.close();
-                if (socket != null && !socket.isClosed())
-                    socket.close();
-            } catch (IOException ignored) {
+            if (!closed.compareAndSet(false, true))
+                return;
+            // 같은 이름의 새 연결을 지우지 않도록 자신일 때만 제거
+            Match m = match;
+            if (m != null && m.clients.remove(playerName, this)) {
+                if (m.recorder != null)
+                    m.recorder.closed(recordConn);
+                m.players.remove(playerInfo.id, this, System.currentTimeMillis());
+                m.broadcast("REMOVE:" + playerName, null);
+                m.broadcast("CHAT:" + playerName + " 님이 게임을 나갔습니다.", null);
+                Log.info("Player left: " + playerName + " (Match #" + m.id + " Total: " + m.clients.size() + ")");
+                m.broadcastTeamRoster();
+                releaseMatch(m);
             }
+            if (transport != null)
+                transport.close();
         }
 
         /**
@@ -680,60 +2571,53 @@ public class GameServer {
                 }
             }
 
+            // 설치 / 스트라이크 좌표 검증 (벽 위 설치, 맵 밖 스트라이크 거부)
+            boolean placement = "tech_mine".equals(abilityId) || "tech_turret".equals(abilityId);
+            if ((placement || "gen_strike".equals(abilityId)) && targetX >= 0 && targetY >= 0
+                    && !match.isValidTarget(targetX, targetY, placement)) {
+                Log.info("[SKILL_REJECT] " + user + " " + abilityId + " at (" + targetX + "," + targetY + ")");
+                return;
+            }
+
             // 설치형 스킬 처리 (지뢰, 터렛)
             if ("tech_mine".equals(abilityId) && targetX >= 0 && targetY >= 0) {
-                int id = nextPlacedObjectId.getAndIncrement();
+                int id = match.nextPlacedObjectId.getAndIncrement();
                 PlacedObject obj = new PlacedObject(id, "tech_mine", user, playerInfo.team, targetX, targetY, 40);
-                placedObjects.put(id, obj);
+                match.placeObject(obj);
                 String placeMsg = "PLACE:" + id + "," + obj.type + "," + obj.x + "," + obj.y + ","
                         + obj.hp + "," + obj.maxHp + "," + obj.owner + "," + obj.team;
-                for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
-                    e.getValue().sendMessage(placeMsg);
-                }
-                System.out.println("[PLACE] " + user + " placed " + obj.type + " at (" + targetX + "," + targetY + ")");
+                match.broadcastState(placeMsg);
+                Log.info("[PLACE] " + user + " placed " + obj.type + " at (" + targetX + "," + targetY + ")");
             } else if ("tech_turret".equals(abilityId) && targetX >= 0 && targetY >= 0) {
-                int id = nextPlacedObjectId.getAndIncrement();
+                int id = match.nextPlacedObjectId.getAndIncrement();
                 PlacedObject obj = new PlacedObject(id, "tech_turret", user, playerInfo.team, targetX, targetY, 100);
-                placedObjects.put(id, obj);
+                match.placeObject(obj);
+                match.scheduleTurretFire(obj);
                 String placeMsg = "PLACE:" + id + "," + obj.type + "," + obj.x + "," + obj.y + ","
                         + obj.hp + "," + obj.maxHp + "," + obj.owner + "," + obj.team;
-                for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
-                    e.getValue().sendMessage(placeMsg);
-                }
-                System.out.println("[PLACE] " + user + " placed " + obj.type + " at (" + targetX + "," + targetY + ")");
+                match.broadcastState(placeMsg);
+                Log.info("[PLACE] " + user + " placed " + obj.type + " at (" + targetX + "," + targetY + ")");
             }
             // 오라 활성화
             else if ("gen_aura".equals(abilityId) && playerInfo != null) {
                 float radius = 150f; // 가까운 범위 (CharacterData에서 가져올 수도 있음)
-                long expiresAt = System.currentTimeMillis() + (long) (duration * 1000);
+                long durationMillis = (long) (duration * 1000);
                 ActiveAura aura = new ActiveAura(user, playerInfo.team, (int) playerInfo.x, (int) playerInfo.y, radius,
-                        expiresAt);
-                activeAuras.put(user, aura);
-                System.out.println(
+                        System.currentTimeMillis() + durationMillis);
+                match.activateAura(aura, durationMillis);
+                Log.info(
                         "[AURA] " + user + " activated aura at (" + aura.x + "," + aura.y + "), radius=" + radius);
             }
             // 에어스트라이크 예약
             else if ("gen_strike".equals(abilityId) && targetX >= 0 && targetY >= 0 && playerInfo != null) {
-                int strikeId = nextStrikeId.getAndIncrement();
-                long impactAt = System.currentTimeMillis() + 2000; // 2초 후 임팩트
-                ScheduledStrike strike = new ScheduledStrike(strikeId, user, playerInfo.team, targetX, targetY,
-                        impactAt);
-                scheduledStrikes.put(strikeId, strike);
+                int strikeId = match.nextStrikeId.getAndIncrement();
+                ScheduledStrike strike = new ScheduledStrike(strikeId, user, playerInfo.team, targetX, targetY);
+                match.scheduleStrike(strike); // STRIKE_DELAY(2초) 후 임팩트
                 // 즉시 마커 브로드캐스트
                 String markMsg = "STRIKE_MARK:" + strikeId + "," + targetX + "," + targetY;
-                for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
-                    e.getValue().sendMessage(markMsg);
-                }
-                System.out.println(
+                match.broadcast(markMsg, null);
+                Log.info(
                         "[STRIKE] " + user + " called airstrike at (" + targetX + "," + targetY + "), id=" + strikeId);
-                // 2초 후 임팩트 스케줄 (별도 스레드)
-                new Thread(() -> {
-                    try {
-                        Thread.sleep(2000);
-                        executeStrike(strikeId);
-                    } catch (InterruptedException ignored) {
-                    }
-                }).start();
             }
 
             // 모든 스킬은 클라이언트에게 브로드캐스트 (시각 효과용)
@@ -741,14 +2625,95 @@ public class GameServer {
             
             // Piper mark와 thermal은 같은 팀에게만 브로드캐스트
             if (("piper_mark".equals(abilityId) || "piper_thermal".equals(abilityId)) && playerInfo != null) {
-                for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
+                match.interest.reveal(playerInfo.team, abilityId, duration, System.currentTimeMillis());
+                byte[] frame = encodeFrame(skillMsg);
+                if (frame == null)
+                    return;
+                for (Map.Entry<String, ClientHandler> e : match.clients.entrySet()) {
                     ClientHandler ch = e.getValue();
                     if (ch.playerInfo != null && ch.playerInfo.team == playerInfo.team) {
-                        ch.sendMessage(skillMsg);
+                        ch.sendFrame(frame);
                     }
                 }
             } else {
-                broadcast(skillMsg, user);
+                match.broadcast(skillMsg, user);
+            }
+        }
+
+        /**
+         * 피격 / 사망 보고 반영 (틱 스레드 전용, PendingReports 에서 호출)
+         */
+        private void applyReport(String command, String data) {
+            switch (command) {
+                case "HIT_OBJ":
+                    // Client reports hitting a placed object: objId
+                    handleObjectHit(playerName, data);
+                    break;
+
+                case "HIT":
+                    // 서버 미사일 판정 중에는 클라이언트 보고를 쓰지 않음 (구버전 클라이언트가 보내도 무시)
+                    if (serverProjectiles)
+                        break;
+                    String hitPlayer = data;
+                    ClientHandler target = match.clients.get(hitPlayer);
+                    if (target != null && target.playerInfo != null) {
+                        // 스폰 보호 중이거나 이미 사망 상태면 무시
+                        if (target.spawnProtected || target.playerInfo.hp <= 0 || this.playerInfo.hp <= 0) {
+                            break;
+                        }
+                        // 최근 발사한 미사일의 궤적이 대상의 과거 위치에 닿지 않으면 거부
+                        if (!match.validateHit(this, target)) {
+                            Log.debug(() -> "[HIT_REJECT] " + playerName + " → " + hitPlayer + " (맞을 수 있는 미사일 없음)");
+                            break;
+                        }
+                        int dmg = basicDamage;
+                        Log.debug(() -> "[HIT] " + playerName + " hit " + hitPlayer + 
+                            " (damage: " + dmg + ", remaining HP: " + (target.playerInfo.hp - dmg) + ")");
+                        match.applyDamage(this, target, dmg, false);
+                    }
+                    break;
+
+                case "HITME":
+                    // 피해자(현재 클라이언트)가 자신이 피격되었음을 신고. data = shooterName 또는 TURRET:ownerName
+                    if (serverProjectiles)
+                        break;
+                    String shooterName = data;
+                    boolean isTurretDamage = shooterName.startsWith("TURRET:");
+                    String actualShooter = isTurretDamage ? shooterName.substring(7) : shooterName;
+                    ClientHandler shooter = match.clients.get(actualShooter);
+                
+                    if (playerInfo != null) {
+                        // 스폰 보호 중이거나 이미 사망 상태면 무시
+                        if (spawnProtected || playerInfo.hp <= 0)
+                            break;
+                        // 일반 공격은 쏜 사람의 최근 미사일로 검증
+                        if (!isTurretDamage && (shooter == null || shooter.playerInfo == null
+                                || !match.validateHit(shooter, this))) {
+                            Log.debug(() -> "[HIT_REJECT] " + actualShooter + " → " + playerName + " (HITME, 맞을 수 있는 미사일 없음)");
+                            break;
+                        }
+                        // 터렛 공격은 소유자의 터렛 사거리 안에 있었는지 검증
+                        if (isTurretDamage && !match.validateTurretHit(actualShooter, this)) {
+                            Log.debug(() -> "[HIT_REJECT] TURRET:" + actualShooter + " → " + playerName + " (HITME, 사거리 안 터렛 없음)");
+                            break;
+                        }
+                        
+                        // 터렛 데미지는 고정 20, 일반 공격은 캐릭터별 데미지
+                        int dmg = isTurretDamage ? TURRET_DAMAGE : shooter != null ? shooter.basicDamage : GameConstants.MISSILE_DAMAGE;
+                        // 슈터를 모르면 일반 사망 처리만
+                        match.applyDamage(shooter != null && shooter.playerInfo != null ? shooter : null, this, dmg,
+                                isTurretDamage);
+                    }
+                    break;
+
+                case "DEATH":
+                    playerInfo.hp = 0;
+                    playerInfo.deaths++;
+
+                    match.broadcastStats(playerName, playerInfo);
+                    match.broadcast("CHAT:" + playerName + " 님이 사망했습니다!", null);
+                    match.checkRoundEnd();
+                    break;
             }
         }
 
@@ -763,437 +2728,92 @@ public class GameServer {
                 return;
             }
 
-            PlacedObject obj = placedObjects.get(objId);
+            PlacedObject obj = match.placedObjects.get(objId);
             if (obj == null || obj.hp <= 0)
                 return;
 
             // 데미지 계산 (슈터의 캐릭터 기반)
-            ClientHandler shooter = clients.get(shooterName);
-            int dmg = resolveBasicDamage(
-                    shooter != null && shooter.playerInfo != null ? shooter.playerInfo.characterId : null);
+            ClientHandler shooter = match.clients.get(shooterName);
+            int dmg = shooter != null ? shooter.basicDamage : GameConstants.MISSILE_DAMAGE;
 
             obj.hp -= dmg;
             if (obj.hp <= 0) {
                 obj.hp = 0;
-                placedObjects.remove(objId);
-                String destroyMsg = "OBJ_DESTROY:" + objId;
-                for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
-                    e.getValue().sendMessage(destroyMsg);
-                }
-                System.out.println("[OBJ_DESTROY] " + shooterName + " destroyed object " + objId);
+                match.destroyObject(objId);
+                Log.info("[OBJ_DESTROY] " + shooterName + " destroyed object " + objId);
             } else {
-                String updateMsg = "OBJ_UPDATE:" + objId + "," + obj.hp;
-                for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
-                    e.getValue().sendMessage(updateMsg);
-                }
-            }
-        }
-
-        /**
-         * 오라 버프 업데이트 (POS 수신 시마다 호출)
-         */
-        private void updateAuraBuffs() {
-            long now = System.currentTimeMillis();
-
-            // 만료된 오라 제거
-            activeAuras.entrySet().removeIf(e -> {
-                ActiveAura aura = e.getValue();
-                if (now >= aura.expiresAt) {
-                    // 버프 받던 플레이어들에게 제거 알림
-                    for (String buffedName : aura.currentlyBuffed) {
-                        ClientHandler ch = clients.get(buffedName);
-                        if (ch != null) {
-                            ch.sendMessage("UNBUFF:gen_aura");
-                        }
-                    }
-                    return true;
-                }
-                return false;
-            });
-
-            // 현재 활성 오라에 대해 범위 체크
-            for (Map.Entry<String, ActiveAura> entry : activeAuras.entrySet()) {
-                ActiveAura aura = entry.getValue();
-
-                // 오라 소유자의 현재 위치로 업데이트
-                ClientHandler owner = clients.get(aura.ownerName);
-                if (owner != null && owner.playerInfo != null) {
-                    aura.x = (int) owner.playerInfo.x;
-                    aura.y = (int) owner.playerInfo.y;
-                }
-
-                Set<String> nowInRange = new HashSet<>();
-
-                // 모든 플레이어 체크
-                for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
-                    ClientHandler ch = e.getValue();
-                    if (ch.playerInfo == null || ch.playerInfo.hp <= 0)
-                        continue;
-                    if (ch.playerInfo.team != aura.ownerTeam)
-                        continue; // 같은 팀만
-                    // 너프 원할 시 본인 버프 제외 조건 
-                    // if (ch.playerName.equals(aura.ownerName))
-                    //     continue;
-
-                    int dx = (int) ch.playerInfo.x - aura.x;
-                    int dy = (int) ch.playerInfo.y - aura.y;
-                    double dist = Math.sqrt(dx * dx + dy * dy);
-
-                    if (dist <= aura.radius) {
-                        nowInRange.add(ch.playerName);
-
-                        // 새로 들어온 플레이어에게 버프 적용
-                        if (!aura.currentlyBuffed.contains(ch.playerName)) {
-                            // BUFF:targetName,abilityId,moveSpeedMult,attackSpeedMult,durationRemaining
-                            long remaining = Math.max(0, aura.expiresAt - now);
-                            float dur = remaining / 1000f;
-                            String buffMsg = "BUFF:" + ch.playerName + ",gen_aura,1.10,1.15," + dur;
-                            ch.sendMessage(buffMsg);
-                        }
-                    }
-                }
-
-                // 범위를 벗어난 플레이어에게 버프 제거
-                for (String prevBuffed : aura.currentlyBuffed) {
-                    if (!nowInRange.contains(prevBuffed)) {
-                        ClientHandler ch = clients.get(prevBuffed);
-                        if (ch != null) {
-                            ch.sendMessage("UNBUFF:gen_aura");
-                        }
-                    }
-                }
-
-                aura.currentlyBuffed = nowInRange;
+                match.broadcastState("OBJ_UPDATE:" + objId + "," + obj.hp);
             }
         }
-
     }
 
-    /**
-     * 에어스트라이크 실행
-     */
-    private void executeStrike(int strikeId) {
-        ScheduledStrike strike = scheduledStrikes.remove(strikeId);
-        if (strike == null)
-            return;
-
-        int radius = 120; // 임팩트 반경
-        String impactMsg = "STRIKE_IMPACT:" + strikeId + "," + strike.targetX + "," + strike.targetY + "," + radius;
-
-        // 브로드캐스트
-        for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
-            e.getValue().sendMessage(impactMsg);
-        }
-
-        // 범위 내 플레이어에게 데미지 (서버 권위)
-        int strikeDamage = 50; // 에어스트라이크 고정 데미지
-        boolean anyKilled = false;
-        for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
-            ClientHandler ch = e.getValue();
-            if (ch.playerInfo == null || ch.playerInfo.hp <= 0)
-                continue;
-
-            int dx = (int) ch.playerInfo.x - strike.targetX;
-            int dy = (int) ch.playerInfo.y - strike.targetY;
-            double dist = Math.sqrt(dx * dx + dy * dy);
-
-            if (dist <= radius) {
-                ch.playerInfo.hp -= strikeDamage;
-                if (ch.playerInfo.hp <= 0) {
-                    ch.playerInfo.hp = 0;
-                    anyKilled = true;
-                    // 스트라이크 호출자 킬 크레딧
-                    ClientHandler striker = clients.get(strike.owner);
-                    if (striker != null && striker.playerInfo != null && !ch.playerName.equals(strike.owner)) {
-                        striker.playerInfo.kills++;
-                        ch.playerInfo.deaths++;
-                        broadcastStats(strike.owner, striker.playerInfo);
-                        striker.sendMessage("KILL:" + ch.playerName);
-                        broadcast("CHAT:" + strike.owner + " 님이 에어스트라이크로 " + ch.playerName + " 님을 처치했습니다!", null);
-                    } else {
-                        // 자폭한 경우
-                        ch.playerInfo.deaths++;
-                        broadcast("CHAT:" + ch.playerName + " 님이 에어스트라이크에 사망했습니다!", null);
-                    }
-                }
-                broadcastStats(ch.playerName, ch.playerInfo);
-            }
-        }
-        
-        // 누군가 죽었다면 라운드 종료 체크
-        if (anyKilled) {
-            checkRoundEnd();
-        }
-
-        // 범위 내 오브젝트 파괴
-        List<Integer> toDestroy = new ArrayList<>();
-        for (Map.Entry<Integer, PlacedObject> e : placedObjects.entrySet()) {
-            PlacedObject obj = e.getValue();
-            int dx = obj.x - strike.targetX;
-            int dy = obj.y - strike.targetY;
-            double dist = Math.sqrt(dx * dx + dy * dy);
-            if (dist <= radius) {
-                toDestroy.add(e.getKey());
-            }
-        }
-        for (int objId : toDestroy) {
-            placedObjects.remove(objId);
-            String destroyMsg = "OBJ_DESTROY:" + objId;
-            for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
-                e.getValue().sendMessage(destroyMsg);
-            }
-        }
-
-        System.out.println("[STRIKE_IMPACT] id=" + strikeId + " at (" + strike.targetX + "," + strike.targetY + ")");
-    }
 
     /**
-     * 기본 공격 데미지: 캐릭터 첫 번째 Ability.damage 사용 (없으면 기본 상수)
+     * 실행: GameServer [port] [--nio[=ioThreads] | --virtual] [--max-players=N] [--tick-rate=Hz] [--max-matches=N] [--tick-threads=N]
+     *       [--server-projectiles] [--metrics-port=N]
      */
-    private int resolveBasicDamage(String characterId) {
-        if (characterId == null)
-            return GameConstants.MISSILE_DAMAGE;
-        try {
-            Ability[] abs = CharacterData.createAbilities(characterId);
-            if (abs != null && abs.length > 0) {
-                float dmg = abs[0].damage;
-                if (dmg <= 0)
-                    return GameConstants.MISSILE_DAMAGE;
-                // 서버는 정수 HP 관리 - 반올림
-                return Math.max(1, Math.round(dmg));
-            }
-        } catch (Exception ignored) {
-        }
-        return GameConstants.MISSILE_DAMAGE;
-    }
-
     public static void main(String[] args) {
         try {
             int port = GameConstants.DEFAULT_PORT;
-            if (args.length > 0) {
-                port = Integer.parseInt(args[0]);
+            int maxPlayers = GameConstants.MAX_PLAYERS;
+            int ioThreads = 0; // 0 = 스레드-퍼-클라이언트
+            boolean virtual = false;
+            boolean serverProjectiles = false;
+            int metricsPort = -1;
+            int tickRate = DEFAULT_TICK_RATE;
+            int maxMatches = DEFAULT_MAX_MATCHES;
+            int tickThreads = Runtime.getRuntime().availableProcessors();
+            Path recordDir = null;
+            for (String arg : args) {
+                if (arg.equals("--virtual")) {
+                    virtual = true;
+                } else if (arg.equals("--server-projectiles")) {
+                    serverProjectiles = true;
+                } else if (arg.equals("--nio")) {
+                    ioThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+                } else if (arg.startsWith("--nio=")) {
+                    ioThreads = Integer.parseInt(arg.substring("--nio=".length()));
+                } else if (arg.startsWith("--max-players=")) {
+                    maxPlayers = Integer.parseInt(arg.substring("--max-players=".length()));
+                } else if (arg.startsWith("--tick-rate=")) {
+                    tickRate = Integer.parseInt(arg.substring("--tick-rate=".length()));
+                } else if (arg.startsWith("--max-matches=")) {
+                    maxMatches = Integer.parseInt(arg.substring("--max-matches=".length()));
+                } else if (arg.startsWith("--metrics-port=")) {
+                    metricsPort = Integer.parseInt(arg.substring("--metrics-port=".length()));
+                } else if (arg.startsWith("--tick-threads=")) {
+                    tickThreads = Integer.parseInt(arg.substring("--tick-threads=".length()));
+                } else if (arg.startsWith("--record=")) {
+                    recordDir = Path.of(arg.substring("--record=".length()));
+                } else {
+                    port = Integer.parseInt(arg);
+                }
             }
 
-            GameServer server = new GameServer(port);
+            GameServer server = new GameServer(port, maxPlayers, tickRate, maxMatches, tickThreads);
+            server.setServerProjectiles(serverProjectiles);
+            server.setRecordDirectory(recordDir);
+            if (metricsPort >= 0)
+                server.startMetrics(metricsPort);
 
             // Shutdown hook
             Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                System.out.println("\n서버를 종료합니다...");
+                Log.info("\n서버를 종료합니다...");
                 server.stop();
+                Log.flush(1000);
             }));
 
-            server.start();
-
-        } catch (IOException e) {
-            System.err.println("서버 시작 실패: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-
-    // 모든 터렛에 대해 사거리 내 적을 감지해 공격
-    private void checkTurretTargets() {
-        for (PlacedObject obj : placedObjects.values()) {
-            if (!"tech_turret".equals(obj.type) || obj.hp <= 0)
-                continue;
-            for (ClientHandler ch : clients.values()) {
-                // 터렛은 적 팀만 공격 (소유자 본인 제외 - 같은 팀이므로 이미 필터링됨)
-                if (ch.playerInfo == null || ch.playerInfo.hp <= 0 || ch.playerInfo.team == obj.team)
-                    continue;
-                // 추가 안전 장치: 소유자 본인은 절대 공격하지 않음
-                if (ch.playerName.equals(obj.owner))
-                    continue;
-                    
-                double dist = Math.sqrt(Math.pow(obj.x - ch.playerInfo.x, 2) + Math.pow(obj.y - ch.playerInfo.y, 2));
-                if (dist <= TURRET_RANGE) {
-                    // 터렛이 적을 감지하면 미사일 발사 메시지 브로드캐스트
-                    // Client expects: TURRET_SHOOT:objId,tx,ty,targetName,ownerName
-                    String shootMsg = "TURRET_SHOOT:" + obj.id + "," + (int) ch.playerInfo.x + ","
-                            + (int) ch.playerInfo.y + "," + ch.playerName + "," + obj.owner;
-                    for (ClientHandler c : clients.values()) {
-                        c.sendMessage(shootMsg);
-                    }
-                    System.out.println("[TURRET_SHOOT] Turret #" + obj.id + " (owner: " + obj.owner + 
-                        ", team: " + obj.team + ") attacking " + ch.playerName + " (team: " + ch.playerInfo.team + ")");
-
-                    // 터렛 데미지 적용은 클라이언트의 미사일 충돌(HITME)로 위임
-                    break; // 한 번에 한 명만 공격
-                }
+            if (ioThreads > 0) {
+                server.startNio(ioThreads);
+            } else if (virtual) {
+                server.startVirtual();
+            } else {
+                server.start();
             }
-        }
-    }
-
-    /**
-     * 라운드 종료 조건 확인 (한 팀 전멸)
-     */
-    private void checkRoundEnd() {
-        if (roundEnded)
-            return;
-        if (clients.size() < 2)
-            return; // 혼자서는 라운드 진행 불가 (테스트용 예외 가능)
-
-        int redAlive = 0;
-        int blueAlive = 0;
-        int redTotal = 0;
-        int blueTotal = 0;
-
-        for (ClientHandler ch : clients.values()) {
-            if (ch.playerInfo == null)
-                continue;
-            if (ch.playerInfo.team == GameConstants.TEAM_RED) {
-                redTotal++;
-                if (ch.playerInfo.hp > 0)
-                    redAlive++;
-            } else if (ch.playerInfo.team == GameConstants.TEAM_BLUE) {
-                blueTotal++;
-                if (ch.playerInfo.hp > 0)
-                    blueAlive++;
-            }
-        }
-
-        // 팀이 존재하는데 전멸한 경우
-        if (redTotal > 0 && redAlive == 0) {
-            endRound(GameConstants.TEAM_BLUE);
-        } else if (blueTotal > 0 && blueAlive == 0) {
-            endRound(GameConstants.TEAM_RED);
-        }
-    }
-
-    private void endRound(int winningTeam) {
-        roundEnded = true;
-        String winTeamName = (winningTeam == GameConstants.TEAM_RED) ? "RED" : "BLUE";
-
-        if (winningTeam == GameConstants.TEAM_RED)
-            redWins++;
-        else
-            blueWins++;
 
-        broadcast("CHAT:=== 라운드 종료! " + winTeamName + " 팀 승리! ===", null);
-        broadcast("ROUND_WIN:" + winningTeam + "," + redWins + "," + blueWins, null);
-
-        // 게임 종료 체크
-        if (redWins >= MAX_WINS || blueWins >= MAX_WINS) {
-            broadcast("GAME_OVER:" + winTeamName, null);
-            System.out.println("[GAME_OVER] " + winTeamName + " team wins the game! Resetting game state...");
-            
-            // 게임 종료 후 초기화 (10초 후)
-            new Timer().schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    resetGameState();
-                }
-            }, 10000);
-        } else {
-            // 3초 후 다음 라운드
-            broadcast("CHAT:3초 후 다음 라운드가 시작됩니다...", null);
-            new Timer().schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    startNextRound();
-                }
-            }, 3000);
-        }
-    }
-
-    /**
-     * 게임 종료 후 모든 상태를 초기화하고 새 게임 시작
-     */
-    private void resetGameState() {
-        System.out.println("[RESET] Resetting game state...");
-        
-        // 게임 카운터 초기화
-        roundCount = 0;
-        redWins = 0;
-        blueWins = 0;
-        roundEnded = false;
-        
-        // 오브젝트 및 스킬 초기화
-        placedObjects.clear();
-        activeAuras.clear();
-        scheduledStrikes.clear();
-        playerCharacterChanged.clear();
-        
-        // 모든 플레이어 상태 초기화 (준비 해제, HP 리셋)
-        for (ClientHandler ch : clients.values()) {
-            ch.ready = false;
-            if (ch.playerInfo != null && ch.playerInfo.characterId != null) {
-                CharacterData cd = CharacterData.getById(ch.playerInfo.characterId);
-                if (cd != null) {
-                    ch.playerInfo.hp = (int) cd.health;
-                }
-                ch.playerInfo.kills = 0;
-                ch.playerInfo.deaths = 0;
-            }
+        } catch (IOException e) {
+            Log.error("서버 시작 실패: " + e.getMessage(), e);
         }
-        
-        broadcast("CHAT:[시스템] 게임이 종료되었습니다. 로비로 돌아갑니다.", null);
-        System.out.println("[RESET] Game state reset complete. Waiting for new game start.");
     }
-    
-    private void startNextRound() {
-        // 라운드가 끝난 후 호출되므로 카운트 증가
-        // 단, 첫 게임 시작(roundCount==0)일 때는 1로 시작
-        if (roundCount == 0) {
-            roundCount = 1;
-        } else if (roundEnded) {
-            roundCount++;
-        }
-        roundEnded = false;
-
-        // 랜덤 맵 선택
-        String[] availableMaps = { "map", "map2", "map3", "village" };
-        this.selectedMap = availableMaps[new java.util.Random().nextInt(availableMaps.length)];
-
-        // 게임 상태 초기화
-        placedObjects.clear();
-        activeAuras.clear();
-        scheduledStrikes.clear();
-
-        // 캐릭터 변경 제한 초기화
-        playerCharacterChanged.clear();
-        currentRoundStartTime = System.currentTimeMillis();
-
-        // 모든 플레이어 부활 및 위치 초기화 (클라이언트가 알아서 하거나 서버가 강제)
-        // 여기서는 HP만 채워주고 클라이언트에게 라운드 시작 알림
-        for (ClientHandler ch : clients.values()) {
-            if (ch.playerInfo != null) {
-                // ===== 단일 소스: playerInfo.characterId 기준으로 HP 초기화 =====
-                if (ch.playerInfo.characterId != null) {
-                    ch.playerInfo.hp = (int) com.fpsgame.common.CharacterData.getById(ch.playerInfo.characterId).health;
-                } else {
-                    ch.playerInfo.hp = GameConstants.MAX_HP;
-                }
-                System.out.println("[ROUND_START] " + ch.playerName + ": " + ch.playerInfo.characterId + " HP=" + ch.playerInfo.hp);
-            }
-        }
 
-        // ===== ROUND_START 패킷에 모든 플레이어 정보 포함 =====
-        // 형식: ROUND_START:roundNumber,mapId;playerCount;name1,charId1,hp1,maxHp1;name2,charId2,hp2,maxHp2;...
-        StringBuilder roundStartMsg = new StringBuilder();
-        roundStartMsg.append("ROUND_START:").append(roundCount).append(",").append(selectedMap).append(";");
-        roundStartMsg.append(clients.size());
-        
-        for (ClientHandler ch : clients.values()) {
-            if (ch.playerInfo != null) {
-                String charId = (ch.playerInfo.characterId != null) ? ch.playerInfo.characterId : "raven";
-                int maxHp = (int) com.fpsgame.common.CharacterData.getById(charId).health;
-                roundStartMsg.append(";");
-                roundStartMsg.append(ch.playerName).append(",")
-                           .append(charId).append(",")
-                           .append(ch.playerInfo.hp).append(",")
-                           .append(maxHp);
-            }
-        }
-        
-        broadcast(roundStartMsg.toString(), null);
-        System.out.println("[ROUND_START] Broadcasting: " + roundStartMsg.toString());
-        
-        // 각 플레이어에게 최신 스탯 브로드캐스트 (추가 보장)
-        for (ClientHandler ch : clients.values()) {
-            if (ch.playerInfo != null) {
-                broadcastStats(ch.playerName, ch.playerInfo);
-            }
-        }
-        
-        broadcastTeamRoster(); // 갱신된 정보 전송
-    }
 }
@@ -0,0 +1,181 @@
+package com.fpsgame.server;
+
+import com.fpsgame.common.GameConstants;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 관심 영역(AOI) 관리
+ *
+ * 매 틱 플레이어 위치를 SpatialGrid 에 넣고, 팀(시야 공유 단위)마다
+ * 팀원 각자의 화면(GAME_WIDTH x GAME_HEIGHT) + 여유(VIEW_MARGIN) 안에 있는 플레이어만 관련 집합에 담습니다.
+ * 위치/발사 브로드캐스트는 받는 쪽 팀의 관련 집합에 든 플레이어 것만 보내므로
+ * 팬아웃이 O(N²)에서 O(N·k)(k = 시야 안 플레이어 수)로 줄어듭니다.
+ *
+ * 팀 시야 규칙 (클라이언트 미니맵과 같게):
+ * - 팀원, 아직 위치를 모르는 플레이어는 항상 관련
+ * - piper_mark: 지속 시간 동안 그 팀 시야 범위를 PIPER_MARK_RANGE_FACTOR 배로
+ * - piper_thermal: 지속 시간 동안 그 팀에게 모든 적이 관련
+ * - RED/BLUE 외의 팀은 거르지 않음
+ *
+ * 갱신(beginUpdate/add/finishUpdate)은 틱 스레드 전용이며, 결과는 틱마다 새 View 배열로 교체되므로
+ * 다른 스레드(SHOOT 중계, SKILL 처리)에서도 읽을 수 있습니다.
+ */
+class InterestManager {
+
+    /** 화면 밖 여유 (빠르게 들어오는 플레이어가 튀지 않도록) */
+    static final int VIEW_MARGIN = 200;
+
+    /** 발사 중계 추가 여유: 가장 긴 기본 공격 사거리 (piper_basic 1000) */
+    static final int SHOT_MARGIN = 1000;
+
+    static final float PIPER_MARK_RANGE_FACTOR = 1.5f;
+
+    private static final int CELL_SIZE = 256;
+    private static final int TEAMS = 2;
+
+    /** 시야 단위 수: RED, BLUE, 그 외(거르지 않음) */
+    static final int VIEW_COUNT = TEAMS + 1;
+
+    /**
+     * 한 팀의 이번 틱 관련 집합 (플레이어 번호 비트)
+     */
+    static final class View {
+        final BitSet relevant;
+        final BitSet shotRelevant;
+        final BitSet entered;
+        final BitSet left;
+
+        View(BitSet relevant, BitSet shotRelevant, BitSet entered, BitSet left) {
+            this.relevant = relevant;
+            this.shotRelevant = shotRelevant;
+            this.entered = entered;
+            this.left = left;
+        }
+    }
+
+    private final SpatialGrid grid = new SpatialGrid(CELL_SIZE);
+    private final AtomicLongArray markUntil = new AtomicLongArray(TEAMS);
+    private final AtomicLongArray thermalUntil = new AtomicLongArray(TEAMS);
+    private volatile View[] views = new View[TEAMS];
+
+    // 이번 틱 입력 (틱 스레드 전용)
+    private int count = 0;
+    private int[] ids = new int[16];
+    private int[] teams = new int[16];
+    private int[] xs = new int[16];
+    private int[] ys = new int[16];
+    private boolean[] known = new boolean[16];
+
+    /**
+     * piper_mark / piper_thermal 사용 기록 (아무 스레드)
+     */
+    void reveal(int team, String abilityId, float durationSeconds, long now) {
+        if (team < 0 || team >= TEAMS)
+            return;
+        long until = now + (long) (durationSeconds * 1000);
+        if ("piper_mark".equals(abilityId))
+            markUntil.accumulateAndGet(team, until, Math::max);
+        else if ("piper_thermal".equals(abilityId))
+            thermalUntil.accumulateAndGet(team, until, Math::max);
+    }
+
+    void beginUpdate() {
+        count = 0;
+    }
+
+    void add(int id, int team, int x, int y, boolean positionKnown) {
+        if (count == ids.length) {
+            int n = count * 2;
+            ids = Arrays.copyOf(ids, n);
+            teams = Arrays.copyOf(teams, n);
+            xs = Arrays.copyOf(xs, n);
+            ys = Arrays.copyOf(ys, n);
+            known = Arrays.copyOf(known, n);
+        }
+        ids[count] = id;
+        teams[count] = team;
+        xs[count] = x;
+        ys[count] = y;
+        known[count] = positionKnown;
+        count++;
+    }
+
+    /**
+     * add 로 넣은 플레이어로 팀별 관련 집합 계산 후 공개
+     */
+    void finishUpdate(long now) {
+        grid.clear();
+        for (int i = 0; i < count; i++) {
+            if (known[i])
+                grid.insert(i, xs[i], ys[i]);
+        }
+
+        View[] previous = views;
+        View[] next = new View[TEAMS];
+        for (int team = 0; team < TEAMS; team++) {
+            BitSet relevant = new BitSet();
+            BitSet shot = new BitSet();
+            boolean thermal = now < thermalUntil.get(team);
+            float factor = now < markUntil.get(team) ? PIPER_MARK_RANGE_FACTOR : 1f;
+            int halfW = (int) ((GameConstants.GAME_WIDTH / 2 + VIEW_MARGIN) * factor);
+            int halfH = (int) ((GameConstants.GAME_HEIGHT / 2 + VIEW_MARGIN) * factor);
+
+            for (int i = 0; i < count; i++) {
+                if (teams[i] == team || !known[i] || thermal) {
+                    relevant.set(ids[i]);
+                    shot.set(ids[i]);
+                }
+            }
+            if (!thermal) {
+                for (int i = 0; i < count; i++) {
+                    if (teams[i] != team || !known[i])
+                        continue;
+                    int vx = xs[i], vy = ys[i];
+                    grid.query(vx - halfW - SHOT_MARGIN, vy - halfH - SHOT_MARGIN,
+                            vx + halfW + SHOT_MARGIN, vy + halfH + SHOT_MARGIN, j -> {
+                                shot.set(ids[j]);
+                                if (Math.abs(xs[j] - vx) <= halfW && Math.abs(ys[j] - vy) <= halfH)
+                                    relevant.set(ids[j]);
+                            });
+                }
+            }
+
+            BitSet entered = (BitSet) relevant.clone();
+            BitSet left = new BitSet();
+            View prev = previous[team];
+            if (prev != null) {
+                entered.andNot(prev.relevant);
+                left.or(prev.relevant);
+                left.andNot(relevant);
+            }
+            next[team] = new View(relevant, shot, entered, left);
+        }
+        views = next;
+    }
+
+    /**
+     * 팀 → 시야 단위 번호 (0 ~ VIEW_COUNT-1)
+     */
+    static int viewIndex(int team) {
+        return team >= 0 && team < TEAMS ? team : TEAMS;
+    }
+
+    /**
+     * 이번 틱 team 의 관련 집합 (RED/BLUE 외의 팀이거나 아직 계산 전이면 null = 모두 관련)
+     */
+    View view(int team) {
+        return team >= 0 && team < TEAMS ? views[team] : null;
+    }
+
+    boolean isRelevant(int viewerTeam, int playerId) {
+        View v = view(viewerTeam);
+        return v == null || v.relevant.get(playerId);
+    }
+
+    boolean isShotRelevant(int viewerTeam, int shooterId) {
+        View v = view(viewerTeam);
+        return v == null || v.shotRelevant.get(shooterId);
+    }
+}
@@ -0,0 +1,384 @@
+package com.fpsgame.server;
+
+import com.fpsgame.common.Log;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 매치 기록기 (추가 전용 바이너리 로그, 매치마다 파일 하나)
+ *
+ * 수신 스레드 / 틱 스레드는 잠금 안에서 레코드를 메모리 버퍼에 인코딩해 붙이기만 하고,
+ * 파일 쓰기는 매치마다 writer 스레드 하나가 버퍼를 통째로 바꿔 와서 FileChannel 로 씁니다. (FSYNC_MILLIS 마다 force)
+ * 버퍼가 MAX_BUFFER_BYTES 를 넘으면 게임 스레드를 막지 않고 그 레코드를 버린 뒤 버린 수를 셉니다.
+ *
+ * 파일 형식 (빅 엔디언):
+ * - 헤더: "FPSR" version:u8 flags:u8(bit0 = 서버 미사일 판정) tickRate:u16 maxPlayers:u16 matchId:i32 startEpochMillis:i64
+ * - 레코드: kind:u8 deltaNanos:varint [conn:varint] [length:varint bytes]
+ *   deltaNanos 는 직전 레코드와의 System.nanoTime 차이(단조 증가), conn 은 매치 안의 연결 번호(JOIN 순서)
+ *   IN_TEXT(UTF-8) / IN_BINARY(길이 헤더 뺀 페이로드) / CLOSED 는 conn 포함, OUT 은 브로드캐스트 프레임(길이 헤더 포함) 한 번만
+ *
+ * 재생은 MatchReplayer.
+ */
+class MatchRecorder {
+
+    static final byte IN_TEXT = 1;
+    static final byte IN_BINARY = 2;
+    static final byte OUT = 3;
+    static final byte CLOSED = 4;
+
+    static final int FLAG_SERVER_PROJECTILES = 1;
+    static final String FILE_SUFFIX = ".fpsrec";
+
+    private static final byte[] MAGIC = { 'F', 'P', 'S', 'R' };
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 1 + 1 + 2 + 2 + 4 + 8;
+    private static final int INITIAL_BUFFER_BYTES = 64 * 1024;
+    private static final int MAX_BUFFER_BYTES = 8 * 1024 * 1024;
+    private static final long FLUSH_MILLIS = 100;
+    private static final long FSYNC_MILLIS = 1000;
+    /** 레코드 하나의 고정 부분 최대 크기 (kind + varint 3개) */
+    private static final int RECORD_OVERHEAD = 1 + 10 + 5 + 5;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final Thread writer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pending = lock.newCondition();
+
+    // lock 안에서만 접근
+    private ByteBuffer active = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+    private ByteBuffer spare = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+    private long lastNanos;
+    private int nextConnection = 0;
+    private boolean closing = false;
+    private long records = 0;
+    private long dropped = 0;
+
+    // writer 스레드만 갱신
+    private volatile long bytesWritten = HEADER_SIZE;
+
+    private MatchRecorder(Path path, FileChannel channel, int matchId) {
+        this.path = path;
+        this.channel = channel;
+        this.lastNanos = System.nanoTime();
+        this.writer = new Thread(this::runWriter, "match-recorder-" + matchId);
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * dir/match-{id}-{시작시각}.fpsrec 를 만들고 헤더를 쓴 뒤 writer 시작
+     */
+    static MatchRecorder open(Path dir, int matchId, int tickRate, int maxPlayers, boolean serverProjectiles)
+            throws IOException {
+        Files.createDirectories(dir);
+        long startMillis = System.currentTimeMillis();
+        Path path = dir.resolve("match-" + matchId + "-" + startMillis + FILE_SUFFIX);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.put(MAGIC).put((byte) VERSION).put((byte) (serverProjectiles ? FLAG_SERVER_PROJECTILES : 0))
+                .putShort((short) tickRate).putShort((short) maxPlayers).putInt(matchId).putLong(startMillis);
+        header.flip();
+        while (header.hasRemaining())
+            channel.write(header);
+        MatchRecorder recorder = new MatchRecorder(path, channel, matchId);
+        recorder.writer.start();
+        Log.info("[RECORD] 매치 #" + matchId + " 기록 시작: " + path);
+        return recorder;
+    }
+
+    /**
+     * 새 연결 번호 (JOIN 때 한 번)
+     */
+    int newConnection() {
+        lock.lock();
+        try {
+            return nextConnection++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void inboundText(int conn, String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        append(IN_TEXT, conn, bytes, 0, bytes.length);
+    }
+
+    /**
+     * 바이너리 메시지 (payload 의 position 은 바꾸지 않음)
+     */
+    void inboundBinary(int conn, ByteBuffer payload) {
+        if (payload.hasArray()) {
+            append(IN_BINARY, conn, payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+        } else {
+            byte[] copy = new byte[payload.remaining()];
+            payload.duplicate().get(copy);
+            append(IN_BINARY, conn, copy, 0, copy.length);
+        }
+    }
+
+    /**
+     * 브로드캐스트 프레임 (수신자 수와 상관없이 한 번)
+     */
+    void outbound(byte[] frame) {
+        append(OUT, -1, frame, 0, frame.length);
+    }
+
+    void closed(int conn) {
+        append(CLOSED, conn, null, 0, 0);
+    }
+
+    private void append(byte kind, int conn, byte[] data, int offset, int length) {
+        lock.lock();
+        try {
+            if (closing)
+                return;
+            int needed = RECORD_OVERHEAD + length;
+            if (active.remaining() < needed) {
+                int size = active.position() + needed;
+                if (size > MAX_BUFFER_BYTES) {
+                    dropped++; // writer 가 디스크를 따라가지 못함
+                    return;
+                }
+                ByteBuffer grown = ByteBuffer.allocate(Math.min(MAX_BUFFER_BYTES, Math.max(size, active.capacity() * 2)));
+                active.flip();
+                grown.put(active);
+                active = grown;
+            }
+            long now = System.nanoTime();
+            active.put(kind);
+            putVarLong(active, Math.max(0, now - lastNanos));
+            lastNanos = now;
+            if (kind != OUT)
+                putVarLong(active, conn);
+            if (data != null || kind == OUT) {
+                putVarLong(active, length);
+                active.put(data, offset, length);
+            }
+            records++;
+            if (active.position() >= INITIAL_BUFFER_BYTES / 2)
+                pending.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 남은 레코드를 쓰고 fsync 후 파일 닫기
+     */
+    void close() {
+        lock.lock();
+        try {
+            if (closing)
+                return;
+            closing = true;
+            pending.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Log.info("[RECORD] 기록 종료: " + path + " (" + getRecordCount() + "건, " + bytesWritten + " bytes, 버림 "
+                + getDroppedCount() + "건)");
+    }
+
+    long getRecordCount() {
+        lock.lock();
+        try {
+            return records;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getDroppedCount() {
+        lock.lock();
+        try {
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    private void runWriter() {
+        long lastSync = System.nanoTime();
+        boolean done = false;
+        try {
+            while (!done) {
+                ByteBuffer batch;
+                lock.lock();
+                try {
+                    if (active.position() == 0 && !closing)
+                        pending.await(FLUSH_MILLIS, TimeUnit.MILLISECONDS);
+                    done = closing;
+                    batch = active;
+                    active = spare;
+                    spare = batch;
+                } finally {
+                    lock.unlock();
+                }
+                // spare(= batch) 는 이 스레드만 만짐 - 다음 교체 전까지 producer 가 건드리지 않음
+                batch.flip();
+                long written = 0;
+                while (batch.hasRemaining())
+                    written += channel.write(batch);
+                batch.clear();
+                bytesWritten += written;
+                long now = System.nanoTime();
+                if (done || now - lastSync >= TimeUnit.MILLISECONDS.toNanos(FSYNC_MILLIS)) {
+                    channel.force(false);
+                    lastSync = now;
+                }
+            }
+        } catch (IOException e) {
+            Log.error("[RECORD] 기록 파일 쓰기 실패: " + path, e);
+            lock.lock();
+            try {
+                closing = true; // 이후 레코드는 버림
+            } finally {
+                lock.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static void putVarLong(ByteBuffer buf, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buf.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buf.put((byte) value);
+    }
+
+    /**
+     * 기록 파일 읽기 (재생용, 한 스레드에서 순서대로)
+     */
+    static final class Reader implements Closeable {
+        final int flags;
+        final int tickRate;
+        final int maxPlayers;
+        final int matchId;
+        final long startEpochMillis;
+
+        private final FileChannel channel;
+        private final ByteBuffer buf = ByteBuffer.allocate(256 * 1024);
+
+        // 마지막으로 읽은 레코드
+        byte kind;
+        long nanos; // 첫 레코드 기준 누적 시간
+        int conn;
+        byte[] data;
+
+        Reader(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            buf.limit(0);
+            ensure(HEADER_SIZE);
+            byte[] magic = new byte[4];
+            buf.get(magic);
+            int version = buf.get() & 0xFF;
+            if (magic[0] != MAGIC[0] || magic[1] != MAGIC[1] || magic[2] != MAGIC[2] || magic[3] != MAGIC[3]
+                    || version != VERSION) {
+                channel.close();
+                throw new IOException("매치 기록 파일이 아닙니다: " + path);
+            }
+            flags = buf.get() & 0xFF;
+            tickRate = buf.getShort() & 0xFFFF;
+            maxPlayers = buf.getShort() & 0xFFFF;
+            matchId = buf.getInt();
+            startEpochMillis = buf.getLong();
+        }
+
+        /**
+         * 다음 레코드 읽기
+         *
+         * @return 끝이면 false (쓰는 도중 잘린 마지막 레코드도 끝으로 처리)
+         */
+        boolean next() throws IOException {
+            try {
+                if (!ensure(1))
+                    return false;
+                kind = buf.get();
+                nanos += getVarLong();
+                conn = kind != OUT ? (int) getVarLong() : -1;
+                if (kind == CLOSED) {
+                    data = null;
+                } else {
+                    int length = (int) getVarLong();
+                    data = new byte[length];
+                    int read = 0;
+                    while (read < length) {
+                        if (!ensure(1))
+                            throw new EOFException();
+                        int n = Math.min(buf.remaining(), length - read);
+                        buf.get(data, read, n);
+                        read += n;
+                    }
+                }
+                return true;
+            } catch (EOFException e) {
+                return false;
+            }
+        }
+
+        private long getVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (!ensure(1))
+                    throw new EOFException();
+                byte b = buf.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0)
+                    return value;
+            }
+            throw new IOException("잘못된 varint");
+        }
+
+        /**
+         * 버퍼에 최소 n 바이트 확보 (파일 끝이면 false)
+         */
+        private boolean ensure(int n) throws IOException {
+            if (buf.remaining() >= n)
+                return true;
+            buf.compact();
+            while (buf.position() < n) {
+                if (channel.read(buf) < 0) {
+                    buf.flip();
+                    return buf.remaining() >= n;
+                }
+            }
+            buf.flip();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.fpsgame.server;
+
+import com.fpsgame.common.Log;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 매치 기록(MatchRecorder) 재생기
+ *
+ * 기록 헤더의 틱 레이트 / 매치당 인원 / 미사일 판정 방식으로 포트 없는 GameServer 를 만들고,
+ * 기록된 연결마다 받은 프레임을 버리는 ClientHandler 를 붙여 받은 메시지를 같은 순서로 onMessage / onBinary / onClosed 에 넣습니다.
+ * 기록된 브로드캐스트(OUT)는 넣지 않고 개수만 세어 재생 결과와 나란히 출력합니다.
+ *
+ * --speed=1 (기본) 은 기록된 시각 간격대로, --speed=N 은 N배 빠르게, --speed=0 은 기다리지 않고 최대한 빨리 넣습니다.
+ * 시뮬레이션은 여전히 벽시계 틱으로 돌기 때문에 배속을 올리면 같은 입력이 더 적은 틱에 몰립니다.
+ * 같은 파일을 같은 배속으로 다시 돌려 처리 시간 / 틱 시간을 비교하는 회귀 측정용입니다.
+ *
+ * 실행 (맵 파일을 찾도록 프로젝트 루트에서):
+ * java -cp bin com.fpsgame.server.MatchReplayer 기록파일.fpsrec [--speed=1] [--repeat=1]
+ */
+class MatchReplayer {
+
+    public static void main(String[] args) throws Exception {
+        Path file = null;
+        double speed = 1.0;
+        int repeat = 1;
+        boolean verbose = false;
+        for (String arg : args) {
+            if (arg.startsWith("--speed=")) {
+                speed = Double.parseDouble(arg.substring("--speed=".length()));
+            } else if (arg.startsWith("--repeat=")) {
+                repeat = Math.max(1, Integer.parseInt(arg.substring("--repeat=".length())));
+            } else if (arg.equals("--verbose")) {
+                verbose = true;
+            } else {
+                file = Path.of(arg);
+            }
+        }
+        if (file == null) {
+            System.out.println("사용법: MatchReplayer 기록파일" + MatchRecorder.FILE_SUFFIX
+                    + " [--speed=1 (0 = 제한 없음)] [--repeat=N] [--verbose]");
+            return;
+        }
+        if (!verbose)
+            Log.setLevel(Log.Level.WARN);
+        for (int i = 0; i < repeat; i++)
+            replay(file, speed);
+        Log.flush(1000);
+    }
+
+    /**
+     * 기록 파일 하나를 새 서버에 한 번 재생하고 결과 출력
+     */
+    static void replay(Path file, double speed) throws IOException, InterruptedException {
+        try (MatchRecorder.Reader reader = new MatchRecorder.Reader(file)) {
+            GameServer server = new GameServer(0, reader.maxPlayers, reader.tickRate, 1, 1);
+            server.setServerProjectiles((reader.flags & MatchRecorder.FLAG_SERVER_PROJECTILES) != 0);
+
+            Map<Integer, GameServer.ClientHandler> handlers = new HashMap<>();
+            List<DiscardTransport> transports = new ArrayList<>();
+            long inbound = 0, recordedFrames = 0, recordedBytes = 0;
+            long handlerNanos = 0;
+            long startNanos = System.nanoTime();
+            long recordedNanos = 0;
+            while (reader.next()) {
+                recordedNanos = reader.nanos;
+                if (reader.kind == MatchRecorder.OUT) {
+                    recordedFrames++;
+                    recordedBytes += reader.data.length;
+                    continue;
+                }
+                if (speed > 0) {
+                    long due = startNanos + (long) (reader.nanos / speed);
+                    long wait;
+                    while ((wait = due - System.nanoTime()) > 0)
+                        LockSupport.parkNanos(wait);
+                }
+                GameServer.ClientHandler handler = handlers.get(reader.conn);
+                if (handler == null) {
+                    if (reader.kind == MatchRecorder.CLOSED)
+                        continue;
+                    DiscardTransport transport = new DiscardTransport("replay-" + reader.conn);
+                    transports.add(transport);
+                    handler = server.new ClientHandler(transport);
+                    handlers.put(reader.conn, handler);
+                }
+                long start = System.nanoTime();
+                switch (reader.kind) {
+                    case MatchRecorder.IN_TEXT -> handler.onMessage(new String(reader.data, StandardCharsets.UTF_8));
+                    case MatchRecorder.IN_BINARY -> handler.onBinary(ByteBuffer.wrap(reader.data));
+                    case MatchRecorder.CLOSED -> {
+                        handler.onClosed();
+                        handlers.remove(reader.conn);
+                    }
+                    default -> Log.warn("[REPLAY] 알 수 없는 레코드: " + reader.kind);
+                }
+                handlerNanos += System.nanoTime() - start;
+                inbound++;
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+            for (GameServer.ClientHandler handler : handlers.values())
+                handler.onClosed();
+            server.stop();
+
+            long sentFrames = 0, sentBytes = 0;
+            for (DiscardTransport transport : transports) {
+                sentFrames += transport.getFrames();
+                sentBytes += transport.getBytes();
+            }
+            double elapsedSec = elapsedNanos / 1e9;
+            System.out.println(String.format("[REPLAY] %s (매치 #%d, %dHz, %s)", file.getFileName(), reader.matchId,
+                    reader.tickRate, speed > 0 ? speed + "x" : "제한 없음"));
+            System.out.println(String.format("[REPLAY] 입력 %d건 / 연결 %d개: 기록 %.2fs → 재생 %.2fs (%.0f msg/s, 처리 평균 %.1fus)",
+                    inbound, transports.size(), recordedNanos / 1e9, elapsedSec, inbound / Math.max(elapsedSec, 1e-9),
+                    inbound > 0 ? handlerNanos / 1e3 / inbound : 0.0));
+            System.out.println(String.format("[REPLAY] 틱 %d회: 평균 %dus, 최대 %dus, 초과 %d회", server.getTickCount(),
+                    server.getAverageTickMicros(), server.getMaxTickMicros(), server.getTickOverruns()));
+            System.out.println(String.format("[REPLAY] 브로드캐스트: 기록 %d프레임 %d bytes / 재생 전송 %d프레임 %d bytes (수신자별)",
+                    recordedFrames, recordedBytes, sentFrames, sentBytes));
+            // 다음 반복 전에 틱 스레드 정리
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+    }
+}
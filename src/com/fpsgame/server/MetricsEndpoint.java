@@ -0,0 +1,69 @@
+package com.fpsgame.server;
+
+import com.fpsgame.common.Log;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * 지표 조회용 HTTP 엔드포인트 (GET /metrics, Prometheus 텍스트 형식)
+ *
+ * 같은 머신에서만 조회하도록 루프백 주소에만 바인딩하며, 요청은 데몬 스레드 하나가 처리합니다.
+ * 본문은 요청마다 render 로 새로 만듭니다. (게임 스레드는 지표를 쌓기만 하고 출력에 관여하지 않음)
+ */
+class MetricsEndpoint {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer http;
+    private final ExecutorService executor;
+
+    MetricsEndpoint(int port, Supplier<String> render) throws IOException {
+        http = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "metrics-http");
+            t.setDaemon(true);
+            return t;
+        });
+        http.setExecutor(executor);
+        http.createContext("/metrics", exchange -> respond(exchange, render));
+    }
+
+    void start() {
+        http.start();
+        Log.info("[METRICS] http://" + http.getAddress().getHostString() + ":" + getPort() + "/metrics");
+    }
+
+    void stop() {
+        http.stop(0);
+        executor.shutdownNow();
+    }
+
+    int getPort() {
+        return http.getAddress().getPort();
+    }
+
+    private static void respond(HttpExchange exchange, Supplier<String> render) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = render.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (RuntimeException e) {
+            Log.warn("[METRICS] 지표 출력 실패: " + e.getMessage());
+        }
+    }
+}
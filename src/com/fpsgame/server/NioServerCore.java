@@ -0,0 +1,363 @@
+package com.fpsgame.server;
+
+import com.fpsgame.common.BinaryCodec;
+import com.fpsgame.common.FrameCodec;
+import com.fpsgame.common.Log;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * NIO Selector 기반 서버 코어
+ *
+ * 스레드-퍼-클라이언트 방식 대신, 소수의 I/O 스레드가 논블로킹 SocketChannel 여러 개를
+ * Selector로 다중화하여 처리합니다.
+ *
+ * 구성:
+ * - accept 스레드 1개 (start()를 호출한 스레드)
+ * - I/O 워커 N개 (각자 Selector 1개, 연결은 라운드로빈 배정)
+ *
+ * 프레이밍은 writeUTF/readUTF 와 동일 (FrameCodec) 하므로 기존 클라이언트와 그대로 호환됩니다.
+ * 수신한 메시지는 워커 스레드에서 Handler.onMessage 로 전달됩니다.
+ *
+ * 송신은 연결별 OutboundQueue에 적재만 하며, 소켓 쓰기는 항상 담당 I/O 스레드가
+ * 쌓인 프레임을 워커 공용 버퍼에 모아 한 번의 write로 처리합니다.
+ */
+class NioServerCore {
+
+    /**
+     * 연결 하나에 대한 이벤트 수신자 (GameServer.ClientHandler가 구현)
+     */
+    interface Handler {
+        void onMessage(String message);
+
+        /**
+         * 바이너리 프레임 수신 (payload는 수신 버퍼 뷰이므로 호출 중에만 유효)
+         */
+        void onBinary(ByteBuffer payload);
+
+        void onClosed();
+    }
+
+    // 연결당 초기 수신 버퍼 (큰 프레임이 오면 필요한 만큼 확장)
+    private static final int INITIAL_READ_BUFFER = 4 * 1024;
+    // 워커별 송신 버퍼 (최대 프레임 65537바이트가 항상 들어가야 함)
+    private static final int WRITE_BUFFER_SIZE = 128 * 1024;
+
+    private final ServerSocketChannel serverChannel;
+    private final Function<ClientTransport, Handler> handlerFactory;
+    private final Predicate<SocketChannel> admission;
+    private final Supplier<OutboundQueue> queueFactory;
+    private final IoWorker[] workers;
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private volatile boolean running = true;
+    private int nextWorker = 0;
+
+    /**
+     * @param serverChannel 바인딩된 서버 채널 (블로킹 모드로 accept)
+     * @param ioThreads I/O 워커 스레드 수
+     * @param handlerFactory 새 연결마다 Handler 생성
+     * @param admission false 반환 시 연결 거부 (거부 메시지는 호출측이 직접 전송)
+     * @param queueFactory 새 연결마다 송신 큐 생성
+     */
+    NioServerCore(ServerSocketChannel serverChannel, int ioThreads,
+            Function<ClientTransport, Handler> handlerFactory, Predicate<SocketChannel> admission,
+            Supplier<OutboundQueue> queueFactory) throws IOException {
+        this.serverChannel = serverChannel;
+        this.handlerFactory = handlerFactory;
+        this.admission = admission;
+        this.queueFactory = queueFactory;
+        this.workers = new IoWorker[Math.max(1, ioThreads)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new IoWorker(i);
+        }
+    }
+
+    /**
+     * 워커 스레드를 띄우고 현재 스레드에서 accept 루프 실행 (stop() 호출 전까지 반환하지 않음)
+     */
+    void start() {
+        for (IoWorker w : workers) {
+            w.thread.start();
+        }
+        while (running) {
+            try {
+                SocketChannel ch = serverChannel.accept();
+                if (ch == null)
+                    continue;
+                if (!admission.test(ch)) {
+                    closeQuietly(ch);
+                    continue;
+                }
+                configure(ch);
+                IoWorker w = workers[nextWorker];
+                nextWorker = (nextWorker + 1) % workers.length;
+                w.register(ch);
+            } catch (ClosedChannelException e) {
+                break;
+            } catch (IOException e) {
+                if (running)
+                    Log.error("[NIO] 연결 수락 실패", e);
+            }
+        }
+    }
+
+    void stop() {
+        running = false;
+        for (IoWorker w : workers) {
+            w.selector.wakeup();
+        }
+    }
+
+    /**
+     * 현재 열린 연결 수 (JOIN 여부와 무관)
+     */
+    int getOpenConnections() {
+        return openConnections.get();
+    }
+
+    int getIoThreadCount() {
+        return workers.length;
+    }
+
+    private static void configure(SocketChannel ch) throws IOException {
+        ch.configureBlocking(false);
+        try {
+            ch.socket().setTcpNoDelay(true);
+            ch.socket().setKeepAlive(true);
+        } catch (java.net.SocketException ignore) {
+            // 소켓 옵션 설정 실패 시 무시하고 계속
+        }
+    }
+
+    private static void closeQuietly(SocketChannel ch) {
+        try {
+            ch.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Selector 1개를 담당하는 I/O 스레드
+     */
+    private final class IoWorker implements Runnable {
+        final Selector selector;
+        final Thread thread;
+        final Queue<SocketChannel> pendingRegistrations = new ConcurrentLinkedQueue<>();
+        // 이 워커의 모든 연결이 공유 (I/O 스레드에서만 사용)
+        final ByteBuffer writeBuf = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+
+        IoWorker(int index) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this, "nio-io-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        void register(SocketChannel ch) {
+            pendingRegistrations.add(ch);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    selector.select();
+                    registerPending();
+                    Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                    while (it.hasNext()) {
+                        SelectionKey key = it.next();
+                        it.remove();
+                        Connection c = (Connection) key.attachment();
+                        try {
+                            if (key.isValid() && key.isReadable())
+                                c.onReadable();
+                            if (key.isValid() && key.isWritable())
+                                c.flush();
+                        } catch (IOException | RuntimeException e) {
+                            c.close();
+                        }
+                    }
+                } catch (IOException e) {
+                    if (running)
+                        Log.error("[NIO] I/O 스레드 select 실패", e);
+                }
+            }
+            for (SelectionKey key : new java.util.ArrayList<>(selector.keys())) {
+                ((Connection) key.attachment()).close();
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        private void registerPending() {
+            SocketChannel ch;
+            while ((ch = pendingRegistrations.poll()) != null) {
+                Connection c = new Connection(ch, this, queueFactory.get());
+                try {
+                    c.key = ch.register(selector, SelectionKey.OP_READ, c);
+                } catch (ClosedChannelException e) {
+                    continue;
+                }
+                openConnections.incrementAndGet();
+                c.handler = handlerFactory.apply(c);
+            }
+        }
+    }
+
+    /**
+     * 논블로킹 채널 하나의 송수신 상태
+     */
+    private final class Connection implements ClientTransport {
+        final SocketChannel channel;
+        final IoWorker worker;
+        SelectionKey key;
+        Handler handler;
+        ByteBuffer readBuf = ByteBuffer.allocate(INITIAL_READ_BUFFER);
+        final OutboundQueue queue;
+        // 소켓 버퍼가 가득 차 다 쓰지 못한 나머지 (평소에는 null)
+        ByteBuffer leftover;
+        // OP_WRITE 등록 요청이 이미 나가 있는지 (중복 wakeup 방지)
+        final AtomicBoolean writeScheduled = new AtomicBoolean(false);
+        final AtomicBoolean closed = new AtomicBoolean(false);
+
+        Connection(SocketChannel channel, IoWorker worker, OutboundQueue queue) {
+            this.channel = channel;
+            this.worker = worker;
+            this.queue = queue;
+        }
+
+        @Override
+        public boolean send(byte[] frame) throws IOException {
+            if (closed.get())
+                throw new IOException("connection closed");
+            if (!queue.offer(frame))
+                return false;
+            if (writeScheduled.compareAndSet(false, true)) {
+                try {
+                    key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                } catch (CancelledKeyException e) {
+                    throw new IOException("connection closed", e);
+                }
+                worker.selector.wakeup();
+            }
+            return true;
+        }
+
+        /**
+         * 큐에 쌓인 프레임을 모아서 전송 (I/O 스레드 전용)
+         */
+        void flush() throws IOException {
+            while (true) {
+                ByteBuffer buf = leftover;
+                int frames = 0;
+                if (buf == null) {
+                    buf = worker.writeBuf;
+                    buf.clear();
+                    frames = queue.drainTo(buf);
+                    if (frames == 0)
+                        break;
+                    buf.flip();
+                }
+                int written = channel.write(buf);
+                queue.recordFlush(written, frames);
+                if (buf.hasRemaining()) {
+                    // 소켓 송신 버퍼가 가득 참 - 나머지를 보관하고 다음 OP_WRITE에서 계속
+                    if (buf != leftover)
+                        leftover = ByteBuffer.allocate(buf.remaining()).put(buf).flip();
+                    return;
+                }
+                leftover = null;
+            }
+            key.interestOps(SelectionKey.OP_READ);
+            writeScheduled.set(false);
+            // 플래그를 내리는 사이 들어온 프레임이 있으면 다시 등록
+            if (!queue.isEmpty() && writeScheduled.compareAndSet(false, true))
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        }
+
+        void onReadable() throws IOException {
+            int n = channel.read(readBuf);
+            if (n < 0) {
+                close();
+                return;
+            }
+            readBuf.flip();
+            int len;
+            while ((len = FrameCodec.peekFrameLength(readBuf)) >= 0) {
+                int start = readBuf.position() + FrameCodec.HEADER_SIZE;
+                int end = start + len;
+                readBuf.position(start);
+                int limit = readBuf.limit();
+                readBuf.limit(end);
+                if (BinaryCodec.isBinary(readBuf)) {
+                    // 복사 없이 수신 버퍼 구간을 그대로 전달
+                    handler.onBinary(readBuf);
+                    readBuf.limit(limit);
+                    readBuf.position(end);
+                } else {
+                    readBuf.limit(limit);
+                    handler.onMessage(FrameCodec.decode(readBuf, len));
+                }
+                if (closed.get())
+                    return;
+            }
+            // 아직 다 도착하지 않은 프레임이 버퍼보다 크면 확장
+            if (readBuf.remaining() >= FrameCodec.HEADER_SIZE) {
+                int pos = readBuf.position();
+                int need = FrameCodec.HEADER_SIZE
+                        + (((readBuf.get(pos) & 0xFF) << 8) | (readBuf.get(pos + 1) & 0xFF));
+                if (need > readBuf.capacity()) {
+                    ByteBuffer bigger = ByteBuffer.allocate(need);
+                    bigger.put(readBuf);
+                    readBuf = bigger;
+                    return;
+                }
+            }
+            readBuf.compact();
+        }
+
+        @Override
+        public void close() {
+            if (!closed.compareAndSet(false, true))
+                return;
+            if (key != null)
+                key.cancel();
+            closeQuietly(channel);
+            openConnections.decrementAndGet();
+            if (handler != null)
+                handler.onClosed();
+        }
+
+        @Override
+        public String remoteAddress() {
+            try {
+                InetSocketAddress addr = (InetSocketAddress) channel.getRemoteAddress();
+                return String.valueOf(addr);
+            } catch (IOException e) {
+                return "?";
+            }
+        }
+
+        @Override
+        public OutboundQueue queue() {
+            return queue;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.fpsgame.server;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 클라이언트별 송신 큐 (고정 크기 링 버퍼)
+ *
+ * 브로드캐스트 스레드들은 인코딩된 프레임을 넣기만 하고 곧바로 반환하며,
+ * 실제 소켓 쓰기는 연결마다 하나뿐인 writer(NIO I/O 스레드 또는 전용 writer 스레드)가
+ * 지난 drain 이후 쌓인 프레임을 한 번에 모아 한 번의 write로 처리합니다.
+ * 따라서 느린 클라이언트 하나가 다른 브로드캐스터를 막지 않습니다.
+ *
+ * 적재량(프레임 수 또는 바이트)이 한도를 넘으면 offer가 false를 반환하며,
+ * 호출측은 해당 클라이언트를 느린 소비자로 보고 연결을 끊습니다.
+ *
+ * 가상 스레드 모드에서 캐리어 스레드를 붙잡지 않도록 synchronized/wait 대신 ReentrantLock/Condition 을 씁니다.
+ */
+class OutboundQueue {
+
+    /**
+     * 서버 전체 송신 통계 (모든 큐가 공유)
+     */
+    static class Stats {
+        final LongAdder bytesFlushed = new LongAdder();
+        final LongAdder framesFlushed = new LongAdder();
+        final LongAdder flushes = new LongAdder();
+        final LongAdder overflowDisconnects = new LongAdder();
+
+        long getBytesFlushed() { return bytesFlushed.sum(); }
+        long getFramesFlushed() { return framesFlushed.sum(); }
+        long getFlushes() { return flushes.sum(); }
+        long getOverflowDisconnects() { return overflowDisconnects.sum(); }
+    }
+
+    private final byte[][] ring;
+    private final int maxQueuedBytes;
+    private final Stats stats;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private int head = 0; // 다음에 꺼낼 위치
+    private int size = 0;
+    private int queuedBytes = 0;
+    private int peakDepth = 0;
+    private boolean overflowed = false;
+    private boolean writerWaiting = false;
+
+    // writer 스레드만 갱신
+    private volatile long bytesFlushed = 0;
+    private volatile long flushes = 0;
+
+    /**
+     * @param capacity 최대 프레임 수
+     * @param maxQueuedBytes 최대 적재 바이트 (이 이상 밀리면 느린 소비자로 판정)
+     * @param stats 서버 전체 통계
+     */
+    OutboundQueue(int capacity, int maxQueuedBytes, Stats stats) {
+        this.ring = new byte[capacity][];
+        this.maxQueuedBytes = maxQueuedBytes;
+        this.stats = stats;
+    }
+
+    /**
+     * 프레임 적재 (프레임 배열은 여러 큐가 공유하므로 수정하면 안 됨)
+     *
+     * @return 적재 성공 여부, 한도 초과 시 false (이후 계속 false)
+     */
+    boolean offer(byte[] frame) {
+        lock.lock();
+        try {
+            if (overflowed)
+                return false;
+            if (size == ring.length || queuedBytes + frame.length > maxQueuedBytes) {
+                overflowed = true;
+                stats.overflowDisconnects.increment();
+                return false;
+            }
+            ring[(head + size) % ring.length] = frame;
+            size++;
+            queuedBytes += frame.length;
+            if (size > peakDepth)
+                peakDepth = size;
+            if (writerWaiting)
+                notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 쌓인 프레임을 dst에 들어가는 만큼 통째로 복사 (프레임을 쪼개지 않음)
+     *
+     * @return 복사한 프레임 수
+     */
+    int drainTo(ByteBuffer dst) {
+        lock.lock();
+        try {
+            int drained = 0;
+            while (size > 0) {
+                byte[] frame = ring[head];
+                if (frame.length > dst.remaining())
+                    break;
+                dst.put(frame);
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+                size--;
+                queuedBytes -= frame.length;
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 프레임이 들어올 때까지 대기 (블로킹 writer 스레드용)
+     */
+    void awaitFrames(long timeoutMillis) throws InterruptedException {
+        lock.lock();
+        try {
+            if (size > 0)
+                return;
+            writerWaiting = true;
+            try {
+                notEmpty.await(timeoutMillis, TimeUnit.MILLISECONDS);
+            } finally {
+                writerWaiting = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * writer가 소켓에 실제로 쓴 양을 기록
+     */
+    void recordFlush(int bytes, int frames) {
+        bytesFlushed += bytes;
+        flushes++;
+        stats.bytesFlushed.add(bytes);
+        stats.framesFlushed.add(frames);
+        stats.flushes.increment();
+    }
+
+    boolean isEmpty() {
+        lock.lock();
+        try {
+            return size == 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int depth() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queuedBytes() {
+        lock.lock();
+        try {
+            return queuedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int peakDepth() {
+        lock.lock();
+        try {
+            return peakDepth;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long bytesFlushed() {
+        return bytesFlushed;
+    }
+
+    long flushes() {
+        return flushes;
+    }
+}
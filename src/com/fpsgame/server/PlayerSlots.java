@@ -0,0 +1,84 @@
+package com.fpsgame.server;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 매치 안의 작은 정수 플레이어 번호 할당과 번호 → 값 조회
+ *
+ * 번호는 1부터 시작하며 비어 있는 가장 작은 번호를 다시 씁니다. 그래서 매치 인원만큼의 작은 번호만 쓰이고,
+ * 번호로 바로 배열을 찾을 수 있습니다. (바이너리 메시지의 16비트 번호, 관심 영역 비트셋, 격자 등)
+ * 나간 플레이어의 번호는 reuseDelayMillis 가 지나야 다시 나눠 줍니다.
+ * 이전 번호 주인을 기준으로 한 델타 스냅샷이 새 주인에게 섞이지 않게 하기 위해서입니다.
+ *
+ * 할당/해제는 lock 안에서, 조회(get)는 잠금 없이 합니다.
+ */
+class PlayerSlots<T> {
+
+    private final long reuseDelayMillis;
+    private volatile AtomicReferenceArray<T> values;
+    private long[] releasedAt; // 번호별 해제 시각 (0 = 사용한 적 없음)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    PlayerSlots(int initialCapacity, long reuseDelayMillis) {
+        int capacity = Math.max(2, initialCapacity + 1); // 0번은 쓰지 않음
+        this.values = new AtomicReferenceArray<>(capacity);
+        this.releasedAt = new long[capacity];
+        this.reuseDelayMillis = reuseDelayMillis;
+    }
+
+    /**
+     * 비어 있는 가장 작은 번호에 value 를 넣고 그 번호를 돌려줌 (가득 차면 배열을 두 배로)
+     */
+    int add(T value, long now) {
+        lock.lock();
+        try {
+            AtomicReferenceArray<T> current = values;
+            for (int id = 1; id < current.length(); id++) {
+                if (current.get(id) == null && (releasedAt[id] == 0 || now - releasedAt[id] >= reuseDelayMillis)) {
+                    current.set(id, value);
+                    return id;
+                }
+            }
+            int id = current.length();
+            AtomicReferenceArray<T> grown = new AtomicReferenceArray<>(id * 2);
+            for (int i = 1; i < id; i++)
+                grown.set(i, current.get(i));
+            grown.set(id, value);
+            releasedAt = java.util.Arrays.copyOf(releasedAt, id * 2);
+            values = grown;
+            return id;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * id 의 값이 value 일 때만 비움
+     */
+    void remove(int id, T value, long now) {
+        lock.lock();
+        try {
+            AtomicReferenceArray<T> current = values;
+            if (id > 0 && id < current.length() && current.compareAndSet(id, value, null))
+                releasedAt[id] = now;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return 번호의 현재 값 (없으면 null)
+     */
+    T get(int id) {
+        AtomicReferenceArray<T> current = values;
+        return id > 0 && id < current.length() ? current.get(id) : null;
+    }
+
+    /**
+     * 지금까지 쓴 가장 큰 번호 + 1 (번호로 만드는 배열 크기)
+     */
+    int capacity() {
+        return values.length();
+    }
+}
@@ -0,0 +1,162 @@
+package com.fpsgame.server;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 플레이어 위치 이력 (지연 보정 피격 판정용)
+ *
+ * 틱마다 (시각, x, y) 를 원형 버퍼(기본형 배열)에 기록해 최근 HISTORY_MILLIS 정도를 보관합니다.
+ * 피격 판정은 수신 스레드에서 이 이력을 과거 시점으로 되감아 읽습니다.
+ *
+ * 기록은 틱 스레드 하나만 하고, 읽기는 StampedLock 낙관적 읽기로 잠금 없이 하며
+ * 읽는 도중 기록이 끼어들면 다시 읽습니다. 조회는 객체를 만들지 않습니다 (발사마다 호출).
+ */
+class PositionHistory {
+
+    /** 보관 목표 기간 (용량은 틱 레이트로 계산) */
+    static final int HISTORY_MILLIS = 500;
+
+    private final long[] times;
+    private final float[] xs;
+    private final float[] ys;
+    private final int mask;
+    private int head = 0; // 다음에 쓸 위치
+    private int count = 0;
+    private final StampedLock lock = new StampedLock();
+
+    PositionHistory(int tickRate) {
+        int needed = HISTORY_MILLIS * tickRate / 1000 + 2;
+        int capacity = Integer.highestOneBit(Math.max(2, needed - 1)) << 1;
+        this.times = new long[capacity];
+        this.xs = new float[capacity];
+        this.ys = new float[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 위치 기록 (틱 스레드 전용)
+     */
+    void record(long time, float x, float y) {
+        long stamp = lock.writeLock();
+        try {
+            times[head] = time;
+            xs[head] = x;
+            ys[head] = y;
+            head = (head + 1) & mask;
+            if (count <= mask)
+                count++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 이력 비우기 (리스폰 등으로 위치를 모르게 되었을 때)
+     */
+    void clear() {
+        long stamp = lock.writeLock();
+        try {
+            count = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * time 시점 위치로 되감기 (앞뒤 기록 사이는 선형 보간, 범위 밖이면 가장 가까운 기록)
+     *
+     * @param out 결과 {x, y} (호출측이 재사용하는 배열)
+     * @return 기록이 하나도 없으면 false
+     */
+    boolean positionAt(long time, float[] out) {
+        long stamp = lock.tryOptimisticRead();
+        boolean found = readPositionAt(time, out);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                found = readPositionAt(time, out);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return found;
+    }
+
+    private boolean readPositionAt(long time, float[] out) {
+        int n = count;
+        if (n == 0)
+            return false;
+        int newest = (head - 1) & mask;
+        // 최신 → 과거로 훑어 time 이하인 첫 기록을 찾음
+        int later = -1;
+        for (int k = 0; k < n; k++) {
+            int i = (newest - k) & mask;
+            if (times[i] <= time) {
+                if (later < 0 || times[later] == times[i]) {
+                    out[0] = xs[i];
+                    out[1] = ys[i];
+                } else {
+                    float f = (float) (time - times[i]) / (times[later] - times[i]);
+                    out[0] = xs[i] + (xs[later] - xs[i]) * f;
+                    out[1] = ys[i] + (ys[later] - ys[i]) * f;
+                }
+                return true;
+            }
+            later = i;
+        }
+        // 가장 오래된 기록보다 이전
+        out[0] = xs[later];
+        out[1] = ys[later];
+        return true;
+    }
+
+    /**
+     * 직선으로 날아가는 미사일과 이력의 가장 가까운 거리
+     *
+     * 기록 시각 t 마다 미사일이 있을 수 있는 구간
+     * [fired + (t - fired - slack) 만큼, fired + (t - fired + slack) 만큼 날아간 위치] (maxTravel 이내) 과
+     * 그 시각 위치의 거리를 재어 최솟값을 돌려줍니다.
+     *
+     * @param ux      진행 방향 단위 벡터 x (uy 는 y)
+     * @param pxPerMs 미사일 속도 (px/ms)
+     * @param slack   발사 시각 오차 여유 (ms)
+     * @return 비교할 기록이 없으면 Float.MAX_VALUE
+     */
+    float minDistanceToMissile(long fired, float sx, float sy, float ux, float uy, float pxPerMs,
+            float maxTravel, long slack, long to) {
+        long stamp = lock.tryOptimisticRead();
+        float d = readMinDistance(fired, sx, sy, ux, uy, pxPerMs, maxTravel, slack, to);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                d = readMinDistance(fired, sx, sy, ux, uy, pxPerMs, maxTravel, slack, to);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return d;
+    }
+
+    private float readMinDistance(long fired, float sx, float sy, float ux, float uy, float pxPerMs,
+            float maxTravel, long slack, long to) {
+        float best2 = Float.MAX_VALUE;
+        int n = count;
+        int newest = (head - 1) & mask;
+        for (int k = 0; k < n; k++) {
+            int i = (newest - k) & mask;
+            long t = times[i];
+            if (t > to)
+                continue;
+            if (t < fired - slack)
+                break;
+            float near = Math.min(maxTravel, Math.max(0f, (t - fired - slack) * pxPerMs));
+            float far = Math.min(maxTravel, Math.max(0f, (t - fired + slack) * pxPerMs));
+            // 대상 위치를 미사일 진행 방향으로 투영해 [near, far] 로 자른 점과의 거리
+            float px = xs[i] - sx, py = ys[i] - sy;
+            float along = Math.max(near, Math.min(far, px * ux + py * uy));
+            float ex = px - ux * along, ey = py - uy * along;
+            best2 = Math.min(best2, ex * ex + ey * ey);
+        }
+        return best2 == Float.MAX_VALUE ? Float.MAX_VALUE : (float) Math.sqrt(best2);
+    }
+}
@@ -0,0 +1,212 @@
+package com.fpsgame.server;
+
+import com.fpsgame.common.MapGrid;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 서버 권위 미사일 시뮬레이션 (실행 옵션 --server-projectiles)
+ *
+ * 미사일을 객체 없이 배열 묶음(struct-of-arrays)으로 보관하고, 클라이언트와 같은 16ms 고정 단계로 이동시켜
+ * 벽(MapGrid) / 사거리 / 맵 경계 / 적 플레이어 판정을 서버에서 한 번만 합니다.
+ * 배열은 재사용하며 제거는 마지막 칸을 당겨 와 채우므로(swap-remove) 살아 있는 미사일이 항상 앞쪽에 모여 있습니다.
+ *
+ * spawn 은 수신 스레드(SHOOT), advance 는 틱 스레드에서 호출되므로 둘 다 lock 안에서 처리합니다.
+ * 적중은 Listener 로 알리며, Listener 는 틱 스레드에서 불립니다.
+ */
+class ProjectileSystem {
+
+    /** 클라이언트 미사일 1프레임 (GamePanel 60FPS 타이머) */
+    static final int STEP_MILLIS = 16;
+
+    /** 플레이어 판정 반경 (CollisionManager.checkMissilePlayerCollision) */
+    static final int HIT_RADIUS = 20;
+
+    /** 한 번에 따라잡을 최대 단계 수 (틱이 밀려도 한 틱 처리 시간이 폭주하지 않도록) */
+    private static final int MAX_CATCH_UP_STEPS = 16;
+
+    /**
+     * 적중 판정 / 결과 처리 (Match 가 구현)
+     */
+    interface Listener {
+        /**
+         * (x, y) 에서 HIT_RADIUS 안에 있는, team 이 아닌 살아 있는 플레이어 id (없으면 -1)
+         */
+        int findTarget(int x, int y, int team);
+
+        /**
+         * ownerId 의 미사일이 targetId 에 적중
+         */
+        void onHit(int ownerId, int targetId, int damage, boolean turret);
+    }
+
+    // 미사일 배열 묶음 (0 ~ count-1 이 살아 있음)
+    private int capacity;
+    private int count = 0;
+    private float[] x, y, dx, dy;
+    private float[] startX, startY;
+    private float[] maxRange; // 0 = 무제한 (맵 경계까지)
+    private int[] owner;      // 쏜 플레이어 id
+    private int[] team;
+    private int[] damage;
+    private boolean[] turret;
+
+    private long lastStepTime = -1;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 통계 (틱 스레드 전용)
+    private long hits = 0;
+    private long destroyed = 0;
+
+    ProjectileSystem(int initialCapacity) {
+        this.capacity = Math.max(8, initialCapacity);
+        x = new float[capacity];
+        y = new float[capacity];
+        dx = new float[capacity];
+        dy = new float[capacity];
+        startX = new float[capacity];
+        startY = new float[capacity];
+        maxRange = new float[capacity];
+        owner = new int[capacity];
+        team = new int[capacity];
+        damage = new int[capacity];
+        turret = new boolean[capacity];
+    }
+
+    /**
+     * 미사일 추가
+     *
+     * @param vx, vy 프레임(STEP_MILLIS)당 이동량
+     */
+    void spawn(int ownerId, int ownerTeam, float sx, float sy, float vx, float vy, float range, int dmg,
+            boolean fromTurret) {
+        lock.lock();
+        try {
+            if (count == capacity)
+                grow();
+            int i = count++;
+            x[i] = sx;
+            y[i] = sy;
+            dx[i] = vx;
+            dy[i] = vy;
+            startX[i] = sx;
+            startY[i] = sy;
+            maxRange[i] = range;
+            owner[i] = ownerId;
+            team[i] = ownerTeam;
+            damage[i] = dmg;
+            turret[i] = fromTurret;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            count = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * now 까지 STEP_MILLIS 단계로 이동 및 충돌 판정 (틱 스레드 전용)
+     *
+     * @param map 현재 맵 (null 이면 벽/경계 판정 없이 사거리·MAX_TRAVEL 만 적용)
+     */
+    void advance(long now, MapGrid map, Listener listener) {
+        if (lastStepTime < 0)
+            lastStepTime = now;
+        int steps = (int) ((now - lastStepTime) / STEP_MILLIS);
+        if (steps <= 0)
+            return;
+        lastStepTime += (long) steps * STEP_MILLIS;
+        steps = Math.min(steps, MAX_CATCH_UP_STEPS);
+
+        lock.lock();
+        try {
+            for (int s = 0; s < steps && count > 0; s++)
+                step(map, listener);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void step(MapGrid map, Listener listener) {
+        int i = 0;
+        while (i < count) {
+            x[i] += dx[i];
+            y[i] += dy[i];
+            int ix = (int) x[i], iy = (int) y[i];
+
+            // 사거리 (0이면 무제한, 그래도 ShotHistory.MAX_TRAVEL 이상은 날지 않음)
+            float rx = x[i] - startX[i], ry = y[i] - startY[i];
+            float limit = maxRange[i] > 0 ? maxRange[i] : ShotHistory.MAX_TRAVEL;
+            boolean gone = rx * rx + ry * ry > limit * limit;
+            // 맵 밖 / 벽
+            if (!gone && map != null)
+                gone = ix < 0 || ix > map.getWidth() || iy < 0 || iy > map.getHeight() || map.isMissileBlocked(ix, iy);
+            if (gone) {
+                destroyed++;
+                remove(i);
+                continue;
+            }
+
+            int target = listener.findTarget(ix, iy, team[i]);
+            if (target >= 0) {
+                hits++;
+                int ownerId = owner[i], dmg = damage[i];
+                boolean fromTurret = turret[i];
+                remove(i);
+                listener.onHit(ownerId, target, dmg, fromTurret);
+                continue;
+            }
+            i++;
+        }
+    }
+
+    private void remove(int i) {
+        int last = --count;
+        if (i == last)
+            return;
+        x[i] = x[last];
+        y[i] = y[last];
+        dx[i] = dx[last];
+        dy[i] = dy[last];
+        startX[i] = startX[last];
+        startY[i] = startY[last];
+        maxRange[i] = maxRange[last];
+        owner[i] = owner[last];
+        team[i] = team[last];
+        damage[i] = damage[last];
+        turret[i] = turret[last];
+    }
+
+    private void grow() {
+        capacity *= 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        dx = Arrays.copyOf(dx, capacity);
+        dy = Arrays.copyOf(dy, capacity);
+        startX = Arrays.copyOf(startX, capacity);
+        startY = Arrays.copyOf(startY, capacity);
+        maxRange = Arrays.copyOf(maxRange, capacity);
+        owner = Arrays.copyOf(owner, capacity);
+        team = Arrays.copyOf(team, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        turret = Arrays.copyOf(turret, capacity);
+    }
+
+    int size() {
+        return count;
+    }
+
+    long getHits() {
+        return hits;
+    }
+
+    long getDestroyed() {
+        return destroyed;
+    }
+}
@@ -0,0 +1,177 @@
+package com.fpsgame.server;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 클라이언트별 송신 대역폭 추정과 위치 갱신 주기 조절 (틱 스레드 전용)
+ *
+ * 틱마다 송신 큐(OutboundQueue)가 실제로 소켓에 쓴 바이트와 남은 적재량을 보고,
+ * 큐가 밀려 있는 동안 writer 가 비워 낸 속도를 대역폭으로 추정(EWMA)합니다.
+ * 밀린 양을 다 보내는 데 걸릴 시간이 길어지면 위치 갱신(스냅샷/델타/PLAYER)을 2틱, 4틱에 한 번으로 줄입니다.
+ * 한동안 밀림이 없고 추정 대역폭이 두 배 송신량을 감당할 만하면 한 단계 되돌리며,
+ * 추정치가 오래된 경우(링크가 좋아졌을 수 있음)에는 PROBE_MILLIS 마다 한 단계 올려 봅니다.
+ *
+ * 보내는 틱은 틱 번호가 주기의 배수인 틱으로 맞추므로 간격이 일정합니다.
+ * (SNAP/DELTA 의 tick 값이 그대로 보간용 타임스탬프가 됨)
+ * KILL / ROUND_* / OBJ_DESTROY / HIDE 같은 이벤트 메시지는 주기와 상관없이 항상 보냅니다.
+ */
+class SendRateController {
+
+    /**
+     * 서버 전체 통계 (모든 클라이언트가 공유)
+     */
+    static class Stats {
+        final LongAdder degrades = new LongAdder();
+        final LongAdder recoveries = new LongAdder();
+        final LongAdder skippedTicks = new LongAdder();
+
+        long getDegrades() { return degrades.sum(); }
+        long getRecoveries() { return recoveries.sum(); }
+        long getSkippedTicks() { return skippedTicks.sum(); }
+    }
+
+    /** 가장 낮은 갱신 주기 (4틱에 한 번) */
+    static final int MAX_DIVISOR = 4;
+
+    private static final double EWMA_ALPHA = 0.25;
+    /** 추정치가 없거나 너무 작을 때 쓰는 하한 (바이트/초) */
+    private static final double MIN_BYTES_PER_SEC = 1024;
+    /** 밀린 양을 다 보내는 데 이 틱 수보다 오래 걸리면 한 단계 낮춤 */
+    private static final int DEGRADE_BACKLOG_TICKS = 3;
+    /** 한 단계 바꾼 뒤 다시 낮추기까지 최소 시간 (낮춘 효과가 큐에 나타날 때까지) */
+    private static final long DEGRADE_HOLD_MILLIS = 250;
+    /** 밀림이 한 틱 이하로 이만큼 유지되면 한 단계 올림 (대역폭이 충분할 때) */
+    private static final long RECOVER_MILLIS = 2000;
+    /** 대역폭이 모자라 보여도 이만큼 밀림이 없으면 한 단계 올려 봄 */
+    private static final long PROBE_MILLIS = 10000;
+    /** 올렸을 때의 송신량(현재 × 2)에 대해 요구하는 대역폭 여유 */
+    private static final double RECOVER_HEADROOM = 1.25;
+    /** 송신량 측정 구간 (주기를 낮추면 틱마다 들쭉날쭉하므로 구간 평균) */
+    private static final long OFFERED_WINDOW_MILLIS = 1000;
+
+    private final long tickMillis;
+    private final Stats stats;
+
+    private long lastSampleTime = -1;
+    private long lastBytesFlushed = 0;
+    private int lastQueued = 0;
+    private long offeredWindowStart = -1;
+    private long offeredWindowBytes = 0;
+    private double offeredBytesPerSec = 0; // 지난 구간에 큐에 넣은 양
+    private boolean backlogged = false; // 지난 표본 때 큐가 밀려 있었는지
+    private double bytesPerSec = 0;     // 0 = 아직 추정 못 함
+    private long backlogMillis = 0;
+
+    private int divisor = 1;
+    private long changedAt = 0;
+    private long calmSince = -1;
+
+    private boolean due = true;
+    private int dueTick = -1;
+    private int previousDueTick = -1;
+
+    SendRateController(int tickRate, Stats stats) {
+        this.tickMillis = Math.max(1, 1000 / Math.max(1, tickRate));
+        this.stats = stats;
+    }
+
+    /**
+     * 이번 틱 표본 반영 후 갱신 주기 결정 (스냅샷 전송 전에 호출)
+     *
+     * @return 주기가 바뀌었으면 true
+     */
+    boolean update(OutboundQueue queue, int tick, long now) {
+        long flushed = queue.bytesFlushed();
+        int queued = queue.queuedBytes();
+        if (lastSampleTime >= 0 && now > lastSampleTime) {
+            // 큐가 계속 밀려 있던 구간만 링크 한계를 보여 줌 (비어 있으면 보낸 만큼만 나갔을 뿐)
+            double elapsed = now - lastSampleTime;
+            if (backlogged) {
+                double sample = (flushed - lastBytesFlushed) * 1000.0 / elapsed;
+                bytesPerSec = bytesPerSec == 0 ? sample : bytesPerSec + EWMA_ALPHA * (sample - bytesPerSec);
+            }
+            offeredWindowBytes += flushed - lastBytesFlushed + queued - lastQueued;
+            if (now - offeredWindowStart >= OFFERED_WINDOW_MILLIS) {
+                offeredBytesPerSec = offeredWindowBytes * 1000.0 / (now - offeredWindowStart);
+                offeredWindowStart = now;
+                offeredWindowBytes = 0;
+            }
+        } else {
+            offeredWindowStart = now;
+        }
+        lastSampleTime = now;
+        lastBytesFlushed = flushed;
+        lastQueued = queued;
+        backlogged = queued > 0;
+        backlogMillis = queued == 0 ? 0 : (long) (queued * 1000.0 / Math.max(bytesPerSec, MIN_BYTES_PER_SEC));
+
+        boolean changed = false;
+        if (backlogMillis > DEGRADE_BACKLOG_TICKS * tickMillis) {
+            calmSince = -1;
+            if (divisor < MAX_DIVISOR && now - changedAt >= DEGRADE_HOLD_MILLIS) {
+                divisor *= 2;
+                changedAt = now;
+                changed = true;
+                stats.degrades.increment();
+            }
+        } else if (backlogMillis <= tickMillis) {
+            if (calmSince < 0)
+                calmSince = now;
+            long calm = Math.min(now - calmSince, now - changedAt);
+            boolean fits = bytesPerSec == 0 || offeredBytesPerSec * 2 * RECOVER_HEADROOM < bytesPerSec;
+            if (divisor > 1 && calm >= (fits ? RECOVER_MILLIS : PROBE_MILLIS)) {
+                divisor /= 2;
+                changedAt = now;
+                calmSince = now;
+                changed = true;
+                stats.recoveries.increment();
+            }
+        } else {
+            calmSince = -1;
+        }
+
+        due = tick % divisor == 0;
+        if (due) {
+            previousDueTick = dueTick;
+            dueTick = tick;
+        } else {
+            stats.skippedTicks.increment();
+        }
+        return changed;
+    }
+
+    /**
+     * 이번 틱에 위치 갱신을 보낼 차례인지
+     */
+    boolean isDue() {
+        return due;
+    }
+
+    /**
+     * 이번 틱이 보낼 차례이고, changeTick 의 변경을 지난 차례 이후 아직 보내지 않았는지
+     */
+    boolean isDueFor(int changeTick) {
+        return due && changeTick > previousDueTick;
+    }
+
+    /**
+     * 위치 갱신 주기 (1 = 매 틱, 2 = 절반, 4 = 1/4)
+     */
+    int divisor() {
+        return divisor;
+    }
+
+    /**
+     * 추정 대역폭 (바이트/초, 0 = 아직 밀린 적 없음)
+     */
+    long bytesPerSecond() {
+        return (long) bytesPerSec;
+    }
+
+    /**
+     * 지금 밀린 양을 다 보내는 데 걸릴 예상 시간
+     */
+    long backlogMillis() {
+        return backlogMillis;
+    }
+}
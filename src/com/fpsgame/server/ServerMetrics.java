@@ -0,0 +1,249 @@
+package com.fpsgame.server;
+
+import com.fpsgame.common.Protocol;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서버 지표 모음 (Prometheus 텍스트 형식으로 출력)
+ *
+ * - 명령별 수신 메시지 수 / 바이트 / 처리 시간 히스토그램 (텍스트, 바이너리 따로)
+ * - 브로드캐스트(이벤트 / 상태 / 스냅샷) 소요 시간, 틱 소요 시간, 타이밍 휠 작업(터렛 / 스트라이크 / 라운드 / 오라) 소요 시간
+ * - JVM 힙 / GC 게이지
+ *
+ * 기록은 여러 수신·틱 스레드에서 동시에 하므로 전부 LongAdder 이며, 잠금 없이 쌓기만 합니다.
+ * 명령 이름 표는 처음에 고정해 두고 모르는 명령은 UNKNOWN 으로 모읍니다. (이름 종류가 무한히 늘지 않도록)
+ * 클라이언트별 송신량 등 연결 상태에 딸린 값은 GameServer.renderMetrics 가 조회 시점에 채웁니다.
+ */
+class ServerMetrics {
+
+    /** 처리 시간 히스토그램 구간 상한 (초) */
+    private static final double[] LATENCY_BUCKETS = {
+        0.00005, 0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25
+    };
+    private static final String[] BUCKET_LABELS = new String[LATENCY_BUCKETS.length];
+
+    static {
+        for (int i = 0; i < LATENCY_BUCKETS.length; i++)
+            BUCKET_LABELS[i] = java.math.BigDecimal.valueOf(LATENCY_BUCKETS[i]).stripTrailingZeros().toPlainString();
+    }
+
+    /** processMessage 가 처리하는 텍스트 명령 */
+    private static final String[] TEXT_COMMANDS = {
+        "JOIN", "CHAT", "TEAM", "CHARACTER_SELECT", "READY", "UNREADY", "START", "POS", "SHOOT", "SKILL",
+        "HIT_OBJ", "HIT", "HITME", "DEATH", "RESPAWN", "PING", "QUIT"
+    };
+
+    /**
+     * 타이밍 휠 작업 종류
+     */
+    enum TimerTask {
+        TURRET, STRIKE, ROUND, AURA
+    }
+
+    /**
+     * 누적 히스토그램 (구간별 개수 + 합계)
+     */
+    static final class Histogram {
+        private final LongAdder[] buckets = new LongAdder[LATENCY_BUCKETS.length];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sumNanos = new LongAdder();
+
+        Histogram() {
+            for (int i = 0; i < buckets.length; i++)
+                buckets[i] = new LongAdder();
+        }
+
+        void observeNanos(long nanos) {
+            double seconds = nanos / 1e9;
+            for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+                if (seconds <= LATENCY_BUCKETS[i]) {
+                    buckets[i].increment();
+                    break;
+                }
+            }
+            count.increment();
+            sumNanos.add(nanos);
+        }
+
+        /**
+         * name_bucket / name_sum / name_count 줄 출력 (구간값은 누적으로 변환)
+         */
+        void writeTo(StringBuilder out, String name, String labels) {
+            String prefix = labels.isEmpty() ? "" : labels + ",";
+            long cumulative = 0;
+            for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+                cumulative += buckets[i].sum();
+                out.append(name).append("_bucket{").append(prefix).append("le=\"").append(BUCKET_LABELS[i])
+                        .append("\"} ").append(cumulative).append('\n');
+            }
+            String braces = labels.isEmpty() ? "" : "{" + labels + "}";
+            out.append(name).append("_bucket{").append(prefix).append("le=\"+Inf\"} ").append(count.sum()).append('\n');
+            out.append(name).append("_sum").append(braces).append(' ').append(sumNanos.sum() / 1e9).append('\n');
+            out.append(name).append("_count").append(braces).append(' ').append(count.sum()).append('\n');
+        }
+    }
+
+    /**
+     * 명령 하나의 수신 통계
+     */
+    static final class CommandStats {
+        final LongAdder messages = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        final Histogram latency = new Histogram();
+
+        void record(int size, long nanos) {
+            messages.increment();
+            bytes.add(size);
+            latency.observeNanos(nanos);
+        }
+    }
+
+    private final Map<String, CommandStats> textCommands = new HashMap<>(); // 생성 후 읽기 전용
+    private final CommandStats unknownText = new CommandStats();
+    private final CommandStats[] binaryCommands = new CommandStats[256];
+    private final String[] binaryNames = new String[256];
+
+    final Histogram tick = new Histogram();
+    final Histogram eventBroadcast = new Histogram();
+    final Histogram stateBroadcast = new Histogram();
+    final Histogram snapshotBroadcast = new Histogram();
+    private final Histogram[] timerTasks = new Histogram[TimerTask.values().length];
+
+    ServerMetrics() {
+        for (String command : TEXT_COMMANDS)
+            textCommands.put(command, new CommandStats());
+        registerBinary(Protocol.POSITION, "POS");
+        registerBinary(Protocol.PLAYER_SHOOT, "SHOOT");
+        registerBinary(Protocol.SNAPSHOT_ACK, "ACK");
+        for (int i = 0; i < timerTasks.length; i++)
+            timerTasks[i] = new Histogram();
+    }
+
+    private void registerBinary(byte type, String name) {
+        binaryCommands[type & 0xFF] = new CommandStats();
+        binaryNames[type & 0xFF] = name;
+    }
+
+    /**
+     * 텍스트 메시지 한 건 처리 기록 ("명령:데이터" 형식)
+     */
+    void recordText(String message, long nanos) {
+        int colon = message.indexOf(':');
+        CommandStats stats = textCommands.get(colon < 0 ? message : message.substring(0, colon));
+        (stats != null ? stats : unknownText).record(2 + message.length(), nanos);
+    }
+
+    /**
+     * 바이너리 메시지 한 건 처리 기록
+     *
+     * @param size 페이로드 바이트 수 (길이 헤더 제외)
+     */
+    void recordBinary(byte type, int size, long nanos) {
+        CommandStats stats = binaryCommands[type & 0xFF];
+        if (stats != null)
+            stats.record(2 + size, nanos);
+    }
+
+    /**
+     * 실행 시간을 task 히스토그램에 기록하도록 감싼 작업
+     */
+    Runnable timed(TimerTask task, Runnable body) {
+        Histogram histogram = timerTasks[task.ordinal()];
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                body.run();
+            } finally {
+                histogram.observeNanos(System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * 누적 지표 전체 출력
+     */
+    void writeTo(StringBuilder out) {
+        header(out, "fps_messages_received_total", "counter", "Messages received per command");
+        forEachCommand((labels, s) -> sample(out, "fps_messages_received_total", labels, s.messages.sum()));
+        header(out, "fps_message_bytes_received_total", "counter", "Frame bytes received per command");
+        forEachCommand((labels, s) -> sample(out, "fps_message_bytes_received_total", labels, s.bytes.sum()));
+        header(out, "fps_message_handle_seconds", "histogram", "Message handling time per command");
+        forEachCommand((labels, s) -> s.latency.writeTo(out, "fps_message_handle_seconds", labels));
+
+        header(out, "fps_broadcast_seconds", "histogram", "Broadcast fan-out time (encode + enqueue to all recipients)");
+        eventBroadcast.writeTo(out, "fps_broadcast_seconds", "kind=\"event\"");
+        stateBroadcast.writeTo(out, "fps_broadcast_seconds", "kind=\"state\"");
+        snapshotBroadcast.writeTo(out, "fps_broadcast_seconds", "kind=\"snapshot\"");
+
+        header(out, "fps_tick_seconds", "histogram", "Match tick duration");
+        tick.writeTo(out, "fps_tick_seconds", "");
+
+        header(out, "fps_timer_task_seconds", "histogram", "Timing wheel task duration");
+        for (TimerTask task : TimerTask.values()) {
+            timerTasks[task.ordinal()].writeTo(out, "fps_timer_task_seconds",
+                    "task=\"" + task.name().toLowerCase() + "\"");
+        }
+
+        writeJvm(out);
+    }
+
+    private interface CommandVisitor {
+        void visit(String labels, CommandStats stats);
+    }
+
+    private void forEachCommand(CommandVisitor visitor) {
+        for (String command : TEXT_COMMANDS)
+            visitor.visit("command=\"" + command + "\",encoding=\"text\"", textCommands.get(command));
+        visitor.visit("command=\"UNKNOWN\",encoding=\"text\"", unknownText);
+        for (int i = 0; i < binaryCommands.length; i++) {
+            if (binaryCommands[i] != null)
+                visitor.visit("command=\"" + binaryNames[i] + "\",encoding=\"binary\"", binaryCommands[i]);
+        }
+    }
+
+    private static void writeJvm(StringBuilder out) {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        header(out, "jvm_memory_heap_bytes", "gauge", "Heap memory");
+        sample(out, "jvm_memory_heap_bytes", "area=\"used\"", heap.getUsed());
+        sample(out, "jvm_memory_heap_bytes", "area=\"committed\"", heap.getCommitted());
+        sample(out, "jvm_memory_heap_bytes", "area=\"max\"", heap.getMax());
+
+        header(out, "jvm_gc_collections_total", "counter", "GC collections per collector");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+            sample(out, "jvm_gc_collections_total", "gc=\"" + escape(gc.getName()) + "\"", gc.getCollectionCount());
+        header(out, "jvm_gc_collection_seconds_total", "counter", "GC time per collector");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            out.append("jvm_gc_collection_seconds_total{gc=\"").append(escape(gc.getName())).append("\"} ")
+                    .append(gc.getCollectionTime() / 1000.0).append('\n');
+        }
+
+        header(out, "jvm_threads_live", "gauge", "Live JVM threads");
+        sample(out, "jvm_threads_live", "", ManagementFactory.getThreadMXBean().getThreadCount());
+    }
+
+    static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(name);
+        if (!labels.isEmpty())
+            out.append('{').append(labels).append('}');
+        out.append(' ').append(value).append('\n');
+    }
+
+    /**
+     * 라벨 값 이스케이프 (플레이어 이름 등 외부 입력)
+     */
+    static String escape(String value) {
+        if (value == null)
+            return "";
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,123 @@
+package com.fpsgame.server;
+
+import com.fpsgame.common.GameConstants;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 플레이어가 최근 쏜 미사일 기록과 피격 판정
+ *
+ * SHOOT 마다 (서버 수신 시각, 발사 위치, 프레임당 이동량) 을 원형 버퍼에 남기고,
+ * HIT / HITME 가 오면 그 플레이어의 아직 맞지 않은 미사일 중
+ * - 발사 시각의 쏜 사람 위치(PositionHistory 되감기)와 발사 위치가 맞고
+ * - 궤적(발사 위치에서 사거리 이내)이 대상의 과거 위치와 판정 반경 안에서 만나는
+ * 것이 있는지 봅니다. 대상 이력의 각 시각마다 그 시각 미사일이 있었을 구간(수신 지연 여유 ±LATENCY_SLACK_MILLIS)과 비교합니다.
+ * 맞은 미사일은 소모되어 같은 미사일로 두 번(HIT + HITME) 피해를 주지 못합니다.
+ *
+ * 클라이언트는 발사 시각을 보내지 않으므로 서버 수신 시각을 발사 시각으로 쓰고,
+ * 대상은 그 뒤부터 지금까지의 이력(최대 PositionHistory.HISTORY_MILLIS)과 비교합니다.
+ */
+class ShotHistory {
+
+    /** 클라이언트 미사일 1프레임 (GamePanel 60FPS 타이머) */
+    static final float CLIENT_FRAME_MILLIS = 16f;
+
+    /** 클라이언트 판정 반경(20) + 틱 사이 이동·양자화 여유 */
+    static final float HIT_TOLERANCE = 20 + GameConstants.PLAYER_SIZE / 2f;
+
+    /** 발사 위치와 발사 시각 쏜 사람 위치의 허용 차이 (POS 와 SHOOT 도착 순서 차이 포함) */
+    static final float ORIGIN_TOLERANCE = 64f;
+
+    /** 사거리 무제한 기본 공격의 최대 비행 거리 (맵 대각선보다 길게) */
+    static final float MAX_TRAVEL = 4000f;
+
+    /** 이보다 오래된 미사일은 판정하지 않음 */
+    static final long MAX_SHOT_AGE_MILLIS = 5000;
+
+    /** 발사 시각 추정 오차 여유 (SHOOT 수신 지연) */
+    static final long LATENCY_SLACK_MILLIS = 250;
+
+    private static final int CAPACITY = 32;
+    private static final int MASK = CAPACITY - 1;
+
+    private final long[] times = new long[CAPACITY];
+    private final float[] sxs = new float[CAPACITY];
+    private final float[] sys = new float[CAPACITY];
+    private final float[] dxs = new float[CAPACITY];
+    private final float[] dys = new float[CAPACITY];
+    private final boolean[] consumed = new boolean[CAPACITY];
+    private int head = 0;
+    private int count = 0;
+    private final float[] scratch = new float[2];
+    private final ReentrantLock lock = new ReentrantLock();
+
+    void record(long time, float sx, float sy, float dx, float dy) {
+        lock.lock();
+        try {
+            times[head] = time;
+            sxs[head] = sx;
+            sys[head] = sy;
+            dxs[head] = dx;
+            dys[head] = dy;
+            consumed[head] = false;
+            head = (head + 1) & MASK;
+            if (count < CAPACITY)
+                count++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            count = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 최근 미사일 중 target 에 맞았다고 볼 수 있는 것을 찾아 소모
+     *
+     * @param shooter  쏜 사람 위치 이력 (발사 위치 확인용)
+     * @param target   맞은 사람 위치 이력
+     * @param maxRange 기본 공격 사거리 (0 이하 = 무제한)
+     * @return 인정된 피격이 있으면 true
+     */
+    boolean consumeHit(PositionHistory shooter, PositionHistory target, float maxRange, long now) {
+        lock.lock();
+        try {
+            for (int k = 0; k < count; k++) {
+                int i = (head - 1 - k) & MASK;
+                long fired = times[i];
+                if (now - fired > MAX_SHOT_AGE_MILLIS)
+                    break;
+                if (consumed[i])
+                    continue;
+                float sx = sxs[i], sy = sys[i];
+                float speed = (float) Math.sqrt(dxs[i] * dxs[i] + dys[i] * dys[i]);
+                if (speed <= 0f)
+                    continue;
+
+                // 발사 시각으로 되감은 쏜 사람 위치와 발사 위치 비교 (이력이 없으면 생략)
+                if (shooter.positionAt(fired, scratch)) {
+                    float ox = scratch[0] - sx, oy = scratch[1] - sy;
+                    if (ox * ox + oy * oy > ORIGIN_TOLERANCE * ORIGIN_TOLERANCE)
+                        continue;
+                }
+
+                // 되감은 대상 위치마다 그 시각 미사일이 있었을 구간과 비교
+                float range = maxRange > 0 ? maxRange : MAX_TRAVEL;
+                float d = target.minDistanceToMissile(fired, sx, sy, dxs[i] / speed, dys[i] / speed,
+                        speed / CLIENT_FRAME_MILLIS, range, LATENCY_SLACK_MILLIS, now);
+                if (d <= HIT_TOLERANCE) {
+                    consumed[i] = true;
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
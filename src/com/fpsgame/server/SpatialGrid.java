@@ -0,0 +1,140 @@
+package com.fpsgame.server;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * 균일 격자 공간 색인
+ *
+ * 정수 항목(플레이어 번호 등)을 좌표와 함께 cellSize 크기의 칸에 넣고,
+ * 사각형 범위 질의 시 겹치는 칸만 훑어 범위 안의 항목만 돌려줍니다.
+ * 맵 크기에 상관없이 쓸 수 있도록 칸은 필요할 때 만들며, clear()는 칸을 비우기만 하고 재사용합니다.
+ * 매 틱 다시 채우거나(clear + insert), 움직인 항목만 remove + insert 로 갱신할 수 있습니다.
+ *
+ * 동기화하지 않으므로 한 스레드(틱 스레드)에서만 쓰거나 호출측에서 잠금으로 보호해야 합니다.
+ */
+class SpatialGrid {
+
+    /**
+     * 한 칸의 항목 목록 (items / xs / ys 는 같은 인덱스끼리 한 항목)
+     */
+    private static final class Cell {
+        int count = 0;
+        int[] items = new int[4];
+        int[] xs = new int[4];
+        int[] ys = new int[4];
+
+        void add(int item, int x, int y) {
+            if (count == items.length) {
+                items = Arrays.copyOf(items, count * 2);
+                xs = Arrays.copyOf(xs, count * 2);
+                ys = Arrays.copyOf(ys, count * 2);
+            }
+            items[count] = item;
+            xs[count] = x;
+            ys[count] = y;
+            count++;
+        }
+
+        boolean remove(int item, int x, int y) {
+            for (int i = 0; i < count; i++) {
+                if (items[i] == item && xs[i] == x && ys[i] == y) {
+                    count--;
+                    items[i] = items[count];
+                    xs[i] = xs[count];
+                    ys[i] = ys[count];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private final int cellSize;
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private int size = 0;
+
+    SpatialGrid(int cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    void clear() {
+        for (Cell cell : cells.values())
+            cell.count = 0;
+        size = 0;
+    }
+
+    void insert(int item, int x, int y) {
+        cells.computeIfAbsent(key(Math.floorDiv(x, cellSize), Math.floorDiv(y, cellSize)), k -> new Cell())
+                .add(item, x, y);
+        size++;
+    }
+
+    /**
+     * insert 때와 같은 좌표로 항목 제거
+     *
+     * @return 찾아서 지웠는지
+     */
+    boolean remove(int item, int x, int y) {
+        Cell cell = cells.get(key(Math.floorDiv(x, cellSize), Math.floorDiv(y, cellSize)));
+        if (cell == null || !cell.remove(item, x, y))
+            return false;
+        size--;
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * (cx, cy) 에서 radius 이내(경계 포함)의 항목마다 out 호출 (제곱 거리 비교)
+     */
+    void queryRadius(int cx, int cy, int radius, IntConsumer out) {
+        if (size == 0)
+            return;
+        long r2 = (long) radius * radius;
+        int gx0 = Math.floorDiv(cx - radius, cellSize), gx1 = Math.floorDiv(cx + radius, cellSize);
+        int gy0 = Math.floorDiv(cy - radius, cellSize), gy1 = Math.floorDiv(cy + radius, cellSize);
+        for (int gy = gy0; gy <= gy1; gy++) {
+            for (int gx = gx0; gx <= gx1; gx++) {
+                Cell cell = cells.get(key(gx, gy));
+                if (cell == null)
+                    continue;
+                for (int i = 0; i < cell.count; i++) {
+                    long dx = cell.xs[i] - cx, dy = cell.ys[i] - cy;
+                    if (dx * dx + dy * dy <= r2)
+                        out.accept(cell.items[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * [minX, maxX] x [minY, maxY] 범위 안의 항목마다 out 호출 (경계 포함)
+     */
+    void query(int minX, int minY, int maxX, int maxY, IntConsumer out) {
+        if (size == 0)
+            return;
+        int cx0 = Math.floorDiv(minX, cellSize), cx1 = Math.floorDiv(maxX, cellSize);
+        int cy0 = Math.floorDiv(minY, cellSize), cy1 = Math.floorDiv(maxY, cellSize);
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                Cell cell = cells.get(key(cx, cy));
+                if (cell == null)
+                    continue;
+                for (int i = 0; i < cell.count; i++) {
+                    int x = cell.xs[i], y = cell.ys[i];
+                    if (x >= minX && x <= maxX && y >= minY && y <= maxY)
+                        out.accept(cell.items[i]);
+                }
+            }
+        }
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+}
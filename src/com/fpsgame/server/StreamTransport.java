@@ -0,0 +1,89 @@
+package com.fpsgame.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 블로킹 소켓 스트림 기반 전송 (스레드-퍼-클라이언트 / 가상 스레드 모드)
+ *
+ * 전용 writer 스레드가 OutboundQueue에 쌓인 프레임을 모아 한 번에 씁니다.
+ * writer 스레드 종류(플랫폼/가상)는 서버 실행 모드에 따라 threadFactory 로 결정됩니다.
+ */
+class StreamTransport implements ClientTransport, Runnable {
+
+    // 최대 프레임(65537바이트)이 항상 들어가도록 여유 있게 잡음
+    private static final int WRITE_BUFFER_SIZE = 128 * 1024;
+
+    private final Socket socket;
+    private final OutputStream out;
+    private final OutboundQueue queue;
+    private final Thread writer;
+    private volatile boolean closed = false;
+
+    StreamTransport(Socket socket, OutboundQueue queue, ThreadFactory threadFactory) throws IOException {
+        this.socket = socket;
+        this.out = socket.getOutputStream();
+        this.queue = queue;
+        this.writer = threadFactory.newThread(this);
+        this.writer.setName("writer-" + socket.getRemoteSocketAddress());
+        this.writer.setDaemon(true);
+    }
+
+    void start() {
+        writer.start();
+    }
+
+    @Override
+    public boolean send(byte[] frame) throws IOException {
+        if (closed)
+            throw new IOException("connection closed");
+        return queue.offer(frame);
+    }
+
+    @Override
+    public void run() {
+        ByteBuffer buf = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        try {
+            while (!closed) {
+                queue.awaitFrames(100);
+                buf.clear();
+                int frames = queue.drainTo(buf);
+                if (frames == 0)
+                    continue;
+                // 지난 drain 이후 쌓인 프레임을 한 번의 write로 전송
+                out.write(buf.array(), 0, buf.position());
+                out.flush();
+                queue.recordFlush(buf.position(), frames);
+            }
+        } catch (IOException | InterruptedException e) {
+            // 소켓이 닫혔거나 종료 요청 - 아래에서 정리
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        try {
+            if (!socket.isClosed())
+                socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    @Override
+    public String remoteAddress() {
+        return String.valueOf(socket.getRemoteSocketAddress());
+    }
+
+    @Override
+    public OutboundQueue queue() {
+        return queue;
+    }
+}
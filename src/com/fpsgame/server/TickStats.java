@@ -0,0 +1,86 @@
+package com.fpsgame.server;
+
+/**
+ * 서버 틱 소요 시간 통계
+ *
+ * 여러 매치의 틱 스레드가 record()를 호출하며(동기화), 조회는 아무 스레드에서나 가능합니다.
+ * 전체 누적값과 로그 출력용 구간값(windowReport 호출 시 초기화)을 함께 유지합니다.
+ */
+class TickStats {
+
+    private final long periodNanos;
+
+    private volatile long ticks = 0;
+    private volatile long totalNanos = 0;
+    private volatile long maxNanos = 0;
+    private volatile long lastNanos = 0;
+    private volatile long overruns = 0;
+
+    // 구간 (주기 로그용)
+    private long windowTicks = 0;
+    private long windowNanos = 0;
+    private long windowMaxNanos = 0;
+    private long windowOverruns = 0;
+
+    TickStats(long periodNanos) {
+        this.periodNanos = periodNanos;
+    }
+
+    /**
+     * 틱 하나의 소요 시간 기록
+     */
+    synchronized void record(long nanos) {
+        ticks++;
+        totalNanos += nanos;
+        lastNanos = nanos;
+        if (nanos > maxNanos)
+            maxNanos = nanos;
+        if (nanos > periodNanos)
+            overruns++;
+
+        windowTicks++;
+        windowNanos += nanos;
+        if (nanos > windowMaxNanos)
+            windowMaxNanos = nanos;
+        if (nanos > periodNanos)
+            windowOverruns++;
+    }
+
+    long getTicks() {
+        return ticks;
+    }
+
+    long getAverageMicros() {
+        long t = ticks;
+        return t == 0 ? 0 : totalNanos / t / 1000;
+    }
+
+    long getMaxMicros() {
+        return maxNanos / 1000;
+    }
+
+    long getLastMicros() {
+        return lastNanos / 1000;
+    }
+
+    /**
+     * 틱 주기를 넘긴 횟수
+     */
+    long getOverruns() {
+        return overruns;
+    }
+
+    /**
+     * 지난 호출 이후 구간 요약 문자열을 만들고 구간값을 초기화
+     */
+    synchronized String windowReport() {
+        long avg = windowTicks == 0 ? 0 : windowNanos / windowTicks / 1000;
+        String report = "ticks=" + windowTicks + " avg=" + avg + "us max=" + windowMaxNanos / 1000
+                + "us overruns=" + windowOverruns + " (budget " + periodNanos / 1000 + "us)";
+        windowTicks = 0;
+        windowNanos = 0;
+        windowMaxNanos = 0;
+        windowOverruns = 0;
+        return report;
+    }
+}
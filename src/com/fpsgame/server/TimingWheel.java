@@ -0,0 +1,191 @@
+package com.fpsgame.server;
+
+import com.fpsgame.common.Log;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해시 타이밍 휠 (매치마다 1개, 매치 틱이 구동)
+ *
+ * 칸(slotMillis) 단위 원형 배열에 예약 작업을 이중 연결 리스트로 걸어두고,
+ * advance()가 지난 칸들만 훑어 만료된 작업을 실행합니다.
+ * 한 바퀴(slotMillis x 칸 수)보다 먼 작업은 남은 바퀴 수(remainingRounds)를 세며 기다립니다.
+ *
+ * - schedule / cancel: 아무 스레드, O(1) (대기 큐에 넣거나 취소 표시만 하고 연결은 틱 스레드가 정리)
+ * - cancelAll: 세대 번호만 올려 그 전에 예약된 작업을 한꺼번에 무효화 (라운드 리셋용)
+ * - advance: 틱 스레드 전용. 작업도 틱 스레드에서 실행되므로 전투 판정(피격 / 사망 / 라운드 종료)과 같은 스레드입니다.
+ *   로비 명령(GAME_START, CHARACTER_SELECT)은 수신 스레드에서 매치 상태를 건드리므로 라운드 종료 전이는 CAS로 막습니다.
+ */
+class TimingWheel {
+
+    /**
+     * 예약된 작업 핸들
+     */
+    static final class Timeout {
+        private final TimingWheel wheel;
+        private final Runnable task;
+        private final long deadline;
+        private final int generation;
+        // 실행되었거나 취소되면 true
+        private final AtomicBoolean done = new AtomicBoolean(false);
+
+        // 틱 스레드 전용
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev, next;
+
+        private Timeout(TimingWheel wheel, Runnable task, long deadline, int generation) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+            this.generation = generation;
+        }
+
+        /**
+         * 실행 취소 (이미 실행됐거나 취소됐으면 무시)
+         */
+        boolean cancel() {
+            if (!done.compareAndSet(false, true))
+                return false;
+            wheel.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        boolean isDone() {
+            return done.get();
+        }
+    }
+
+    /**
+     * 한 칸의 작업 목록 (이중 연결 리스트)
+     */
+    private static final class Bucket {
+        Timeout head, tail;
+
+        void add(Timeout t) {
+            t.bucket = this;
+            if (head == null) {
+                head = tail = t;
+            } else {
+                tail.next = t;
+                t.prev = tail;
+                tail = t;
+            }
+        }
+
+        void remove(Timeout t) {
+            if (t.prev != null)
+                t.prev.next = t.next;
+            else
+                head = t.next;
+            if (t.next != null)
+                t.next.prev = t.prev;
+            else
+                tail = t.prev;
+            t.prev = t.next = null;
+            t.bucket = null;
+        }
+    }
+
+    private final long slotMillis;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime;
+    private long currentSlot = 0; // startTime 이후 처리한 칸 수 (틱 스레드 전용)
+
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger generation = new AtomicInteger(0);
+    private int size = 0;
+
+    /**
+     * @param slotMillis 한 칸 길이 (보통 틱 주기)
+     * @param slots      칸 수 (2의 거듭제곱으로 올림)
+     */
+    TimingWheel(long slotMillis, int slots, long now) {
+        this.slotMillis = Math.max(1, slotMillis);
+        int n = Integer.highestOneBit(Math.max(1, slots - 1)) << 1;
+        this.wheel = new Bucket[n];
+        for (int i = 0; i < n; i++)
+            wheel[i] = new Bucket();
+        this.mask = n - 1;
+        this.startTime = now;
+    }
+
+    /**
+     * delayMillis 뒤에 task 실행 예약 (아무 스레드)
+     */
+    Timeout schedule(long delayMillis, Runnable task) {
+        Timeout t = new Timeout(this, task, System.currentTimeMillis() + Math.max(0, delayMillis), generation.get());
+        pendingTimeouts.add(t);
+        return t;
+    }
+
+    /**
+     * 지금까지 예약된 작업을 모두 무효화 (아무 스레드, O(1))
+     * 무효화된 작업은 해당 칸에 도달할 때 실행 없이 버려집니다.
+     */
+    void cancelAll() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * now 까지 지난 칸의 만료 작업 실행 (틱 스레드 전용)
+     */
+    void advance(long now) {
+        Timeout c;
+        while ((c = cancelledTimeouts.poll()) != null) {
+            if (c.bucket != null) {
+                c.bucket.remove(c);
+                size--;
+            }
+        }
+        Timeout t;
+        while ((t = pendingTimeouts.poll()) != null) {
+            if (t.isDone())
+                continue;
+            long slot = (t.deadline - startTime) / slotMillis;
+            t.remainingRounds = Math.max(0, slot - currentSlot) / wheel.length;
+            wheel[(int) (Math.max(slot, currentSlot) & mask)].add(t);
+            size++;
+        }
+
+        long targetSlot = (now - startTime) / slotMillis;
+        int gen = generation.get();
+        while (currentSlot <= targetSlot) {
+            expire(wheel[(int) (currentSlot & mask)], gen);
+            currentSlot++;
+        }
+    }
+
+    private void expire(Bucket bucket, int gen) {
+        Timeout t = bucket.head;
+        while (t != null) {
+            Timeout next = t.next;
+            if (t.remainingRounds > 0 && t.generation == gen && !t.isDone()) {
+                t.remainingRounds--;
+            } else {
+                bucket.remove(t);
+                size--;
+                if (t.generation == gen && t.done.compareAndSet(false, true)) {
+                    try {
+                        t.task.run();
+                    } catch (Exception e) {
+                        // 작업 하나의 예외가 나머지 작업과 틱을 막지 않도록 격리
+                        Log.error("[TIMER] 예약 작업 실행 중 오류", e);
+                    }
+                }
+            }
+            t = next;
+        }
+    }
+
+    /**
+     * 칸에 걸려 있는 작업 수 (틱 스레드 전용, 아직 칸에 도달하지 않은 무효화 작업 포함)
+     */
+    int size() {
+        return size;
+    }
+}
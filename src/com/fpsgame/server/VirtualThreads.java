@@ -0,0 +1,36 @@
+package com.fpsgame.server;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드(Java 21+) 지원 확인 및 스레드 팩토리 생성
+ *
+ * 빌드는 Java 17 기준이므로 Thread.ofVirtual() 을 리플렉션으로 호출합니다.
+ * 지원하지 않는 런타임에서는 null 을 돌려주고, 호출측은 플랫폼 스레드로 대체합니다.
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+        throw new AssertionError("Cannot instantiate VirtualThreads");
+    }
+
+    /**
+     * 이름이 prefix0, prefix1, ... 인 가상 스레드를 만드는 팩토리
+     *
+     * @return 가상 스레드를 지원하지 않으면 null
+     */
+    static ThreadFactory factory(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    static boolean isSupported() {
+        return factory("probe-") != null;
+    }
+}
@@ -0,0 +1,951 @@
+package com.fpsgame.tools;
+
+import com.fpsgame.client.NetworkClient;
+import com.fpsgame.common.Ability;
+import com.fpsgame.common.BinaryCodec;
+import com.fpsgame.common.CharacterData;
+import com.fpsgame.common.GameConstants;
+import com.fpsgame.common.Log;
+import com.fpsgame.common.MapGrid;
+import com.fpsgame.common.PlayerIdTable;
+import com.fpsgame.common.Protocol;
+import com.fpsgame.server.GameServer;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 헤드리스 봇 부하 생성기
+ *
+ * NetworkClient 로 실제 프로토콜을 쓰는 봇 N 개를 띄워, MAX_PLAYERS 를 올리기 전에 서버가 어디서 버거워지는지 측정합니다.
+ * 봇은 매치 정원(maxPlayers)만큼씩 묶어 JOIN(캐릭터 포함) → TEAM → READY → START 로 매치를 시작하고,
+ * 라운드가 시작되면 자기 팀 스폰 타일에서 출발해 프로필대로 행동합니다.
+ *
+ * - idle    : 접속만 유지 (PING 만 보냄)
+ * - walker  : 맵 격자 위에서 임의의 목표 타일까지 BFS 경로로 걸으며 POS 전송 (클라이언트와 같은 5px/16ms)
+ * - shooter : walker + 가장 가까운 적에게 SHOOT, 사거리 안이면 미사일 도착 시간 뒤 HIT 보고
+ * - skiller : shooter + 전술 / 궁극기 SKILL (쿨다운마다)
+ *
+ * 보고 (--report 초마다 구간 값, 끝에 전체 값):
+ * PING→PONG 왕복 시간 백분위, 송수신 메시지 / 바이트 처리량, 서버 CPU 사용률, 서버 틱 / 송신 통계.
+ * 기본은 이 프로세스 안에서 GameServer 를 띄우며 서버 CPU 는 봇 스레드를 뺀 스레드들의 CPU 시간입니다.
+ * --port 를 주면 이미 떠 있는 localhost 서버에 붙고, --server-pid 를 함께 주면 /proc 에서 그 프로세스 CPU 를 읽습니다.
+ *
+ * 실행 (맵 파일을 찾도록 프로젝트 루트에서):
+ * java -cp bin com.fpsgame.tools.BotLoadGenerator [bots] [seconds] [--mix=walker:5,shooter:4,skiller:1 | --profile=walker]
+ *                                                  [--pos-hz=60] [--binary] [--server-hits] [--report=5]
+ *                                                  [--port=N [--server-pid=PID]] [--nio=N | --blocking | --virtual]
+ *                                                  [--max-players=N] [--tick-rate=N] [--verbose]
+ *
+ * 기본값: 봇 16개, 30초, walker:5,shooter:4,skiller:1, 위치 60Hz, 텍스트 프로토콜, NIO I/O 스레드 2개, 5초마다 보고
+ */
+public class BotLoadGenerator {
+
+    /**
+     * 봇 행동 프로필
+     */
+    enum Profile {
+        IDLE(false, false, false),
+        WALKER(true, false, false),
+        SHOOTER(true, true, false),
+        SKILLER(true, true, true);
+
+        final boolean moves;
+        final boolean shoots;
+        final boolean skills;
+
+        Profile(boolean moves, boolean shoots, boolean skills) {
+            this.moves = moves;
+            this.shoots = shoots;
+            this.skills = skills;
+        }
+    }
+
+    /** 봇이 고르는 캐릭터 (선택 가능한 캐릭터만) */
+    private static final String[] BOT_CHARACTERS = { "raven", "piper", "technician", "general" };
+
+    private static final String HOST = "127.0.0.1";
+    private static final long PING_INTERVAL_MS = 1000;
+    private static final long JOIN_TIMEOUT_MS = 5000;
+    private static final long START_TIMEOUT_MS = 10000;
+    private static final long START_RETRY_MS = 500;
+    /** 이 거리 안의 적에게만 쏨 */
+    private static final float SHOOT_RANGE = 600f;
+    /** 이 거리 안이면 맞은 것으로 보고 HIT 를 보냄 (클라이언트 충돌 판정 대신) */
+    private static final float HIT_RANGE = 250f;
+    private static final long SHOOT_INTERVAL_MS = 300;
+    /** 경로를 찾을 때 목표 타일을 뽑아 보는 횟수 */
+    private static final int PATH_ATTEMPTS = 8;
+    /** 바이너리 POS / SHOOT 프레임 크기 (길이 헤더 포함, 송신 바이트 집계용) */
+    private static final int POS_FRAME_BYTES = BinaryCodec.encodePosition(0, 0, 0).length;
+    private static final int SHOOT_FRAME_BYTES = BinaryCodec.encodeShoot(0, 0, 0, 0).length;
+
+    // ===== 집계 (모든 봇 공유) =====
+
+    private static final LongAdder sentMessages = new LongAdder();
+    private static final LongAdder sentBytes = new LongAdder();
+    private static final LongAdder receivedMessages = new LongAdder();
+    private static final LongAdder receivedBytes = new LongAdder();
+    private static final LongAdder positionsSent = new LongAdder();
+    private static final LongAdder shotsSent = new LongAdder();
+    private static final LongAdder hitsSent = new LongAdder();
+    private static final LongAdder skillsSent = new LongAdder();
+    private static final LatencySamples periodRtt = new LatencySamples();
+    private static final LatencySamples totalRtt = new LatencySamples();
+    private static final AtomicInteger disconnected = new AtomicInteger();
+
+    /** 맵 이름 → 격자 (봇들이 공유, 읽기 전용) */
+    private static final Map<String, MapGrid> grids = new ConcurrentHashMap<>();
+
+    public static void main(String[] args) throws Exception {
+        int botCount = 16;
+        int seconds = 30;
+        String mix = "walker:5,shooter:4,skiller:1";
+        int posHz = 60;
+        int features = 0;
+        int reportSeconds = 5;
+        int port = 0;
+        int serverPid = -1;
+        String mode = "nio";
+        int ioThreads = 2;
+        int maxPlayers = GameConstants.MAX_PLAYERS;
+        int tickRate = GameServer.DEFAULT_TICK_RATE;
+        boolean verbose = false;
+        int positional = 0;
+        for (String arg : args) {
+            if (arg.startsWith("--mix=")) {
+                mix = arg.substring("--mix=".length());
+            } else if (arg.startsWith("--profile=")) {
+                mix = arg.substring("--profile=".length()) + ":1";
+            } else if (arg.startsWith("--pos-hz=")) {
+                posHz = Integer.parseInt(arg.substring("--pos-hz=".length()));
+            } else if (arg.equals("--binary")) {
+                features |= Protocol.FEATURE_BINARY;
+            } else if (arg.equals("--server-hits")) {
+                features |= Protocol.FEATURE_SERVER_HITS;
+            } else if (arg.startsWith("--report=")) {
+                reportSeconds = Integer.parseInt(arg.substring("--report=".length()));
+            } else if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(arg.substring("--port=".length()));
+            } else if (arg.startsWith("--server-pid=")) {
+                serverPid = Integer.parseInt(arg.substring("--server-pid=".length()));
+            } else if (arg.equals("--blocking")) {
+                mode = "blocking";
+            } else if (arg.equals("--virtual")) {
+                mode = "virtual";
+            } else if (arg.startsWith("--nio=")) {
+                ioThreads = Integer.parseInt(arg.substring("--nio=".length()));
+            } else if (arg.startsWith("--max-players=")) {
+                maxPlayers = Integer.parseInt(arg.substring("--max-players=".length()));
+            } else if (arg.startsWith("--tick-rate=")) {
+                tickRate = Integer.parseInt(arg.substring("--tick-rate=".length()));
+            } else if (arg.equals("--verbose")) {
+                verbose = true;
+            } else if (positional++ == 0) {
+                botCount = Integer.parseInt(arg);
+            } else {
+                seconds = Integer.parseInt(arg);
+            }
+        }
+        // 서버 / 봇 로그가 보고를 덮지 않도록 (--verbose 면 그대로)
+        if (!verbose)
+            Log.setLevel(Log.Level.WARN);
+
+        Profile[] cycle = parseMix(mix);
+        int matchCount = (botCount + maxPlayers - 1) / maxPlayers;
+
+        GameServer server = null;
+        if (port == 0) {
+            server = new GameServer(0, maxPlayers, tickRate, matchCount,
+                    Runtime.getRuntime().availableProcessors());
+            startServer(server, mode, ioThreads);
+            port = server.getPort();
+        }
+        String modeName = server == null ? "external(localhost:" + port + ")"
+                : mode.equals("blocking") ? "thread-per-client"
+                : mode.equals("virtual") ? "virtual-thread-per-client" : "nio(" + ioThreads + ")";
+        System.out.println("[BOT] server=" + modeName + " bots=" + botCount + " seconds=" + seconds + " mix=" + mix
+                + " pos=" + posHz + "Hz features=" + features + " maxPlayers=" + maxPlayers);
+
+        long stepMillis = Math.max(1, 1000 / Math.max(1, posHz));
+        int driverThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger driverIndex = new AtomicInteger();
+        ScheduledExecutorService drivers = Executors.newScheduledThreadPool(driverThreads, r -> {
+            Thread t = new Thread(r, "bot-driver-" + driverIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        // 매치 정원만큼씩 입장 → 시작 (서버는 시작 전이고 자리가 남은 매치에 차례로 배정)
+        Bot[] bots = new Bot[botCount];
+        for (int i = 0; i < botCount; i++)
+            bots[i] = new Bot(i, cycle[i % cycle.length], BOT_CHARACTERS[i % BOT_CHARACTERS.length], stepMillis);
+        long rampStart = System.nanoTime();
+        int joined = 0;
+        int startedMatches = 0;
+        for (int first = 0; first < botCount; first += maxPlayers) {
+            List<Bot> group = new ArrayList<>();
+            for (int i = first; i < Math.min(botCount, first + maxPlayers); i++) {
+                Bot bot = bots[i];
+                if (bot.connect(port, features)) {
+                    group.add(bot);
+                    joined++;
+                }
+            }
+            for (int i = 0; i < group.size(); i++) {
+                group.get(i).send("TEAM:" + group.get(i).team);
+                group.get(i).send("READY");
+            }
+            if (group.size() >= 2 && group.get(0).startMatch())
+                startedMatches++;
+            for (Bot bot : group) {
+                drivers.scheduleAtFixedRate(bot::stepSafely, bot.random.nextInt((int) stepMillis + 1), stepMillis,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+        long rampMs = (System.nanoTime() - rampStart) / 1_000_000;
+        System.out.println("[BOT] 입장 " + joined + "/" + botCount + ", 시작된 매치 " + startedMatches + "/" + matchCount
+                + " (" + rampMs + "ms)");
+
+        // 측정 (구간마다 출력 후 마지막에 전체)
+        CpuSampler cpu = new CpuSampler(server != null, serverPid);
+        Totals start = Totals.capture(cpu);
+        Totals previous = start;
+        periodRtt.drain();
+        totalRtt.drain();
+        long endAt = System.currentTimeMillis() + seconds * 1000L;
+        while (System.currentTimeMillis() < endAt) {
+            Thread.sleep(Math.min(reportSeconds * 1000L, Math.max(1, endAt - System.currentTimeMillis())));
+            Totals now = Totals.capture(cpu);
+            report("구간", previous, now, periodRtt.drain(), null);
+            previous = now;
+        }
+        report("전체", start, Totals.capture(cpu), totalRtt.drain(), server);
+
+        drivers.shutdownNow();
+        if (server != null)
+            server.stop();
+        for (Bot bot : bots)
+            bot.stop();
+        Log.flush(1000);
+    }
+
+    private static void startServer(GameServer server, String mode, int ioThreads) {
+        Thread acceptThread = new Thread(() -> {
+            try {
+                if (mode.equals("blocking"))
+                    server.start();
+                else if (mode.equals("virtual"))
+                    server.startVirtual();
+                else
+                    server.startNio(ioThreads);
+            } catch (IOException e) {
+                Log.error("[BOT] 서버 시작 실패", e);
+            }
+        }, "bot-load-server");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    /**
+     * "walker:5,shooter:4" → 비율대로 펼친 프로필 순환 목록
+     */
+    private static Profile[] parseMix(String mix) {
+        List<Profile> cycle = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] kv = part.trim().split(":");
+            Profile profile = Profile.valueOf(kv[0].trim().toUpperCase());
+            int weight = kv.length > 1 ? Integer.parseInt(kv[1].trim()) : 1;
+            for (int i = 0; i < weight; i++)
+                cycle.add(profile);
+        }
+        if (cycle.isEmpty())
+            throw new IllegalArgumentException("빈 프로필 구성: " + mix);
+        // 한 매치 안에 여러 프로필이 섞이도록 가중치 순서대로 번갈아 배치
+        List<Profile> interleaved = new ArrayList<>(cycle.size());
+        Map<Profile, Integer> remaining = new EnumMap<>(Profile.class);
+        for (Profile p : cycle)
+            remaining.merge(p, 1, Integer::sum);
+        while (interleaved.size() < cycle.size()) {
+            for (Profile p : Profile.values()) {
+                Integer left = remaining.get(p);
+                if (left != null && left > 0) {
+                    interleaved.add(p);
+                    remaining.put(p, left - 1);
+                }
+            }
+        }
+        return interleaved.toArray(new Profile[0]);
+    }
+
+    private static void report(String label, Totals from, Totals to, long[] rttMicros, GameServer server) {
+        double secs = Math.max(1e-3, (to.nanos - from.nanos) / 1e9);
+        System.out.println("[BOT] ---- " + label + " " + String.format("%.1f", secs) + "s ----");
+        if (rttMicros.length == 0) {
+            System.out.println("[BOT] RTT: 표본 없음");
+        } else {
+            System.out.println("[BOT] RTT(" + rttMicros.length + "): p50=" + millis(percentile(rttMicros, 50))
+                    + " p95=" + millis(percentile(rttMicros, 95)) + " p99=" + millis(percentile(rttMicros, 99))
+                    + " max=" + millis(rttMicros[rttMicros.length - 1]) + "ms");
+        }
+        System.out.println("[BOT] 송신 " + rate(to.sentMessages - from.sentMessages, secs) + " msg/s ("
+                + rate(to.sentBytes - from.sentBytes, secs) + " B/s; POS " + (to.positions - from.positions)
+                + ", SHOOT " + (to.shots - from.shots) + ", HIT " + (to.hits - from.hits) + ", SKILL "
+                + (to.skills - from.skills) + "), 수신 " + rate(to.receivedMessages - from.receivedMessages, secs)
+                + " msg/s (" + rate(to.receivedBytes - from.receivedBytes, secs) + " B/s), 끊김 " + to.disconnected);
+        if (to.serverCpuNanos >= 0 && from.serverCpuNanos >= 0) {
+            double serverCores = (to.serverCpuNanos - from.serverCpuNanos) / 1e9 / secs;
+            String bots = to.botCpuNanos >= 0 && from.botCpuNanos >= 0
+                    ? ", 봇 " + String.format("%.0f%%", (to.botCpuNanos - from.botCpuNanos) / 1e9 / secs * 100) : "";
+            System.out.println("[BOT] CPU: 서버 " + String.format("%.0f%%", serverCores * 100) + bots + " (코어 "
+                    + Runtime.getRuntime().availableProcessors() + "개 기준 100%=1코어)");
+        } else {
+            System.out.println("[BOT] CPU: 측정 안 함 (외부 서버는 --server-pid 필요)");
+        }
+        if (server != null) {
+            System.out.println("[BOT] 서버: 플레이어 " + server.getPlayerCount() + ", 매치 " + server.getMatchCount()
+                    + ", 틱(" + server.getTickRate() + "Hz) " + server.getTickCount() + "회 평균 "
+                    + server.getAverageTickMicros() + "us 최대 " + server.getMaxTickMicros() + "us 초과 "
+                    + server.getTickOverruns());
+            System.out.println("[BOT] 서버 송신: " + server.getBytesFlushed() + " bytes, 프레임 " + server.getFramesFlushed()
+                    + ", 큐 최대 " + server.getPeakOutboundQueueDepth() + ", 주기 낮춘 클라이언트 "
+                    + server.getDegradedClientCount() + " (생략 틱 " + server.getSkippedPositionTicks()
+                    + "), 느린 클라이언트 차단 " + server.getSlowClientDisconnects());
+        }
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+
+    private static String rate(long count, double secs) {
+        return String.format("%.0f", count / secs);
+    }
+
+    /**
+     * 맵 격자 (처음 한 번만 읽음, 실패하면 null → 봇이 움직이지 않음)
+     */
+    private static MapGrid grid(String mapName) {
+        MapGrid grid = grids.get(mapName);
+        if (grid != null)
+            return grid;
+        try {
+            grid = MapGrid.load(mapName);
+        } catch (IOException | RuntimeException e) {
+            Log.warn("[BOT] 맵을 읽지 못했습니다 (프로젝트 루트에서 실행하세요): " + mapName + " - " + e.getMessage());
+            return null;
+        }
+        MapGrid previous = grids.putIfAbsent(mapName, grid);
+        return previous != null ? previous : grid;
+    }
+
+    /**
+     * 봇 하나 (수신 콜백은 NetworkClient 수신 스레드, step 은 드라이버 스레드에서 실행)
+     */
+    private static final class Bot {
+        final String name;
+        final Profile profile;
+        final String characterId;
+        final Ability[] abilities;
+        final long stepMillis;
+        final Random random;
+        final int team;
+
+        private NetworkClient client;
+        private final CountDownLatch welcomed = new CountDownLatch(1);
+        private final CountDownLatch gameStarted = new CountDownLatch(1);
+        private final PlayerIdTable ids = new PlayerIdTable();
+        /** 적 이름 → {x, y} (수신 스레드가 갱신) */
+        private final Map<String, float[]> enemies = new ConcurrentHashMap<>();
+        private volatile MapGrid grid;
+        private volatile int round = 0;
+        private volatile boolean alive = false;
+        private volatile boolean binary = false;
+
+        // ===== 드라이버 스레드 전용 =====
+        private int roundSeen = 0;
+        private float x = 400, y = 300;
+        private int direction = 0;
+        private int[] path;          // 타일 번호 (row * cols + col)
+        private int pathIndex;
+        private int[] bfsParent;
+        private long nextPingAt = 0;
+        private long nextShotAt = 0;
+        private long nextTacticalAt = 0;
+        private long nextUltimateAt = 0;
+        private final ArrayDeque<Object[]> pendingHits = new ArrayDeque<>(); // {도착 시각(Long), 대상 이름}
+
+        Bot(int index, Profile profile, String characterId, long stepMillis) {
+            this.name = "bot" + index;
+            this.profile = profile;
+            this.characterId = characterId;
+            this.abilities = CharacterData.createAbilities(characterId);
+            this.stepMillis = stepMillis;
+            this.random = new Random(index);
+            this.team = index % 2 == 0 ? GameConstants.TEAM_RED : GameConstants.TEAM_BLUE;
+        }
+
+        /**
+         * 연결 후 JOIN, WELCOME 까지 대기
+         */
+        boolean connect(int port, int features) {
+            try {
+                Socket socket = new Socket(HOST, port);
+                socket.setTcpNoDelay(true);
+                client = new NetworkClient(socket, new DataOutputStream(socket.getOutputStream()),
+                        new DataInputStream(socket.getInputStream()));
+            } catch (IOException e) {
+                Log.warn("[BOT] " + name + " 연결 실패: " + e.getMessage());
+                return false;
+            }
+            client.setOnMessageReceived(this::onMessage);
+            client.setOnBinaryReceived(this::onBinary);
+            client.startReceiving();
+            send("JOIN:" + name + ":" + characterId + ":" + features);
+            try {
+                if (welcomed.await(JOIN_TIMEOUT_MS, TimeUnit.MILLISECONDS))
+                    return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Log.warn("[BOT] " + name + " 입장 실패 (WELCOME 없음)");
+            client.stop();
+            return false;
+        }
+
+        /**
+         * (그룹 첫 봇) GAME_START 가 올 때까지 START 재시도 (다른 봇의 READY 가 늦게 처리될 수 있음)
+         */
+        boolean startMatch() {
+            long deadline = System.currentTimeMillis() + START_TIMEOUT_MS;
+            try {
+                while (System.currentTimeMillis() < deadline) {
+                    send("START");
+                    if (gameStarted.await(START_RETRY_MS, TimeUnit.MILLISECONDS))
+                        return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Log.warn("[BOT] " + name + " 매치 시작 실패");
+            return false;
+        }
+
+        void stop() {
+            if (client != null)
+                client.stop();
+        }
+
+        void send(String message) {
+            client.sendMessage(message);
+            sentMessages.increment();
+            sentBytes.add(2 + message.length());
+        }
+
+        // ===== 수신 =====
+
+        private void onMessage(String message) {
+            receivedMessages.increment();
+            receivedBytes.add(2 + message.length());
+            int colon = message.indexOf(':');
+            String command = colon < 0 ? message : message.substring(0, colon);
+            String data = colon < 0 ? "" : message.substring(colon + 1);
+            switch (command) {
+                case "WELCOME":
+                    welcomed.countDown();
+                    break;
+                case "FEATURES":
+                    int accepted = Integer.parseInt(data.trim());
+                    client.setFeatures(accepted);
+                    binary = (accepted & Protocol.FEATURE_BINARY) != 0;
+                    break;
+                case "ID_MAP":
+                    ids.put(data);
+                    break;
+                case "GAME_START":
+                    gameStarted.countDown();
+                    break;
+                case "ROUND_START":
+                    onRoundStart(data);
+                    break;
+                case "ROUND_WIN":
+                case "GAME_OVER":
+                    alive = false;
+                    break;
+                case "PONG":
+                    onPong(data);
+                    break;
+                case "PLAYER":
+                    onPlayer(data);
+                    break;
+                case "STATS":
+                    onStats(data);
+                    break;
+                case "HIDE":
+                    enemies.remove(data);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void onBinary(ByteBuffer payload) {
+            receivedMessages.increment();
+            receivedBytes.add(2 + payload.remaining());
+            byte type = BinaryCodec.readType(payload);
+            if (type == Protocol.PLAYER_UPDATE) {
+                String player = ids.get(BinaryCodec.readId(payload));
+                float px = BinaryCodec.readCoord(payload);
+                float py = BinaryCodec.readCoord(payload);
+                int playerTeam = BinaryCodec.readUnsignedByte(payload);
+                int hp = BinaryCodec.readShort(payload);
+                if (player != null)
+                    trackPlayer(player, px, py, playerTeam, hp);
+            } else if (type == Protocol.PLAYER_STATS) {
+                String player = ids.get(BinaryCodec.readId(payload));
+                payload.getShort(); // kills
+                payload.getShort(); // deaths
+                int hp = BinaryCodec.readShort(payload);
+                if (name.equals(player) && hp <= 0)
+                    alive = false;
+            }
+        }
+
+        /**
+         * ROUND_START:round,map;count;... → 맵 격자 교체 후 다음 step 에서 스폰
+         */
+        private void onRoundStart(String data) {
+            int comma = data.indexOf(',');
+            int semicolon = data.indexOf(';');
+            if (comma >= 0) {
+                String mapName = data.substring(comma + 1, semicolon > comma ? semicolon : data.length());
+                grid = grid(mapName);
+            }
+            enemies.clear();
+            gameStarted.countDown();
+            alive = true;
+            round++;
+        }
+
+        private void onPong(String data) {
+            try {
+                long rtt = (System.nanoTime() - Long.parseLong(data.trim())) / 1000;
+                periodRtt.add(rtt);
+                totalRtt.add(rtt);
+            } catch (NumberFormatException ignored) {
+            }
+        }
+
+        /**
+         * PLAYER:이름,x,y,팀,hp,캐릭터ID,방향
+         */
+        private void onPlayer(String data) {
+            String[] parts = data.split(",");
+            if (parts.length < 5)
+                return;
+            try {
+                trackPlayer(parts[0], Float.parseFloat(parts[1]), Float.parseFloat(parts[2]),
+                        Integer.parseInt(parts[3]), Integer.parseInt(parts[4]));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+
+        /**
+         * STATS:이름,킬,데스,hp,캐릭터ID
+         */
+        private void onStats(String data) {
+            String[] parts = data.split(",");
+            if (parts.length >= 4 && parts[0].equals(name)) {
+                try {
+                    if (Integer.parseInt(parts[3]) <= 0)
+                        alive = false;
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+
+        private void trackPlayer(String player, float px, float py, int playerTeam, int hp) {
+            if (player.equals(name) || playerTeam == team)
+                return;
+            if (hp <= 0) {
+                enemies.remove(player);
+                return;
+            }
+            float[] pos = enemies.get(player);
+            if (pos == null) {
+                enemies.put(player, new float[] { px, py });
+            } else {
+                pos[0] = px;
+                pos[1] = py;
+            }
+        }
+
+        // ===== 행동 (드라이버 스레드) =====
+
+        void stepSafely() {
+            if (!client.isConnected()) {
+                disconnected.incrementAndGet();
+                throw new IllegalStateException(name + " 연결 끊김"); // 예외로 이 봇의 스케줄 종료
+            }
+            try {
+                step(System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                // 한 봇의 오류로 스케줄이 멈추지 않도록
+                Log.warn("[BOT] " + name + " step 오류: " + e);
+            }
+        }
+
+        private void step(long now) {
+            if (now >= nextPingAt) {
+                send("PING:" + System.nanoTime());
+                nextPingAt = now + PING_INTERVAL_MS;
+            }
+            if (!alive)
+                return;
+            int currentRound = round;
+            if (currentRound != roundSeen) {
+                roundSeen = currentRound;
+                spawn();
+            }
+            if (profile.moves)
+                walk();
+            if (profile.shoots)
+                shoot(now);
+            if (profile.skills)
+                useSkills(now);
+            while (!pendingHits.isEmpty() && (Long) pendingHits.peekFirst()[0] <= now) {
+                send("HIT:" + pendingHits.pollFirst()[1]);
+                hitsSent.increment();
+            }
+        }
+
+        private void spawn() {
+            path = null;
+            pendingHits.clear();
+            MapGrid g = grid;
+            if (g == null)
+                return;
+            List<int[]> spawns = g.getSpawnTiles(team);
+            if (spawns.isEmpty())
+                return;
+            int[] tile = spawns.get(random.nextInt(spawns.size()));
+            x = tile[0] * g.getTileSize() + g.getTileSize() / 2f;
+            y = tile[1] * g.getTileSize() + g.getTileSize() / 2f;
+            sendPosition();
+        }
+
+        /**
+         * 경로를 따라 한 step 만큼 이동 (경로가 끝나면 새 목표)
+         */
+        private void walk() {
+            MapGrid g = grid;
+            if (g == null)
+                return;
+            if (path == null || pathIndex >= path.length) {
+                path = findPath(g);
+                pathIndex = 0;
+                if (path == null)
+                    return;
+            }
+            float budget = GameConstants.PLAYER_SPEED * stepMillis / 16f;
+            int ts = g.getTileSize();
+            while (budget > 0 && pathIndex < path.length) {
+                float tx = (path[pathIndex] % g.getCols()) * ts + ts / 2f;
+                float ty = (path[pathIndex] / g.getCols()) * ts + ts / 2f;
+                float dx = tx - x, dy = ty - y;
+                float dist = (float) Math.sqrt(dx * dx + dy * dy);
+                if (dist > 0)
+                    direction = Math.abs(dx) > Math.abs(dy) ? (dx < 0 ? 2 : 3) : (dy < 0 ? 1 : 0);
+                if (dist <= budget) {
+                    x = tx;
+                    y = ty;
+                    budget -= dist;
+                    pathIndex++;
+                } else {
+                    x += dx / dist * budget;
+                    y += dy / dist * budget;
+                    budget = 0;
+                }
+            }
+            sendPosition();
+        }
+
+        private void sendPosition() {
+            client.sendPosition((int) x, (int) y, direction);
+            sentMessages.increment();
+            sentBytes.add(binary ? POS_FRAME_BYTES : 2 + ("POS:" + (int) x + "," + (int) y + "," + direction).length());
+            positionsSent.increment();
+        }
+
+        /**
+         * 현재 타일에서 임의의 지나갈 수 있는 타일까지 BFS 최단 경로 (타일 번호 배열, 못 찾으면 null)
+         */
+        private int[] findPath(MapGrid g) {
+            int cols = g.getCols(), rows = g.getRows(), ts = g.getTileSize();
+            int startCol = (int) x / ts, startRow = (int) y / ts;
+            if (startCol < 0 || startRow < 0 || startCol >= cols || startRow >= rows)
+                return null;
+            int from = startRow * cols + startCol;
+            if (bfsParent == null || bfsParent.length != cols * rows)
+                bfsParent = new int[cols * rows];
+            for (int attempt = 0; attempt < PATH_ATTEMPTS; attempt++) {
+                int target = random.nextInt(cols * rows);
+                if (target == from || g.isBlockedTile(target % cols, target / cols))
+                    continue;
+                Arrays.fill(bfsParent, -1);
+                bfsParent[from] = from;
+                int[] queue = new int[cols * rows];
+                int head = 0, tail = 0;
+                queue[tail++] = from;
+                while (head < tail && bfsParent[target] < 0) {
+                    int cur = queue[head++];
+                    int col = cur % cols, row = cur / cols;
+                    for (int d = 0; d < 4; d++) {
+                        int nc = col + (d == 0 ? 1 : d == 1 ? -1 : 0);
+                        int nr = row + (d == 2 ? 1 : d == 3 ? -1 : 0);
+                        if (nc < 0 || nr < 0 || nc >= cols || nr >= rows || g.isBlockedTile(nc, nr))
+                            continue;
+                        int next = nr * cols + nc;
+                        if (bfsParent[next] >= 0)
+                            continue;
+                        bfsParent[next] = cur;
+                        queue[tail++] = next;
+                    }
+                }
+                if (bfsParent[target] < 0)
+                    continue;
+                int length = 0;
+                for (int t = target; t != from; t = bfsParent[t])
+                    length++;
+                int[] result = new int[length];
+                for (int t = target, i = length - 1; t != from; t = bfsParent[t], i--)
+                    result[i] = t;
+                return result;
+            }
+            return null;
+        }
+
+        /**
+         * 가장 가까운 적에게 발사, 가까우면 도착 시간 뒤 HIT 보고
+         */
+        private void shoot(long now) {
+            if (now < nextShotAt)
+                return;
+            String target = null;
+            float best = SHOOT_RANGE;
+            float tx = 0, ty = 0;
+            for (Map.Entry<String, float[]> e : enemies.entrySet()) {
+                float[] pos = e.getValue();
+                float d = (float) Math.hypot(pos[0] - x, pos[1] - y);
+                if (d < best) {
+                    best = d;
+                    target = e.getKey();
+                    tx = pos[0];
+                    ty = pos[1];
+                }
+            }
+            if (target == null)
+                return;
+            nextShotAt = now + SHOOT_INTERVAL_MS + random.nextInt((int) SHOOT_INTERVAL_MS);
+            float dist = Math.max(1f, best);
+            float dx = (tx - x) / dist * GameConstants.MISSILE_SPEED;
+            float dy = (ty - y) / dist * GameConstants.MISSILE_SPEED;
+            client.sendShoot(x, y, dx, dy);
+            sentMessages.increment();
+            sentBytes.add(binary ? SHOOT_FRAME_BYTES : 2 + ("SHOOT:" + x + "," + y + "," + dx + "," + dy).length());
+            shotsSent.increment();
+            // 서버가 피격을 판정하면 보고하지 않음 (클라이언트와 같음)
+            if (best <= HIT_RANGE && !client.serverHitsEnabled()) {
+                long travelMs = (long) (best / GameConstants.MISSILE_SPEED * 16);
+                pendingHits.addLast(new Object[] { now + travelMs, target });
+            }
+        }
+
+        /**
+         * 전술 / 궁극기 (클라이언트와 같은 형식: abilityId,type,duration[,x,y])
+         */
+        private void useSkills(long now) {
+            if (abilities.length > 1 && now >= nextTacticalAt) {
+                Ability tactical = abilities[1];
+                String msg = tactical.id + ",TACTICAL," + tactical.getActiveDuration();
+                if ("tech_mine".equalsIgnoreCase(tactical.id))
+                    msg += "," + (int) x + "," + (int) y;
+                client.sendSkillUse(msg);
+                countSkill(msg);
+                nextTacticalAt = now + cooldownMillis(tactical);
+            }
+            if (abilities.length > 2 && now >= nextUltimateAt) {
+                Ability ultimate = abilities[2];
+                String msg = ultimate.id + ",ULTIMATE," + ultimate.getActiveDuration();
+                if ("tech_turret".equalsIgnoreCase(ultimate.id)) {
+                    msg += "," + (int) x + "," + (int) y;
+                } else if ("gen_strike".equalsIgnoreCase(ultimate.id)) {
+                    float[] target = enemies.values().stream().findFirst().orElse(new float[] { x, y });
+                    msg += "," + (int) target[0] + "," + (int) target[1];
+                }
+                client.sendSkillUse(msg);
+                countSkill(msg);
+                nextUltimateAt = now + cooldownMillis(ultimate);
+            }
+        }
+
+        private void countSkill(String msg) {
+            sentMessages.increment();
+            sentBytes.add(2 + "SKILL:".length() + msg.length());
+            skillsSent.increment();
+        }
+
+        private long cooldownMillis(Ability ability) {
+            return (long) (Math.max(1f, ability.cooldown) * 1000) + random.nextInt(1000);
+        }
+    }
+
+    /**
+     * RTT 표본 모음 (수신 스레드들이 추가, 보고 때 꺼냄)
+     */
+    private static final class LatencySamples {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long[] values = new long[1024];
+        private int size = 0;
+
+        void add(long micros) {
+            lock.lock();
+            try {
+                if (size == values.length)
+                    values = Arrays.copyOf(values, size * 2);
+                values[size++] = micros;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 모인 표본을 정렬해 돌려주고 비움
+         */
+        long[] drain() {
+            long[] copy;
+            lock.lock();
+            try {
+                copy = Arrays.copyOf(values, size);
+                size = 0;
+            } finally {
+                lock.unlock();
+            }
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    /**
+     * 서버 CPU 시간 측정
+     *
+     * 같은 프로세스: 봇 스레드(bot-driver-*, NetworkReceiveThread, main)를 뺀 스레드 CPU 시간 합
+     * (측정 구간 사이에 끝난 스레드의 몫은 빠짐 - 서버 스레드는 대부분 계속 살아 있음)
+     * 외부 프로세스: /proc/PID/stat 의 utime + stime (clock tick 100Hz 가정)
+     */
+    private static final class CpuSampler {
+        private static final long NANOS_PER_CLOCK_TICK = 10_000_000L;
+
+        private final boolean inProcess;
+        private final int pid;
+        private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        CpuSampler(boolean inProcess, int pid) {
+            this.inProcess = inProcess;
+            this.pid = pid;
+        }
+
+        /**
+         * @return {서버 CPU ns, 봇 CPU ns} (측정 불가면 -1)
+         */
+        long[] sample() {
+            if (inProcess && threads.isThreadCpuTimeSupported()) {
+                long server = 0, bots = 0;
+                long[] threadIds = threads.getAllThreadIds();
+                ThreadInfo[] infos = threads.getThreadInfo(threadIds);
+                for (int i = 0; i < threadIds.length; i++) {
+                    long cpu = threads.getThreadCpuTime(threadIds[i]);
+                    if (cpu < 0 || infos[i] == null)
+                        continue;
+                    if (isBotThread(infos[i].getThreadName()))
+                        bots += cpu;
+                    else
+                        server += cpu;
+                }
+                return new long[] { server, bots };
+            }
+            if (pid > 0) {
+                try {
+                    String stat = new String(Files.readAllBytes(Paths.get("/proc/" + pid + "/stat")));
+                    // 2번째 필드(comm)에 공백이 있을 수 있으므로 ')' 뒤부터: state(3) ... utime(14) stime(15)
+                    String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+                    long ticks = Long.parseLong(fields[11]) + Long.parseLong(fields[12]);
+                    return new long[] { ticks * NANOS_PER_CLOCK_TICK, -1 };
+                } catch (IOException | RuntimeException e) {
+                    // 리눅스 외 환경이거나 프로세스 없음
+                }
+            }
+            return new long[] { -1, -1 };
+        }
+
+        private static boolean isBotThread(String name) {
+            return name.startsWith("bot-driver-") || name.equals("NetworkReceiveThread") || name.equals("main");
+        }
+    }
+
+    /**
+     * 보고 시점의 누적 값
+     */
+    private static final class Totals {
+        long nanos;
+        long sentMessages, sentBytes, receivedMessages, receivedBytes;
+        long positions, shots, hits, skills;
+        int disconnected;
+        long serverCpuNanos, botCpuNanos;
+
+        static Totals capture(CpuSampler cpu) {
+            Totals t = new Totals();
+            t.nanos = System.nanoTime();
+            t.sentMessages = BotLoadGenerator.sentMessages.sum();
+            t.sentBytes = BotLoadGenerator.sentBytes.sum();
+            t.receivedMessages = BotLoadGenerator.receivedMessages.sum();
+            t.receivedBytes = BotLoadGenerator.receivedBytes.sum();
+            t.positions = positionsSent.sum();
+            t.shots = shotsSent.sum();
+            t.hits = hitsSent.sum();
+            t.skills = skillsSent.sum();
+            t.disconnected = BotLoadGenerator.disconnected.get();
+            long[] sample = cpu.sample();
+            t.serverCpuNanos = sample[0];
+            t.botCpuNanos = sample[1];
+            return t;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.fpsgame.tools;
+
+import com.fpsgame.common.GameConstants;
+import com.fpsgame.common.Log;
+import com.fpsgame.server.GameServer;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * 동시 연결 부하 테스트
+ *
+ * 한 프로세스 안에서 GameServer를 띄우고 수백 개의 연결을 동시에 열어
+ * 모든 연결에 PING을 보낸 뒤 PONG 왕복 시간, 처리량, 서버 스레드 수, 힙/RSS 사용량, 송신 통계를 출력합니다.
+ * --sweep 을 주면 연결 수마다 서버를 새로 띄워 차례로 측정합니다 (모드별 메모리/스레드 증가 비교용).
+ *
+ * 실행:
+ * java -cp bin com.fpsgame.tools.ConnectionLoadTest [connections] [rounds] [--nio=N | --blocking | --virtual]
+ *                                                   [--sweep=100,500,1000]
+ *
+ * 기본값: 500 연결, 20 라운드, NIO I/O 스레드 2개
+ */
+public class ConnectionLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int connections = 500;
+        int rounds = 20;
+        int ioThreads = 2;
+        String mode = "nio";
+        int[] sweep = null;
+        int positional = 0;
+        for (String arg : args) {
+            if (arg.equals("--blocking")) {
+                mode = "blocking";
+            } else if (arg.equals("--virtual")) {
+                mode = "virtual";
+            } else if (arg.startsWith("--nio=")) {
+                ioThreads = Integer.parseInt(arg.substring("--nio=".length()));
+            } else if (arg.startsWith("--sweep=")) {
+                sweep = Arrays.stream(arg.substring("--sweep=".length()).split(","))
+                        .mapToInt(Integer::parseInt).toArray();
+            } else if (positional++ == 0) {
+                connections = Integer.parseInt(arg);
+            } else {
+                rounds = Integer.parseInt(arg);
+            }
+        }
+
+        if (sweep == null)
+            sweep = new int[] { connections };
+        for (int count : sweep)
+            run(mode, ioThreads, count, rounds);
+    }
+
+    private static void run(String mode, int ioThreads, int connections, int rounds) throws Exception {
+        System.gc();
+        int threadsBefore = Thread.activeCount();
+        long rssBeforeKb = readRssKb();
+        GameServer server = new GameServer(0, GameConstants.MAX_PLAYERS);
+        Thread acceptThread = new Thread(() -> {
+            try {
+                if (mode.equals("blocking"))
+                    server.start();
+                else if (mode.equals("virtual"))
+                    server.startVirtual();
+                else
+                    server.startNio(ioThreads);
+            } catch (IOException e) {
+                Log.error("[LOAD] 서버 시작 실패", e);
+            }
+        }, "load-test-server");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+
+        String modeName = mode.equals("blocking") ? "thread-per-client"
+                : mode.equals("virtual") ? "virtual-thread-per-client" : "nio(" + ioThreads + ")";
+        System.out.println("[LOAD] mode=" + modeName + " connections=" + connections + " rounds=" + rounds);
+
+        Socket[] sockets = new Socket[connections];
+        DataOutputStream[] outs = new DataOutputStream[connections];
+        DataInputStream[] ins = new DataInputStream[connections];
+        long connectStart = System.nanoTime();
+        for (int i = 0; i < connections; i++) {
+            sockets[i] = new Socket("127.0.0.1", server.getPort());
+            sockets[i].setTcpNoDelay(true);
+            outs[i] = new DataOutputStream(sockets[i].getOutputStream());
+            ins[i] = new DataInputStream(sockets[i].getInputStream());
+        }
+        long connectMs = (System.nanoTime() - connectStart) / 1_000_000;
+
+        // 모든 연결에 PING을 보내고 모든 PONG을 받을 때까지를 한 라운드로 측정
+        long[] roundMicros = new long[rounds];
+        long totalStart = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            long t0 = System.nanoTime();
+            for (int i = 0; i < connections; i++) {
+                outs[i].writeUTF("PING:" + r);
+                outs[i].flush();
+            }
+            for (int i = 0; i < connections; i++) {
+                String reply = ins[i].readUTF();
+                if (!reply.equals("PONG:" + r)) {
+                    throw new IllegalStateException("unexpected reply on #" + i + ": " + reply);
+                }
+            }
+            roundMicros[r] = (System.nanoTime() - t0) / 1000;
+        }
+        long totalNanos = System.nanoTime() - totalStart;
+
+        // 가상 스레드는 activeCount 에 잡히지 않으므로 플랫폼 스레드 증가분만 나옴
+        int serverThreads = Thread.activeCount() - threadsBefore;
+        System.gc();
+        Runtime rt = Runtime.getRuntime();
+        long heapUsedMb = (rt.totalMemory() - rt.freeMemory()) / (1024 * 1024);
+        long rssKb = readRssKb();
+
+        long[] sorted = roundMicros.clone();
+        Arrays.sort(sorted);
+        double msgsPerSec = (2.0 * connections * rounds) / (totalNanos / 1e9);
+
+        System.out.println("[LOAD] 연결 " + connections + "개 수립: " + connectMs + "ms");
+        System.out.println("[LOAD] 서버측 열린 연결: " + server.getConnectionCount());
+        System.out.println("[LOAD] 라운드(전체 PING→PONG) 지연: median=" + sorted[sorted.length / 2] / 1000.0
+                + "ms max=" + sorted[sorted.length - 1] / 1000.0 + "ms");
+        System.out.println("[LOAD] 처리량: " + String.format("%.0f", msgsPerSec) + " msg/s");
+        System.out.println("[LOAD] 추가된 플랫폼 스레드 수: " + serverThreads + ", GC 후 힙 사용량: " + heapUsedMb + "MB"
+                + (rssKb >= 0 ? ", RSS " + rssKb / 1024 + "MB (+" + (rssKb - rssBeforeKb) / 1024 + "MB)" : ""));
+        System.out.println("[LOAD] 송신: " + server.getBytesFlushed() + " bytes, 프레임 " + server.getFramesFlushed()
+                + "개 / write " + server.getFlushCount() + "회, 느린 클라이언트 차단 " + server.getSlowClientDisconnects());
+        System.out.println("[LOAD] 틱(" + server.getTickRate() + "Hz, 매치 " + server.getMatchCount() + "개): "
+                + server.getTickCount() + "회, 평균 "
+                + server.getAverageTickMicros() + "us, 최대 " + server.getMaxTickMicros() + "us, 초과 "
+                + server.getTickOverruns());
+
+        for (Socket s : sockets) {
+            s.close();
+        }
+        server.stop();
+    }
+
+    /**
+     * 프로세스 RSS (KB, /proc/self/status 의 VmRSS). 리눅스가 아니면 -1
+     */
+    private static long readRssKb() {
+        try {
+            for (String line : Files.readAllLines(Paths.get("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:"))
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+            }
+        } catch (IOException | RuntimeException e) {
+            // 리눅스 외 환경
+        }
+        return -1;
+    }
+}